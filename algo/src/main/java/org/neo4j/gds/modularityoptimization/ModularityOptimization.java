@@ -33,6 +33,7 @@ import org.neo4j.gds.beta.k1coloring.K1ColoringFactory;
 import org.neo4j.gds.beta.k1coloring.K1ColoringStreamConfig;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeArrayBackend;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
@@ -67,6 +68,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     private final Graph graph;
     private final NodePropertyValues seedProperty;
     private final ExecutorService executor;
+    private final HugeArrayBackend scratchBackend;
 
     private final ModularityManager modularityManager;
 
@@ -102,6 +104,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         this.executor = executor;
         this.concurrency = concurrency;
         this.minBatchSize = minBatchSize;
+        this.scratchBackend = HugeArrayBackend.configured();
         if (maxIterations < 1) {
             throw new IllegalArgumentException(formatWithLocale(
                 "Need to run at least one iteration, but got %d",
@@ -207,8 +210,8 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     }
 
     private void init() {
-        this.nextCommunities = HugeLongArray.newArray(nodeCount);
-        this.cumulativeNodeWeights = HugeDoubleArray.newArray(nodeCount);
+        this.nextCommunities = HugeLongArray.newArray(nodeCount, scratchBackend);
+        this.cumulativeNodeWeights = HugeDoubleArray.newArray(nodeCount, scratchBackend);
 
         this.communityWeightUpdates = HugeAtomicDoubleArray.newArray(nodeCount);
 
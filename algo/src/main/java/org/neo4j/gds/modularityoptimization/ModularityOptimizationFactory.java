@@ -31,6 +31,7 @@ import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeArrayBackend;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
@@ -50,8 +51,14 @@ public class ModularityOptimizationFactory<T extends ModularityOptimizationConfi
     public static final MemoryEstimation MEMORY_ESTIMATION =
         MemoryEstimations.builder(ModularityOptimization.class)
             .perNode("currentCommunities", HugeLongArray::memoryEstimation)
-            .perNode("nextCommunities", HugeLongArray::memoryEstimation)
-            .perNode("cumulativeNodeWeights", HugeDoubleArray::memoryEstimation)
+            .perNode(
+                "nextCommunities",
+                nodeCount -> HugeLongArray.memoryEstimation(nodeCount, HugeArrayBackend.configured())
+            )
+            .perNode(
+                "cumulativeNodeWeights",
+                nodeCount -> HugeDoubleArray.memoryEstimation(nodeCount, HugeArrayBackend.configured())
+            )
             .perNode("nodeCommunityInfluences", HugeDoubleArray::memoryEstimation)
             .perNode("communityWeights", HugeAtomicDoubleArray::memoryEstimation)
             .perNode("colorsUsed", MemoryUsage::sizeOfBitset)
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.beta.pregel.Messages;
+import org.neo4j.gds.beta.pregel.PregelComputation;
+import org.neo4j.gds.beta.pregel.PregelSchema;
+import org.neo4j.gds.beta.pregel.Reducer;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+
+import java.util.Optional;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Updates previously computed PageRank scores after the graph has changed.
+ * <p>
+ * The computation starts from the previous scores and computes the residual
+ * of every affected node, i.e. the difference between its score and the score
+ * implied by the scores of its neighbours on the current graph:
+ * <ol>
+ *     <li>Superstep 0: the sources of affected nodes send their score contribution to their neighbours.</li>
+ *     <li>Superstep 1: affected nodes apply their residual and push it to their neighbours.</li>
+ *     <li>Superstep 2+: residuals are propagated as long as they exceed the tolerance.</li>
+ * </ol>
+ * Only the affected nodes start active, all other nodes keep their previous score
+ * until a residual reaches them, which confines the propagation to the region around the changed nodes.
+ */
+public final class IncrementalPageRankComputation implements PregelComputation<PageRankConfig> {
+
+    private final boolean hasSourceNodes;
+    private final LongSet sourceNodes;
+    private final LongToDoubleFunction degreeFunction;
+    private final NodePropertyValues previousScores;
+    private final @Nullable HugeAtomicBitSet affectedNodes;
+    private final @Nullable HugeAtomicBitSet affectedSources;
+
+    private final double dampingFactor;
+    private final double tolerance;
+    private final double alpha;
+
+    IncrementalPageRankComputation(
+        PageRankConfig config,
+        LongSet sourceNodes,
+        LongToDoubleFunction degreeFunction,
+        NodePropertyValues previousScores,
+        @Nullable HugeAtomicBitSet affectedNodes,
+        @Nullable HugeAtomicBitSet affectedSources
+    ) {
+        this.dampingFactor = config.dampingFactor();
+        this.tolerance = config.tolerance();
+        this.alpha = 1 - this.dampingFactor;
+        this.sourceNodes = sourceNodes;
+        this.hasSourceNodes = !sourceNodes.isEmpty();
+        this.degreeFunction = degreeFunction;
+        this.previousScores = previousScores;
+        this.affectedNodes = affectedNodes;
+        this.affectedSources = affectedSources;
+    }
+
+    @Override
+    public PregelSchema schema(PageRankConfig config) {
+        return new PregelSchema.Builder().add(PageRankComputation.PAGE_RANK, ValueType.DOUBLE).build();
+    }
+
+    @Override
+    public void init(InitContext<PageRankConfig> context) {
+        var previousScore = previousScores.doubleValue(context.nodeId());
+        // Nodes without a previous score, e.g. new nodes, start from the initial score.
+        context.setNodeValue(
+            PageRankComputation.PAGE_RANK,
+            Double.isNaN(previousScore) ? teleportValue(context.nodeId()) : previousScore
+        );
+    }
+
+    private double teleportValue(long nodeId) {
+        if (!hasSourceNodes || sourceNodes.contains(nodeId)) {
+            return alpha;
+        }
+        return 0;
+    }
+
+    @Override
+    public void compute(ComputeContext<PageRankConfig> context, Messages messages) {
+        double rank = context.doubleNodeValue(PageRankComputation.PAGE_RANK);
+
+        if (context.isInitialSuperstep()) {
+            // Send the full contribution, so that every affected node can compute its residual.
+            if (affectedSources == null || affectedSources.get(context.nodeId())) {
+                sendToNeighbors(context, rank);
+            }
+            if (affectedNodes != null && !affectedNodes.get(context.nodeId())) {
+                context.voteToHalt();
+            }
+            return;
+        }
+
+        double sum = 0;
+        for (var message : messages) {
+            sum += message;
+        }
+
+        double delta;
+        if (context.superstep() == 1) {
+            if (affectedNodes != null && !affectedNodes.get(context.nodeId())) {
+                context.voteToHalt();
+                return;
+            }
+            delta = teleportValue(context.nodeId()) + dampingFactor * sum - rank;
+        } else {
+            delta = dampingFactor * sum;
+        }
+
+        context.setNodeValue(PageRankComputation.PAGE_RANK, rank + delta);
+
+        // Residuals can be negative, e.g. after relationships have been removed.
+        if (Math.abs(delta) > tolerance) {
+            sendToNeighbors(context, delta);
+        } else {
+            context.voteToHalt();
+        }
+    }
+
+    private void sendToNeighbors(ComputeContext<PageRankConfig> context, double value) {
+        var degree = degreeFunction.applyAsDouble(context.nodeId());
+        if (degree > 0) {
+            context.sendToNeighbors(value / degree);
+        }
+    }
+
+    @Override
+    public Optional<Reducer> reducer() {
+        return Optional.of(new Reducer.Sum());
+    }
+
+    @Override
+    public double applyRelationshipWeight(double nodeValue, double relationshipWeight) {
+        return nodeValue * relationshipWeight;
+    }
+}
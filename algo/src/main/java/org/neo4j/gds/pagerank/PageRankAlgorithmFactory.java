@@ -21,6 +21,7 @@ package org.neo4j.gds.pagerank;
 
 import com.carrotsearch.hppc.LongScatterSet;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.nodeproperties.ValueType;
@@ -29,17 +30,23 @@ import org.neo4j.gds.beta.pregel.PregelComputation;
 import org.neo4j.gds.beta.pregel.PregelSchema;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.degree.DegreeCentrality;
 import org.neo4j.gds.degree.DegreeCentralityConfigImpl;
 
+import java.util.Optional;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongToDoubleFunction;
 
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.ARTICLE_RANK;
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.EIGENVECTOR;
+import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.PAGE_RANK;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends GraphAlgorithmFactory<PageRankAlgorithm, CONFIG> {
 
@@ -96,7 +103,23 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
             .mapToLong(graph::toMappedNodeId)
             .forEach(mappedSourceNodes::add);
 
-        if (mode == ARTICLE_RANK) {
+        if (configuration.isIncremental()) {
+            if (mode != PAGE_RANK) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Incremental computation via `seedProperty` is not supported for %s.",
+                    mode.name()
+                ));
+            }
+            var affectedNodes = affectedNodes(graph, configuration);
+            computation = new IncrementalPageRankComputation(
+                configuration,
+                mappedSourceNodes,
+                degreeFunction,
+                graph.nodeProperties(configuration.seedProperty()),
+                affectedNodes,
+                affectedSources(graph, affectedNodes, configuration.concurrency())
+            );
+        } else if (mode == ARTICLE_RANK) {
             double avgDegree = averageDegree(graph, configuration.concurrency());
             computation = new ArticleRankComputation(configuration, mappedSourceNodes, degreeFunction, avgDegree);
         } else if (mode == EIGENVECTOR) {
@@ -124,6 +147,74 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
         );
     }
 
+    /**
+     * The previous score of a node can only be outdated if one of its incoming
+     * relationships changed or if the degree of one of its source nodes changed.
+     * The changed nodes contain both end nodes of every changed relationship,
+     * so the affected nodes are the changed nodes and their neighbours.
+     * Returns null if every node needs to be checked.
+     */
+    private static @Nullable HugeAtomicBitSet affectedNodes(Graph graph, PageRankConfig config) {
+        if (config.changedNodes().isEmpty()) {
+            return null;
+        }
+        var affectedNodes = HugeAtomicBitSet.create(graph.nodeCount());
+        config.changedNodes().stream().mapToLong(graph::toMappedNodeId).forEach(changedNode -> {
+            affectedNodes.set(changedNode);
+            graph.forEachRelationship(changedNode, (ignored, target) -> {
+                affectedNodes.set(target);
+                return true;
+            });
+        });
+        return affectedNodes;
+    }
+
+    /**
+     * The source nodes of all relationships into an affected node.
+     * Only these nodes need to send their score for the affected nodes to compute their residual.
+     * On undirected graphs, these are the neighbours of the affected nodes.
+     * Directed graphs only store outgoing relationships, so the sources are found in a single pass.
+     */
+    private static @Nullable HugeAtomicBitSet affectedSources(
+        Graph graph,
+        @Nullable HugeAtomicBitSet affectedNodes,
+        int concurrency
+    ) {
+        if (affectedNodes == null) {
+            return null;
+        }
+        var affectedSources = HugeAtomicBitSet.create(graph.nodeCount());
+        if (graph.schema().isUndirected()) {
+            affectedNodes.forEachSetBit(affectedNode -> graph.forEachRelationship(affectedNode, (ignored, source) -> {
+                affectedSources.set(source);
+                return true;
+            }));
+            return affectedSources;
+        }
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(nodeId -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (affectedNodes.get(target)) {
+                        affectedSources.set(source);
+                        return false;
+                    }
+                    return true;
+                }));
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(Pools.DEFAULT)
+            .run();
+        return affectedSources;
+    }
+
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
         return pagerankProgressTask(graph, config);
@@ -24,17 +24,23 @@ import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.beta.pregel.Partitioning;
 import org.neo4j.gds.beta.pregel.PregelConfig;
+import org.neo4j.gds.config.ChangedNodesConfig;
+import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.config.SourceNodesConfig;
 import org.neo4j.gds.config.ToleranceConfig;
 import org.neo4j.gds.scaling.ScalarScaler;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 @Configuration("PageRankConfigImpl")
 @SuppressWarnings("immutables:subtype")
 public interface PageRankConfig extends
     PregelConfig,
     ToleranceConfig,
-    SourceNodesConfig
+    SourceNodesConfig,
+    SeedConfig,
+    ChangedNodesConfig
 {
     @Value.Default
     @Override
@@ -63,6 +69,20 @@ public interface PageRankConfig extends
         return ScalarScaler.Variant.NONE;
     }
     
+    @Value.Check
+    default void validateIncremental() {
+        if (!changedNodes().isEmpty() && !isIncremental()) {
+            throw new IllegalArgumentException("Specifying `changedNodes` requires `seedProperty` to be set.");
+        }
+        // The updated scores are the seeds of the next update and must therefore not be scaled.
+        if (isIncremental() && scaler() != ScalarScaler.Variant.NONE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Incremental computation via `seedProperty` does not support the scaler `%s`.",
+                ScalarScaler.Variant.toString(scaler())
+            ));
+        }
+    }
+
     @Override
     @Value.Default
     @Configuration.Ignore
@@ -70,6 +90,13 @@ public interface PageRankConfig extends
         return false;
     }
 
+    @Override
+    @Value.Default
+    @Configuration.Ignore
+    default boolean isDirectionOptimizing() {
+        return false;
+    }
+
     @Override
     @Value.Default
     @Configuration.Ignore
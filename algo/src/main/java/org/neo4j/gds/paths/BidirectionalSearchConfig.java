@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths;
+
+import org.immutables.value.Value;
+
+public interface BidirectionalSearchConfig {
+
+    /**
+     * Search forward from the source and backward from the target at the same time.
+     * The search state then grows with the explored region of the graph. On directed graphs,
+     * the incoming relationships are indexed first, which takes time and memory linear in the graph size.
+     */
+    @Value.Default
+    default boolean bidirectional() {
+        return false;
+    }
+}
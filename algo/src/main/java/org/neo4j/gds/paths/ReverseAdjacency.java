@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+/**
+ * Incoming relationships of a directed graph in compressed sparse row layout.
+ * <p>
+ * The graph only indexes outgoing relationships, a backward search on a directed
+ * graph therefore needs to invert the adjacency first. Each node stores the end
+ * of its incoming relationship range; the range starts at the end of the range
+ * of the previous node. Weights are only stored if the graph has a relationship
+ * property, otherwise every relationship has a weight of 1.0.
+ */
+public final class ReverseAdjacency {
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray sources;
+    private final HugeDoubleArray weights;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ReverseAdjacency.class)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .perGraphDimension("sources", (dimensions, concurrency) ->
+                MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound())))
+            .perGraphDimension("weights", (dimensions, concurrency) ->
+                MemoryRange.of(HugeDoubleArray.memoryEstimation(dimensions.relCountUpperBound())))
+            .build();
+    }
+
+    public static ReverseAdjacency of(Graph graph) {
+        long nodeCount = graph.nodeCount();
+        var offsets = HugeLongArray.newArray(nodeCount);
+
+        // count incoming relationships and turn the counts into range starts
+        for (long node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, (source, target) -> {
+                offsets.addTo(target, 1);
+                return true;
+            });
+        }
+        long relationshipCount = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            long degree = offsets.get(node);
+            offsets.set(node, relationshipCount);
+            relationshipCount += degree;
+        }
+
+        // fill the ranges, afterwards each offset points to the end of its range
+        var sources = HugeLongArray.newArray(relationshipCount);
+        var weights = graph.hasRelationshipProperty() ? HugeDoubleArray.newArray(relationshipCount) : null;
+        for (long node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                long index = offsets.get(target);
+                sources.set(index, source);
+                if (weights != null) {
+                    weights.set(index, weight);
+                }
+                offsets.set(target, index + 1);
+                return true;
+            });
+        }
+
+        return new ReverseAdjacency(offsets, sources, weights);
+    }
+
+    private ReverseAdjacency(HugeLongArray offsets, HugeLongArray sources, HugeDoubleArray weights) {
+        this.offsets = offsets;
+        this.sources = sources;
+        this.weights = weights;
+    }
+
+    public int degree(long node) {
+        return (int) (offsets.get(node) - start(node));
+    }
+
+    /**
+     * Calls the consumer for every incoming relationship of the given node.
+     * The consumer receives the given node as source and the origin
+     * of the relationship as target.
+     */
+    public void forEachRelationship(long node, RelationshipWithPropertyConsumer consumer) {
+        long end = offsets.get(node);
+        for (long index = start(node); index < end; index++) {
+            if (!consumer.accept(node, sources.get(index), weights == null ? 1.0D : weights.get(index))) {
+                return;
+            }
+        }
+    }
+
+    private long start(long node) {
+        return node == 0 ? 0 : offsets.get(node - 1);
+    }
+}
@@ -67,6 +67,16 @@ public final class AStar extends Algorithm<DijkstraResult> {
 
         var latitudeProperties = graph.nodeProperties(latitudeProperty);
         var longitudeProperties = graph.nodeProperties(longitudeProperty);
+        if (config.bidirectional()) {
+            var dijkstra = Dijkstra.bidirectional(
+                graph,
+                config,
+                Optional.of(node -> new HaversineHeuristic(latitudeProperties, longitudeProperties, node)),
+                progressTracker
+            );
+            return new AStar(dijkstra);
+        }
+
         var targetNode = graph.toMappedNodeId(config.targetNode());
 
         var heuristic = new HaversineHeuristic(latitudeProperties, longitudeProperties, targetNode);
@@ -83,6 +93,14 @@ public final class AStar extends Algorithm<DijkstraResult> {
             .build();
     }
 
+    public static MemoryEstimation bidirectionalMemoryEstimation() {
+        return MemoryEstimations.builder(AStar.class)
+            .add("Dijkstra", Dijkstra.bidirectionalMemoryEstimation(false))
+            .add("source distanceCache", HugeLongDoubleMap.memoryEstimation())
+            .add("target distanceCache", HugeLongDoubleMap.memoryEstimation())
+            .build();
+    }
+
     @Override
     public DijkstraResult compute() {
         return dijkstra.compute();
@@ -31,7 +31,9 @@ public class AStarFactory<CONFIG extends ShortestPathAStarBaseConfig> extends Gr
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
-        return AStar.memoryEstimation();
+        return configuration.bidirectional()
+            ? AStar.bidirectionalMemoryEstimation()
+            : AStar.memoryEstimation();
     }
 
     @Override
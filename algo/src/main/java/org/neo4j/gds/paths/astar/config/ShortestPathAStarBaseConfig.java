@@ -19,9 +19,10 @@
  */
 package org.neo4j.gds.paths.astar.config;
 
+import org.neo4j.gds.paths.BidirectionalSearchConfig;
 import org.neo4j.gds.paths.ShortestPathBaseConfig;
 
-public interface ShortestPathAStarBaseConfig extends ShortestPathBaseConfig {
+public interface ShortestPathAStarBaseConfig extends ShortestPathBaseConfig, BidirectionalSearchConfig {
 
     String LONGITUDE_PROPERTY_KEY = "longitudeProperty";
     String LATITUDE_PROPERTY_KEY = "latitudeProperty";
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.IntStack;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.SparseLongPriorityQueue;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.DijkstraResult;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static org.neo4j.gds.paths.contraction.ContractionHierarchy.NO_EDGE;
+
+/**
+ * Answers shortest path queries from one source node to many target nodes on a {@link ContractionHierarchy}.
+ * <p>
+ * The upward search from the source node is computed once and shared by all target nodes.
+ * For each target node, a backward upward search is run until it can no longer improve
+ * the best path found via any node settled by both searches.
+ * Shortcuts on the resulting path are unpacked into the relationships they replace.
+ */
+public class ContractionHierarchiesQuery extends Algorithm<DijkstraResult> {
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final ContractionHierarchy hierarchy;
+    private final long sourceNode;
+    private final long[] targetNodes;
+
+    private final LongDoubleHashMap forwardCosts;
+    private final LongIntHashMap forwardEdges;
+    private final LongDoubleHashMap backwardCosts;
+    private final LongIntHashMap backwardEdges;
+    private final SparseLongPriorityQueue queue;
+
+    private long pathIndex;
+
+    public ContractionHierarchiesQuery(
+        ContractionHierarchy hierarchy,
+        long sourceNode,
+        long[] targetNodes,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.hierarchy = hierarchy;
+        this.sourceNode = sourceNode;
+        this.targetNodes = targetNodes;
+        this.forwardCosts = new LongDoubleHashMap();
+        this.forwardEdges = new LongIntHashMap();
+        this.backwardCosts = new LongDoubleHashMap();
+        this.backwardEdges = new LongIntHashMap();
+        this.queue = SparseLongPriorityQueue.min();
+        this.pathIndex = 0L;
+    }
+
+    @Override
+    public DijkstraResult compute() {
+        progressTracker.beginSubTask();
+
+        forwardSearch();
+
+        var pathResultBuilder = ImmutablePathResult.builder()
+            .sourceNode(sourceNode);
+
+        var paths = Arrays.stream(targetNodes)
+            .mapToObj(targetNode -> {
+                terminationFlag.assertRunning();
+                var pathResult = backwardSearch(targetNode, pathResultBuilder);
+                progressTracker.logProgress();
+                return pathResult;
+            })
+            .filter(Objects::nonNull);
+
+        return new DijkstraResult(paths, progressTracker::endSubTask);
+    }
+
+    @Override
+    public void release() {}
+
+    private void forwardSearch() {
+        var upwardEdges = hierarchy.upwardEdges();
+
+        queue.clear();
+        queue.add(sourceNode, 0.0D);
+        forwardCosts.put(sourceNode, 0.0D);
+
+        while (!queue.isEmpty()) {
+            var node = queue.pop();
+            var cost = queue.cost(node);
+
+            for (long index = upwardEdges.start(node); index < upwardEdges.end(node); index++) {
+                var edge = upwardEdges.edge(index);
+                var target = hierarchy.target(edge);
+                var newCost = cost + hierarchy.weight(edge);
+                if (newCost < forwardCosts.getOrDefault(target, Double.POSITIVE_INFINITY)) {
+                    forwardCosts.put(target, newCost);
+                    forwardEdges.put(target, edge);
+                    queue.set(target, newCost);
+                }
+            }
+        }
+    }
+
+    private PathResult backwardSearch(long targetNode, ImmutablePathResult.Builder pathResultBuilder) {
+        var downwardEdges = hierarchy.downwardEdges();
+
+        queue.clear();
+        backwardCosts.clear();
+        backwardEdges.clear();
+        queue.add(targetNode, 0.0D);
+        backwardCosts.put(targetNode, 0.0D);
+
+        var bestCost = Double.POSITIVE_INFINITY;
+        var meetingNode = -1L;
+
+        while (!queue.isEmpty() && queue.cost(queue.top()) < bestCost) {
+            var node = queue.pop();
+            var cost = queue.cost(node);
+
+            // Both searches only move upwards, so the highest ranked node
+            // on a shortest path is settled by both of them.
+            var forwardCost = forwardCosts.getOrDefault(node, Double.POSITIVE_INFINITY);
+            if (forwardCost + cost < bestCost) {
+                bestCost = forwardCost + cost;
+                meetingNode = node;
+            }
+
+            for (long index = downwardEdges.start(node); index < downwardEdges.end(node); index++) {
+                var edge = downwardEdges.edge(index);
+                var source = hierarchy.source(edge);
+                var newCost = cost + hierarchy.weight(edge);
+                if (newCost < backwardCosts.getOrDefault(source, Double.POSITIVE_INFINITY)) {
+                    backwardCosts.put(source, newCost);
+                    backwardEdges.put(source, edge);
+                    queue.set(source, newCost);
+                }
+            }
+        }
+
+        if (meetingNode == -1L) {
+            return null;
+        }
+
+        return pathResult(targetNode, meetingNode, pathResultBuilder);
+    }
+
+    private PathResult pathResult(long targetNode, long meetingNode, ImmutablePathResult.Builder pathResultBuilder) {
+        // collect the edges from the source to the meeting node and on to the target
+        var pathEdges = new IntArrayList();
+        for (long node = meetingNode; node != sourceNode; ) {
+            var edge = forwardEdges.get(node);
+            pathEdges.add(edge);
+            node = hierarchy.source(edge);
+        }
+        reverse(pathEdges);
+        for (long node = meetingNode; node != targetNode; ) {
+            var edge = backwardEdges.get(node);
+            pathEdges.add(edge);
+            node = hierarchy.target(edge);
+        }
+
+        var nodeIds = new LongArrayList();
+        var costs = new DoubleArrayList();
+        nodeIds.add(sourceNode);
+        costs.add(0.0D);
+
+        // unpack shortcuts depth-first into the relationships they replace
+        var stack = new IntStack();
+        for (int i = pathEdges.size() - 1; i >= 0; i--) {
+            stack.push(pathEdges.get(i));
+        }
+        while (!stack.isEmpty()) {
+            var edge = stack.pop();
+            var firstChild = hierarchy.firstChild(edge);
+            if (firstChild == NO_EDGE) {
+                nodeIds.add(hierarchy.target(edge));
+                costs.add(costs.get(costs.size() - 1) + hierarchy.weight(edge));
+            } else {
+                stack.push(hierarchy.secondChild(edge));
+                stack.push(firstChild);
+            }
+        }
+
+        return pathResultBuilder
+            .index(pathIndex++)
+            .targetNode(targetNode)
+            .nodeIds(nodeIds.toArray())
+            .relationshipIds(EMPTY_ARRAY)
+            .costs(costs.toArray())
+            .build();
+    }
+
+    private static void reverse(IntArrayList list) {
+        for (int i = 0, j = list.size() - 1; i < j; i++, j--) {
+            var tmp = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, tmp);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.model.Model;
+import org.neo4j.gds.core.model.ModelCatalog;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.util.Set;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+public class ContractionHierarchiesQueryFactory extends GraphAlgorithmFactory<ContractionHierarchiesQuery, ContractionHierarchiesStreamConfig> {
+
+    private final ModelCatalog modelCatalog;
+
+    public ContractionHierarchiesQueryFactory(ModelCatalog modelCatalog) {
+        super();
+        this.modelCatalog = modelCatalog;
+    }
+
+    @Override
+    public String taskName() {
+        return "ContractionHierarchiesQuery";
+    }
+
+    @Override
+    public ContractionHierarchiesQuery build(
+        Graph graph,
+        ContractionHierarchiesStreamConfig configuration,
+        ProgressTracker progressTracker
+    ) {
+        var hierarchy = resolveModel(modelCatalog, configuration.modelUser(), configuration.modelName()).data();
+
+        if (hierarchy.nodeCount() != graph.nodeCount()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The model `%s` was trained on a graph with %d nodes, but the given graph has %d nodes.",
+                configuration.modelName(),
+                hierarchy.nodeCount(),
+                graph.nodeCount()
+            ));
+        }
+
+        var targetNodes = configuration.targetNodes()
+            .stream()
+            .mapToLong(graph::toMappedNodeId)
+            .toArray();
+
+        return new ContractionHierarchiesQuery(
+            hierarchy,
+            graph.toMappedNodeId(configuration.sourceNode()),
+            targetNodes,
+            progressTracker
+        );
+    }
+
+    @Override
+    public Task progressTask(Graph graph, ContractionHierarchiesStreamConfig config) {
+        return Tasks.leaf(taskName(), config.targetNodes().size());
+    }
+
+    /**
+     * Validates that the query runs on the graph the model was trained on, with the same
+     * node labels, relationship types and relationship weight property. The hierarchy
+     * contains shortcuts derived from these relationships, which are invalid for any other.
+     */
+    public static void validateModel(
+        Model<ContractionHierarchy, ContractionHierarchiesTrainConfig, ContractionHierarchy.Info> model,
+        GraphStore graphStore,
+        String graphName,
+        ContractionHierarchiesStreamConfig config
+    ) {
+        var trainConfig = model.trainConfig();
+
+        model.customInfo().graphName().ifPresent(trainGraphName -> {
+            if (!trainGraphName.equals(graphName)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The model `%s` was trained on the graph `%s`, but the given graph is `%s`.",
+                    config.modelName(),
+                    trainGraphName,
+                    graphName
+                ));
+            }
+        });
+
+        var trainLabels = Set.copyOf(trainConfig.nodeLabelIdentifiers(graphStore));
+        var labels = Set.copyOf(config.nodeLabelIdentifiers(graphStore));
+        if (!trainLabels.equals(labels)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The model `%s` was trained on the node labels %s, but the query uses %s.",
+                config.modelName(),
+                trainConfig.nodeLabels(),
+                config.nodeLabels()
+            ));
+        }
+
+        var trainTypes = Set.copyOf(trainConfig.internalRelationshipTypes(graphStore));
+        var types = Set.copyOf(config.internalRelationshipTypes(graphStore));
+        if (!trainTypes.equals(types)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The model `%s` was trained on the relationship types %s, but the query uses %s.",
+                config.modelName(),
+                trainConfig.relationshipTypes(),
+                config.relationshipTypes()
+            ));
+        }
+
+        if (!trainConfig.relationshipWeightProperty().equals(config.relationshipWeightProperty())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The model `%s` was trained with the relationship weight property `%s`, but the query uses `%s`.",
+                config.modelName(),
+                trainConfig.relationshipWeightProperty().orElse(null),
+                config.relationshipWeightProperty().orElse(null)
+            ));
+        }
+    }
+
+    public static Model<ContractionHierarchy, ContractionHierarchiesTrainConfig, ContractionHierarchy.Info> resolveModel(
+        ModelCatalog modelCatalog,
+        String username,
+        String modelName
+    ) {
+        return modelCatalog.get(
+            username,
+            modelName,
+            ContractionHierarchy.class,
+            ContractionHierarchiesTrainConfig.class,
+            ContractionHierarchy.Info.class
+        );
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongIntHashMap;
+import com.carrotsearch.hppc.cursors.LongIntCursor;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.model.Model;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.core.utils.queue.SparseLongPriorityQueue;
+
+import static org.neo4j.gds.paths.contraction.ContractionHierarchy.NO_EDGE;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Builds a {@link ContractionHierarchy} by contracting the nodes of the graph in the order
+ * of their edge difference, i.e. the number of shortcuts a contraction would add minus the
+ * number of relationships it would remove. Priorities are updated lazily when a node is
+ * about to be contracted and eagerly for the neighbours of a contracted node.
+ * <p>
+ * Whether a shortcut is needed is decided by a local witness search that is bounded by
+ * the number of settled nodes. An incomplete witness search may add superfluous shortcuts,
+ * which cost memory but do not affect the correctness of queries.
+ */
+public class ContractionHierarchiesTrain extends Algorithm<Model<ContractionHierarchy, ContractionHierarchiesTrainConfig, ContractionHierarchy.Info>> {
+
+    public static final String MODEL_TYPE = "ContractionHierarchies";
+
+    private final Graph graph;
+    private final ContractionHierarchiesTrainConfig config;
+
+    // edges of the hierarchy, relationships first, followed by shortcuts
+    private final LongArrayList sources;
+    private final LongArrayList targets;
+    private final DoubleArrayList weights;
+    private final IntArrayList firstChildren;
+    private final IntArrayList secondChildren;
+
+    // edges of the remaining graph, may contain edges to contracted nodes
+    private final HugeObjectArray<IntArrayList> outgoingEdges;
+    private final HugeObjectArray<IntArrayList> incomingEdges;
+
+    private final BitSet contracted;
+    private final HugeIntArray contractedNeighbours;
+    private final WitnessSearch witnessSearch;
+
+    // cheapest edge per neighbour of the node that is (simulated to be) contracted
+    private final LongIntHashMap incomingNeighbours;
+    private final LongIntHashMap outgoingNeighbours;
+
+    private int relationshipCount;
+
+    public ContractionHierarchiesTrain(
+        Graph graph,
+        ContractionHierarchiesTrainConfig config,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.config = config;
+        this.sources = new LongArrayList();
+        this.targets = new LongArrayList();
+        this.weights = new DoubleArrayList();
+        this.firstChildren = new IntArrayList();
+        this.secondChildren = new IntArrayList();
+        this.outgoingEdges = HugeObjectArray.newArray(IntArrayList.class, graph.nodeCount());
+        this.incomingEdges = HugeObjectArray.newArray(IntArrayList.class, graph.nodeCount());
+        this.contracted = new BitSet(graph.nodeCount());
+        this.contractedNeighbours = HugeIntArray.newArray(graph.nodeCount());
+        this.witnessSearch = new WitnessSearch(config.witnessSearchLimit());
+        this.incomingNeighbours = new LongIntHashMap();
+        this.outgoingNeighbours = new LongIntHashMap();
+    }
+
+    @Override
+    public Model<ContractionHierarchy, ContractionHierarchiesTrainConfig, ContractionHierarchy.Info> compute() {
+        progressTracker.beginSubTask();
+
+        long nodeCount = graph.nodeCount();
+
+        progressTracker.beginSubTask("Initialize priorities");
+        addRelationships();
+        var queue = HugeLongPriorityQueue.min(nodeCount);
+        for (long node = 0; node < nodeCount; node++) {
+            queue.add(node, priority(node));
+            progressTracker.logProgress();
+        }
+        progressTracker.endSubTask("Initialize priorities");
+
+        progressTracker.beginSubTask("Contract nodes");
+        var ranks = HugeLongArray.newArray(nodeCount);
+        long rank = 0;
+        while (!queue.isEmpty()) {
+            terminationFlag.assertRunning();
+
+            var node = queue.pop();
+            // The priority might be outdated, contract the node only if it still has the lowest priority.
+            var priority = priority(node);
+            if (!queue.isEmpty() && priority > queue.cost(queue.top())) {
+                queue.add(node, priority);
+                continue;
+            }
+
+            contract(node);
+            ranks.set(node, rank++);
+
+            for (var neighbour : neighbours()) {
+                contractedNeighbours.addTo(neighbour.key, 1);
+                queue.set(neighbour.key, priority(neighbour.key));
+            }
+            progressTracker.logProgress();
+        }
+        progressTracker.endSubTask("Contract nodes");
+
+        var hierarchy = new ContractionHierarchy(
+            nodeCount,
+            relationshipCount,
+            sources.toArray(),
+            targets.toArray(),
+            weights.toArray(),
+            firstChildren.toArray(),
+            secondChildren.toArray(),
+            ranks
+        );
+
+        progressTracker.endSubTask();
+
+        return Model.of(
+            MODEL_TYPE,
+            graph.schema(),
+            hierarchy,
+            config,
+            new ContractionHierarchy.Info(hierarchy)
+        );
+    }
+
+    @Override
+    public void release() {
+        outgoingEdges.release();
+        incomingEdges.release();
+    }
+
+    private void addRelationships() {
+        var edgeByTarget = new LongIntHashMap();
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            outgoingEdges.set(node, new IntArrayList());
+            incomingEdges.set(node, new IntArrayList());
+        }
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            edgeByTarget.clear();
+            graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                if (weight < 0) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Contraction hierarchies require non-negative relationship weights, but found `%f`.",
+                        weight
+                    ));
+                }
+                if (source == target) {
+                    return true;
+                }
+                // Only the cheapest of multiple relationships between two nodes can be on a shortest path.
+                var edge = edgeByTarget.getOrDefault(target, NO_EDGE);
+                if (edge == NO_EDGE) {
+                    edgeByTarget.put(target, addEdge(source, target, weight, NO_EDGE, NO_EDGE));
+                } else if (weight < weights.get(edge)) {
+                    weights.set(edge, weight);
+                }
+                return true;
+            });
+        }
+        relationshipCount = sources.size();
+    }
+
+    private int addEdge(long source, long target, double weight, int firstChild, int secondChild) {
+        int edge = sources.size();
+        sources.add(source);
+        targets.add(target);
+        weights.add(weight);
+        firstChildren.add(firstChild);
+        secondChildren.add(secondChild);
+        outgoingEdges.get(source).add(edge);
+        incomingEdges.get(target).add(edge);
+        return edge;
+    }
+
+    private long priority(long node) {
+        var shortcuts = shortcuts(node, false);
+        long removedEdges = incomingNeighbours.size() + outgoingNeighbours.size();
+        return shortcuts - removedEdges + contractedNeighbours.get(node);
+    }
+
+    private void contract(long node) {
+        contracted.set(node);
+        shortcuts(node, true);
+    }
+
+    /**
+     * Counts the shortcuts needed to contract the given node and adds them, if requested.
+     * Leaves the remaining neighbours of the node in {@link #incomingNeighbours} and {@link #outgoingNeighbours}.
+     */
+    private int shortcuts(long node, boolean addShortcuts) {
+        collectNeighbours(node, incomingEdges.get(node), false, incomingNeighbours);
+        collectNeighbours(node, outgoingEdges.get(node), true, outgoingNeighbours);
+
+        double maxOutgoingWeight = 0;
+        for (var outgoing : outgoingNeighbours) {
+            maxOutgoingWeight = Math.max(maxOutgoingWeight, weights.get(outgoing.value));
+        }
+
+        int shortcuts = 0;
+        for (var incoming : incomingNeighbours) {
+            var incomingWeight = weights.get(incoming.value);
+            witnessSearch.run(incoming.key, node, incomingWeight + maxOutgoingWeight);
+
+            for (var outgoing : outgoingNeighbours) {
+                if (outgoing.key == incoming.key) {
+                    continue;
+                }
+                var weight = incomingWeight + weights.get(outgoing.value);
+                if (witnessSearch.distance(outgoing.key) > weight) {
+                    shortcuts++;
+                    if (addShortcuts) {
+                        addEdge(incoming.key, outgoing.key, weight, incoming.value, outgoing.value);
+                    }
+                }
+            }
+        }
+        return shortcuts;
+    }
+
+    private Iterable<LongIntCursor> neighbours() {
+        var neighbours = new LongIntHashMap(incomingNeighbours);
+        neighbours.putAll(outgoingNeighbours);
+        return neighbours;
+    }
+
+    /**
+     * Collects the cheapest edge to each remaining neighbour and
+     * removes edges to contracted nodes from the adjacency list.
+     */
+    private void collectNeighbours(long node, IntArrayList edges, boolean outgoing, LongIntHashMap neighbours) {
+        neighbours.clear();
+        int remaining = 0;
+        for (int i = 0; i < edges.size(); i++) {
+            var edge = edges.get(i);
+            var neighbour = outgoing ? targets.get(edge) : sources.get(edge);
+            if (contracted.get(neighbour)) {
+                continue;
+            }
+            edges.set(remaining++, edge);
+            if (neighbour == node) {
+                continue;
+            }
+            var cheapestEdge = neighbours.getOrDefault(neighbour, NO_EDGE);
+            if (cheapestEdge == NO_EDGE || weights.get(edge) < weights.get(cheapestEdge)) {
+                neighbours.put(neighbour, edge);
+            }
+        }
+        edges.elementsCount = remaining;
+    }
+
+    /**
+     * Looks for shortest paths that avoid the node to be contracted.
+     */
+    private final class WitnessSearch {
+        private final int settledNodeLimit;
+        private final SparseLongPriorityQueue queue;
+        private final LongDoubleHashMap distances;
+
+        private WitnessSearch(int settledNodeLimit) {
+            this.settledNodeLimit = settledNodeLimit;
+            this.queue = SparseLongPriorityQueue.min();
+            this.distances = new LongDoubleHashMap();
+        }
+
+        void run(long startNode, long excludedNode, double maxCost) {
+            queue.clear();
+            distances.clear();
+            queue.add(startNode, 0.0D);
+            distances.put(startNode, 0.0D);
+
+            int settledNodes = 0;
+            while (!queue.isEmpty() && settledNodes < settledNodeLimit) {
+                var node = queue.pop();
+                var cost = queue.cost(node);
+                if (cost > maxCost) {
+                    break;
+                }
+                settledNodes++;
+
+                var edges = outgoingEdges.get(node);
+                for (int i = 0; i < edges.size(); i++) {
+                    var edge = edges.get(i);
+                    var target = targets.get(edge);
+                    if (target == excludedNode || contracted.get(target)) {
+                        continue;
+                    }
+                    var newCost = cost + weights.get(edge);
+                    if (newCost <= maxCost && newCost < distance(target)) {
+                        distances.put(target, newCost);
+                        queue.set(target, newCost);
+                    }
+                }
+            }
+        }
+
+        double distance(long node) {
+            return distances.getOrDefault(node, Double.POSITIVE_INFINITY);
+        }
+    }
+}
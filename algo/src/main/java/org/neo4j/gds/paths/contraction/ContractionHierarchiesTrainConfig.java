@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.model.ModelConfig;
+
+@ValueClass
+@Configuration("ContractionHierarchiesTrainConfigImpl")
+@SuppressWarnings("immutables:subtype")
+public interface ContractionHierarchiesTrainConfig extends AlgoBaseConfig, RelationshipWeightConfig, ModelConfig {
+
+    long serialVersionUID = 0x42L;
+
+    /**
+     * The maximum number of nodes a witness search settles before it adds the shortcut.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int witnessSearchLimit() {
+        return 500;
+    }
+
+    static ContractionHierarchiesTrainConfig of(String username, CypherMapWrapper userInput) {
+        return new ContractionHierarchiesTrainConfigImpl(username, userInput);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.config.ToMapConvertible;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A contraction hierarchy over the nodes of a weighted graph.
+ * <p>
+ * Nodes are contracted one after another in the order given by their rank.
+ * Contracting a node adds a shortcut between two of its remaining neighbours,
+ * whenever the path via the contracted node is the only shortest path between them.
+ * A shortest path query then only needs to follow relationships towards
+ * higher ranked nodes, from the source forward and from the target backward.
+ * <p>
+ * Relationships and shortcuts are stored as edges. A shortcut refers to the two
+ * edges it replaces, which allows unpacking it into the original relationships.
+ */
+public final class ContractionHierarchy {
+
+    static final int NO_EDGE = -1;
+
+    private final long nodeCount;
+    private final int relationshipCount;
+
+    private final long[] sources;
+    private final long[] targets;
+    private final double[] weights;
+    // the first and second edge replaced by a shortcut, NO_EDGE for relationships
+    private final int[] firstChildren;
+    private final int[] secondChildren;
+
+    // edges towards higher ranked nodes, grouped by their source node
+    private final Adjacency upwardEdges;
+    // edges from higher ranked nodes, grouped by their target node
+    private final Adjacency downwardEdges;
+
+    ContractionHierarchy(
+        long nodeCount,
+        int relationshipCount,
+        long[] sources,
+        long[] targets,
+        double[] weights,
+        int[] firstChildren,
+        int[] secondChildren,
+        HugeLongArray ranks
+    ) {
+        this.nodeCount = nodeCount;
+        this.relationshipCount = relationshipCount;
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+        this.firstChildren = firstChildren;
+        this.secondChildren = secondChildren;
+
+        this.upwardEdges = Adjacency.of(nodeCount, sources.length, edge -> ranks.get(sources[edge]) < ranks.get(targets[edge])
+            ? sources[edge]
+            : Adjacency.SKIP);
+        this.downwardEdges = Adjacency.of(nodeCount, sources.length, edge -> ranks.get(sources[edge]) > ranks.get(targets[edge])
+            ? targets[edge]
+            : Adjacency.SKIP);
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    public int relationshipCount() {
+        return relationshipCount;
+    }
+
+    public int shortcutCount() {
+        return sources.length - relationshipCount;
+    }
+
+    Adjacency upwardEdges() {
+        return upwardEdges;
+    }
+
+    Adjacency downwardEdges() {
+        return downwardEdges;
+    }
+
+    long source(int edge) {
+        return sources[edge];
+    }
+
+    long target(int edge) {
+        return targets[edge];
+    }
+
+    double weight(int edge) {
+        return weights[edge];
+    }
+
+    int firstChild(int edge) {
+        return firstChildren[edge];
+    }
+
+    int secondChild(int edge) {
+        return secondChildren[edge];
+    }
+
+    /**
+     * Edge ids grouped by node in compressed sparse row layout.
+     */
+    static final class Adjacency {
+
+        private static final long SKIP = -1;
+
+        @FunctionalInterface
+        interface EdgeToNode {
+            long node(int edge);
+        }
+
+        // the edges of a node are stored between its offset and the offset of the next node
+        private final HugeLongArray offsets;
+        private final int[] edges;
+
+        static Adjacency of(long nodeCount, int edgeCount, EdgeToNode edgeToNode) {
+            var offsets = HugeLongArray.newArray(nodeCount + 1);
+            int adjacencyEdgeCount = 0;
+            for (int edge = 0; edge < edgeCount; edge++) {
+                var node = edgeToNode.node(edge);
+                if (node != SKIP) {
+                    offsets.addTo(node + 1, 1);
+                    adjacencyEdgeCount++;
+                }
+            }
+            for (long node = 1; node <= nodeCount; node++) {
+                offsets.addTo(node, offsets.get(node - 1));
+            }
+
+            var edges = new int[adjacencyEdgeCount];
+            var positions = offsets.copyOf(nodeCount);
+            for (int edge = 0; edge < edgeCount; edge++) {
+                var node = edgeToNode.node(edge);
+                if (node != SKIP) {
+                    var position = positions.get(node);
+                    edges[(int) position] = edge;
+                    positions.set(node, position + 1);
+                }
+            }
+
+            return new Adjacency(offsets, edges);
+        }
+
+        private Adjacency(HugeLongArray offsets, int[] edges) {
+            this.offsets = offsets;
+            this.edges = edges;
+        }
+
+        long start(long node) {
+            return offsets.get(node);
+        }
+
+        long end(long node) {
+            return offsets.get(node + 1);
+        }
+
+        int edge(long index) {
+            return edges[(int) index];
+        }
+    }
+
+    public static final class Info implements ToMapConvertible {
+
+        private final long nodeCount;
+        private final int relationshipCount;
+        private final int shortcutCount;
+        // the name of the graph the hierarchy was trained on, if known
+        private final Optional<String> graphName;
+
+        Info(ContractionHierarchy hierarchy) {
+            this(hierarchy.nodeCount(), hierarchy.relationshipCount(), hierarchy.shortcutCount(), Optional.empty());
+        }
+
+        private Info(long nodeCount, int relationshipCount, int shortcutCount, Optional<String> graphName) {
+            this.nodeCount = nodeCount;
+            this.relationshipCount = relationshipCount;
+            this.shortcutCount = shortcutCount;
+            this.graphName = graphName;
+        }
+
+        public Info withGraphName(String graphName) {
+            return new Info(nodeCount, relationshipCount, shortcutCount, Optional.of(graphName));
+        }
+
+        public Optional<String> graphName() {
+            return graphName;
+        }
+
+        @Override
+        public Map<String, Object> toMap() {
+            var map = new HashMap<String, Object>();
+            map.put("nodeCount", nodeCount);
+            map.put("relationshipCount", relationshipCount);
+            map.put("shortcutCount", shortcutCount);
+            graphName.ifPresent(name -> map.put("graphName", name));
+            return map;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.SparseLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.ReverseAdjacency;
+
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Answers a single source-target query by searching forward from the source
+ * and backward from the target at the same time. The search stops as soon as
+ * the two frontiers cannot improve the shortest path found so far.
+ * <p>
+ * All search state is kept in hash based structures, so the memory used by
+ * the search itself grows with the explored region. The backward search on
+ * a directed graph reads the incoming relationships from a {@link ReverseAdjacency},
+ * which takes O(n + m) time and memory to build. It is created by the caller so
+ * that it can be shared between queries on the same graph.
+ * <p>
+ * If a pair of heuristic functions is given, both searches are guided by the
+ * average of the two potentials, i.e. {@code (h_t(v) - h_s(v)) / 2} for the
+ * forward and its negation for the backward search, which keeps the reduced
+ * relationship weights non-negative for consistent heuristics.
+ */
+final class BidirectionalDijkstra {
+
+    private static final long NO_NODE = -1;
+    private static final long NO_RELATIONSHIP = -1;
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final Graph graph;
+    // incoming relationships (null, if the graph is undirected)
+    private final @Nullable ReverseAdjacency reverseAdjacency;
+    private final long sourceNode;
+    private final long targetNode;
+    private final boolean trackRelationships;
+    // forward potential, zero if no heuristic is given
+    private final LongToDoubleFunction potential;
+    private final ProgressTracker progressTracker;
+
+    static MemoryEstimation memoryEstimation(boolean trackRelationships) {
+        var builder = MemoryEstimations.builder(BidirectionalDijkstra.class)
+            .add("forward queue", SparseLongPriorityQueue.memoryEstimation())
+            .add("backward queue", SparseLongPriorityQueue.memoryEstimation())
+            .fixed("forward predecessors", MemoryUsage.sizeOfInstance(LongLongHashMap.class))
+            .fixed("backward predecessors", MemoryUsage.sizeOfInstance(LongLongHashMap.class))
+            .fixed("visited sets", 2 * MemoryUsage.sizeOfInstance(LongHashSet.class));
+        if (trackRelationships) {
+            builder.fixed("relationship ids", MemoryUsage.sizeOfInstance(LongLongHashMap.class));
+        }
+        return builder.build();
+    }
+
+    BidirectionalDijkstra(
+        Graph graph,
+        @Nullable ReverseAdjacency reverseAdjacency,
+        long sourceNode,
+        long targetNode,
+        boolean trackRelationships,
+        @Nullable Dijkstra.HeuristicFunction targetHeuristic,
+        @Nullable Dijkstra.HeuristicFunction sourceHeuristic,
+        ProgressTracker progressTracker
+    ) {
+        assert reverseAdjacency != null || graph.schema().isUndirected() : "A directed graph requires a reverse adjacency";
+        this.graph = graph;
+        this.reverseAdjacency = reverseAdjacency;
+        this.sourceNode = sourceNode;
+        this.targetNode = targetNode;
+        this.trackRelationships = trackRelationships;
+        this.potential = targetHeuristic == null || sourceHeuristic == null
+            ? node -> 0.0D
+            : node -> (targetHeuristic.applyAsDouble(node) - sourceHeuristic.applyAsDouble(node)) / 2.0D;
+        this.progressTracker = progressTracker;
+    }
+
+    DijkstraResult compute(TerminationFlag terminationFlag) {
+        progressTracker.beginSubTask();
+
+        var paths = Stream
+            .generate(() -> search(terminationFlag))
+            .limit(1)
+            .filter(pathResult -> pathResult != PathResult.EMPTY);
+
+        return new DijkstraResult(paths, progressTracker::endSubTask);
+    }
+
+    private PathResult search(TerminationFlag terminationFlag) {
+        var forward = new Search(
+            sourceNode,
+            potential,
+            graph::degree,
+            (node, consumer) -> graph.forEachRelationship(node, 1.0D, consumer)
+        );
+        var backward = backwardSearch();
+
+        var shortestPath = new ShortestPath();
+        forward.queue.add(sourceNode, 0.0D);
+        backward.queue.add(targetNode, 0.0D);
+        if (sourceNode == targetNode) {
+            shortestPath.offer(sourceNode, 0.0D);
+        }
+
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty() && terminationFlag.running()) {
+            // Neither frontier can be part of a path that is shorter than the one we know.
+            if (forward.topPriority() + backward.topPriority() >= shortestPath.cost) {
+                break;
+            }
+            // Expand the smaller frontier to keep both searches balanced.
+            if (forward.queue.size() <= backward.queue.size()) {
+                forward.expand(backward, shortestPath);
+            } else {
+                backward.expand(forward, shortestPath);
+            }
+        }
+
+        if (shortestPath.meetingNode == NO_NODE) {
+            return PathResult.EMPTY;
+        }
+        return pathResult(forward, backward, shortestPath);
+    }
+
+    private Search backwardSearch() {
+        LongToDoubleFunction backwardPotential = node -> -potential.applyAsDouble(node);
+        if (reverseAdjacency == null) {
+            return new Search(
+                targetNode,
+                backwardPotential,
+                graph::degree,
+                (node, consumer) -> graph.forEachRelationship(node, 1.0D, consumer)
+            );
+        }
+        return new Search(
+            targetNode,
+            backwardPotential,
+            reverseAdjacency::degree,
+            reverseAdjacency::forEachRelationship
+        );
+    }
+
+    private PathResult pathResult(Search forward, Search backward, ShortestPath shortestPath) {
+        var pathNodeIds = new LongArrayList();
+        var relationshipIds = new LongArrayList();
+        var costs = new DoubleArrayList();
+
+        // Backtrack from the meeting node to the source node ...
+        var node = shortestPath.meetingNode;
+        while (true) {
+            pathNodeIds.add(node);
+            costs.add(forward.queue.cost(node));
+            if (node == sourceNode) {
+                break;
+            }
+            if (trackRelationships) {
+                relationshipIds.add(forward.relationships.getOrDefault(node, NO_RELATIONSHIP));
+            }
+            node = forward.predecessors.get(node);
+        }
+        ArrayUtils.reverse(pathNodeIds.buffer, 0, pathNodeIds.size());
+        ArrayUtils.reverse(relationshipIds.buffer, 0, relationshipIds.size());
+        ArrayUtils.reverse(costs.buffer, 0, costs.size());
+
+        // ... and follow the backward search from the meeting node to the target node.
+        node = shortestPath.meetingNode;
+        while (node != targetNode) {
+            var next = backward.predecessors.get(node);
+            pathNodeIds.add(next);
+            costs.add(shortestPath.cost - backward.queue.cost(next));
+            if (trackRelationships) {
+                relationshipIds.add(relationshipId(node, next));
+            }
+            node = next;
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(pathNodeIds.toArray())
+            .relationshipIds(trackRelationships ? relationshipIds.toArray() : EMPTY_ARRAY)
+            .costs(costs.toArray())
+            .build();
+    }
+
+    // The backward search does not know the position of a relationship in the adjacency
+    // list of its source, so we pick the cheapest relationship between the two nodes.
+    private long relationshipId(long source, long target) {
+        var relationshipId = new MutableInt();
+        var cheapestRelationship = new MutableLong(NO_RELATIONSHIP);
+        var cheapestWeight = new MutableDouble(Double.POSITIVE_INFINITY);
+        graph.forEachRelationship(source, 1.0D, (s, t, weight) -> {
+            if (t == target && weight < cheapestWeight.doubleValue()) {
+                cheapestWeight.setValue(weight);
+                cheapestRelationship.setValue(relationshipId.longValue());
+            }
+            relationshipId.increment();
+            return true;
+        });
+        return cheapestRelationship.longValue();
+    }
+
+    private static final class ShortestPath {
+        // cost of the shortest path found so far
+        double cost = Double.POSITIVE_INFINITY;
+        // node at which the forward and backward path of the shortest path meet
+        long meetingNode = NO_NODE;
+
+        void offer(long node, double pathCost) {
+            if (pathCost < cost) {
+                cost = pathCost;
+                meetingNode = node;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Adjacency {
+        void forEachRelationship(long node, RelationshipWithPropertyConsumer consumer);
+    }
+
+    private final class Search {
+        private final long startNode;
+        private final LongToDoubleFunction potential;
+        private final LongToIntFunction degree;
+        private final Adjacency adjacency;
+        // tentative and final costs from the start node
+        private final SparseLongPriorityQueue queue;
+        // predecessor in search direction
+        private final LongLongHashMap predecessors;
+        // relationship ids (null, if trackRelationships is false)
+        private final LongLongHashMap relationships;
+        private final LongHashSet visited;
+
+        private Search(long startNode, LongToDoubleFunction potential, LongToIntFunction degree, Adjacency adjacency) {
+            this.startNode = startNode;
+            this.potential = potential;
+            this.degree = degree;
+            this.adjacency = adjacency;
+            this.queue = new SparseLongPriorityQueue(16) {
+                @Override
+                protected boolean lessThan(long a, long b) {
+                    return costValues.get(a) + potential.applyAsDouble(a) < costValues.get(b) + potential.applyAsDouble(b);
+                }
+            };
+            this.predecessors = new LongLongHashMap();
+            this.relationships = trackRelationships ? new LongLongHashMap() : null;
+            this.visited = new LongHashSet();
+        }
+
+        double topPriority() {
+            var node = queue.top();
+            return queue.cost(node) + potential.applyAsDouble(node);
+        }
+
+        boolean hasReached(long node) {
+            return node == startNode || predecessors.containsKey(node);
+        }
+
+        void expand(Search other, ShortestPath shortestPath) {
+            var node = queue.pop();
+            var cost = queue.cost(node);
+            visited.add(node);
+
+            // For disconnected graphs, this will not reach 100%.
+            progressTracker.logProgress(degree.applyAsInt(node));
+
+            var relationshipId = new MutableInt();
+            adjacency.forEachRelationship(node, (source, target, weight) -> {
+                updateCost(source, target, relationshipId.intValue(), weight + cost);
+                if (other.hasReached(target)) {
+                    shortestPath.offer(target, queue.cost(target) + other.queue.cost(target));
+                }
+                relationshipId.increment();
+                return true;
+            });
+        }
+
+        private void updateCost(long source, long target, long relationshipId, double newCost) {
+            // target has been visited, we already have a shortest path
+            if (visited.contains(target)) {
+                return;
+            }
+
+            if (!queue.containsElement(target) || newCost < queue.cost(target)) {
+                queue.set(target, newCost);
+                predecessors.put(target, source);
+                if (trackRelationships) {
+                    relationships.put(target, relationshipId);
+                }
+            }
+        }
+    }
+}
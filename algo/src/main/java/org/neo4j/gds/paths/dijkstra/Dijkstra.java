@@ -23,6 +23,7 @@ import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.DoubleArrayDeque;
 import com.carrotsearch.hppc.LongArrayDeque;
 import org.apache.commons.lang3.mutable.MutableInt;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -34,9 +35,11 @@ import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.paths.AllShortestPathsBaseConfig;
 import org.neo4j.gds.paths.ImmutablePathResult;
 import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.ReverseAdjacency;
 import org.neo4j.gds.paths.ShortestPathBaseConfig;
 
 import java.util.Optional;
+import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.Stream;
 
@@ -56,9 +59,11 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
     private TraversalState traversalState;
 
     private long sourceNode;
-    // priority queue
+    // answers the query instead, if the search is bidirectional
+    private final @Nullable BidirectionalDijkstra bidirectionalSearch;
+    // priority queue (null, if the search is bidirectional)
     private final HugeLongPriorityQueue queue;
-    // predecessor map
+    // predecessor map (null, if the search is bidirectional)
     private final HugeLongLongMap predecessors;
     // True, iff the algo should track relationship ids.
     // A relationship id is the index of a relationship
@@ -66,7 +71,7 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
     private final boolean trackRelationships;
     // relationship ids (null, if trackRelationships is false)
     private final HugeLongLongMap relationships;
-    // visited set
+    // visited set (null, if the search is bidirectional)
     private final BitSet visited;
     // path id increasing in order of exploration
     private long pathIndex;
@@ -95,6 +100,60 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
         );
     }
 
+    /**
+     * Configure Dijkstra to compute at most one source-target shortest path
+     * by searching forward from the source and backward from the target.
+     * <p>
+     * The search state is kept in sparse structures, which makes the memory
+     * used by the search proportional to the explored part of the graph.
+     * For directed graphs, the incoming relationships are indexed first,
+     * which takes O(n + m) time and memory per query. Use the overload that
+     * accepts a {@link ReverseAdjacency} to share the index between queries.
+     *
+     * @param heuristicFactory creates a heuristic that estimates the distance to the given node.
+     *                         It must be consistent for the computed path to be a shortest path.
+     */
+    public static Dijkstra bidirectional(
+        Graph graph,
+        ShortestPathBaseConfig config,
+        Optional<LongFunction<HeuristicFunction>> heuristicFactory,
+        ProgressTracker progressTracker
+    ) {
+        var reverseAdjacency = graph.schema().isUndirected() ? null : ReverseAdjacency.of(graph);
+        return bidirectional(graph, reverseAdjacency, config, heuristicFactory, progressTracker);
+    }
+
+    /**
+     * Configure Dijkstra to compute at most one source-target shortest path
+     * by searching forward from the source and backward from the target,
+     * reading the incoming relationships from the given reverse adjacency.
+     *
+     * @param reverseAdjacency the incoming relationships of the graph, may be null for undirected graphs.
+     */
+    public static Dijkstra bidirectional(
+        Graph graph,
+        @Nullable ReverseAdjacency reverseAdjacency,
+        ShortestPathBaseConfig config,
+        Optional<LongFunction<HeuristicFunction>> heuristicFactory,
+        ProgressTracker progressTracker
+    ) {
+        long sourceNode = graph.toMappedNodeId(config.sourceNode());
+        long targetNode = graph.toMappedNodeId(config.targetNode());
+
+        var bidirectionalSearch = new BidirectionalDijkstra(
+            graph,
+            reverseAdjacency,
+            sourceNode,
+            targetNode,
+            config.trackRelationships(),
+            heuristicFactory.map(factory -> factory.apply(targetNode)).orElse(null),
+            heuristicFactory.map(factory -> factory.apply(sourceNode)).orElse(null),
+            progressTracker
+        );
+
+        return new Dijkstra(graph, sourceNode, bidirectionalSearch, config.trackRelationships(), progressTracker);
+    }
+
     /**
      * Configure Dijkstra to compute all single-source shortest path.
      */
@@ -125,6 +184,13 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
             .build();
     }
 
+    public static MemoryEstimation bidirectionalMemoryEstimation(boolean trackRelationships) {
+        return MemoryEstimations.builder(Dijkstra.class)
+            .add("bidirectional search", BidirectionalDijkstra.memoryEstimation(trackRelationships))
+            .add("reverse adjacency", ReverseAdjacency.memoryEstimation())
+            .build();
+    }
+
     private Dijkstra(
         Graph graph,
         long sourceNode,
@@ -146,6 +212,28 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
         this.relationships = trackRelationships ? new HugeLongLongMap() : null;
         this.visited = new BitSet();
         this.pathIndex = 0L;
+        this.bidirectionalSearch = null;
+    }
+
+    private Dijkstra(
+        Graph graph,
+        long sourceNode,
+        BidirectionalDijkstra bidirectionalSearch,
+        boolean trackRelationships,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.traversalPredicate = node -> EMIT_AND_STOP;
+        this.traversalState = CONTINUE;
+        this.trackRelationships = trackRelationships;
+        this.queue = null;
+        this.predecessors = null;
+        this.relationships = null;
+        this.visited = null;
+        this.pathIndex = 0L;
+        this.bidirectionalSearch = bidirectionalSearch;
     }
 
     public Dijkstra withSourceNode(long sourceNode) {
@@ -154,6 +242,7 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
     }
 
     public Dijkstra withRelationshipFilter(RelationshipFilter relationshipFilter) {
+        assert bidirectionalSearch == null : "The bidirectional search does not support relationship filters";
         this.relationshipFilter = this.relationshipFilter.and(relationshipFilter);
         return this;
     }
@@ -163,6 +252,7 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
     // Yen's algorithm to backtrack to the original
     // source node.
     public void resetTraversalState() {
+        assert bidirectionalSearch == null : "The bidirectional search cannot be reset";
         traversalState = CONTINUE;
         queue.clear();
         visited.clear();
@@ -172,6 +262,10 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
     }
 
     public DijkstraResult compute() {
+        if (bidirectionalSearch != null) {
+            return bidirectionalSearch.compute(terminationFlag);
+        }
+
         progressTracker.beginSubTask();
 
         queue.add(sourceNode, 0.0);
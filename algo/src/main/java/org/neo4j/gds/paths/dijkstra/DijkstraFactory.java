@@ -29,6 +29,7 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.paths.AllShortestPathsBaseConfig;
+import org.neo4j.gds.paths.BidirectionalSearchConfig;
 import org.neo4j.gds.paths.ShortestPathBaseConfig;
 
 import java.util.Optional;
@@ -59,13 +60,28 @@ public abstract class DijkstraFactory<T extends AlgoBaseConfig & RelationshipWei
         return Tasks.leaf(taskName, graph.relationshipCount());
     }
 
-    public static class SourceTargetDijkstraFactory<T extends ShortestPathBaseConfig> extends DijkstraFactory<T> {
+    public static class SourceTargetDijkstraFactory<T extends ShortestPathBaseConfig & BidirectionalSearchConfig> extends DijkstraFactory<T> {
+        @Override
+        public MemoryEstimation memoryEstimation(T configuration) {
+            return configuration.bidirectional()
+                ? Dijkstra.bidirectionalMemoryEstimation(false)
+                : Dijkstra.memoryEstimation(false);
+        }
+
         @Override
         public Dijkstra build(
             Graph graph,
             T configuration,
             ProgressTracker progressTracker
         ) {
+            if (configuration.bidirectional()) {
+                return Dijkstra.bidirectional(
+                    graph,
+                    configuration,
+                    Optional.empty(),
+                    progressTracker
+                );
+            }
             return Dijkstra.sourceTarget(
                 graph,
                 configuration,
@@ -22,12 +22,13 @@ package org.neo4j.gds.paths.dijkstra.config;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.paths.BidirectionalSearchConfig;
 import org.neo4j.gds.paths.ShortestPathBaseConfig;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface ShortestPathDijkstraStreamConfig extends ShortestPathBaseConfig {
+public interface ShortestPathDijkstraStreamConfig extends ShortestPathBaseConfig, BidirectionalSearchConfig {
 
     static ShortestPathDijkstraStreamConfig of(CypherMapWrapper userInput) {
         return new ShortestPathDijkstraStreamConfigImpl(userInput);
@@ -56,10 +56,21 @@ import java.util.concurrent.atomic.AtomicLong;
  * to create the next bucket, such that a correct BFS ordering is returned where all
  * descendants from the nodes of a chunk, appear together before those from a later
  * chunk.
+ *
+ * Optionally, the traversal is direction-optimizing (Beamer et al.). Once the relationships
+ * of the frontier make up a large part of the relationships that are still unexplored, the
+ * next levels are computed bottom-up by {@link BFSBottomUpStep}, which lets every unvisited
+ * node look for a neighbour in the frontier. When the frontier becomes small again, the
+ * traversal switches back to top-down. Bottom-up levels list their nodes in ascending node
+ * id order, so the order within a level may differ from the top-down traversal.
  */
 public final class BFS extends Algorithm<HugeLongArray> {
 
     private static final int DEFAULT_DELTA = 64;
+    // Switch to bottom-up when the frontier has more than 1/ALPHA of the unexplored relationships.
+    private static final int ALPHA = 14;
+    // Switch back to top-down when the frontier has less than 1/BETA of the nodes.
+    private static final int BETA = 24;
     public static final int ALL_DEPTHS_ALLOWED = -1;
 
     private final long sourceNodeId;
@@ -68,6 +79,7 @@ public final class BFS extends Algorithm<HugeLongArray> {
     private final Graph graph;
     private final int delta;
     private final long maximumDepth;
+    private final boolean directionOptimizing;
     // An array to keep the node ids that were already traversed in the correct order.
     // It is initialized with the total number of nodes, but may contain less than that.
     private HugeLongArray traversedNodes;
@@ -93,6 +105,28 @@ public final class BFS extends Algorithm<HugeLongArray> {
         int concurrency,
         ProgressTracker progressTracker,
         long maximumDepth
+    ) {
+        return create(
+            graph,
+            startNodeId,
+            exitPredicate,
+            aggregatorFunction,
+            concurrency,
+            progressTracker,
+            maximumDepth,
+            false
+        );
+    }
+
+    public static BFS create(
+        Graph graph,
+        long startNodeId,
+        ExitPredicate exitPredicate,
+        Aggregator aggregatorFunction,
+        int concurrency,
+        ProgressTracker progressTracker,
+        long maximumDepth,
+        boolean directionOptimizing
     ) {
         return create(
             graph,
@@ -102,7 +136,8 @@ public final class BFS extends Algorithm<HugeLongArray> {
             concurrency,
             progressTracker,
             DEFAULT_DELTA,
-            maximumDepth
+            maximumDepth,
+            directionOptimizing
         );
     }
 
@@ -116,6 +151,30 @@ public final class BFS extends Algorithm<HugeLongArray> {
         int delta,
         long maximumDepth
     ) {
+        return create(
+            graph,
+            startNodeId,
+            exitPredicate,
+            aggregatorFunction,
+            concurrency,
+            progressTracker,
+            delta,
+            maximumDepth,
+            false
+        );
+    }
+
+    static BFS create(
+        Graph graph,
+        long startNodeId,
+        ExitPredicate exitPredicate,
+        Aggregator aggregatorFunction,
+        int concurrency,
+        ProgressTracker progressTracker,
+        int delta,
+        long maximumDepth,
+        boolean directionOptimizing
+    ) {
 
         var nodeCount = graph.nodeCount();
 
@@ -134,7 +193,8 @@ public final class BFS extends Algorithm<HugeLongArray> {
             concurrency,
             progressTracker,
             delta,
-            maximumDepth
+            maximumDepth,
+            directionOptimizing
         );
     }
 
@@ -149,7 +209,8 @@ public final class BFS extends Algorithm<HugeLongArray> {
         int concurrency,
         ProgressTracker progressTracker,
         int delta,
-        long maximumDepth
+        long maximumDepth,
+        boolean directionOptimizing
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -159,6 +220,7 @@ public final class BFS extends Algorithm<HugeLongArray> {
         this.concurrency = concurrency;
         this.delta = delta;
         this.maximumDepth = maximumDepth;
+        this.directionOptimizing = directionOptimizing;
         this.traversedNodes = traversedNodes;
         this.weights = weights;
         this.visited = visited;
@@ -194,11 +256,57 @@ public final class BFS extends Algorithm<HugeLongArray> {
             delta
         );
         int bfsTaskListSize = bfsTaskList.size();
+        var bottomUpStep = directionOptimizing
+            ? new BFSBottomUpStep(
+                graph,
+                traversedNodes,
+                traversedNodesLength,
+                visited,
+                weights,
+                targetFoundIndex,
+                minimumChunk,
+                exitPredicate,
+                aggregatorFunction,
+                sourceNodeId,
+                concurrency,
+                terminationFlag,
+                progressTracker
+            )
+            : null;
+        boolean topDown = true;
+        long unexploredRelationships = graph.relationshipCount();
+        long previousFrontierSize = 0;
         long currentDepth = 0;
         while (terminationFlag.running()) {
             if (currentDepth == maximumDepth) {
                 break;
             }
+            var previousTraversedNodesLength = traversedNodesLength.get();
+
+            if (directionOptimizing) {
+                var frontierSize = previousTraversedNodesLength - traversedNodesIndex.get();
+                var frontierRelationships = frontierRelationships(traversedNodesIndex.get(), previousTraversedNodesLength);
+                if (topDown) {
+                    topDown = frontierRelationships <= unexploredRelationships / ALPHA;
+                } else {
+                    topDown = frontierSize < graph.nodeCount() / BETA && frontierSize < previousFrontierSize;
+                }
+                unexploredRelationships -= frontierRelationships;
+                previousFrontierSize = frontierSize;
+
+                if (!topDown) {
+                    bottomUpStep.run(traversedNodesIndex.get(), previousTraversedNodesLength);
+
+                    if (targetFoundIndex.get() != Long.MAX_VALUE || traversedNodesLength.get() == previousTraversedNodesLength) {
+                        break;
+                    }
+
+                    traversedNodesIndex.set(previousTraversedNodesLength);
+                    currentDepth++;
+                    continue;
+                }
+            }
+
             ParallelUtil.run(bfsTaskList, Pools.DEFAULT);
 
             if (targetFoundIndex.get() != Long.MAX_VALUE) {
@@ -206,7 +314,6 @@ public final class BFS extends Algorithm<HugeLongArray> {
             }
 
             // Synchronize the results sequentially
-            var previousTraversedNodesLength = traversedNodesLength.get();
             int numberOfFinishedTasks = 0;
             int numberOfTasksWithChunks = countTasksWithChunks(bfsTaskList);
             while (numberOfFinishedTasks != numberOfTasksWithChunks && terminationFlag.running()) {
@@ -286,6 +393,14 @@ public final class BFS extends Algorithm<HugeLongArray> {
         visited = null;
     }
 
+    private long frontierRelationships(long frontierStart, long frontierEnd) {
+        long relationships = 0;
+        for (long idx = frontierStart; idx < frontierEnd; idx++) {
+            relationships += graph.degree(traversedNodes.get(idx));
+        }
+        return relationships;
+    }
+
     private int countTasksWithChunks(Collection<BFSTask> bfsTaskList) {
         return (int) bfsTaskList.stream().filter(BFSTask::hasMoreChunks).count();
     }
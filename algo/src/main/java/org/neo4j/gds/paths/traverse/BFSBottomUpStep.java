@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.traverse;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.ReverseAdjacency;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Computes the next level of a {@link BFS} bottom-up.
+ *
+ * Instead of following the relationships of the frontier, every unvisited node looks for
+ * a neighbour in the frontier that has a relationship to it. The node is discovered by
+ * the first such neighbour and the scan stops there, which saves most of the relationship
+ * checks once the frontier contains a large part of the graph.
+ *
+ * The frontier is kept as a dense bitmap. Directed graphs only index outgoing relationships,
+ * their incoming relationships are inverted the first time a bottom-up step is run.
+ * The nodes of the next level are appended to `traversedNodes` in ascending node id order.
+ */
+final class BFSBottomUpStep {
+
+    // shared variables; see comments in `BFS`.
+    private final Graph graph;
+    private final HugeLongArray traversedNodes;
+    private final AtomicLong traversedNodesLength;
+    private final HugeAtomicBitSet visited;
+    private final HugeDoubleArray weights;
+    private final AtomicLong targetFoundIndex;
+    private final HugeAtomicLongArray minimumChunk;
+    private final ExitPredicate exitPredicate;
+    private final Aggregator aggregatorFunction;
+    private final long sourceNodeId;
+    private final int concurrency;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+
+    // The nodes of the current level and their position in `traversedNodes`.
+    private final HugeAtomicBitSet frontier;
+    private final HugeLongArray frontierIndex;
+
+    private ReverseAdjacency reverseAdjacency;
+
+    BFSBottomUpStep(
+        Graph graph,
+        HugeLongArray traversedNodes,
+        AtomicLong traversedNodesLength,
+        HugeAtomicBitSet visited,
+        HugeDoubleArray weights,
+        AtomicLong targetFoundIndex,
+        HugeAtomicLongArray minimumChunk,
+        ExitPredicate exitPredicate,
+        Aggregator aggregatorFunction,
+        long sourceNodeId,
+        int concurrency,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.traversedNodes = traversedNodes;
+        this.traversedNodesLength = traversedNodesLength;
+        this.visited = visited;
+        this.weights = weights;
+        this.targetFoundIndex = targetFoundIndex;
+        this.minimumChunk = minimumChunk;
+        this.exitPredicate = exitPredicate;
+        this.aggregatorFunction = aggregatorFunction;
+        this.sourceNodeId = sourceNodeId;
+        this.concurrency = concurrency;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+
+        this.frontier = HugeAtomicBitSet.create(graph.nodeCount());
+        this.frontierIndex = HugeLongArray.newArray(graph.nodeCount());
+    }
+
+    /**
+     * Visits the nodes in `traversedNodes` between the given indices and appends the next level.
+     * Does not append anything if a node of the current level matches the exit predicate.
+     */
+    void run(long frontierStart, long frontierEnd) {
+        markFrontier(frontierStart, frontierEnd);
+
+        if (targetFoundIndex.get() != Long.MAX_VALUE) {
+            return;
+        }
+
+        if (reverseAdjacency == null && !graph.schema().isUndirected()) {
+            reverseAdjacency = ReverseAdjacency.of(graph);
+        }
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> new DiscoverTask(partition.startNode(), partition.startNode() + partition.nodeCount()),
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+
+        // Append the discovered nodes in partition order, which keeps them sorted by node id.
+        long index = traversedNodesLength.get();
+        for (var task : tasks) {
+            var discoveredNodes = task.discoveredNodes;
+            for (int i = 0; i < discoveredNodes.size(); i++) {
+                var nodeId = discoveredNodes.get(i);
+                visited.set(nodeId);
+                traversedNodes.set(index++, nodeId);
+            }
+        }
+        traversedNodesLength.set(index);
+
+        frontier.clear();
+    }
+
+    /**
+     * Computes the weights of the current level, tests the exit predicate and marks the nodes in the frontier bitmap.
+     */
+    private void markFrontier(long frontierStart, long frontierEnd) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            frontierEnd - frontierStart,
+            partition -> (Runnable) () -> {
+                long start = frontierStart + partition.startNode();
+                long end = start + partition.nodeCount();
+                for (long idx = start; idx < end; idx++) {
+                    var nodeId = traversedNodes.get(idx);
+                    long sourceId = this.sourceNodeId;
+                    double weight = 0;
+                    if (nodeId != this.sourceNodeId) {
+                        long minimumChunkIndex = minimumChunk.get(nodeId);
+                        sourceId = traversedNodes.get(minimumChunkIndex);
+                        weight = aggregatorFunction.apply(sourceId, nodeId, weights.get(minimumChunkIndex));
+                        weights.set(idx, weight);
+                    }
+
+                    if (exitPredicate.test(sourceId, nodeId, weight) == ExitPredicate.Result.BREAK) {
+                        targetFoundIndex.getAndAccumulate(idx, Math::min);
+                        return;
+                    }
+
+                    frontier.set(nodeId);
+                    frontierIndex.set(nodeId, idx);
+                }
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+    }
+
+    private final class DiscoverTask implements Runnable {
+        private final long startNode;
+        private final long endNode;
+        private final Graph localGraph;
+        private final LongArrayList discoveredNodes;
+
+        private DiscoverTask(long startNode, long endNode) {
+            this.startNode = startNode;
+            this.endNode = endNode;
+            this.localGraph = graph.concurrentCopy();
+            this.discoveredNodes = new LongArrayList();
+        }
+
+        @Override
+        public void run() {
+            for (long nodeId = startNode; nodeId < endNode && terminationFlag.running(); nodeId++) {
+                if (visited.get(nodeId)) {
+                    continue;
+                }
+                long discoveredNode = nodeId;
+                // `neighbourId` has a relationship to `discoveredNode`; stop at the first one in the frontier
+                if (reverseAdjacency == null) {
+                    localGraph.forEachRelationship(nodeId, (s, neighbourId) -> discover(discoveredNode, neighbourId));
+                } else {
+                    reverseAdjacency.forEachRelationship(nodeId, (s, neighbourId, w) -> discover(discoveredNode, neighbourId));
+                }
+            }
+        }
+
+        private boolean discover(long nodeId, long neighbourId) {
+            if (frontier.get(neighbourId)) {
+                minimumChunk.set(nodeId, frontierIndex.get(neighbourId));
+                discoveredNodes.add(nodeId);
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.paths.ReverseAdjacency;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -66,7 +67,8 @@ public class BfsAlgorithmFactory<CONFIG extends BfsBaseConfig> extends GraphAlgo
             aggregatorFunction,
             configuration.concurrency(),
             progressTracker,
-            configuration.maxDepth()
+            configuration.maxDepth(),
+            configuration.directionOptimizing()
         );
     }
 
@@ -107,6 +109,14 @@ public class BfsAlgorithmFactory<CONFIG extends BfsBaseConfig> extends GraphAlgo
             MemoryRange.of(dimensions.nodeCount() / 64)
         );
 
+        if (configuration.directionOptimizing()) {
+            builder.startField("bottomUpStep")
+                .perNode("frontier", HugeAtomicBitSet::memoryEstimation)
+                .perNode("frontierIndex", HugeLongArray::memoryEstimation)
+                .add("reverseAdjacency", ReverseAdjacency.memoryEstimation())
+                .endField();
+        }
+
         builder.perNode("resultNodes", HugeLongArray::memoryEstimation);
 
 
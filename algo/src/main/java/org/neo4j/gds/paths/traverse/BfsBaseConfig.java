@@ -43,4 +43,9 @@ public interface BfsBaseConfig extends AlgoBaseConfig, SourceNodeConfig, TargetN
     default boolean hasMaxDepth() {
         return maxDepth() != NO_MAX_DEPTH;
     }
+
+    @Value.Default
+    default boolean directionOptimizing() {
+        return false;
+    }
 }
@@ -25,8 +25,11 @@ import com.carrotsearch.hppc.LongScatterSet;
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.paths.PathResult;
@@ -37,8 +40,13 @@ import org.neo4j.gds.paths.yens.config.ShortestPathYensBaseConfig;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -50,9 +58,14 @@ public final class Yens extends Algorithm<DijkstraResult> {
     private final Graph graph;
     private final ShortestPathYensBaseConfig config;
     private final Dijkstra dijkstra;
+    private final ExecutorService executorService;
 
-    private final LongScatterSet nodeBlackList;
-    private final LongObjectScatterMap<LongHashSet> relationshipBlackList;
+    // Computes spur paths on the calling thread,
+    // using the Dijkstra instance for the initial path.
+    private final SpurPathSearch spurPathSearch;
+    // One spur path search per thread for concurrent spur path
+    // computation, empty if the concurrency is one.
+    private final SpurPathSearch[] concurrentSpurPathSearches;
 
     /**
      * Configure Yens to compute at most one source-target shortest path.
@@ -72,7 +85,21 @@ public final class Yens extends Algorithm<DijkstraResult> {
             .build();
         // Init dijkstra algorithm for computing shortest paths
         var dijkstra = Dijkstra.sourceTarget(graph, newConfig, Optional.empty(), progressTracker);
-        return new Yens(graph, dijkstra, newConfig, progressTracker);
+        // Additional Dijkstra instances compute spur paths concurrently, each on its
+        // own copy of the graph. They do not track progress, since the progress
+        // tracker must only be used by the calling thread.
+        var concurrentSpurPathDijkstras = config.concurrency() == 1
+            ? List.<Dijkstra>of()
+            : IntStream
+                .range(0, config.concurrency())
+                .mapToObj(i -> Dijkstra.sourceTarget(
+                    graph.concurrentCopy(),
+                    newConfig,
+                    Optional.empty(),
+                    ProgressTracker.NULL_TRACKER
+                ))
+                .collect(Collectors.toList());
+        return new Yens(graph, dijkstra, concurrentSpurPathDijkstras, newConfig, Pools.DEFAULT, progressTracker);
     }
 
     // The blacklists contain nodes and relationships that are
@@ -82,31 +109,48 @@ public final class Yens extends Algorithm<DijkstraResult> {
     private static final long AVERAGE_BLACKLIST_SIZE = 10L;
 
     public static MemoryEstimation memoryEstimation() {
-        return MemoryEstimations.builder(Yens.class.getSimpleName())
+        var spurPathSearch = MemoryEstimations.builder(SpurPathSearch.class.getSimpleName())
             .add("Dijkstra", Dijkstra.memoryEstimation(false))
             .fixed("nodeBlackList", MemoryUsage.sizeOfLongArray(AVERAGE_BLACKLIST_SIZE))
             .fixed("relationshipBlackList", MemoryUsage.sizeOfLongArray(AVERAGE_BLACKLIST_SIZE * 2))
             .build();
+
+        return MemoryEstimations.builder(Yens.class.getSimpleName())
+            // computes the initial path and, for a concurrency of one, all spur paths
+            .add("spur path search", spurPathSearch)
+            .rangePerGraphDimension("concurrent spur path searches", (dimensions, concurrency) -> concurrency == 1
+                ? MemoryRange.empty()
+                : spurPathSearch.estimate(dimensions, concurrency).memoryUsage().times(concurrency))
+            .build();
     }
 
-    private Yens(Graph graph, Dijkstra dijkstra, ShortestPathYensBaseConfig config, ProgressTracker progressTracker) {
+    private Yens(
+        Graph graph,
+        Dijkstra dijkstra,
+        List<Dijkstra> concurrentSpurPathDijkstras,
+        ShortestPathYensBaseConfig config,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
         super(progressTracker);
         this.graph = graph;
         this.config = config;
-        // Track nodes and relationships that are skipped in a single iteration.
-        // The content of these data structures is reset after each of k iterations.
-        this.nodeBlackList = new LongScatterSet();
-        this.relationshipBlackList = new LongObjectScatterMap<>();
-        // set filter in Dijkstra to respect our blacklists
         this.dijkstra = dijkstra;
-        dijkstra.withRelationshipFilter((source, target, relationshipId) ->
-            !nodeBlackList.contains(target) &&
-            !(relationshipBlackList.getOrDefault(source, EMPTY_SET).contains(relationshipId))
-        );
+        this.executorService = executorService;
+        this.spurPathSearch = new SpurPathSearch(dijkstra);
+        this.concurrentSpurPathSearches = concurrentSpurPathDijkstras
+            .stream()
+            .map(SpurPathSearch::new)
+            .toArray(SpurPathSearch[]::new);
     }
 
     @Override
     public DijkstraResult compute() {
+        spurPathSearch.dijkstra.setTerminationFlag(terminationFlag);
+        for (var concurrentSpurPathSearch : concurrentSpurPathSearches) {
+            concurrentSpurPathSearch.dijkstra.setTerminationFlag(terminationFlag);
+        }
+
         progressTracker.beginSubTask();
         var kShortestPaths = new ArrayList<MutablePathResult>();
         // compute top 1 shortest path
@@ -131,50 +175,26 @@ public final class Yens extends Algorithm<DijkstraResult> {
             progressTracker.beginSubTask();
             var prevPath = kShortestPaths.get(i - 1);
 
-            for (int n = 0; n < prevPath.nodeCount() - 1; n++) {
-                var spurNode = prevPath.node(n);
-                var rootPath = prevPath.subPath(n + 1);
-
-                for (var path : kShortestPaths) {
-                    // Filter relationships that are part of the previous
-                    // shortest paths which share the same root path.
-                    if (rootPath.matches(path, n + 1)) {
-                        var relationshipId = path.relationship(n);
-
-                        var neighbors = relationshipBlackList.get(spurNode);
-
-                        if (neighbors == null) {
-                            neighbors = new LongHashSet();
-                            relationshipBlackList.put(spurNode, neighbors);
-                        }
-                        neighbors.add(relationshipId);
-                    }
+            if (concurrentSpurPathSearches.length == 0 || prevPath.nodeCount() <= 2) {
+                for (int n = 0; n < prevPath.nodeCount() - 1; n++) {
+                    logSpurNode(prevPath.node(n));
+                    // Add the potential k-shortest path to the heap.
+                    spurPathSearch
+                        .compute(prevPath, n, kShortestPaths)
+                        .ifPresent(candidate -> addCandidate(candidates, candidate));
                 }
-
-                // Filter nodes from root path to avoid cyclic path searches.
-                for (int j = 0; j < n; j++) {
-                    nodeBlackList.add(rootPath.node(j));
-                }
-
-                // Calculate the spur path from the spur node to the sink.
-                dijkstra.resetTraversalState();
-                dijkstra.withSourceNode(spurNode);
-                var spurPath = computeDijkstra(graph.toOriginalNodeId(spurNode));
-
-                // Clear filters for next spur node
-                nodeBlackList.clear();
-                relationshipBlackList.clear();
-
-                // No new candidate from this spur node, continue with next node.
-                if (spurPath.isEmpty()) {
-                    continue;
-                }
-
-                // Entire path is made up of the root path and spur path.
-                rootPath.append(MutablePathResult.of(spurPath.get()));
-                // Add the potential k-shortest path to the heap.
-                if (!candidates.contains(rootPath)) {
-                    candidates.add(rootPath);
+            } else {
+                var spurPaths = computeSpurPathsConcurrently(prevPath, kShortestPaths);
+                // Merge candidates in spur node order to produce the same heap
+                // as the sequential search. Progress is reported from this thread
+                // with one sub task per spur node, like the sequential search.
+                for (int n = 0; n < spurPaths.length; n++) {
+                    logSpurNode(prevPath.node(n));
+                    progressTracker.beginSubTask();
+                    progressTracker.endSubTask();
+                    if (spurPaths[n] != null) {
+                        addCandidate(candidates, spurPaths[n]);
+                    }
                 }
             }
 
@@ -193,6 +213,45 @@ public final class Yens extends Algorithm<DijkstraResult> {
         return new DijkstraResult(kShortestPaths.stream().map(MutablePathResult::toPathResult));
     }
 
+    /**
+     * Computes the candidate paths for all spur nodes of the given path.
+     * The spur nodes are distributed dynamically across the spur path searches.
+     *
+     * @return the candidate for each spur node, or {@code null} if there is none
+     */
+    private MutablePathResult[] computeSpurPathsConcurrently(
+        MutablePathResult prevPath,
+        List<MutablePathResult> kShortestPaths
+    ) {
+        int spurNodeCount = prevPath.nodeCount() - 1;
+        var spurPaths = new MutablePathResult[spurNodeCount];
+        var nextSpurNode = new AtomicInteger();
+
+        var tasks = Stream.of(concurrentSpurPathSearches)
+            .limit(spurNodeCount)
+            .map(spurPathSearch -> (Runnable) () -> {
+                int n;
+                while ((n = nextSpurNode.getAndIncrement()) < spurNodeCount && terminationFlag.running()) {
+                    spurPaths[n] = spurPathSearch.compute(prevPath, n, kShortestPaths).orElse(null);
+                }
+            })
+            .collect(Collectors.toList());
+
+        RunWithConcurrency.builder()
+            .concurrency(tasks.size())
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        return spurPaths;
+    }
+
+    private static void addCandidate(PriorityQueue<MutablePathResult> candidates, MutablePathResult candidate) {
+        if (!candidates.contains(candidate)) {
+            candidates.add(candidate);
+        }
+    }
+
     @NotNull
     private PriorityQueue<MutablePathResult> initCandidatesQueue() {
         return new PriorityQueue<>(Comparator
@@ -202,9 +261,14 @@ public final class Yens extends Algorithm<DijkstraResult> {
 
     @Override
     public void release() {
-        dijkstra.release();
-        nodeBlackList.release();
-        relationshipBlackList.release();
+        spurPathSearch.release();
+        for (var concurrentSpurPathSearch : concurrentSpurPathSearches) {
+            concurrentSpurPathSearch.release();
+        }
+    }
+
+    private void logSpurNode(long spurNode) {
+        progressTracker.logInfo(formatWithLocale("Dijkstra for spur node %d", graph.toOriginalNodeId(spurNode)));
     }
 
     private Optional<PathResult> computeDijkstra(long sourceNode) {
@@ -212,4 +276,85 @@ public final class Yens extends Algorithm<DijkstraResult> {
         return dijkstra.compute().findFirst();
     }
 
+    /**
+     * Computes spur paths using a dedicated Dijkstra instance and blacklists.
+     * The Dijkstra traversal state is reset and reused for each spur node.
+     */
+    private static final class SpurPathSearch {
+
+        private final Dijkstra dijkstra;
+        // Track nodes and relationships that are skipped for a single spur node.
+        // The content of these data structures is reset after each search.
+        private final LongScatterSet nodeBlackList;
+        private final LongObjectScatterMap<LongHashSet> relationshipBlackList;
+
+        SpurPathSearch(Dijkstra dijkstra) {
+            this.dijkstra = dijkstra;
+            this.nodeBlackList = new LongScatterSet();
+            this.relationshipBlackList = new LongObjectScatterMap<>();
+            // set filter in Dijkstra to respect our blacklists
+            dijkstra.withRelationshipFilter((source, target, relationshipId) ->
+                !nodeBlackList.contains(target) &&
+                !(relationshipBlackList.getOrDefault(source, EMPTY_SET).contains(relationshipId))
+            );
+        }
+
+        /**
+         * Computes the candidate path that deviates from the given
+         * path at the node with the given index.
+         */
+        Optional<MutablePathResult> compute(
+            MutablePathResult prevPath,
+            int n,
+            List<MutablePathResult> kShortestPaths
+        ) {
+            var spurNode = prevPath.node(n);
+            var rootPath = prevPath.subPath(n + 1);
+
+            for (var path : kShortestPaths) {
+                // Filter relationships that are part of the previous
+                // shortest paths which share the same root path.
+                if (rootPath.matches(path, n + 1)) {
+                    var relationshipId = path.relationship(n);
+
+                    var neighbors = relationshipBlackList.get(spurNode);
+
+                    if (neighbors == null) {
+                        neighbors = new LongHashSet();
+                        relationshipBlackList.put(spurNode, neighbors);
+                    }
+                    neighbors.add(relationshipId);
+                }
+            }
+
+            // Filter nodes from root path to avoid cyclic path searches.
+            for (int j = 0; j < n; j++) {
+                nodeBlackList.add(rootPath.node(j));
+            }
+
+            // Calculate the spur path from the spur node to the sink.
+            dijkstra.resetTraversalState();
+            dijkstra.withSourceNode(spurNode);
+            var spurPath = dijkstra.compute().findFirst();
+
+            // Clear filters for next spur node
+            nodeBlackList.clear();
+            relationshipBlackList.clear();
+
+            // No new candidate from this spur node, continue with next node.
+            if (spurPath.isEmpty()) {
+                return Optional.empty();
+            }
+
+            // Entire path is made up of the root path and spur path.
+            rootPath.append(MutablePathResult.of(spurPath.get()));
+            return Optional.of(rootPath);
+        }
+
+        void release() {
+            dijkstra.release();
+            nodeBlackList.release();
+            relationshipBlackList.release();
+        }
+    }
 }
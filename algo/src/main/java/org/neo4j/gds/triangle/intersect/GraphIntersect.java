@@ -37,15 +37,28 @@ import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
 
 public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements RelationshipIntersect {
 
+    /**
+     * Below this ratio between the remaining degrees of A and B, both lists are merged in batches.
+     * Above it, the smaller list drives the intersection and the larger one is advanced,
+     * which lets block-based cursors skip over entire blocks.
+     */
+    public static final int DEFAULT_SKIP_DEGREE_RATIO = 8;
+
     private CURSOR cache;
     private CURSOR cacheA;
     private CURSOR cacheB;
     private final IntPredicate degreeFilter;
+    private final int skipDegreeRatio;
+    private final long[] bufferA;
+    private final long[] bufferB;
 
-    protected GraphIntersect(long maxDegree) {
+    protected GraphIntersect(long maxDegree, int skipDegreeRatio) {
         this.degreeFilter = maxDegree < Long.MAX_VALUE
             ? (degree) -> degree <= maxDegree
             : (ignore) -> true;
+        this.skipDegreeRatio = skipDegreeRatio;
+        this.bufferA = new long[AdjacencyCursor.DEFAULT_BATCH_SIZE];
+        this.bufferB = new long[AdjacencyCursor.DEFAULT_BATCH_SIZE];
     }
 
     @Override
@@ -68,21 +81,13 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
 
         // iterates over neighbours of A
         CURSOR neighboursA = cacheA;
-        // current neighbour of A
-        long nodeCFromA = NOT_FOUND;
         // iterates over neighbours of B
         CURSOR neighboursB = cacheB;
         // current neighbour of B
         long nodeCFromB;
 
-        // last node where Ca = Cb
-        // prevents counting a new triangle for parallel relationships
-        long triangleC;
-
         // for all neighbors of A
         while (neighboursAMain.hasNextVLong()) {
-            // we have not yet seen a triangle
-            triangleC = NOT_FOUND;
             // check the second node's degree
             int degreeB = degree(nodeB);
             if (degreeFilter.test(degreeB)) {
@@ -94,47 +99,7 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
                 if (nodeCFromB != NOT_FOUND) {
                     // copy the state of A's cursor
                     neighboursA = copyCursor(neighboursAMain, neighboursA);
-
-                    if (degreeFilter.test(degree(nodeCFromB))) {
-                        // find the first neighbour Ca of A with id >= Cb
-                        nodeCFromA = neighboursA.advance(nodeCFromB);
-                        triangleC = checkForAndEmitTriangle(consumer, nodeA, nodeB, nodeCFromA, nodeCFromB, triangleC);
-                    }
-
-                    // while both A and B have more neighbours
-                    while (neighboursA.hasNextVLong() && neighboursB.hasNextVLong()) {
-                        // take the next neighbour Cb of B
-                        nodeCFromB = neighboursB.nextVLong();
-                        if (degreeFilter.test(degree(nodeCFromB))) {
-                            if (nodeCFromB > nodeCFromA) {
-                                // if Cb > Ca, take the next neighbour Ca of A with id >= Cb
-                                nodeCFromA = neighboursA.advance(nodeCFromB);
-                            }
-                            triangleC = checkForAndEmitTriangle(
-                                consumer,
-                                nodeA,
-                                nodeB,
-                                nodeCFromA,
-                                nodeCFromB,
-                                triangleC
-                            );
-                        }
-                    }
-
-                    // it is possible that the last Ca > Cb, but there are no more neighbours Ca of A
-                    // so if there are more neighbours Cb of B
-                    if (neighboursB.hasNextVLong()) {
-                        // we take the next neighbour Cb of B with id >= Ca
-                        nodeCFromB = neighboursB.advance(nodeCFromA);
-                        // B had some more nodes, but none of them were >= Ca, so we skip it
-                        if (nodeCFromB != NOT_FOUND) {
-                            var degreeCFromB = degree(nodeCFromB);
-
-                            if (degreeFilter.test(degreeCFromB)) {
-                                checkForAndEmitTriangle(consumer, nodeA, nodeB, nodeCFromA, nodeCFromB, triangleC);
-                            }
-                        }
-                    }
+                    intersectRemaining(consumer, nodeA, nodeB, nodeCFromB, neighboursA, neighboursB);
                 }
             }
 
@@ -151,6 +116,130 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
         cacheB = neighboursB;
     }
 
+    /**
+     * Intersects the remaining neighbours Ca of A with the neighbours Cb of B, starting at {@code firstNodeCFromB}.
+     * Lists of similar length are merged in batches, skewed ones are intersected by advancing the larger list.
+     */
+    private void intersectRemaining(
+        IntersectionConsumer consumer,
+        long nodeA,
+        long nodeB,
+        long firstNodeCFromB,
+        CURSOR neighboursA,
+        CURSOR neighboursB
+    ) {
+        long remainingA = neighboursA.remaining();
+        long remainingB = neighboursB.remaining() + 1L;
+
+        if (remainingA >= skipDegreeRatio * remainingB) {
+            intersectBySkipping(consumer, nodeA, nodeB, firstNodeCFromB, neighboursB, NOT_FOUND, neighboursA);
+        } else if (remainingB >= skipDegreeRatio * remainingA) {
+            if (!neighboursA.hasNextVLong()) {
+                return;
+            }
+            long firstNodeCFromA = neighboursA.nextVLong();
+            intersectBySkipping(consumer, nodeA, nodeB, firstNodeCFromA, neighboursA, firstNodeCFromB, neighboursB);
+        } else {
+            intersectByMerging(consumer, nodeA, nodeB, firstNodeCFromB, neighboursA, neighboursB);
+        }
+    }
+
+    /**
+     * Walks the smaller list one target at a time and advances the larger list to each of them.
+     * {@code firstLarge} is the current target of the larger list, or {@link AdjacencyCursor#NOT_FOUND} if none was read yet.
+     */
+    private void intersectBySkipping(
+        IntersectionConsumer consumer,
+        long nodeA,
+        long nodeB,
+        long firstSmall,
+        CURSOR small,
+        long firstLarge,
+        CURSOR large
+    ) {
+        // last node where Ca = Cb
+        // prevents counting a new triangle for parallel relationships
+        long triangleC = NOT_FOUND;
+        long nodeCFromSmall = firstSmall;
+        long nodeCFromLarge = firstLarge;
+
+        while (true) {
+            if (nodeCFromLarge < nodeCFromSmall) {
+                if (!large.hasNextVLong()) {
+                    return;
+                }
+                // take the next neighbour of the larger list with id >= the current one of the smaller list
+                nodeCFromLarge = large.advance(nodeCFromSmall);
+            }
+            if (nodeCFromLarge == nodeCFromSmall && degreeFilter.test(degree(nodeCFromSmall))) {
+                triangleC = checkForAndEmitTriangle(consumer, nodeA, nodeB, nodeCFromSmall, nodeCFromLarge, triangleC);
+            }
+            if (!small.hasNextVLong()) {
+                return;
+            }
+            nodeCFromSmall = small.nextVLong();
+        }
+    }
+
+    /**
+     * Merges the remaining neighbours Ca of A with the neighbours Cb of B, starting at {@code firstNodeCFromB}.
+     * Both cursors are drained in batches, so that the merge runs over plain arrays.
+     */
+    private void intersectByMerging(
+        IntersectionConsumer consumer,
+        long nodeA,
+        long nodeB,
+        long firstNodeCFromB,
+        CURSOR neighboursA,
+        CURSOR neighboursB
+    ) {
+        long[] bufferA = this.bufferA;
+        long[] bufferB = this.bufferB;
+
+        int lengthA = neighboursA.nextBatch(bufferA, 0, bufferA.length);
+        int indexA = 0;
+
+        bufferB[0] = firstNodeCFromB;
+        int lengthB = 1 + neighboursB.nextBatch(bufferB, 1, bufferB.length - 1);
+        int indexB = 0;
+
+        // last node where Ca = Cb
+        // prevents counting a new triangle for parallel relationships
+        long triangleC = NOT_FOUND;
+
+        while (true) {
+            if (indexA == lengthA) {
+                lengthA = neighboursA.nextBatch(bufferA, 0, bufferA.length);
+                indexA = 0;
+                if (lengthA == 0) {
+                    return;
+                }
+            }
+            if (indexB == lengthB) {
+                lengthB = neighboursB.nextBatch(bufferB, 0, bufferB.length);
+                indexB = 0;
+                if (lengthB == 0) {
+                    return;
+                }
+            }
+
+            long nodeCFromA = bufferA[indexA];
+            long nodeCFromB = bufferB[indexB];
+
+            if (nodeCFromA < nodeCFromB) {
+                indexA++;
+            } else if (nodeCFromB < nodeCFromA) {
+                indexB++;
+            } else {
+                if (degreeFilter.test(degree(nodeCFromB))) {
+                    triangleC = checkForAndEmitTriangle(consumer, nodeA, nodeB, nodeCFromA, nodeCFromB, triangleC);
+                }
+                indexA++;
+                indexB++;
+            }
+        }
+    }
+
     private long checkForAndEmitTriangle(
         IntersectionConsumer consumer,
         long nodeA,
@@ -31,8 +31,8 @@ public final class HugeGraphIntersect extends GraphIntersect<AdjacencyCursor> {
 
     private final AdjacencyList adjacencyList;
 
-    private HugeGraphIntersect(AdjacencyList adjacency, long maxDegree) {
-        super(maxDegree);
+    private HugeGraphIntersect(AdjacencyList adjacency, long maxDegree, int skipDegreeRatio) {
+        super(maxDegree, skipDegreeRatio);
         this.adjacencyList = adjacency;
     }
 
@@ -64,7 +64,7 @@ public final class HugeGraphIntersect extends GraphIntersect<AdjacencyCursor> {
             assert graph instanceof HugeGraph;
             var hugeGraph = (HugeGraph) graph;
             var topology = hugeGraph.relationshipTopology().adjacencyList();
-            return new HugeGraphIntersect(topology, config.maxDegree());
+            return new HugeGraphIntersect(topology, config.maxDegree(), config.skipDegreeRatio());
         }
     }
 }
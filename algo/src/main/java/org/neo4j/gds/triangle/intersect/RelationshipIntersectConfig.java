@@ -22,6 +22,8 @@ package org.neo4j.gds.triangle.intersect;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.ValueClass;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 public interface RelationshipIntersectConfig {
 
@@ -30,4 +32,23 @@ public interface RelationshipIntersectConfig {
         return Long.MAX_VALUE;
     }
 
+    /**
+     * Minimum ratio between the remaining degrees of two intersected nodes
+     * for which the larger adjacency list is advanced instead of merged.
+     */
+    @Value.Default
+    default int skipDegreeRatio() {
+        return GraphIntersect.DEFAULT_SKIP_DEGREE_RATIO;
+    }
+
+    @Value.Check
+    default void validateSkipDegreeRatio() {
+        if (skipDegreeRatio() < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The skip degree ratio must be at least 1, got %d.",
+                skipDegreeRatio()
+            ));
+        }
+    }
+
 }
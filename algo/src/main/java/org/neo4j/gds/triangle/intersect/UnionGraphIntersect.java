@@ -40,9 +40,10 @@ public final class UnionGraphIntersect extends GraphIntersect<CompositeAdjacency
         LongToIntFunction degreeFunction,
         LongToLongFunction fromFilteredIdFunction,
         CompositeAdjacencyList compositeAdjacencyList,
-        long maxDegree
+        long maxDegree,
+        int skipDegreeRatio
     ) {
-        super(maxDegree);
+        super(maxDegree, skipDegreeRatio);
         this.degreeFunction = degreeFunction;
         this.fromFilteredIdFunction = fromFilteredIdFunction;
         this.compositeAdjacencyList = compositeAdjacencyList;
@@ -82,7 +83,8 @@ public final class UnionGraphIntersect extends GraphIntersect<CompositeAdjacency
                 graph::degree,
                 i -> i,
                 topology,
-                config.maxDegree()
+                config.maxDegree(),
+                config.skipDegreeRatio()
             );
         }
     }
@@ -106,7 +108,8 @@ public final class UnionGraphIntersect extends GraphIntersect<CompositeAdjacency
                 graph::degree,
                 graph::toRootNodeId,
                 topology,
-                config.maxDegree()
+                config.maxDegree(),
+                config.skipDegreeRatio()
             );
         }
     }
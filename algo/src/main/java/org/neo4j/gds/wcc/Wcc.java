@@ -22,7 +22,9 @@ package org.neo4j.gds.wcc;
 import com.carrotsearch.hppc.LongIntHashMap;
 import com.carrotsearch.hppc.cursors.LongIntCursor;
 import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipBatchConsumer;
 import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
@@ -251,16 +253,18 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
         return threshold + 1;
     }
 
-    private class DirectedUnionTask implements Runnable, RelationshipConsumer {
+    private class DirectedUnionTask implements Runnable, RelationshipBatchConsumer {
 
         final DisjointSetStruct struct;
         final RelationshipIterator rels;
+        private final long[] neighbors;
         private final long offset;
         private final long end;
 
         DirectedUnionTask(DisjointSetStruct struct, long offset) {
             this.struct = struct;
             this.rels = graph.concurrentCopy();
+            this.neighbors = new long[AdjacencyCursor.DEFAULT_BATCH_SIZE];
             this.offset = offset;
             this.end = Math.min(offset + batchSize, nodeCount);
         }
@@ -278,12 +282,14 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
         }
 
         void compute(final long node) {
-            rels.forEachRelationship(node, this);
+            rels.forEachRelationshipBatch(node, neighbors, this);
         }
 
         @Override
-        public boolean accept(final long sourceNodeId, final long targetNodeId) {
-            struct.union(sourceNodeId, targetNodeId);
+        public boolean accept(final long sourceNodeId, final long[] targets, final int length) {
+            for (int i = 0; i < length; i++) {
+                struct.union(sourceNodeId, targets[i]);
+            }
             return true;
         }
     }
@@ -363,9 +369,10 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
 
     }
 
-    static final class UndirectedUnionTask implements Runnable, RelationshipConsumer {
+    static final class UndirectedUnionTask implements Runnable, RelationshipBatchConsumer {
 
         private final Graph graph;
+        private final long[] neighbors;
         private final long skipComponent;
         private final Partition partition;
         private final DisjointSetStruct components;
@@ -382,6 +389,7 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
             TerminationFlag terminationFlag
         ) {
             this.graph = graph.concurrentCopy();
+            this.neighbors = new long[AdjacencyCursor.DEFAULT_BATCH_SIZE];
             this.skipComponent = skipComponent;
             this.partition = partition;
             this.components = components;
@@ -401,7 +409,7 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
                 var degree = graph.degree(node);
                 if (degree > NEIGHBOR_ROUNDS) {
                     reset();
-                    graph.forEachRelationship(node, this);
+                    graph.forEachRelationshipBatch(node, neighbors, this);
 
                     progressTracker.logProgress(degree - NEIGHBOR_ROUNDS);
                     if (node % RUN_CHECK_NODE_COUNT == 0) {
@@ -412,10 +420,12 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
         }
 
         @Override
-        public boolean accept(long source, long target) {
-            skip++;
-            if (skip > NEIGHBOR_ROUNDS) {
-                components.union(source, target);
+        public boolean accept(long source, long[] targets, int length) {
+            // the first NEIGHBOR_ROUNDS targets have already been processed by the sampling phase
+            int start = (int) Math.min(Math.max(NEIGHBOR_ROUNDS - skip, 0), length);
+            skip += length;
+            for (int i = start; i < length; i++) {
+                components.union(source, targets[i]);
             }
             return true;
         }
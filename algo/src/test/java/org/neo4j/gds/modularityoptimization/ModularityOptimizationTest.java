@@ -43,6 +43,7 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.logging.Log;
 
 import java.util.Optional;
@@ -118,6 +119,21 @@ class ModularityOptimizationTest {
         assertTrue(pmo.getIterations() <= 3);
     }
 
+    @Test
+    void testWeightedWithOffHeapArrays() {
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.enableAndRun(() -> {
+            ModularityOptimization pmo = compute(graph, 3, null, 3, 2);
+
+            assertEquals(0.4985, pmo.getModularity(), 0.001);
+            assertCommunities(
+                getCommunityIds(graph.nodeCount(), pmo),
+                ids(idFunction, "a", "e", "f"),
+                ids(idFunction, "b", "c", "d")
+            );
+            pmo.release();
+        });
+    }
+
     @Test
     void testSeedingWithBiggerSeedValues() {
         var graph = unweightedGraph();
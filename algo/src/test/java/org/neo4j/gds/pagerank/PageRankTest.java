@@ -31,8 +31,11 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.beta.generator.RandomGraphGenerator;
 import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
@@ -55,6 +58,7 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 import static org.neo4j.gds.TestSupport.assertMemoryEstimation;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
@@ -592,6 +596,168 @@ class PageRankTest {
     }
 
 
+    @Nested
+    @GdlExtension
+    class Incremental {
+        @GdlGraph
+        @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:Node)" +
+            ", (b:Node)" +
+            ", (c:Node)" +
+            ", (d:Node)" +
+            ", (e:Node)" +
+            ", (f:Node)" +
+            ", (a)-[:BEFORE]->(b)" +
+            ", (b)-[:BEFORE]->(c)" +
+            ", (c)-[:BEFORE]->(a)" +
+            ", (d)-[:BEFORE]->(e)" +
+            ", (e)-[:BEFORE]->(f)" +
+            ", (f)-[:BEFORE]->(d)" +
+            ", (a)-[:AFTER]->(b)" +
+            ", (b)-[:AFTER]->(c)" +
+            ", (c)-[:AFTER]->(a)" +
+            ", (d)-[:AFTER]->(e)" +
+            ", (e)-[:AFTER]->(f)" +
+            ", (f)-[:AFTER]->(d)" +
+            ", (c)-[:AFTER]->(d)";
+
+        @Inject
+        private GraphStore graphStore;
+
+        @Inject
+        private IdFunction idFunction;
+
+        @Inject
+        private GraphStore undirectedGraphStore;
+
+        @Inject
+        private IdFunction undirectedIdFunction;
+
+        @Test
+        void shouldUpdatePreviousScores() {
+            var fullConfig = ImmutablePageRankConfig.builder()
+                .maxIterations(100)
+                .tolerance(0)
+                .concurrency(1)
+                .build();
+
+            var before = graphStore.getGraph(RelationshipType.of("BEFORE"));
+            var previousScores = runOnPregel(before, fullConfig).scores().asNodeProperties();
+            graphStore.addNodeProperty(graphStore.nodeLabels(), "previousScore", previousScores);
+
+            var after = graphStore.getGraph(RelationshipType.of("AFTER"));
+            var expected = runOnPregel(after, fullConfig).scores();
+
+            var incrementalConfig = ImmutablePageRankConfig.builder()
+                .maxIterations(100)
+                .tolerance(1E-9)
+                .concurrency(1)
+                .seedProperty("previousScore")
+                .changedNodes(List.of(idFunction.of("c"), idFunction.of("d")))
+                .build();
+
+            var actual = runOnPregel(after, incrementalConfig).scores();
+
+            for (int nodeId = 0; nodeId < after.nodeCount(); nodeId++) {
+                assertThat(actual.get(nodeId)).isEqualTo(expected.get(nodeId), within(SCORE_PRECISION));
+            }
+        }
+
+        @Test
+        void shouldKeepScoresOfUnaffectedNodes() {
+            var config = ImmutablePageRankConfig.builder()
+                .maxIterations(100)
+                .tolerance(0)
+                .concurrency(1)
+                .build();
+
+            var graph = graphStore.getGraph(RelationshipType.of("BEFORE"));
+            var previousScores = runOnPregel(graph, config).scores().asNodeProperties();
+            graphStore.addNodeProperty(graphStore.nodeLabels(), "previousScore", previousScores);
+
+            var incrementalConfig = ImmutablePageRankConfig.builder()
+                .from(config)
+                .tolerance(1E-7)
+                .seedProperty("previousScore")
+                .build();
+
+            var result = runOnPregel(graph, incrementalConfig);
+
+            // the previous scores are already converged
+            assertThat(result.iterations()).isLessThanOrEqualTo(2);
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(result.scores().get(nodeId)).isEqualTo(previousScores.doubleValue(nodeId), within(SCORE_PRECISION));
+            }
+        }
+
+        @Test
+        void shouldUpdatePreviousScoresOnUndirectedGraphs() {
+            var fullConfig = ImmutablePageRankConfig.builder()
+                .maxIterations(100)
+                .tolerance(0)
+                .concurrency(1)
+                .build();
+
+            var before = undirectedGraphStore.getGraph(RelationshipType.of("BEFORE"));
+            var previousScores = runOnPregel(before, fullConfig).scores().asNodeProperties();
+            undirectedGraphStore.addNodeProperty(undirectedGraphStore.nodeLabels(), "previousScore", previousScores);
+
+            var after = undirectedGraphStore.getGraph(RelationshipType.of("AFTER"));
+            var expected = runOnPregel(after, fullConfig).scores();
+
+            // The sources of the affected nodes are their neighbours, no pass over all relationships is needed.
+            var incrementalConfig = ImmutablePageRankConfig.builder()
+                .maxIterations(100)
+                .tolerance(1E-9)
+                .concurrency(4)
+                .seedProperty("previousScore")
+                .changedNodes(List.of(undirectedIdFunction.of("c"), undirectedIdFunction.of("d")))
+                .build();
+
+            var actual = runOnPregel(after, incrementalConfig).scores();
+
+            for (int nodeId = 0; nodeId < after.nodeCount(); nodeId++) {
+                assertThat(actual.get(nodeId)).isEqualTo(expected.get(nodeId), within(SCORE_PRECISION));
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = ScalarScaler.Variant.class, names = "NONE", mode = EnumSource.Mode.EXCLUDE)
+        void shouldRejectScalers(ScalarScaler.Variant scaler) {
+            assertThatThrownBy(() -> ImmutablePageRankConfig.builder()
+                .seedProperty("previousScore")
+                .scaler(scaler)
+                .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Incremental computation via `seedProperty` does not support the scaler");
+        }
+
+        @Test
+        void shouldRequireSeedPropertyForChangedNodes() {
+            assertThatThrownBy(() -> ImmutablePageRankConfig.builder()
+                .changedNodes(List.of(idFunction.of("a")))
+                .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Specifying `changedNodes` requires `seedProperty` to be set.");
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = Mode.class, names = {"ARTICLE_RANK", "EIGENVECTOR"})
+        void shouldFailForUnsupportedModes(Mode mode) {
+            var config = ImmutablePageRankConfig.builder()
+                .seedProperty("previousScore")
+                .build();
+
+            var graph = graphStore.getGraph(RelationshipType.of("AFTER"));
+
+            assertThatThrownBy(() -> runOnPregel(graph, config, mode))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Incremental computation via `seedProperty` is not supported for " + mode.name());
+        }
+    }
+
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
             Arguments.of(1, 2412832L, 2412832L),
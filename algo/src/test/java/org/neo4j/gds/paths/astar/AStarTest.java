@@ -148,6 +148,30 @@ class AStarTest {
         assertEquals(expected, path);
     }
 
+    @Test
+    void sourceTargetBidirectional() {
+        var expected = expected(
+            idFunction,
+            0,
+            new double[]{0.0, 29.0, 723.0, 895.0, 996.0, 1353.0, 1652.0, 2392.0, 2979.0},
+            "nA", "nB", "nC", "nD", "nE", "nF", "nG", "nH", "nX"
+        );
+
+        var config = defaultSourceTargetConfigBuilder()
+            .sourceNode(idFunction.of("nA"))
+            .targetNode(idFunction.of("nX"))
+            .bidirectional(true)
+            .build();
+
+        var path = AStar
+            .sourceTarget(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst()
+            .get();
+
+        assertEquals(expected, path);
+    }
+
     @Test
     void shouldLogProgress() {
 
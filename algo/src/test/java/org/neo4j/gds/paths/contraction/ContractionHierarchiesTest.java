@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.gds.paths.PathTestUtil.expected;
+
+@GdlExtension
+final class ContractionHierarchiesTest {
+
+    private static ContractionHierarchy train(Graph graph, int witnessSearchLimit) {
+        var config = ContractionHierarchiesTrainConfigImpl.builder()
+            .modelName("ch")
+            .modelUser("")
+            .witnessSearchLimit(witnessSearchLimit)
+            .build();
+
+        return new ContractionHierarchiesTrain(graph, config, ProgressTracker.NULL_TRACKER).compute().data();
+    }
+
+    private static List<PathResult> query(ContractionHierarchy hierarchy, long sourceNode, long... targetNodes) {
+        return new ContractionHierarchiesQuery(hierarchy, sourceNode, targetNodes, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .mapPaths(path -> path)
+            .collect(Collectors.toList());
+    }
+
+    @Nested
+    class Graph2 {
+
+        // https://www.cise.ufl.edu/~sahni/cop3530/slides/lec326.pdf without relationship id 14
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (n1:Label)" +
+            ", (n2:Label)" +
+            ", (n3:Label)" +
+            ", (n4:Label)" +
+            ", (n5:Label)" +
+            ", (n6:Label)" +
+            ", (n7:Label)" +
+
+            ", (n1)-[:TYPE {cost: 6}]->(n2)" +
+            ", (n1)-[:TYPE {cost: 2}]->(n3)" +
+            ", (n1)-[:TYPE {cost: 16}]->(n4)" +
+            ", (n2)-[:TYPE {cost: 4}]->(n5)" +
+            ", (n2)-[:TYPE {cost: 5}]->(n4)" +
+            ", (n3)-[:TYPE {cost: 7}]->(n2)" +
+            ", (n3)-[:TYPE {cost: 3}]->(n5)" +
+            ", (n3)-[:TYPE {cost: 8}]->(n6)" +
+            ", (n4)-[:TYPE {cost: 7}]->(n3)" +
+            ", (n5)-[:TYPE {cost: 4}]->(n4)" +
+            ", (n5)-[:TYPE {cost: 10}]->(n7)" +
+            ", (n6)-[:TYPE {cost: 1}]->(n7)";
+
+        @Inject
+        private Graph graph;
+
+        @Inject
+        private IdFunction idFunction;
+
+        @Test
+        void sourceTarget() {
+            var expected = expected(idFunction, 0, new double[]{0.0, 2.0, 10.0, 11.0}, "n1", "n3", "n6", "n7");
+
+            var hierarchy = train(graph, 500);
+            var paths = query(hierarchy, idFunction.of("n1"), idFunction.of("n7"));
+
+            assertThat(paths).containsExactly(expected);
+        }
+
+        @Test
+        void findsSameCostsAsDijkstra() {
+            var nodes = List.of("n1", "n2", "n3", "n4", "n5", "n6", "n7");
+            var targetNodes = nodes.stream().mapToLong(idFunction::of).toArray();
+
+            // a witness search limit of 1 adds shortcuts that are not needed, which must not change the result
+            for (var witnessSearchLimit : List.of(1, 500)) {
+                var hierarchy = train(graph, witnessSearchLimit);
+
+                for (var source : nodes) {
+                    var paths = query(hierarchy, idFunction.of(source), targetNodes);
+
+                    for (var target : nodes) {
+                        var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+                            .concurrency(1)
+                            .sourceNode(idFunction.of(source))
+                            .targetNode(idFunction.of(target))
+                            .build();
+
+                        var expected = Dijkstra
+                            .sourceTarget(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                            .compute()
+                            .findFirst()
+                            .map(PathResult::totalCost);
+                        var actual = paths.stream()
+                            .filter(path -> path.targetNode() == idFunction.of(target))
+                            .findFirst()
+                            .map(PathResult::totalCost);
+
+                        assertEquals(expected, actual, source + " -> " + target);
+                    }
+                }
+            }
+        }
+
+        @Test
+        void unpacksShortcutsIntoRelationships() {
+            var hierarchy = train(graph, 500);
+
+            for (var path : query(hierarchy, idFunction.of("n4"), idFunction.of("n7"), idFunction.of("n1"))) {
+                var nodeIds = path.nodeIds();
+                var costs = path.costs();
+                for (int i = 1; i < nodeIds.length; i++) {
+                    var weight = costs[i] - costs[i - 1];
+                    assertThat(graph.relationshipProperty(nodeIds[i - 1], nodeIds[i], Double.NaN)).isEqualTo(weight);
+                }
+            }
+        }
+
+        @Test
+        void info() {
+            var hierarchy = train(graph, 500);
+
+            assertThat(hierarchy.nodeCount()).isEqualTo(7L);
+            assertThat(hierarchy.relationshipCount()).isEqualTo(12);
+            assertThat(new ContractionHierarchy.Info(hierarchy).toMap())
+                .containsEntry("nodeCount", 7L)
+                .containsEntry("relationshipCount", 12)
+                .containsEntry("shortcutCount", hierarchy.shortcutCount());
+        }
+    }
+
+    @Nested
+    class ParallelRelationships {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:A)" +
+            ", (b:B)" +
+            ", (c:C)" +
+            ", (d:D)" +
+
+            ", (a)-[:TYPE {cost: 5}]->(b)" +
+            ", (a)-[:TYPE {cost: 1}]->(b)" +
+            ", (b)-[:TYPE {cost: 3}]->(b)" +
+            ", (b)-[:TYPE {cost: 1}]->(c)" +
+            ", (c)-[:TYPE {cost: 1}]->(d)";
+
+        @Inject
+        private Graph graph;
+
+        @Inject
+        private IdFunction idFunction;
+
+        @Test
+        void keepsCheapestRelationship() {
+            var expected = expected(idFunction, 0, new double[]{0.0, 1.0, 2.0, 3.0}, "a", "b", "c", "d");
+
+            var hierarchy = train(graph, 500);
+            var paths = query(hierarchy, idFunction.of("a"), idFunction.of("d"));
+
+            assertThat(hierarchy.relationshipCount()).isEqualTo(3);
+            assertThat(paths).containsExactly(expected);
+        }
+
+        @Test
+        void skipsUnreachableTargets() {
+            var hierarchy = train(graph, 500);
+            var paths = query(hierarchy, idFunction.of("d"), idFunction.of("a"), idFunction.of("d"));
+
+            assertThat(paths).containsExactly(expected(idFunction, 0, new double[]{0.0}, "d"));
+        }
+    }
+
+    @Nested
+    class NegativeWeights {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:A)" +
+            ", (b:B)" +
+            ", (a)-[:TYPE {cost: -1}]->(b)";
+
+        @Inject
+        private Graph graph;
+
+        @Test
+        void shouldFailOnNegativeWeights() {
+            assertThatThrownBy(() -> train(graph, 500))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("non-negative relationship weights");
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
@@ -38,6 +39,8 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.ReverseAdjacency;
 import org.neo4j.gds.paths.dijkstra.config.ImmutableAllShortestPathsDijkstraStreamConfig;
 import org.neo4j.gds.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
 
@@ -201,6 +204,65 @@ final class DijkstraTest {
             assertEquals(expected, path);
         }
 
+        @Test
+        void sourceTargetBidirectional() {
+            var expected = ImmutablePathResult
+                .builder()
+                .from(expected(idFunction, 0, new double[]{0.0, 2.0, 5.0, 9.0, 20.0}, "a", "c", "e", "d", "f"))
+                .relationshipIds(1, 0, 0, 0)
+                .build();
+
+            var config = defaultSourceTargetConfigBuilder()
+                .sourceNode(idFunction.of("a"))
+                .targetNode(idFunction.of("f"))
+                .trackRelationships(true)
+                .bidirectional(true)
+                .build();
+
+            var path = Dijkstra
+                .bidirectional(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst()
+                .get();
+
+            assertEquals(expected, path);
+        }
+
+        @Test
+        void nonExistingBidirectional() {
+            var config = defaultSourceTargetConfigBuilder()
+                .sourceNode(idFunction.of("f"))
+                .targetNode(idFunction.of("a"))
+                .bidirectional(true)
+                .build();
+
+            var paths = Dijkstra
+                .bidirectional(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .pathSet();
+
+            assertTrue(paths.isEmpty());
+        }
+
+        @Test
+        void sameSourceAndTargetBidirectional() {
+            var expected = expected(idFunction, 0, new double[]{0.0}, "c");
+
+            var config = defaultSourceTargetConfigBuilder()
+                .sourceNode(idFunction.of("c"))
+                .targetNode(idFunction.of("c"))
+                .bidirectional(true)
+                .build();
+
+            var path = Dijkstra
+                .bidirectional(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst()
+                .get();
+
+            assertEquals(expected, path);
+        }
+
         Stream<Arguments> predicatesAndPaths() {
             return Stream.of(
                 Arguments.of((Dijkstra.RelationshipFilter) (source, target, relationshipId) ->
@@ -371,6 +433,109 @@ final class DijkstraTest {
 
             assertEquals(expected, paths);
         }
+
+        @Test
+        void bidirectionalFindsSameCostsAsUnidirectional() {
+            var nodes = List.of("n1", "n2", "n3", "n4", "n5", "n6", "n7");
+            for (var source : nodes) {
+                for (var target : nodes) {
+                    var config = defaultSourceTargetConfigBuilder()
+                        .sourceNode(idFunction.of(source))
+                        .targetNode(idFunction.of(target))
+                        .build();
+                    var bidirectionalConfig = defaultSourceTargetConfigBuilder()
+                        .from(config)
+                        .bidirectional(true)
+                        .build();
+
+                    var expected = Dijkstra
+                        .sourceTarget(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                        .compute()
+                        .findFirst()
+                        .map(PathResult::totalCost);
+                    var actual = Dijkstra
+                        .bidirectional(graph, bidirectionalConfig, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                        .compute()
+                        .findFirst()
+                        .map(PathResult::totalCost);
+
+                    assertEquals(expected, actual, source + " -> " + target);
+                }
+            }
+        }
+
+        @Test
+        void bidirectionalSharesReverseAdjacencyBetweenQueries() {
+            var reverseAdjacency = ReverseAdjacency.of(graph);
+            var nodes = List.of("n1", "n2", "n3", "n4", "n5", "n6", "n7");
+            for (var source : nodes) {
+                for (var target : nodes) {
+                    var config = defaultSourceTargetConfigBuilder()
+                        .sourceNode(idFunction.of(source))
+                        .targetNode(idFunction.of(target))
+                        .bidirectional(true)
+                        .build();
+
+                    var expected = Dijkstra
+                        .bidirectional(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                        .compute()
+                        .findFirst();
+                    var actual = Dijkstra
+                        .bidirectional(graph, reverseAdjacency, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                        .compute()
+                        .findFirst();
+
+                    assertEquals(expected, actual, source + " -> " + target);
+                }
+            }
+        }
+    }
+
+    @Nested
+    class UndirectedGraph {
+
+        @GdlGraph(orientation = Orientation.UNDIRECTED)
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:A)" +
+            ", (b:B)" +
+            ", (c:C)" +
+            ", (d:D)" +
+            ", (e:E)" +
+            ", (f:F)" +
+
+            ", (a)-[:TYPE {cost: 4}]->(b)" +
+            ", (a)-[:TYPE {cost: 2}]->(c)" +
+            ", (b)-[:TYPE {cost: 5}]->(c)" +
+            ", (b)-[:TYPE {cost: 10}]->(d)" +
+            ", (c)-[:TYPE {cost: 3}]->(e)" +
+            ", (d)-[:TYPE {cost: 11}]->(f)" +
+            ", (e)-[:TYPE {cost: 4}]->(d)";
+
+        @Inject
+        private Graph graph;
+
+        @Inject
+        private IdFunction idFunction;
+
+        @Test
+        void sourceTargetBidirectional() {
+            var expected = expected(idFunction, 0, new double[]{0.0, 11.0, 15.0, 18.0, 20.0}, "f", "d", "e", "c", "a");
+
+            var config = defaultSourceTargetConfigBuilder()
+                .sourceNode(idFunction.of("f"))
+                .targetNode(idFunction.of("a"))
+                .bidirectional(true)
+                .build();
+
+            var path = Dijkstra
+                .bidirectional(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst()
+                .get();
+
+            assertEquals(expected, path);
+        }
     }
 
     @Nested
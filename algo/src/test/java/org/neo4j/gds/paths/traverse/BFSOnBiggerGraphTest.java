@@ -126,6 +126,36 @@ class BFSOnBiggerGraphTest {
             ).mapToLong(graph::toMappedNodeId).toArray());
     }
 
+    @ParameterizedTest
+    @MethodSource("bfsParameters")
+    void testDirectionOptimizingBfsToTargetOut(int concurrency, int delta) {
+        long source = graph.toMappedNodeId("a");
+        long target = graph.toMappedNodeId("r");
+        long[] nodes = BFS.create(
+            graph,
+            source,
+            (s, t, w) -> t == target ? ExitPredicate.Result.BREAK : ExitPredicate.Result.FOLLOW,
+            (s, t, w) -> 1.,
+            concurrency,
+            ProgressTracker.NULL_TRACKER,
+            delta,
+            BFS.ALL_DEPTHS_ALLOWED,
+            true
+        ).compute().toArray();
+
+        // from layer 2 on, the layers are computed bottom-up and sorted by node id
+        assertThat(nodes)
+            .isEqualTo(Stream.of(
+                "a",                        // start node
+                "b",                        // layer 1
+                "c", "l",                   // layer 2
+                "d", "f", "m", "p",         // layer 3
+                "e", "g", "i", "n", "q",    // layer 4
+                "h", "j",                   // layer 5
+                "o", "r"                    // layer 6
+            ).mapToLong(graph::toMappedNodeId).toArray());
+    }
+
     static Stream<Arguments> bfsParameters() {
         return crossArguments(
             () -> Stream.of(Arguments.of(1), Arguments.of(4), Arguments.of(8)), // concurrencies
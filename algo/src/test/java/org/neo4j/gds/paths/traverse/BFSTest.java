@@ -33,6 +33,7 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.paths.traverse.ExitPredicate.Result;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -162,6 +163,62 @@ class BFSTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testDirectionOptimizingBfsToTargetOut(int concurrency) {
+        long source = naturalGraph.toMappedNodeId("a");
+        long target = naturalGraph.toMappedNodeId("d");
+        long[] nodes = BFS.create(
+            naturalGraph,
+            source,
+            (s, t, w) -> t == target ? Result.BREAK : Result.FOLLOW,
+            (s, t, w) -> 1.,
+            concurrency,
+            ProgressTracker.NULL_TRACKER,
+            BFS.ALL_DEPTHS_ALLOWED,
+            true
+        ).compute().toArray();
+
+        assertThat(nodes).isEqualTo(
+            Stream.of("a", "b", "c", "d").mapToLong(naturalGraph::toOriginalNodeId).toArray()
+        );
+    }
+
+    /**
+     * Direction-optimizing BFS may order the nodes of a level differently,
+     * but has to visit the same nodes up to every depth.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testDirectionOptimizingBfsVisitsSameLevels(int concurrency) {
+        for (var graph : List.of(naturalGraph, reverseGraph, undirectedGraph)) {
+            long source = graph.toMappedNodeId("d");
+            for (long maxDepth = 0; maxDepth <= 4; maxDepth++) {
+                long[] expected = BFS.create(
+                    graph,
+                    source,
+                    ExitPredicate.FOLLOW,
+                    Aggregator.NO_AGGREGATION,
+                    concurrency,
+                    ProgressTracker.NULL_TRACKER,
+                    maxDepth
+                ).compute().toArray();
+                long[] actual = BFS.create(
+                    graph,
+                    source,
+                    ExitPredicate.FOLLOW,
+                    Aggregator.NO_AGGREGATION,
+                    concurrency,
+                    ProgressTracker.NULL_TRACKER,
+                    maxDepth,
+                    true
+                ).compute().toArray();
+
+                assertThat(actual).startsWith(source).containsExactlyInAnyOrder(expected);
+            }
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 4})
     void testBfsOnLoopGraph(int concurrency) {
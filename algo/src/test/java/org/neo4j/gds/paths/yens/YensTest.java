@@ -27,9 +27,13 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
@@ -67,19 +71,22 @@ class YensTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1_000, 33_016L),
-            Arguments.of(1_000_000, 32_250_760L),
-            Arguments.of(1_000_000_000, 32_254_883_672L)
+            Arguments.of(1_000, 1, 33_016L),
+            Arguments.of(1_000_000, 1, 32_250_760L),
+            Arguments.of(1_000_000_000, 1, 32_254_883_672L),
+            // the search on the calling thread and one per concurrent spur path search
+            Arguments.of(1_000, 4, 5 * 33_016L),
+            Arguments.of(1_000_000, 4, 5 * 32_250_760L)
         );
     }
 
     @ParameterizedTest
     @MethodSource("expectedMemoryEstimation")
-    void shouldComputeMemoryEstimation(int nodeCount, long expectedBytes) {
+    void shouldComputeMemoryEstimation(int nodeCount, int concurrency, long expectedBytes) {
         TestSupport.assertMemoryEstimation(
             Yens::memoryEstimation,
             nodeCount,
-            1,
+            concurrency,
             MemoryRange.of(expectedBytes)
         );
     }
@@ -168,6 +175,40 @@ class YensTest {
         assertResult(graph, idFunction, expectedPaths);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4})
+    void shouldComputeSamePathsConcurrently(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 1, 10))
+            .seed(42L)
+            .build()
+            .generate();
+
+        for (long target = 1; target <= 5; target++) {
+            var configBuilder = defaultSourceTargetConfigBuilder()
+                .sourceNode(0)
+                .targetNode(target)
+                .k(10);
+
+            var sequentialPaths = Yens
+                .sourceTarget(randomGraph, configBuilder.build(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .mapPaths(path -> path)
+                .collect(Collectors.toList());
+
+            var concurrentPaths = Yens
+                .sourceTarget(randomGraph, configBuilder.concurrency(concurrency).build(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .mapPaths(path -> path)
+                .collect(Collectors.toList());
+
+            assertThat(concurrentPaths).containsExactlyElementsOf(sequentialPaths);
+        }
+    }
+
     @Test
     void shouldLogProgress() {
         int k = 3;
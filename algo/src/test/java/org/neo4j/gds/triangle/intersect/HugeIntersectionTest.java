@@ -21,17 +21,26 @@ package org.neo4j.gds.triangle.intersect;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.BaseTest;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.StoreLoaderBuilder;
+import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipIntersect;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.TestMethodRunner;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.RelationshipType;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.PrimitiveIterator;
 import java.util.Random;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.compat.GraphDatabaseApiProxy.applyInTransaction;
 
@@ -93,4 +102,35 @@ final class HugeIntersectionTest extends BaseTest {
             assertEquals(targets.nextLong(), c);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("org.neo4j.gds.core.TestMethodRunner#adjacencyCompressions")
+    void intersectSkewedDegreesWithEveryStrategy(TestMethodRunner runner) {
+        runner.run(() -> {
+            var graph = RandomGraphGenerator.builder()
+                .nodeCount(1_000)
+                .averageDegree(20)
+                .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+                .orientation(Orientation.UNDIRECTED)
+                .seed(42L)
+                .build()
+                .generate();
+
+            var merged = triangles(graph, Integer.MAX_VALUE);
+            assertThat(merged).isNotEmpty();
+            assertThat(triangles(graph, 1)).isEqualTo(merged);
+            assertThat(triangles(graph, GraphIntersect.DEFAULT_SKIP_DEGREE_RATIO)).isEqualTo(merged);
+        });
+    }
+
+    private static List<String> triangles(Graph graph, int skipDegreeRatio) {
+        var intersect = RelationshipIntersectFactoryLocator.lookup(graph)
+            .orElseThrow(IllegalArgumentException::new)
+            .load(graph, ImmutableRelationshipIntersectConfig.builder().skipDegreeRatio(skipDegreeRatio).build());
+        var triangles = new ArrayList<String>();
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            intersect.intersectAll(node, (a, b, c) -> triangles.add(a + "-" + b + "-" + c));
+        }
+        return triangles;
+    }
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.msbfs;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * BatchedWeightedAllShortestPaths:
+ * <p>
+ * multi-source parallel dijkstra algorithm for computing the shortest path between
+ * each pair of nodes, which advances a batch of source nodes per worker at once.
+ * <p>
+ * Each worker takes the next batch of up to {@code sourceBatchSize} source nodes from a
+ * shared counter and computes their distances using a {@link MultiSourceDijkstra}, which
+ * relaxes all sources of the batch with a single scan of the relationships of a node.
+ * Compared to {@link WeightedAllShortestPaths}, the number of relationship scans is
+ * reduced by up to the batch size.
+ * <p>
+ * Only finite distances are emitted into a bounded blocking queue. The result stream
+ * takes elements from the queue while the workers add elements to it, a worker blocks
+ * until the stream catches up. The last worker to finish marks the end of the stream.
+ * If the stream gets closed prematurely the workers get closed too.
+ */
+public class BatchedWeightedAllShortestPaths extends MSBFSASPAlgorithm {
+
+    private static final int QUEUE_CAPACITY_PER_WORKER = 1 << 14;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final long nodeCount;
+    private final int sourceBatchSize;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private Graph graph;
+    private AtomicLong counter;
+    private AtomicInteger runningWorkers;
+    private BlockingQueue<AllShortestPathsStream.Result> resultQueue;
+
+    private volatile boolean outputStreamOpen;
+
+    public static MemoryEstimation memoryEstimation(int sourceBatchSize) {
+        var worker = MemoryEstimations.builder(ShortestPathTask.class)
+            .perNode("distances", nodeCount -> HugeDoubleArray.memoryEstimation(nodeCount * sourceBatchSize))
+            .add("traversal", MultiSourceDijkstra.memoryEstimation())
+            .build();
+
+        return MemoryEstimations.builder(BatchedWeightedAllShortestPaths.class)
+            .perThread("workers", worker)
+            .perThread(
+                "result queue",
+                QUEUE_CAPACITY_PER_WORKER * (MemoryUsage.BYTES_OBJECT_REF + MemoryUsage.sizeOfInstance(AllShortestPathsStream.Result.class))
+            )
+            .build();
+    }
+
+    public BatchedWeightedAllShortestPaths(
+        Graph graph,
+        ExecutorService executorService,
+        int concurrency,
+        int sourceBatchSize
+    ) {
+        super(ProgressTracker.NULL_TRACKER);
+        if (!graph.hasRelationshipProperty()) {
+            throw new UnsupportedOperationException("BatchedWeightedAllShortestPaths is not supported on graphs without a weight property");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be >0");
+        }
+        if (sourceBatchSize < 1 || sourceBatchSize > MultiSourceDijkstra.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("sourceBatchSize must be between 1 and " + MultiSourceDijkstra.MAX_BATCH_SIZE);
+        }
+
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.sourceBatchSize = sourceBatchSize;
+        this.counter = new AtomicLong();
+        this.runningWorkers = new AtomicInteger();
+        this.resultQueue = new ArrayBlockingQueue<>(concurrency * QUEUE_CAPACITY_PER_WORKER);
+    }
+
+    /**
+     * the compute(..) method starts the computation and
+     * returns a Stream of SP-Tuples (source, target, minDist)
+     *
+     * @return the result stream
+     */
+    @Override
+    public Stream<AllShortestPathsStream.Result> compute() {
+        progressTracker.beginSubTask();
+
+        counter.set(0);
+        outputStreamOpen = true;
+
+        runningWorkers.set(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            executorService.submit(new ShortestPathTask());
+        }
+
+        return AllShortestPathsStream.stream(resultQueue, () -> {
+            outputStreamOpen = false;
+            progressTracker.endSubTask();
+        });
+    }
+
+    @Override
+    public void release() {
+        graph = null;
+        counter = null;
+        runningWorkers = null;
+        resultQueue = null;
+    }
+
+    /**
+     * Emits the result into the queue, waiting for the output stream to take elements
+     * while the queue is full.
+     *
+     * @return false iff the output stream has been closed
+     */
+    private boolean emit(AllShortestPathsStream.Result result) {
+        try {
+            while (outputStreamOpen) {
+                if (resultQueue.offer(result, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Multi-source Dijkstra Task. Takes one batch of source nodes of the
+     * counter at a time and computes their distances. It starts emitting
+     * results to the queue once all reachable nodes have been visited.
+     */
+    private class ShortestPathTask implements Runnable {
+
+        private final Graph localGraph;
+        private final MultiSourceDijkstra dijkstra;
+
+        private ShortestPathTask() {
+            this.localGraph = graph.concurrentCopy();
+            this.dijkstra = MultiSourceDijkstra.withDistances(
+                nodeCount,
+                sourceBatchSize,
+                (node, consumer) -> localGraph.forEachRelationship(node, Double.NaN, consumer),
+                () -> outputStreamOpen && terminationFlag.running()
+            );
+        }
+
+        @Override
+        public void run() {
+            try {
+                long batchStart;
+                while (outputStreamOpen && terminationFlag.running() && (batchStart = counter.getAndAdd(sourceBatchSize)) < nodeCount) {
+                    var sources = new long[(int) Math.min(sourceBatchSize, nodeCount - batchStart)];
+                    for (int i = 0; i < sources.length; i++) {
+                        sources[i] = batchStart + i;
+                    }
+                    dijkstra.compute(sources);
+                    if (!emitBatch(sources)) {
+                        return;
+                    }
+                    progressTracker.logProgress(sources.length);
+                }
+            } finally {
+                if (runningWorkers.decrementAndGet() == 0) {
+                    emit(AllShortestPathsStream.DONE);
+                }
+            }
+        }
+
+        private boolean emitBatch(long[] sources) {
+            for (int i = 0; i < sources.length; i++) {
+                var originalSource = localGraph.toOriginalNodeId(sources[i]);
+                for (long index = 0; index < dijkstra.reachedNodeCount(); index++) {
+                    var target = dijkstra.reachedNode(index);
+                    var distance = dijkstra.distance(target, i);
+                    if (distance != Double.POSITIVE_INFINITY) {
+                        var result = AllShortestPathsStream.result(
+                            originalSource,
+                            localGraph.toOriginalNodeId(target),
+                            distance
+                        );
+                        if (!emit(result)) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
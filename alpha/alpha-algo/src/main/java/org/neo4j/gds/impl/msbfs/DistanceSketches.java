@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.msbfs;
+
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+
+/**
+ * Distances between every node and a small set of landmark nodes.
+ * <p>
+ * The distance between two nodes is estimated as the shortest path via any of
+ * the landmarks. The estimate is an upper bound of the exact distance and
+ * is exact if the source or the target is a landmark, or if any landmark lies
+ * on a shortest path between them.
+ */
+public final class DistanceSketches {
+
+    private final long[] landmarks;
+    // the distance from a node to the i-th landmark is stored at node * landmarks.length + i
+    private final HugeDoubleArray toLandmarks;
+    // the distance from the i-th landmark to a node is stored at node * landmarks.length + i
+    private final HugeDoubleArray fromLandmarks;
+
+    DistanceSketches(long[] landmarks, HugeDoubleArray toLandmarks, HugeDoubleArray fromLandmarks) {
+        this.landmarks = landmarks;
+        this.toLandmarks = toLandmarks;
+        this.fromLandmarks = fromLandmarks;
+    }
+
+    public long[] landmarks() {
+        return landmarks;
+    }
+
+    public double distanceToLandmark(long node, int landmarkIndex) {
+        return toLandmarks.get(node * landmarks.length + landmarkIndex);
+    }
+
+    public double distanceFromLandmark(long node, int landmarkIndex) {
+        return fromLandmarks.get(node * landmarks.length + landmarkIndex);
+    }
+
+    /**
+     * Returns true if the node has a finite distance to any landmark.
+     */
+    public boolean reachesLandmark(long node) {
+        return anyFinite(toLandmarks, node);
+    }
+
+    /**
+     * Returns true if any landmark has a finite distance to the node.
+     */
+    public boolean reachableFromLandmark(long node) {
+        return anyFinite(fromLandmarks, node);
+    }
+
+    /**
+     * Returns the estimated distance from the source to the target node,
+     * or infinity if the target is not reachable via any of the landmarks.
+     */
+    public double distance(long source, long target) {
+        if (source == target) {
+            return 0.0D;
+        }
+        var sourceOffset = source * landmarks.length;
+        var targetOffset = target * landmarks.length;
+        var distance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < landmarks.length; i++) {
+            distance = Math.min(distance, toLandmarks.get(sourceOffset + i) + fromLandmarks.get(targetOffset + i));
+        }
+        return distance;
+    }
+
+    private boolean anyFinite(HugeDoubleArray distances, long node) {
+        var offset = node * landmarks.length;
+        for (int i = 0; i < landmarks.length; i++) {
+            if (distances.get(offset + i) != Double.POSITIVE_INFINITY) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.msbfs;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.SparseLongPriorityQueue;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.paths.ReverseAdjacency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * LandmarkAllShortestPaths:
+ * <p>
+ * approximates the shortest path distance between each pair of nodes
+ * using {@link DistanceSketches}.
+ * <p>
+ * The nodes with the highest degree are chosen as landmarks. The distances from and,
+ * for directed graphs, to all landmarks are computed by a {@link MultiSourceDijkstra}
+ * per batch of up to 64 landmarks, where the batches are computed in parallel.
+ * This takes a number of relationship scans proportional to the number of landmark
+ * batches instead of the number of nodes. The resulting distances are upper bounds
+ * of the exact distances. Pairs of nodes that are not connected via any landmark
+ * are not part of the result.
+ * <p>
+ * The landmarks only reduce the cost of computing the distances. The result contains
+ * a distance for every pair of a node that reaches a landmark and a node that is reached
+ * from a landmark, streaming it is therefore still quadratic in the number of such nodes.
+ * <p>
+ * On graphs without a weight property each relationship has a weight of 1.0.
+ */
+public class LandmarkAllShortestPaths extends MSBFSASPAlgorithm {
+
+    private final long nodeCount;
+    private final int landmarkCount;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private Graph graph;
+
+    /**
+     * Estimates the sketches, the reverse adjacency of directed graphs
+     * and the traversal state of the concurrently computed landmark batches.
+     */
+    public static MemoryEstimation memoryEstimation(int landmarks) {
+        return MemoryEstimations.builder(LandmarkAllShortestPaths.class)
+            .perNode("sketches", nodeCount -> 2 * HugeDoubleArray.memoryEstimation(nodeCount * Math.min(landmarks, nodeCount)))
+            .add("reverse adjacency", ReverseAdjacency.memoryEstimation())
+            .rangePerGraphDimension("landmark batches", (dimensions, concurrency) -> {
+                var batchCount = 2 * BitUtil.ceilDiv(Math.min(landmarks, dimensions.nodeCount()), MultiSourceDijkstra.MAX_BATCH_SIZE);
+                return MultiSourceDijkstra.memoryEstimation()
+                    .estimate(dimensions, concurrency)
+                    .memoryUsage()
+                    .times(Math.min(concurrency, batchCount));
+            })
+            .build();
+    }
+
+    public LandmarkAllShortestPaths(
+        Graph graph,
+        ExecutorService executorService,
+        int concurrency,
+        int landmarkCount
+    ) {
+        super(ProgressTracker.NULL_TRACKER);
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be >0");
+        }
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("landmarkCount must be >0");
+        }
+
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.landmarkCount = (int) Math.min(landmarkCount, nodeCount);
+    }
+
+    /**
+     * the compute(..) method computes the distance sketches and
+     * returns a Stream of SP-Tuples (source, target, estimatedDist)
+     *
+     * @return the result stream
+     */
+    @Override
+    public Stream<AllShortestPathsStream.Result> compute() {
+        progressTracker.beginSubTask();
+
+        var sketches = sketches();
+        var resultGraph = graph;
+
+        // only nodes connected to a landmark can have a finite distance estimate
+        var targets = new BitSet(nodeCount);
+        for (long node = 0; node < nodeCount; node++) {
+            if (sketches.reachableFromLandmark(node)) {
+                targets.set(node);
+            }
+        }
+
+        return LongStream.range(0, nodeCount)
+            .boxed()
+            .flatMap(source -> targets(source, sketches, targets)
+                .mapToObj(target -> AllShortestPathsStream.result(
+                    resultGraph.toOriginalNodeId(source),
+                    resultGraph.toOriginalNodeId(target),
+                    sketches.distance(source, target)
+                )))
+            .filter(result -> result.distance != Double.POSITIVE_INFINITY)
+            .onClose(progressTracker::endSubTask);
+    }
+
+    /**
+     * Computes the distances between all nodes and the landmarks.
+     */
+    public DistanceSketches sketches() {
+        var landmarks = selectLandmarks();
+
+        var fromLandmarks = infiniteDistances(landmarks.length);
+        var toLandmarks = graph.schema().isUndirected()
+            ? fromLandmarks
+            : infiniteDistances(landmarks.length);
+        var reverseAdjacency = toLandmarks == fromLandmarks ? null : ReverseAdjacency.of(graph);
+
+        // each batch writes the distances of its landmarks directly into its slice of the sketches
+        List<Runnable> tasks = new ArrayList<>();
+        for (int batchStart = 0; batchStart < landmarks.length; batchStart += MultiSourceDijkstra.MAX_BATCH_SIZE) {
+            var offset = batchStart;
+            var batch = Arrays.copyOfRange(
+                landmarks,
+                batchStart,
+                Math.min(landmarks.length, batchStart + MultiSourceDijkstra.MAX_BATCH_SIZE)
+            );
+
+            var localGraph = graph.concurrentCopy();
+            tasks.add(() -> new MultiSourceDijkstra(
+                nodeCount,
+                (node, consumer) -> localGraph.forEachRelationship(node, 1.0D, consumer),
+                terminationFlag,
+                fromLandmarks,
+                landmarks.length,
+                offset
+            ).compute(batch));
+            if (reverseAdjacency != null) {
+                tasks.add(() -> new MultiSourceDijkstra(
+                    nodeCount,
+                    reverseAdjacency::forEachRelationship,
+                    terminationFlag,
+                    toLandmarks,
+                    landmarks.length,
+                    offset
+                ).compute(batch));
+            }
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        return new DistanceSketches(landmarks, toLandmarks, fromLandmarks);
+    }
+
+    @Override
+    public void release() {
+        graph = null;
+    }
+
+    /**
+     * Returns the targets of the given source that can have a finite distance estimate.
+     */
+    private static LongStream targets(long source, DistanceSketches sketches, BitSet targets) {
+        // the distance of a node to itself is always known
+        var self = targets.get(source) ? LongStream.empty() : LongStream.of(source);
+        if (!sketches.reachesLandmark(source)) {
+            return self;
+        }
+        return LongStream.concat(
+            self,
+            LongStream.iterate(targets.nextSetBit(0L), target -> target != -1, target -> targets.nextSetBit(target + 1))
+        );
+    }
+
+    /**
+     * Returns the ids of the nodes with the highest degree in ascending order.
+     */
+    private long[] selectLandmarks() {
+        var queue = SparseLongPriorityQueue.min();
+        for (long node = 0; node < nodeCount; node++) {
+            var degree = graph.degree(node);
+            if (queue.size() < landmarkCount) {
+                queue.add(node, degree);
+            } else if (degree > queue.cost(queue.top())) {
+                queue.pop();
+                queue.add(node, degree);
+            }
+        }
+
+        var landmarks = new long[queue.size()];
+        for (int i = 0; i < landmarks.length; i++) {
+            landmarks[i] = queue.pop();
+        }
+        Arrays.sort(landmarks);
+        return landmarks;
+    }
+
+    private HugeDoubleArray infiniteDistances(int landmarkCount) {
+        var distances = HugeDoubleArray.newArray(nodeCount * landmarkCount);
+        distances.fill(Double.POSITIVE_INFINITY);
+        return distances;
+    }
+}
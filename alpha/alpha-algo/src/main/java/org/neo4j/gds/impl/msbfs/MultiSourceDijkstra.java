@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.msbfs;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.queue.SparseLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+
+/**
+ * Computes the shortest path distances from a batch of up to 64 source nodes at once.
+ * <p>
+ * The distances of all sources are stored next to each other per node. Each node keeps a
+ * bit mask of the sources whose distance to the node has improved since the node was last
+ * scanned. When a node is taken from the queue, a single scan of its relationships relaxes
+ * the distances of all those sources, similar to how MSBFS shares adjacency scans between
+ * the sources of a BFS. The queue is ordered by the smallest improved distance of a node.
+ * Since sources with a larger distance are relaxed along with the smallest one, a node may
+ * be scanned again if one of them improves later on.
+ * <p>
+ * The distances are written into a given array, which must be infinite for all entries
+ * of the batch initially. The nodes reached by a computation are recorded, so that
+ * their entries can be reset before the next computation without touching other nodes.
+ * <p>
+ * Not thread-safe, each thread needs its own instance.
+ */
+final class MultiSourceDijkstra {
+
+    static final int MAX_BATCH_SIZE = Long.SIZE;
+
+    @FunctionalInterface
+    interface Adjacency {
+        void forEachRelationship(long node, RelationshipWithPropertyConsumer consumer);
+    }
+
+    /**
+     * Estimates the traversal state, excluding the distances.
+     */
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(MultiSourceDijkstra.class)
+            .perNode("improved sources", HugeLongArray::memoryEstimation)
+            .perNode("reached", MemoryUsage::sizeOfBitset)
+            .perNode("reached nodes", HugeLongArray::memoryEstimation)
+            .add("queue", SparseLongPriorityQueue.memoryEstimation())
+            .build();
+    }
+
+    private final Adjacency adjacency;
+    private final TerminationFlag terminationFlag;
+
+    // the distance from the i-th source to a node is stored at node * stride + offset + i
+    private final HugeDoubleArray distances;
+    private final int stride;
+    private final int offset;
+
+    // sources whose distance to the node improved since its last scan
+    private final HugeLongArray improvedSources;
+    // nodes with a finite distance from any source of the current batch
+    private final BitSet reached;
+    private final HugeLongArray reachedNodes;
+    private long reachedNodeCount;
+    private int batchSize;
+    private final SparseLongPriorityQueue queue;
+
+    /**
+     * Creates an instance with its own distance array, the distance from the i-th
+     * source to a node is stored at {@code node * batchSize + i}.
+     */
+    static MultiSourceDijkstra withDistances(
+        long nodeCount,
+        int batchSize,
+        Adjacency adjacency,
+        TerminationFlag terminationFlag
+    ) {
+        var distances = HugeDoubleArray.newArray(nodeCount * batchSize);
+        distances.fill(Double.POSITIVE_INFINITY);
+        return new MultiSourceDijkstra(nodeCount, adjacency, terminationFlag, distances, batchSize, 0);
+    }
+
+    MultiSourceDijkstra(
+        long nodeCount,
+        Adjacency adjacency,
+        TerminationFlag terminationFlag,
+        HugeDoubleArray distances,
+        int stride,
+        int offset
+    ) {
+        this.adjacency = adjacency;
+        this.terminationFlag = terminationFlag;
+        this.distances = distances;
+        this.stride = stride;
+        this.offset = offset;
+        this.improvedSources = HugeLongArray.newArray(nodeCount);
+        this.reached = new BitSet(nodeCount);
+        this.reachedNodes = HugeLongArray.newArray(nodeCount);
+        this.queue = SparseLongPriorityQueue.min();
+    }
+
+    /**
+     * Computes the distances from the given sources, after resetting
+     * the distances of the previous computation.
+     */
+    void compute(long[] sources) {
+        if (sources.length > MAX_BATCH_SIZE || offset + sources.length > stride) {
+            throw new IllegalArgumentException("The batch exceeds the distance layout");
+        }
+
+        reset();
+        batchSize = sources.length;
+
+        for (int i = 0; i < sources.length; i++) {
+            var source = sources[i];
+            distances.set(source * stride + offset + i, 0.0D);
+            markReached(source);
+            improvedSources.or(source, 1L << i);
+            queue.set(source, 0.0D);
+        }
+
+        while (!queue.isEmpty() && terminationFlag.running()) {
+            var node = queue.pop();
+            var sourcesToRelax = improvedSources.get(node);
+            improvedSources.set(node, 0L);
+            var nodeOffset = node * stride + offset;
+
+            adjacency.forEachRelationship(node, (ignored, target, weight) -> {
+                var targetOffset = target * stride + offset;
+                long improved = 0L;
+                for (long bits = sourcesToRelax; bits != 0L; bits &= bits - 1) {
+                    var i = Long.numberOfTrailingZeros(bits);
+                    var distance = distances.get(nodeOffset + i) + weight;
+                    if (distance < distances.get(targetOffset + i)) {
+                        distances.set(targetOffset + i, distance);
+                        improved |= 1L << i;
+                    }
+                }
+                if (improved != 0L) {
+                    markReached(target);
+                    improvedSources.or(target, improved);
+                    queue.set(target, minimumDistance(targetOffset, improvedSources.get(target)));
+                }
+                return true;
+            });
+        }
+    }
+
+    long reachedNodeCount() {
+        return reachedNodeCount;
+    }
+
+    long reachedNode(long index) {
+        return reachedNodes.get(index);
+    }
+
+    double distance(long node, int sourceIndex) {
+        return distances.get(node * stride + offset + sourceIndex);
+    }
+
+    private void markReached(long node) {
+        if (!reached.getAndSet(node)) {
+            reachedNodes.set(reachedNodeCount++, node);
+        }
+    }
+
+    private void reset() {
+        for (long index = 0; index < reachedNodeCount; index++) {
+            var node = reachedNodes.get(index);
+            var nodeOffset = node * stride + offset;
+            for (int i = 0; i < batchSize; i++) {
+                distances.set(nodeOffset + i, Double.POSITIVE_INFINITY);
+            }
+            improvedSources.set(node, 0L);
+            reached.clear(node);
+        }
+        reachedNodeCount = 0;
+        queue.clear();
+    }
+
+    private double minimumDistance(long nodeOffset, long sources) {
+        var minimum = Double.POSITIVE_INFINITY;
+        for (long bits = sources; bits != 0L; bits &= bits - 1) {
+            minimum = Math.min(minimum, distances.get(nodeOffset + Long.numberOfTrailingZeros(bits)));
+        }
+        return minimum;
+    }
+}
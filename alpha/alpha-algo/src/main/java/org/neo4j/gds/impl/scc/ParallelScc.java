@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.scc;
+
+import org.apache.commons.lang3.mutable.MutableBoolean;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Parallel strongly connected components, based on trimming and coloring.
+ * <p>
+ * Every round consists of the following steps, which all run in parallel over the not yet assigned (active) nodes:
+ * <ol>
+ * <li>Trimming: a node without active incoming or outgoing relationships forms a component on its own.
+ * Trimming is repeated as long as it removes a noticeable share of the active nodes.</li>
+ * <li>Coloring: every node starts with its own id as color and the maximum color is pushed along the
+ * relationships until no color changes anymore. A node that kept its own color (a root) reaches all nodes
+ * that carry its color.</li>
+ * <li>Backward search: starting from the roots, a node joins the component of its color if it has a
+ * relationship to a member of that component, i.e. it can reach the root.</li>
+ * </ol>
+ * All components found in a round are removed and rounds are repeated until every node is assigned.
+ * Each component is identified by its smallest node id, which makes the result independent of the concurrency.
+ */
+final class ParallelScc {
+
+    private static final long UNASSIGNED = -1L;
+
+    // trimming stops once a pass removes less than 1 / TRIM_RATIO of the active nodes
+    private static final long TRIM_RATIO = 100L;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final ExecutorService executor;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final List<Partition> partitions;
+
+    private final HugeLongArray components;
+    private final HugeAtomicLongArray colors;
+    // incoming degrees while trimming, smallest member per root while collecting components
+    private final HugeAtomicLongArray counters;
+    private final HugeAtomicBitSet active;
+    private final HugeAtomicBitSet found;
+
+    ParallelScc(
+        Graph graph,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.executor = executor;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.partitions = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            Function.identity(),
+            Optional.empty()
+        );
+        this.components = HugeLongArray.newArray(nodeCount);
+        this.colors = HugeAtomicLongArray.newArray(nodeCount);
+        this.counters = HugeAtomicLongArray.newArray(nodeCount);
+        this.active = HugeAtomicBitSet.create(nodeCount);
+        this.found = HugeAtomicBitSet.create(nodeCount);
+    }
+
+    HugeLongArray compute() {
+        components.fill(UNASSIGNED);
+        if (nodeCount == 0) {
+            return components;
+        }
+        active.set(0, nodeCount);
+        while (!active.isEmpty()) {
+            terminationFlag.assertRunning();
+            trim();
+            if (active.isEmpty()) {
+                break;
+            }
+            propagateColors();
+            collectComponents();
+        }
+        return components;
+    }
+
+    private void trim() {
+        long remaining = active.cardinality();
+        while (remaining > 0) {
+            terminationFlag.assertRunning();
+            counters.setAll(0L);
+            forEachActiveNode((localGraph, nodeId) -> {
+                localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (target != source && active.get(target)) {
+                        counters.getAndAdd(target, 1L);
+                    }
+                    return true;
+                });
+                return false;
+            });
+
+            // Nodes that are trimmed concurrently only ever remove relationships,
+            // so a stale view can only make us trim less, never wrongly.
+            long trimmed = forEachActiveNode((localGraph, nodeId) -> {
+                if (counters.get(nodeId) == 0L || !hasActiveTarget(localGraph, nodeId)) {
+                    assign(nodeId, nodeId);
+                    return true;
+                }
+                return false;
+            });
+            progressTracker.logProgress(trimmed);
+
+            remaining -= trimmed;
+            if (trimmed * TRIM_RATIO < remaining) {
+                break;
+            }
+        }
+    }
+
+    private void propagateColors() {
+        forEachActiveNode((localGraph, nodeId) -> {
+            colors.set(nodeId, nodeId);
+            return false;
+        });
+
+        long changed;
+        do {
+            terminationFlag.assertRunning();
+            changed = forEachActiveNode((localGraph, nodeId) -> {
+                long color = colors.get(nodeId);
+                var pushed = new MutableBoolean();
+                localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (active.get(target) && pushColor(target, color)) {
+                        pushed.setTrue();
+                    }
+                    return true;
+                });
+                return pushed.isTrue();
+            });
+        } while (changed > 0L);
+    }
+
+    private boolean pushColor(long nodeId, long color) {
+        long current = colors.get(nodeId);
+        while (current < color) {
+            long witness = colors.compareAndExchange(nodeId, current, color);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private void collectComponents() {
+        found.clear();
+        forEachActiveNode((localGraph, nodeId) -> {
+            if (colors.get(nodeId) == nodeId) {
+                found.set(nodeId);
+                counters.set(nodeId, nodeId);
+            }
+            return false;
+        });
+
+        long joined;
+        do {
+            terminationFlag.assertRunning();
+            joined = forEachActiveNode((localGraph, nodeId) -> {
+                if (found.get(nodeId)) {
+                    return false;
+                }
+                long color = colors.get(nodeId);
+                var reachesRoot = new MutableBoolean();
+                localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (active.get(target) && found.get(target) && colors.get(target) == color) {
+                        reachesRoot.setTrue();
+                        return false;
+                    }
+                    return true;
+                });
+                if (reachesRoot.isTrue()) {
+                    found.set(nodeId);
+                    return true;
+                }
+                return false;
+            });
+        } while (joined > 0L);
+
+        forEachActiveNode((localGraph, nodeId) -> {
+            if (found.get(nodeId)) {
+                counters.update(colors.get(nodeId), smallest -> Math.min(smallest, nodeId));
+            }
+            return false;
+        });
+
+        long assigned = forEachActiveNode((localGraph, nodeId) -> {
+            if (found.get(nodeId)) {
+                assign(nodeId, counters.get(colors.get(nodeId)));
+                return true;
+            }
+            return false;
+        });
+        progressTracker.logProgress(assigned);
+    }
+
+    private boolean hasActiveTarget(Graph localGraph, long nodeId) {
+        var hasTarget = new MutableBoolean();
+        localGraph.forEachRelationship(nodeId, (source, target) -> {
+            if (target != source && active.get(target)) {
+                hasTarget.setTrue();
+                return false;
+            }
+            return true;
+        });
+        return hasTarget.isTrue();
+    }
+
+    private void assign(long nodeId, long componentId) {
+        components.set(nodeId, componentId);
+        active.clear(nodeId);
+    }
+
+    /**
+     * Applies the visitor to all active nodes, in parallel over the node partitions.
+     *
+     * @return the number of nodes for which the visitor returned {@code true}
+     */
+    private long forEachActiveNode(NodeVisitor visitor) {
+        var count = new AtomicLong();
+        var tasks = partitions
+            .stream()
+            .map(partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                long localCount = 0L;
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                    if (active.get(nodeId) && visitor.visit(localGraph, nodeId)) {
+                        localCount++;
+                    }
+                }
+                count.addAndGet(localCount);
+            })
+            .collect(Collectors.toList());
+        ParallelUtil.run(tasks, executor);
+        return count.get();
+    }
+
+    @FunctionalInterface
+    private interface NodeVisitor {
+        boolean visit(Graph localGraph, long nodeId);
+    }
+}
@@ -22,14 +22,20 @@ package org.neo4j.gds.impl.scc;
 import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.PagedLongStack;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * huge iterative (non recursive) sequential strongly connected components algorithm.
  *
  * specified in:  http://code.activestate.com/recipes/578507-strongly-connected-components-of-a-directed-graph/
+ *
+ * With a concurrency greater than one the components are computed by {@link ParallelScc} instead.
+ * Both variants identify each component by its smallest node id.
  */
 public class SccAlgorithm extends Algorithm<HugeLongArray> {
 
@@ -49,30 +55,45 @@ public class SccAlgorithm extends Algorithm<HugeLongArray> {
     private Graph graph;
 
     private final long nodeCount;
+    private final int concurrency;
+    private final ExecutorService executor;
     private HugeLongArray index;
     private BitSet visited;
     private HugeLongArray connectedComponents;
     private PagedLongStack stack;
     private PagedLongStack boundaries;
     private PagedLongStack todo; // stores pairs of (node-Id, TODO-Id)
-    private int setCount;
+    private long setCount;
 
-    private int minSetSize;
-    private int maxSetSize;
+    private long minSetSize;
+    private long maxSetSize;
 
     public SccAlgorithm(
         Graph graph,
         ProgressTracker progressTracker
+    ) {
+        this(graph, 1, Pools.DEFAULT, progressTracker);
+    }
+
+    public SccAlgorithm(
+        Graph graph,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
         this.nodeCount = graph.nodeCount();
-        this.index = HugeLongArray.newArray(nodeCount);
-        this.stack = new PagedLongStack(nodeCount);
-        this.boundaries = new PagedLongStack(nodeCount);
-        this.connectedComponents = HugeLongArray.newArray(nodeCount);
-        this.visited = new BitSet(nodeCount);
-        this.todo = new PagedLongStack(nodeCount);
+        this.concurrency = concurrency;
+        this.executor = executor;
+        if (concurrency <= 1) {
+            this.index = HugeLongArray.newArray(nodeCount);
+            this.stack = new PagedLongStack(nodeCount);
+            this.boundaries = new PagedLongStack(nodeCount);
+            this.connectedComponents = HugeLongArray.newArray(nodeCount);
+            this.visited = new BitSet(nodeCount);
+            this.todo = new PagedLongStack(nodeCount);
+        }
     }
 
     /**
@@ -80,6 +101,18 @@ public class SccAlgorithm extends Algorithm<HugeLongArray> {
      */
     public HugeLongArray compute() {
         progressTracker.beginSubTask(graph.nodeCount());
+        if (concurrency > 1) {
+            connectedComponents = new ParallelScc(
+                graph,
+                concurrency,
+                executor,
+                progressTracker,
+                terminationFlag
+            ).compute();
+            computeSetSizes();
+            progressTracker.endSubTask();
+            return connectedComponents;
+        }
         setCount = 0;
         minSetSize = Integer.MAX_VALUE;
         maxSetSize = 0;
@@ -89,10 +122,51 @@ public class SccAlgorithm extends Algorithm<HugeLongArray> {
         boundaries.clear();
         stack.clear();
         graph.forEachNode(this::compute);
+        relabelToSmallestNodeId();
         progressTracker.endSubTask();
         return connectedComponents;
     }
 
+    /**
+     * Tarjan identifies a component by the first node visited, replace it by the smallest node id of the component.
+     * Iterating in node order, the first node seen for a root is the smallest one.
+     * The index is not needed anymore and is reused to store the new id per root.
+     */
+    private void relabelToSmallestNodeId() {
+        index.fill(-1);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long root = connectedComponents.get(nodeId);
+            if (root == -1) {
+                continue;
+            }
+            long componentId = index.get(root);
+            if (componentId == -1) {
+                componentId = nodeId;
+                index.set(root, componentId);
+            }
+            connectedComponents.set(nodeId, componentId);
+        }
+    }
+
+    private void computeSetSizes() {
+        var setSizes = HugeLongArray.newArray(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            setSizes.addTo(connectedComponents.get(nodeId), 1);
+        }
+        setCount = 0;
+        minSetSize = nodeCount == 0 ? Integer.MAX_VALUE : nodeCount;
+        maxSetSize = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long setSize = setSizes.get(nodeId);
+            if (setSize > 0) {
+                setCount++;
+                minSetSize = Math.min(minSetSize, setSize);
+                maxSetSize = Math.max(maxSetSize, setSize);
+            }
+        }
+        setSizes.release();
+    }
+
     /**
      * release inner data structures
      */
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTrees;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Parallel minimum weight spanning forest algorithm (Borůvka).
+ * <p>
+ * In every round, each node looks for its cheapest relationship that leaves its current component
+ * and each component picks the cheapest of those. All picked relationships are added to the forest
+ * and their components are merged using a {@link HugeAtomicDisjointSetStruct}.
+ * Rounds are repeated until no component has a leaving relationship anymore,
+ * which takes at most a logarithmic number of rounds.
+ * <p>
+ * Relationships are ordered by their (possibly inverted) weight and their end nodes,
+ * which makes the ordering strict and the result independent of the concurrency.
+ * Unlike {@link Prim}, every connected component is covered, so the result is a spanning forest.
+ * The graph is expected to be undirected, as only outgoing relationships are considered.
+ */
+public class Boruvka extends Algorithm<SpanningForest> {
+
+    private static final long NONE = -1L;
+    private static final double DEFAULT_WEIGHT = 1.0D;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final DoubleUnaryOperator minMax;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final List<Partition> partitions;
+
+    private HugeAtomicDisjointSetStruct components;
+    private HugeLongArray componentOf;
+    // cheapest leaving relationship per node
+    private HugeLongArray bestTarget;
+    private HugeDoubleArray bestCost;
+    private HugeDoubleArray bestWeight;
+    // node with the cheapest leaving relationship per component
+    private HugeAtomicLongArray componentEdge;
+    // nodes without leaving relationships, which stays true once components grow
+    private HugeAtomicBitSet exhausted;
+
+    private HugeLongArray sources;
+    private HugeLongArray targets;
+    private HugeDoubleArray weights;
+    private AtomicLong edgeCount;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Boruvka.class)
+            .add("components", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+            .perNode("component of", HugeLongArray::memoryEstimation)
+            .perNode("best target", HugeLongArray::memoryEstimation)
+            .perNode("best cost", HugeDoubleArray::memoryEstimation)
+            .perNode("best weight", HugeDoubleArray::memoryEstimation)
+            .perNode("component edge", HugeAtomicLongArray::memoryEstimation)
+            .perNode("exhausted", HugeAtomicBitSet::memoryEstimation)
+            .perNode("sources", HugeLongArray::memoryEstimation)
+            .perNode("targets", HugeLongArray::memoryEstimation)
+            .perNode("weights", HugeDoubleArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .perNode("adjacency", nodeCount -> HugeLongArray.memoryEstimation(2 * nodeCount))
+            .perNode("visited", MemoryUsage::sizeOfBitset)
+            .perNode("stack", HugeLongArray::memoryEstimation)
+            .perNode("parent", HugeLongArray::memoryEstimation)
+            .perNode("costs", HugeDoubleArray::memoryEstimation)
+            .build();
+    }
+
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.minMax = minMax;
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.partitions = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            Function.identity(),
+            Optional.empty()
+        );
+    }
+
+    @Override
+    public SpanningForest compute() {
+        progressTracker.beginSubTask(nodeCount);
+
+        components = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        componentOf = HugeLongArray.newArray(nodeCount);
+        bestTarget = HugeLongArray.newArray(nodeCount);
+        bestCost = HugeDoubleArray.newArray(nodeCount);
+        bestWeight = HugeDoubleArray.newArray(nodeCount);
+        componentEdge = HugeAtomicLongArray.newArray(nodeCount);
+        exhausted = HugeAtomicBitSet.create(nodeCount);
+
+        // a forest has at most nodeCount - 1 relationships
+        sources = HugeLongArray.newArray(nodeCount);
+        targets = HugeLongArray.newArray(nodeCount);
+        weights = HugeDoubleArray.newArray(nodeCount);
+        edgeCount = new AtomicLong();
+
+        long added;
+        do {
+            terminationFlag.assertRunning();
+            added = runRound();
+            progressTracker.logProgress(added);
+        } while (added > 0);
+
+        var spanningForest = orient();
+        progressTracker.endSubTask();
+        return spanningForest;
+    }
+
+    @Override
+    public void release() {
+        components = null;
+        componentOf = null;
+        bestTarget = null;
+        bestCost = null;
+        bestWeight = null;
+        componentEdge = null;
+        exhausted = null;
+        sources = null;
+        targets = null;
+        weights = null;
+    }
+
+    private long runRound() {
+        componentEdge.setAll(NONE);
+
+        forEachNode((localGraph, nodeId) -> componentOf.set(nodeId, components.setIdOf(nodeId)));
+        forEachNode(this::findCheapestRelationship);
+        forEachNode((localGraph, nodeId) -> {
+            if (!exhausted.get(nodeId)) {
+                offer(componentOf.get(nodeId), nodeId);
+            }
+        });
+
+        long roundStart = edgeCount.get();
+        forEachNode((localGraph, nodeId) -> {
+            if (componentEdge.get(componentOf.get(nodeId)) == nodeId) {
+                select(nodeId);
+            }
+        });
+        long roundEnd = edgeCount.get();
+
+        // selected relationships form a forest, so merging them in any order is safe
+        for (long edge = roundStart; edge < roundEnd; edge++) {
+            components.union(sources.get(edge), targets.get(edge));
+        }
+        return roundEnd - roundStart;
+    }
+
+    private void findCheapestRelationship(Graph localGraph, long nodeId) {
+        if (exhausted.get(nodeId)) {
+            return;
+        }
+        long component = componentOf.get(nodeId);
+        bestTarget.set(nodeId, NONE);
+        localGraph.forEachRelationship(nodeId, DEFAULT_WEIGHT, (source, target, weight) -> {
+            if (componentOf.get(target) == component) {
+                return true;
+            }
+            double cost = minMax.applyAsDouble(weight);
+            long currentTarget = bestTarget.get(nodeId);
+            if (currentTarget == NONE || isCheaper(cost, source, target, bestCost.get(nodeId), source, currentTarget)) {
+                bestTarget.set(nodeId, target);
+                bestCost.set(nodeId, cost);
+                bestWeight.set(nodeId, weight);
+            }
+            return true;
+        });
+        if (bestTarget.get(nodeId) == NONE) {
+            exhausted.set(nodeId);
+        }
+    }
+
+    private void offer(long component, long nodeId) {
+        long current = componentEdge.get(component);
+        while (current == NONE || isCheaper(nodeId, current)) {
+            long witness = componentEdge.compareAndExchange(component, current, nodeId);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    private void select(long nodeId) {
+        long target = bestTarget.get(nodeId);
+        long targetComponent = componentOf.get(target);
+        // both components picked the same relationship, which must only be added once
+        boolean picksBack = componentEdge.get(targetComponent) == target && bestTarget.get(target) == nodeId;
+        if (picksBack && componentOf.get(nodeId) > targetComponent) {
+            return;
+        }
+        long edge = edgeCount.getAndIncrement();
+        sources.set(edge, nodeId);
+        targets.set(edge, target);
+        weights.set(edge, bestWeight.get(nodeId));
+    }
+
+    private boolean isCheaper(long nodeId, long otherNodeId) {
+        return isCheaper(
+            bestCost.get(nodeId),
+            nodeId,
+            bestTarget.get(nodeId),
+            bestCost.get(otherNodeId),
+            otherNodeId,
+            bestTarget.get(otherNodeId)
+        );
+    }
+
+    private static boolean isCheaper(
+        double cost,
+        long source,
+        long target,
+        double otherCost,
+        long otherSource,
+        long otherTarget
+    ) {
+        int costComparison = Double.compare(cost, otherCost);
+        if (costComparison != 0) {
+            return costComparison < 0;
+        }
+        long low = Math.min(source, target);
+        long otherLow = Math.min(otherSource, otherTarget);
+        if (low != otherLow) {
+            return low < otherLow;
+        }
+        return Math.max(source, target) < Math.max(otherSource, otherTarget);
+    }
+
+    /**
+     * Turns the selected relationships into a parent array by traversing each tree from its smallest node.
+     */
+    private SpanningForest orient() {
+        long relationshipCount = edgeCount.get();
+
+        // offsets[node] is first used as the running end of the adjacency of node and then becomes its start
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        for (long edge = 0; edge < relationshipCount; edge++) {
+            offsets.addTo(sources.get(edge), 1);
+            offsets.addTo(targets.get(edge), 1);
+        }
+        long end = 0;
+        for (long nodeId = 0; nodeId <= nodeCount; nodeId++) {
+            end += offsets.get(nodeId);
+            offsets.set(nodeId, end);
+        }
+        var adjacency = HugeLongArray.newArray(2 * relationshipCount);
+        for (long edge = 0; edge < relationshipCount; edge++) {
+            insert(offsets, adjacency, sources.get(edge), edge);
+            insert(offsets, adjacency, targets.get(edge), edge);
+        }
+
+        var parent = HugeLongArray.newArray(nodeCount);
+        var costs = HugeDoubleArray.newArray(nodeCount);
+        parent.fill(NONE);
+        var visited = new BitSet(nodeCount);
+        var stack = HugeLongArray.newArray(nodeCount);
+        double totalWeight = 0D;
+
+        for (long root = 0; root < nodeCount; root++) {
+            if (visited.get(root)) {
+                continue;
+            }
+            visited.set(root);
+            long stackSize = 0;
+            stack.set(stackSize++, root);
+            while (stackSize > 0) {
+                long nodeId = stack.get(--stackSize);
+                for (long offset = offsets.get(nodeId); offset < offsets.get(nodeId + 1); offset++) {
+                    long edge = adjacency.get(offset);
+                    long other = sources.get(edge) == nodeId ? targets.get(edge) : sources.get(edge);
+                    if (!visited.get(other)) {
+                        visited.set(other);
+                        parent.set(other, nodeId);
+                        costs.set(other, weights.get(edge));
+                        totalWeight += weights.get(edge);
+                        stack.set(stackSize++, other);
+                    }
+                }
+            }
+        }
+
+        return new SpanningForest(nodeCount, nodeCount - relationshipCount, totalWeight, parent, costs);
+    }
+
+    private static void insert(HugeLongArray offsets, HugeLongArray adjacency, long nodeId, long edge) {
+        long position = offsets.get(nodeId) - 1;
+        offsets.set(nodeId, position);
+        adjacency.set(position, edge);
+    }
+
+    private void forEachNode(NodeVisitor visitor) {
+        var tasks = partitions
+            .stream()
+            .map(partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                    visitor.visit(localGraph, nodeId);
+                }
+            })
+            .collect(Collectors.toList());
+        ParallelUtil.run(tasks, executor);
+    }
+
+    @FunctionalInterface
+    private interface NodeVisitor {
+        void visit(Graph localGraph, long nodeId);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTrees;
+
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+/**
+ * group of spanning trees, one for each connected component
+ * <p>
+ * Every component is rooted at its smallest node id, which has no parent.
+ */
+public class SpanningForest extends SpanningTree {
+
+    public final long componentCount;
+    public final double totalWeight;
+    private final HugeDoubleArray costs;
+
+    public SpanningForest(
+        long nodeCount,
+        long componentCount,
+        double totalWeight,
+        HugeLongArray parent,
+        HugeDoubleArray costs
+    ) {
+        super(nodeCount > 0 ? 0 : -1, nodeCount, nodeCount, parent);
+        this.componentCount = componentCount;
+        this.totalWeight = totalWeight;
+        this.costs = costs;
+    }
+
+    /**
+     * @return the weight of the relationship between the node and its parent, or {@code NaN} for a root
+     */
+    public double costToParent(long nodeId) {
+        return parent.get(nodeId) == -1 ? Double.NaN : costs.get(nodeId);
+    }
+
+    public long relationshipCount() {
+        return nodeCount - componentCount;
+    }
+}
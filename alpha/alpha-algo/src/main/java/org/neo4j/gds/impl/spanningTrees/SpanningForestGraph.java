@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTrees;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+
+/**
+ * Exposes the relationships of a {@link SpanningForest} from each parent to its child,
+ * using the weights that were chosen by the algorithm.
+ */
+public class SpanningForestGraph extends SpanningGraph {
+
+    private final SpanningForest spanningForest;
+
+    public SpanningForestGraph(Graph graph, SpanningForest spanningForest) {
+        super(graph, spanningForest);
+        this.spanningForest = spanningForest;
+    }
+
+    @Override
+    public long relationshipCount() {
+        return spanningForest.relationshipCount();
+    }
+
+    @Override
+    public int degree(long nodeId) {
+        return spanningForest.parent.get(nodeId) == -1 ? 0 : 1;
+    }
+
+    @Override
+    public void forEachRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
+        long parent = spanningForest.parent.get(nodeId);
+        if (parent != -1) {
+            consumer.accept(parent, nodeId, spanningForest.costToParent(nodeId));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.impl.msbfs.AllShortestPathsStream;
+import org.neo4j.gds.impl.msbfs.BatchedWeightedAllShortestPaths;
+import org.neo4j.gds.impl.msbfs.WeightedAllShortestPaths;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class BatchedWeightedAllShortestPathsTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (a)-[:TYPE {cost: 4.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 1.0}]->(c)" +
+        ", (c)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (b)-[:TYPE {cost: 1.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 5.0}]->(d)" +
+        ", (d)-[:TYPE {cost: 2.0}]->(e)" +
+        ", (e)-[:TYPE {cost: 1.0}]->(a)" +
+        ", (b)-[:TYPE {cost: 7.0}]->(f)" +
+        ", (e)-[:TYPE {cost: 1.0}]->(f)";
+
+    @Inject
+    private Graph graph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 64})
+    void shouldComputeSameDistancesAsSingleSourceDijkstra(int sourceBatchSize) {
+        var expected = distances(new WeightedAllShortestPaths(graph, Pools.DEFAULT, 1).compute().collect(Collectors.toList()));
+        var actual = distances(new BatchedWeightedAllShortestPaths(graph, Pools.DEFAULT, 2, sourceBatchSize)
+            .compute()
+            .collect(Collectors.toList()));
+
+        assertThat(actual).isEqualTo(expected);
+        // a to e reach each other and f, while f and g only reach themselves
+        assertThat(actual).hasSize(5 * 6 + 2);
+    }
+
+    @Test
+    void shouldEstimateMemoryProportionalToSourceBatchSize() {
+        var dimensions = GraphDimensions.of(1_000_000);
+
+        var small = BatchedWeightedAllShortestPaths.memoryEstimation(1).estimate(dimensions, 4).memoryUsage();
+        var large = BatchedWeightedAllShortestPaths.memoryEstimation(16).estimate(dimensions, 4).memoryUsage();
+
+        // each worker holds one distance per node and source
+        assertThat(large.max - small.max).isGreaterThanOrEqualTo(4L * 15 * 1_000_000 * Double.BYTES);
+    }
+
+    private static Map<List<Long>, Double> distances(List<AllShortestPathsStream.Result> results) {
+        return results.stream().collect(Collectors.toMap(
+            result -> List.of(result.sourceNodeId, result.targetNodeId),
+            result -> result.distance
+        ));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.impl.msbfs.LandmarkAllShortestPaths;
+import org.neo4j.gds.impl.msbfs.WeightedAllShortestPaths;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class LandmarkAllShortestPathsTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (b)-[:TYPE {cost: 1.0}]->(c)" +
+        ", (c)-[:TYPE {cost: 1.0}]->(a)" +
+        ", (c)-[:TYPE {cost: 1.0}]->(d)" +
+        ", (d)-[:TYPE {cost: 1.0}]->(c)" +
+        ", (a)-[:TYPE {cost: 1.0}]->(e)" +
+        ", (e)-[:TYPE {cost: 1.0}]->(d)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldSelectNodesWithHighestDegreeAsLandmarks() {
+        var sketches = new LandmarkAllShortestPaths(graph, Pools.DEFAULT, 1, 2).sketches();
+
+        assertThat(sketches.landmarks()).containsExactlyInAnyOrder(idFunction.of("a"), idFunction.of("c"));
+    }
+
+    @Test
+    void shouldUseLandmarksForDistanceSketches() {
+        var a = idFunction.of("a");
+        var c = idFunction.of("c");
+        var sketches = new LandmarkAllShortestPaths(graph, Pools.DEFAULT, 2, 2).sketches();
+
+        var landmarkA = sketches.landmarks()[0] == a ? 0 : 1;
+        assertThat(sketches.distanceFromLandmark(idFunction.of("d"), landmarkA)).isEqualTo(2.0);
+        assertThat(sketches.distanceToLandmark(idFunction.of("d"), landmarkA)).isEqualTo(2.0);
+
+        // both landmarks are on the shortest path d -> c -> a -> e
+        assertThat(sketches.distance(idFunction.of("d"), idFunction.of("e"))).isEqualTo(3.0);
+        // both landmarks are on the shortest path e -> d -> c -> a -> b
+        assertThat(sketches.distance(idFunction.of("e"), idFunction.of("b"))).isEqualTo(4.0);
+        // distances to a landmark are exact
+        assertThat(sketches.distance(idFunction.of("b"), c)).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldEstimateUpperBoundsOfExactDistances() {
+        var exact = new WeightedAllShortestPaths(graph, Pools.DEFAULT, 1)
+            .compute()
+            .collect(Collectors.toList());
+        var approximate = new LandmarkAllShortestPaths(graph, Pools.DEFAULT, 1, 1)
+            .compute()
+            .collect(Collectors.toMap(
+                result -> result.sourceNodeId + "-" + result.targetNodeId,
+                result -> result.distance
+            ));
+
+        assertThat(approximate).hasSameSizeAs(exact);
+        exact.forEach(result -> {
+            var estimate = approximate.get(result.sourceNodeId + "-" + result.targetNodeId);
+            assertThat(estimate).isGreaterThanOrEqualTo(result.distance);
+        });
+    }
+}
@@ -20,9 +20,15 @@
 package org.neo4j.gds.impl.scc;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig.AllowSelfLoops;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -95,6 +101,44 @@ class SccTest {
         assertCC(components);
     }
 
+    @Test
+    void testParallel() {
+        SccAlgorithm scc = new SccAlgorithm(graph, 4, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+        HugeLongArray components = scc.compute();
+
+        assertCC(components);
+        assertEquals(3, scc.getMaxSetSize());
+        assertEquals(3, scc.getMinSetSize());
+        assertEquals(3, scc.getSetCount());
+
+        var expected = new SccAlgorithm(graph, ProgressTracker.NULL_TRACKER).compute();
+        assertThat(components.toArray()).containsExactly(expected.toArray());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RelationshipDistribution.class)
+    void parallelShouldMatchSequentialOnRandomGraphs(RelationshipDistribution distribution) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(distribution)
+            .allowSelfLoops(AllowSelfLoops.YES)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var sequential = new SccAlgorithm(randomGraph, ProgressTracker.NULL_TRACKER);
+        var expected = sequential.compute().toArray();
+
+        var parallel = new SccAlgorithm(randomGraph, 4, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+        var actual = parallel.compute().toArray();
+
+        assertThat(actual).containsExactly(expected);
+        assertEquals(sequential.getSetCount(), parallel.getSetCount());
+        assertEquals(sequential.getMinSetSize(), parallel.getMinSetSize());
+        assertEquals(sequential.getMaxSetSize(), parallel.getMaxSetSize());
+    }
+
     private void assertCC(HugeLongArray connectedComponents) {
         assertBelongSameSet(connectedComponents,
             idFunction.of("a"),
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTree;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.impl.spanningTrees.Boruvka;
+import org.neo4j.gds.impl.spanningTrees.Prim;
+import org.neo4j.gds.impl.spanningTrees.SpanningForest;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests if Borůvka returns a valid forest, covering also the components without a start node
+ *
+ *         a                  a                  a
+ *     1 /   \ 2            /  \                  \
+ *      /     \            /    \                  \
+ *     b --3-- c          b      c          b       c
+ *     |       |  =min=>  |      |  =max=>  |       |
+ *     4       5          |      |          |       |
+ *     |       |          |      |          |       |
+ *     d --6-- e          d      e          d-------e
+ *
+ *     y --7-- z          y------z          y-------z
+ */
+@GdlExtension
+class BoruvkaTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (x:Node)" +
+        ", (y:Node)" +
+        ", (z:Node)" +
+
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 3.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 4.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 5.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(e)" +
+        ", (y)-[:TYPE {cost: 7.0}]->(z)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testMinimum(int concurrency) {
+        var forest = new Boruvka(graph, Prim.MIN_OPERATOR, concurrency, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .compute();
+
+        assertThat(forest.componentCount).isEqualTo(3);
+        assertThat(forest.relationshipCount()).isEqualTo(5);
+        assertThat(forest.totalWeight).isEqualTo(19.0);
+
+        assertThat(forest.parent.get(id("a"))).isEqualTo(-1);
+        assertThat(forest.parent.get(id("b"))).isEqualTo(id("a"));
+        assertThat(forest.parent.get(id("c"))).isEqualTo(id("a"));
+        assertThat(forest.parent.get(id("d"))).isEqualTo(id("b"));
+        assertThat(forest.parent.get(id("e"))).isEqualTo(id("c"));
+        assertThat(forest.parent.get(id("x"))).isEqualTo(-1);
+        assertThat(forest.parent.get(id("y"))).isEqualTo(-1);
+        assertThat(forest.parent.get(id("z"))).isEqualTo(id("y"));
+
+        assertThat(forest.costToParent(id("d"))).isEqualTo(4.0);
+        assertThat(forest.costToParent(id("a"))).isNaN();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testMaximum(int concurrency) {
+        var forest = new Boruvka(graph, Prim.MAX_OPERATOR, concurrency, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .compute();
+
+        assertThat(forest.componentCount).isEqualTo(3);
+        assertThat(forest.totalWeight).isEqualTo(24.0);
+
+        assertThat(forest.parent.get(id("a"))).isEqualTo(-1);
+        assertThat(forest.parent.get(id("c"))).isEqualTo(id("a"));
+        assertThat(forest.parent.get(id("e"))).isEqualTo(id("c"));
+        assertThat(forest.parent.get(id("d"))).isEqualTo(id("e"));
+        assertThat(forest.parent.get(id("b"))).isEqualTo(id("d"));
+        assertThat(forest.parent.get(id("z"))).isEqualTo(id("y"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldMatchPrimOnEachComponent(boolean maximum) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0.0, 100.0))
+            .orientation(Orientation.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+        var minMax = maximum ? Prim.MAX_OPERATOR : Prim.MIN_OPERATOR;
+
+        var forest = new Boruvka(randomGraph, minMax, 4, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+
+        double primTotalWeight = 0D;
+        long primRelationshipCount = 0L;
+        for (long root = 0; root < randomGraph.nodeCount(); root++) {
+            if (forest.parent.get(root) != -1) {
+                continue;
+            }
+            var tree = new Prim(
+                randomGraph,
+                randomGraph,
+                minMax,
+                randomGraph.toOriginalNodeId(root),
+                ProgressTracker.NULL_TRACKER
+            ).compute();
+            for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+                long parent = tree.parent.get(nodeId);
+                if (parent != -1) {
+                    primTotalWeight += bestWeight(randomGraph, parent, nodeId, minMax);
+                    primRelationshipCount++;
+                }
+            }
+        }
+
+        assertThat(forest.relationshipCount()).isEqualTo(primRelationshipCount);
+        assertThat(forest.totalWeight).isCloseTo(primTotalWeight, within(1E-6));
+    }
+
+    @Test
+    void shouldNotDependOnConcurrency() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0.0, 10.0))
+            .orientation(Orientation.UNDIRECTED)
+            .seed(1337L)
+            .build()
+            .generate();
+
+        SpanningForest sequential = new Boruvka(
+            randomGraph,
+            Prim.MIN_OPERATOR,
+            1,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+        SpanningForest parallel = new Boruvka(
+            randomGraph,
+            Prim.MIN_OPERATOR,
+            4,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(parallel.parent.toArray()).containsExactly(sequential.parent.toArray());
+        assertThat(parallel.totalWeight).isEqualTo(sequential.totalWeight);
+    }
+
+    private long id(String variable) {
+        return idFunction.of(variable);
+    }
+
+    private static double bestWeight(Graph graph, long source, long target, DoubleUnaryOperator minMax) {
+        var best = new MutableDouble(Double.NaN);
+        graph.forEachRelationship(source, 1.0, (s, t, weight) -> {
+            if (t == target && (best.isNaN() || minMax.applyAsDouble(weight) < minMax.applyAsDouble(best.doubleValue()))) {
+                best.setValue(weight);
+            }
+            return true;
+        });
+        return best.doubleValue();
+    }
+}
@@ -88,6 +88,7 @@ public class HarmonicCentralityWriteProc extends HarmonicCentralityProc<Centrali
                     .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(progressTracker)
                     .parallel(Pools.DEFAULT, writeConcurrency)
+                    .withBatching(computationResult.config())
                     .build();
 
                 var properties = new DoubleNodePropertyValues() {
@@ -95,6 +95,7 @@ public class SccWriteProc extends SccProc<SccWriteProc.SccResult> {
                     .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(progressTracker)
                     .parallel(Pools.DEFAULT, config.writeConcurrency())
+                    .withBatching(config)
                     .build();
 
                 var properties = new LongNodePropertyValues() {
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.shortestpaths;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.AlgoBaseConfig;
@@ -30,6 +31,29 @@ import org.neo4j.gds.core.CypherMapWrapper;
 @SuppressWarnings("immutables:subtype")
 public interface AllShortestPathsConfig extends AlgoBaseConfig, RelationshipWeightConfig {
 
+    /**
+     * The number of source nodes that are computed together on weighted graphs.
+     * A value of 1 computes one Dijkstra search per source node.
+     * Each thread holds {@code nodeCount * sourceBatchSize} distances.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1, max = 64)
+    default int sourceBatchSize() {
+        return 1;
+    }
+
+    /**
+     * The number of landmark nodes used to approximate the distances.
+     * A value of 0 computes exact distances.
+     * Only the sketches are computed via the landmarks, the result
+     * still contains a distance for every connected pair of nodes.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int landmarks() {
+        return 0;
+    }
+
     static AllShortestPathsConfig of(CypherMapWrapper userInput) {
         return new AllShortestPathsConfigImpl(userInput);
     }
@@ -24,11 +24,14 @@ import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.executor.ComputationResult;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.impl.msbfs.AllShortestPathsStream;
+import org.neo4j.gds.impl.msbfs.BatchedWeightedAllShortestPaths;
+import org.neo4j.gds.impl.msbfs.LandmarkAllShortestPaths;
 import org.neo4j.gds.impl.msbfs.MSBFSASPAlgorithm;
 import org.neo4j.gds.impl.msbfs.MSBFSAllShortestPaths;
 import org.neo4j.gds.impl.msbfs.WeightedAllShortestPaths;
@@ -72,13 +75,37 @@ public class AllShortestPathsProc extends AlgoBaseProc<MSBFSASPAlgorithm, Stream
                 return "MSBFSASPAlgorithm";
             }
 
+            @Override
+            public MemoryEstimation memoryEstimation(AllShortestPathsConfig configuration) {
+                if (configuration.landmarks() > 0) {
+                    return LandmarkAllShortestPaths.memoryEstimation(configuration.landmarks());
+                } else if (configuration.hasRelationshipWeightProperty() && configuration.sourceBatchSize() > 1) {
+                    return BatchedWeightedAllShortestPaths.memoryEstimation(configuration.sourceBatchSize());
+                }
+                return super.memoryEstimation(configuration);
+            }
+
             @Override
             public MSBFSASPAlgorithm build(
                 Graph graph,
                 AllShortestPathsConfig configuration,
                 ProgressTracker progressTracker
             ) {
-                if (configuration.hasRelationshipWeightProperty()) {
+                if (configuration.landmarks() > 0) {
+                    return new LandmarkAllShortestPaths(
+                        graph,
+                        Pools.DEFAULT,
+                        configuration.concurrency(),
+                        configuration.landmarks()
+                    );
+                } else if (configuration.hasRelationshipWeightProperty() && configuration.sourceBatchSize() > 1) {
+                    return new BatchedWeightedAllShortestPaths(
+                        graph,
+                        Pools.DEFAULT,
+                        configuration.concurrency(),
+                        configuration.sourceBatchSize()
+                    );
+                } else if (configuration.hasRelationshipWeightProperty()) {
                     return new WeightedAllShortestPaths(
                         graph,
                         Pools.DEFAULT,
@@ -109,6 +109,7 @@ public abstract class KSpanningTreeProc extends NodePropertiesWriter<KSpanningTr
                     .withIdMap(graph)
                     .withTerminationFlag(TerminationFlag.wrap(transaction)).withProgressTracker(progressTracker)
                     .parallel(Pools.DEFAULT, config.writeConcurrency())
+                    .withBatching(config)
                     .build();
 
                 var properties = new DoubleNodePropertyValues() {
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.impl.spanningTrees.Prim;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toLowerCaseWithLocale;
+
+public interface SpanningForestBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig {
+
+    String MINIMUM = "minimum";
+    String MAXIMUM = "maximum";
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "validateObjective")
+    default String objective() {
+        return MINIMUM;
+    }
+
+    @Configuration.Ignore
+    @Value.Derived
+    default DoubleUnaryOperator minMax() {
+        return MAXIMUM.equals(objective()) ? Prim.MAX_OPERATOR : Prim.MIN_OPERATOR;
+    }
+
+    static String validateObjective(String input) {
+        var objective = toLowerCaseWithLocale(input);
+        if (!MINIMUM.equals(objective) && !MAXIMUM.equals(objective)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The 'objective' parameter must be one of `%s` or `%s`, but was `%s`.",
+                MINIMUM,
+                MAXIMUM,
+                input
+            ));
+        }
+        return objective;
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateUndirected(
+        GraphStore graphStore,
+        Collection<NodeLabel> ignored,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (!graphStore.schema().filterRelationshipTypes(Set.copyOf(selectedRelationshipTypes)).isUndirected()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Spanning forest requires relationship projections to be UNDIRECTED. " +
+                "Selected relationships `%s` are not all undirected.",
+                selectedRelationshipTypes.stream().map(RelationshipType::name).collect(Collectors.toSet())
+            ));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.MutateComputationResultConsumer;
+import org.neo4j.gds.MutateProc;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.impl.spanningTrees.Boruvka;
+import org.neo4j.gds.impl.spanningTrees.SpanningForest;
+import org.neo4j.gds.result.AbstractResultBuilder;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+import org.neo4j.values.storable.NumberType;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.MUTATE_RELATIONSHIP;
+import static org.neo4j.gds.spanningtree.SpanningForestProc.SPANNING_FOREST_DESCRIPTION;
+import static org.neo4j.procedure.Mode.READ;
+
+@GdsCallable(name = "gds.alpha.spanningForest.mutate", description = SPANNING_FOREST_DESCRIPTION, executionMode = MUTATE_RELATIONSHIP)
+public class SpanningForestMutateProc extends MutateProc<Boruvka, SpanningForest, SpanningForestMutateProc.MutateResult, SpanningForestMutateConfig> {
+
+    @Procedure(value = "gds.alpha.spanningForest.mutate", mode = READ)
+    @Description(SPANNING_FOREST_DESCRIPTION)
+    public Stream<MutateResult> mutate(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return mutate(compute(graphName, configuration));
+    }
+
+    @Override
+    protected SpanningForestMutateConfig newConfig(String username, CypherMapWrapper config) {
+        return SpanningForestMutateConfig.of(config);
+    }
+
+    @Override
+    public GraphAlgorithmFactory<Boruvka, SpanningForestMutateConfig> algorithmFactory() {
+        return SpanningForestProc.algorithmFactory();
+    }
+
+    @Override
+    protected AbstractResultBuilder<MutateResult> resultBuilder(
+        ComputationResult<Boruvka, SpanningForest, SpanningForestMutateConfig> computeResult,
+        ExecutionContext executionContext
+    ) {
+        return new MutateResult.Builder().withSpanningForest(computeResult.result());
+    }
+
+    @Override
+    public MutateComputationResultConsumer<Boruvka, SpanningForest, SpanningForestMutateConfig, MutateResult> computationResultConsumer() {
+        return new MutateComputationResultConsumer<>(this::resultBuilder) {
+            @Override
+            protected void updateGraphStore(
+                AbstractResultBuilder<?> resultBuilder,
+                ComputationResult<Boruvka, SpanningForest, SpanningForestMutateConfig> computationResult,
+                ExecutionContext executionContext
+            ) {
+                var config = computationResult.config();
+                var spanningForest = computationResult.result();
+
+                var relationshipsBuilder = GraphFactory
+                    .initRelationshipsBuilder()
+                    .nodes(computationResult.graph())
+                    .addPropertyConfig(Aggregation.NONE, DefaultValue.forDouble())
+                    .orientation(Orientation.NATURAL)
+                    .build();
+
+                Relationships relationships;
+                try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withMutateMillis)) {
+                    spanningForest.forEach((parent, child) -> {
+                        relationshipsBuilder.addFromInternal(parent, child, spanningForest.costToParent(child));
+                        return true;
+                    });
+                    relationships = relationshipsBuilder.build();
+                    resultBuilder.withRelationshipsWritten(relationships.topology().elementCount());
+                }
+
+                computationResult
+                    .graphStore()
+                    .addRelationshipType(
+                        RelationshipType.of(config.mutateRelationshipType()),
+                        Optional.of(config.mutateProperty()),
+                        Optional.of(NumberType.FLOATING_POINT),
+                        relationships
+                    );
+            }
+        };
+    }
+
+    @SuppressWarnings("unused")
+    public static class MutateResult {
+
+        public final long preProcessingMillis;
+        public final long computeMillis;
+        public final long mutateMillis;
+        public final long componentCount;
+        public final double totalWeight;
+        public final long relationshipsWritten;
+        public final Map<String, Object> configuration;
+
+        MutateResult(
+            long preProcessingMillis,
+            long computeMillis,
+            long mutateMillis,
+            long componentCount,
+            double totalWeight,
+            long relationshipsWritten,
+            Map<String, Object> configuration
+        ) {
+            this.preProcessingMillis = preProcessingMillis;
+            this.computeMillis = computeMillis;
+            this.mutateMillis = mutateMillis;
+            this.componentCount = componentCount;
+            this.totalWeight = totalWeight;
+            this.relationshipsWritten = relationshipsWritten;
+            this.configuration = configuration;
+        }
+
+        static class Builder extends SpanningForestProc.ResultBuilder<MutateResult> {
+
+            @Override
+            public MutateResult build() {
+                return new MutateResult(
+                    preProcessingMillis,
+                    computeMillis,
+                    mutateMillis,
+                    componentCount,
+                    totalWeight,
+                    relationshipsWritten,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
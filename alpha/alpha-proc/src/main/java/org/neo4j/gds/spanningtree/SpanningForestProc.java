@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.impl.spanningTrees.Boruvka;
+import org.neo4j.gds.impl.spanningTrees.SpanningForest;
+import org.neo4j.gds.result.AbstractResultBuilder;
+
+final class SpanningForestProc {
+
+    static final String SPANNING_FOREST_DESCRIPTION =
+        "Spanning forest computes a spanning tree for every connected component, " +
+        "such that the total weight of the relationships is minimized or maximized.";
+
+    private SpanningForestProc() {}
+
+    static <CONFIG extends SpanningForestBaseConfig> GraphAlgorithmFactory<Boruvka, CONFIG> algorithmFactory() {
+        return new GraphAlgorithmFactory<>() {
+            @Override
+            public String taskName() {
+                return "SpanningForest";
+            }
+
+            @Override
+            public Task progressTask(Graph graph, CONFIG config) {
+                return Tasks.leaf(taskName(), graph.nodeCount());
+            }
+
+            @Override
+            public Boruvka build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
+                return new Boruvka(
+                    graph,
+                    configuration.minMax(),
+                    configuration.concurrency(),
+                    Pools.DEFAULT,
+                    progressTracker
+                );
+            }
+
+            @Override
+            public MemoryEstimation memoryEstimation(CONFIG configuration) {
+                return Boruvka.memoryEstimation();
+            }
+        };
+    }
+
+    abstract static class ResultBuilder<RESULT> extends AbstractResultBuilder<RESULT> {
+
+        long componentCount;
+        double totalWeight;
+
+        ResultBuilder<RESULT> withSpanningForest(SpanningForest spanningForest) {
+            if (spanningForest != null) {
+                this.componentCount = spanningForest.componentCount;
+                this.totalWeight = spanningForest.totalWeight;
+            }
+            return this;
+        }
+    }
+}
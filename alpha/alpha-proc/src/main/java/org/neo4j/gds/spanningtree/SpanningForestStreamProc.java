@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.neo4j.gds.AlgoBaseProc;
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.impl.spanningTrees.Boruvka;
+import org.neo4j.gds.impl.spanningTrees.SpanningForest;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.STREAM;
+import static org.neo4j.gds.spanningtree.SpanningForestProc.SPANNING_FOREST_DESCRIPTION;
+import static org.neo4j.procedure.Mode.READ;
+
+@GdsCallable(name = "gds.alpha.spanningForest.stream", description = SPANNING_FOREST_DESCRIPTION, executionMode = STREAM)
+public class SpanningForestStreamProc extends AlgoBaseProc<Boruvka, SpanningForest, SpanningForestStreamConfig, SpanningForestStreamProc.StreamResult> {
+
+    @Procedure(value = "gds.alpha.spanningForest.stream", mode = READ)
+    @Description(SPANNING_FOREST_DESCRIPTION)
+    public Stream<StreamResult> stream(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var computationResult = compute(graphName, configuration);
+        return computationResultConsumer().consume(computationResult, executionContext());
+    }
+
+    @Override
+    protected SpanningForestStreamConfig newConfig(String username, CypherMapWrapper config) {
+        return SpanningForestStreamConfig.of(config);
+    }
+
+    @Override
+    public GraphAlgorithmFactory<Boruvka, SpanningForestStreamConfig> algorithmFactory() {
+        return SpanningForestProc.algorithmFactory();
+    }
+
+    @Override
+    public ComputationResultConsumer<Boruvka, SpanningForest, SpanningForestStreamConfig, Stream<StreamResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> runWithExceptionLogging("Result streaming failed", () -> {
+            if (computationResult.isGraphEmpty()) {
+                return Stream.empty();
+            }
+
+            var graph = computationResult.graph();
+            var spanningForest = computationResult.result();
+            return LongStream
+                .range(0, spanningForest.nodeCount)
+                .filter(nodeId -> spanningForest.parent.get(nodeId) != -1)
+                .mapToObj(nodeId -> new StreamResult(
+                    graph.toOriginalNodeId(spanningForest.parent.get(nodeId)),
+                    graph.toOriginalNodeId(nodeId),
+                    spanningForest.costToParent(nodeId)
+                ));
+        });
+    }
+
+    @SuppressWarnings("unused")
+    public static class StreamResult {
+
+        public final long sourceNodeId;
+        public final long targetNodeId;
+        public final double weight;
+
+        StreamResult(long sourceNodeId, long targetNodeId, double weight) {
+            this.sourceNodeId = sourceNodeId;
+            this.targetNodeId = targetNodeId;
+            this.weight = weight;
+        }
+    }
+}
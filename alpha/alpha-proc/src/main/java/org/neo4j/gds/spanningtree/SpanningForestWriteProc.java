@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.neo4j.gds.AlgoBaseProc;
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.core.write.RelationshipExporter;
+import org.neo4j.gds.core.write.RelationshipExporterBuilder;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.impl.spanningTrees.Boruvka;
+import org.neo4j.gds.impl.spanningTrees.SpanningForest;
+import org.neo4j.gds.impl.spanningTrees.SpanningForestGraph;
+import org.neo4j.procedure.Context;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.WRITE_RELATIONSHIP;
+import static org.neo4j.gds.spanningtree.SpanningForestProc.SPANNING_FOREST_DESCRIPTION;
+import static org.neo4j.procedure.Mode.WRITE;
+
+@GdsCallable(name = "gds.alpha.spanningForest.write", description = SPANNING_FOREST_DESCRIPTION, executionMode = WRITE_RELATIONSHIP)
+public class SpanningForestWriteProc extends AlgoBaseProc<Boruvka, SpanningForest, SpanningForestWriteConfig, SpanningForestWriteProc.WriteResult> {
+
+    @Context
+    public RelationshipExporterBuilder<? extends RelationshipExporter> relationshipExporterBuilder;
+
+    @Procedure(value = "gds.alpha.spanningForest.write", mode = WRITE)
+    @Description(SPANNING_FOREST_DESCRIPTION)
+    public Stream<WriteResult> write(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var computationResult = compute(graphName, configuration);
+        return computationResultConsumer().consume(computationResult, executionContext());
+    }
+
+    @Override
+    protected SpanningForestWriteConfig newConfig(String username, CypherMapWrapper config) {
+        return SpanningForestWriteConfig.of(config);
+    }
+
+    @Override
+    public GraphAlgorithmFactory<Boruvka, SpanningForestWriteConfig> algorithmFactory() {
+        return SpanningForestProc.algorithmFactory();
+    }
+
+    @Override
+    public ComputationResultConsumer<Boruvka, SpanningForest, SpanningForestWriteConfig, Stream<WriteResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> {
+            var graph = computationResult.graph();
+            var spanningForest = computationResult.result();
+            var config = computationResult.config();
+
+            var builder = new WriteResult.Builder();
+            builder
+                .withPreProcessingMillis(computationResult.preProcessingMillis())
+                .withComputeMillis(computationResult.computeMillis())
+                .withConfig(config);
+
+            if (computationResult.isGraphEmpty()) {
+                graph.release();
+                return Stream.of(builder.build());
+            }
+
+            builder.withSpanningForest(spanningForest);
+            try (ProgressTimer ignored = ProgressTimer.start(builder::withWriteMillis)) {
+                var spanningForestGraph = new SpanningForestGraph(graph, spanningForest);
+                var progressTracker = new TaskProgressTracker(
+                    RelationshipExporter.baseTask("SpanningForest", spanningForestGraph.relationshipCount()),
+                    log,
+                    RelationshipExporterBuilder.DEFAULT_WRITE_CONCURRENCY,
+                    taskRegistryFactory
+                );
+
+                relationshipExporterBuilder
+                    .withGraph(spanningForestGraph)
+                    .withIdMappingOperator(spanningForestGraph::toOriginalNodeId)
+                    .withTerminationFlag(computationResult.algorithm().getTerminationFlag())
+                    .withProgressTracker(progressTracker)
+                    .withBatching(config)
+                    .build()
+                    .write(config.writeRelationshipType(), config.writeProperty());
+            }
+            builder.withRelationshipsWritten(spanningForest.relationshipCount());
+            return Stream.of(builder.build());
+        };
+    }
+
+    @SuppressWarnings("unused")
+    public static class WriteResult {
+
+        public final long preProcessingMillis;
+        public final long computeMillis;
+        public final long writeMillis;
+        public final long componentCount;
+        public final double totalWeight;
+        public final long relationshipsWritten;
+        public final Map<String, Object> configuration;
+
+        WriteResult(
+            long preProcessingMillis,
+            long computeMillis,
+            long writeMillis,
+            long componentCount,
+            double totalWeight,
+            long relationshipsWritten,
+            Map<String, Object> configuration
+        ) {
+            this.preProcessingMillis = preProcessingMillis;
+            this.computeMillis = computeMillis;
+            this.writeMillis = writeMillis;
+            this.componentCount = componentCount;
+            this.totalWeight = totalWeight;
+            this.relationshipsWritten = relationshipsWritten;
+            this.configuration = configuration;
+        }
+
+        static class Builder extends SpanningForestProc.ResultBuilder<WriteResult> {
+
+            @Override
+            public WriteResult build() {
+                return new WriteResult(
+                    preProcessingMillis,
+                    computeMillis,
+                    writeMillis,
+                    componentCount,
+                    totalWeight,
+                    relationshipsWritten,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
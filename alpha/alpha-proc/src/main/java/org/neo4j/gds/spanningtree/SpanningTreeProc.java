@@ -93,6 +93,7 @@ public abstract class SpanningTreeProc extends AlgoBaseProc<Prim, SpanningTree,
                     .withIdMappingOperator(spanningGraph::toOriginalNodeId)
                     .withTerminationFlag(prim.getTerminationFlag())
                     .withProgressTracker(progressTracker)
+                    .withBatching(config)
                     .build()
                     .write(config.writeProperty(), config.weightWriteProperty());
             }
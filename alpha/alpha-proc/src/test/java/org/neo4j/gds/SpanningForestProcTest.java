@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.spanningtree.SpanningForestMutateProc;
+import org.neo4j.gds.spanningtree.SpanningForestStreamProc;
+import org.neo4j.gds.spanningtree.SpanningForestWriteProc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.isA;
+
+/**
+ *
+ *         a                a
+ *     1 /   \ 2          /  \
+ *      /     \          /    \
+ *     b --3-- c        b      c        y --7-- z
+ *     |       |   =>   |      |
+ *     4       5        |      |
+ *     |       |        |      |
+ *     d --6-- e        d      e
+ */
+class SpanningForestProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (y:Node)" +
+        ", (z:Node)" +
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 3.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 4.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 5.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(e)" +
+        ", (y)-[:TYPE {cost: 7.0}]->(z)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            SpanningForestStreamProc.class,
+            SpanningForestMutateProc.class,
+            SpanningForestWriteProc.class,
+            GraphProjectProc.class
+        );
+    }
+
+    private void projectGraph(Orientation orientation) {
+        runQuery(GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .graphProject()
+            .withNodeLabel("Node")
+            .withRelationshipType("TYPE", orientation)
+            .withRelationshipProperty("cost")
+            .yields());
+    }
+
+    @Test
+    void testStreamMinimum() {
+        projectGraph(Orientation.UNDIRECTED);
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.spanningForest")
+            .streamMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("concurrency", 4)
+            .yields("weight");
+
+        var weights = runQuery(
+            query + " RETURN weight ORDER BY weight",
+            result -> result.<Double>columnAs("weight").stream().collect(Collectors.toList())
+        );
+        assertThat(weights).containsExactly(1.0, 2.0, 4.0, 5.0, 7.0);
+    }
+
+    @Test
+    void testMutateMaximum() {
+        projectGraph(Orientation.UNDIRECTED);
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.spanningForest")
+            .mutateMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("objective", "Maximum")
+            .addParameter("mutateRelationshipType", "MAX")
+            .addParameter("mutateProperty", "weight")
+            .yields();
+
+        assertCypherResult(query, List.of(
+            Map.of(
+                "preProcessingMillis", greaterThan(-1L),
+                "computeMillis", greaterThan(-1L),
+                "mutateMillis", greaterThan(-1L),
+                "componentCount", 2L,
+                "totalWeight", 24.0,
+                "relationshipsWritten", 5L,
+                "configuration", isA(Map.class)
+            )
+        ));
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), DEFAULT_GRAPH_NAME).graphStore();
+        assertThat(graphStore.relationshipCount(RelationshipType.of("MAX"))).isEqualTo(5L);
+    }
+
+    @Test
+    void testWriteMinimum() {
+        projectGraph(Orientation.UNDIRECTED);
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.spanningForest")
+            .writeMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("writeRelationshipType", "MSF")
+            .addParameter("writeProperty", "cost")
+            .yields("componentCount", "totalWeight", "relationshipsWritten");
+
+        assertCypherResult(query, List.of(
+            Map.of(
+                "componentCount", 2L,
+                "totalWeight", 19.0,
+                "relationshipsWritten", 5L
+            )
+        ));
+
+        var totalCost = runQuery(
+            "MATCH ()-[r:MSF]->() RETURN sum(r.cost) AS totalCost",
+            result -> result.<Double>columnAs("totalCost").next()
+        );
+        assertThat(totalCost).isEqualTo(19.0);
+    }
+
+    @Test
+    void failOnDirectedGraph() {
+        projectGraph(Orientation.NATURAL);
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.spanningForest")
+            .streamMode()
+            .yields();
+
+        assertThatThrownBy(() -> runQuery(query))
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasRootCauseMessage(
+                "Spanning forest requires relationship projections to be UNDIRECTED. " +
+                "Selected relationships `[TYPE]` are not all undirected."
+            );
+    }
+
+    @Test
+    void failOnInvalidObjective() {
+        projectGraph(Orientation.UNDIRECTED);
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.spanningForest")
+            .streamMode()
+            .addParameter("objective", "median")
+            .yields();
+
+        assertThatThrownBy(() -> runQuery(query))
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasRootCauseMessage("The 'objective' parameter must be one of `minimum` or `maximum`, but was `median`.");
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding throughput of the different {@link AdjacencyList} implementations.
+ * The {@code compressed} parameter selects between the var-long encoded and the uncompressed adjacency list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AdjacencyCursorBenchmark {
+
+    @Param({"true", "false"})
+    public boolean compressed;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"10", "100"})
+    public long averageDegree;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    private AdjacencyList adjacencyList;
+    private long nodes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var graph = BenchmarkGraphs.generate(nodeCount, averageDegree, distribution, Orientation.NATURAL, compressed);
+        this.adjacencyList = graph.relationshipTopology().adjacencyList();
+        this.nodes = graph.nodeCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        adjacencyList.close();
+    }
+
+    @Benchmark
+    public void nextVLong(Blackhole bh) {
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (long node = 0; node < nodes; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            while (cursor.hasNextVLong()) {
+                bh.consume(cursor.nextVLong());
+            }
+        }
+    }
+
+    @Benchmark
+    public void peekAndNextVLong(Blackhole bh) {
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (long node = 0; node < nodes; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            while (cursor.hasNextVLong()) {
+                bh.consume(cursor.peekVLong());
+                bh.consume(cursor.nextVLong());
+            }
+        }
+    }
+
+    @Benchmark
+    public void skipUntil(Blackhole bh) {
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (long node = 0; node < nodes; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            // skip all targets up to the source id, similar to what the triangle count intersection does
+            bh.consume(cursor.skipUntil(node));
+        }
+    }
+
+    @Benchmark
+    public void advanceBy(Blackhole bh) {
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (long node = 0; node < nodes; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            bh.consume(cursor.advanceBy(cursor.size() / 2));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.loading.AdjacencyPacker;
+import org.neo4j.gds.core.loading.AdjacencyPacking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generated bit-packing codecs in {@link AdjacencyPacking}
+ * for different widths of the packed values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AdjacencyPackingBenchmark {
+
+    @Param({"1", "7", "13", "24", "33", "64"})
+    public int bits;
+
+    @Param({"4096"})
+    public int length;
+
+    private long[] values;
+    private AdjacencyPacker.Compressed compressed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+        var mask = bits == 64 ? -1L : (1L << bits) - 1;
+        this.values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextLong() & mask;
+        }
+        this.compressed = AdjacencyPacker.compress(values, 0, length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        compressed.free();
+    }
+
+    @Benchmark
+    public void packBlocks(Blackhole bh) {
+        var packed = AdjacencyPacker.compress(values, 0, length);
+        bh.consume(packed.bytesUsed());
+        packed.free();
+    }
+
+    @Benchmark
+    public long[] unpackBlocks() {
+        return AdjacencyPacker.decompress(compressed);
+    }
+
+    @Benchmark
+    public long[] unpackBlocksAndPrefixSum() {
+        return AdjacencyPacker.decompressAndPrefixSum(compressed);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.louvain.ImmutableLouvainStreamConfig;
+import org.neo4j.gds.louvain.Louvain;
+import org.neo4j.gds.pagerank.ImmutablePageRankStreamConfig;
+import org.neo4j.gds.pagerank.PageRankAlgorithmFactory;
+import org.neo4j.gds.pagerank.PageRankResult;
+import org.neo4j.gds.similarity.knn.ImmutableKnnBaseConfig;
+import org.neo4j.gds.similarity.knn.ImmutableKnnContext;
+import org.neo4j.gds.similarity.knn.Knn;
+import org.neo4j.gds.similarity.knn.KnnNodePropertySpec;
+import org.neo4j.gds.wcc.ImmutableWccStreamConfig;
+import org.neo4j.gds.wcc.Wcc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end runs of core algorithms on generated graphs.
+ * The graphs are generated once per trial, only the algorithm execution is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AlgorithmBenchmark {
+
+    @Param({"1000000"})
+    public long nodeCount;
+
+    @Param({"10"})
+    public long averageDegree;
+
+    @Param({"POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"true"})
+    public boolean compressed;
+
+    @Param({"4"})
+    public int concurrency;
+
+    private HugeGraph directedGraph;
+    private HugeGraph undirectedGraph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.directedGraph = BenchmarkGraphs.generate(
+            nodeCount,
+            averageDegree,
+            distribution,
+            Orientation.NATURAL,
+            compressed
+        );
+        this.undirectedGraph = BenchmarkGraphs.generate(
+            nodeCount,
+            averageDegree,
+            distribution,
+            Orientation.UNDIRECTED,
+            compressed
+        );
+    }
+
+    @Benchmark
+    public PageRankResult pageRank() {
+        var config = ImmutablePageRankStreamConfig.builder()
+            .concurrency(concurrency)
+            .maxIterations(20)
+            .build();
+
+        return new PageRankAlgorithmFactory<>()
+            .build(directedGraph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+
+    @Benchmark
+    public DisjointSetStruct wcc() {
+        var config = ImmutableWccStreamConfig.builder()
+            .concurrency(concurrency)
+            .build();
+
+        return new Wcc(
+            directedGraph,
+            Pools.DEFAULT,
+            Math.toIntExact(nodeCount / concurrency),
+            config,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+
+    @Benchmark
+    public Louvain louvain() {
+        var config = ImmutableLouvainStreamConfig.builder()
+            .concurrency(concurrency)
+            .maxLevels(10)
+            .maxIterations(10)
+            .build();
+
+        return new Louvain(
+            undirectedGraph,
+            config,
+            config.includeIntermediateCommunities(),
+            config.maxLevels(),
+            config.maxIterations(),
+            config.tolerance(),
+            config.concurrency(),
+            ProgressTracker.NULL_TRACKER,
+            Pools.DEFAULT
+        ).compute();
+    }
+
+    @Benchmark
+    public Knn.Result knn() {
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(new KnnNodePropertySpec(BenchmarkGraphs.NODE_PROPERTY)))
+            .concurrency(concurrency)
+            .topK(10)
+            .maxIterations(10)
+            .build();
+
+        return Knn
+            .createWithDefaults(directedGraph, config, ImmutableKnnContext.builder().build())
+            .compute();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.RelationshipIntersect;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.triangle.intersect.GraphIntersect;
+import org.neo4j.gds.triangle.intersect.ImmutableRelationshipIntersectConfig;
+import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactoryLocator;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the strategies of {@link GraphIntersect} on the packed adjacency list.
+ * {@code MERGE} always merges both lists in batches, {@code SKIP} always advances the larger list
+ * and {@code ADAPTIVE} picks one of them based on the degree ratio, which is the default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GraphIntersectBenchmark {
+
+    public enum Strategy {
+        MERGE(Integer.MAX_VALUE),
+        SKIP(1),
+        ADAPTIVE(GraphIntersect.DEFAULT_SKIP_DEGREE_RATIO);
+
+        private final int skipDegreeRatio;
+
+        Strategy(int skipDegreeRatio) {
+            this.skipDegreeRatio = skipDegreeRatio;
+        }
+    }
+
+    @Param({"MERGE", "SKIP", "ADAPTIVE"})
+    public Strategy strategy;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"10", "100"})
+    public long averageDegree;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    private HugeGraph graph;
+    private RelationshipIntersect intersect;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var before = GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(true);
+        try {
+            this.graph = BenchmarkGraphs.generate(nodeCount, averageDegree, distribution, Orientation.UNDIRECTED, true);
+        } finally {
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(before);
+        }
+        this.intersect = RelationshipIntersectFactoryLocator.lookup(graph)
+            .orElseThrow(IllegalStateException::new)
+            .load(graph, ImmutableRelationshipIntersectConfig.builder().skipDegreeRatio(strategy.skipDegreeRatio).build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph.relationshipTopology().adjacencyList().close();
+    }
+
+    @Benchmark
+    public void intersectAll(Blackhole bh) {
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            intersect.intersectAll(node, (a, b, c) -> bh.consume(c));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.HugeCursor;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares random access and cursor based iteration over a {@link HugeLongArray},
+ * and measures the overhead of {@link ParallelUtil#readParallel(int, long, java.util.concurrent.ExecutorService, org.neo4j.gds.core.utils.BiLongConsumer)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HugeArrayBenchmark {
+
+    @Param({"1000000", "100000000"})
+    public long size;
+
+    @Param({"4"})
+    public int concurrency;
+
+    private HugeLongArray array;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.array = HugeLongArray.newArray(size);
+        array.setAll(i -> i);
+    }
+
+    @Benchmark
+    public long get() {
+        long sum = 0L;
+        for (long i = 0; i < size; i++) {
+            sum += array.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long cursor() {
+        long sum = 0L;
+        try (HugeCursor<long[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                long[] page = cursor.array;
+                int limit = cursor.limit;
+                for (int i = cursor.offset; i < limit; i++) {
+                    sum += page[i];
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long readParallel() {
+        var sum = new LongAdder();
+        ParallelUtil.readParallel(concurrency, size, Pools.DEFAULT, (start, end) -> {
+            long localSum = 0L;
+            for (long i = start; i < end; i++) {
+                localSum += array.get(i);
+            }
+            sum.add(localSum);
+        });
+        return sum.sum();
+    }
+}
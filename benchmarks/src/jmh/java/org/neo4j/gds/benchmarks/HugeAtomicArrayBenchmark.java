@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the atomic update operations of {@link HugeAtomicLongArray} and {@link HugeAtomicDoubleArray}
+ * under contention. All threads update indices within the first {@code hotRange} elements,
+ * so a small range results in many threads competing for the same cache lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HugeAtomicArrayBenchmark {
+
+    @Param({"10000000"})
+    public long size;
+
+    @Param({"16", "1024", "10000000"})
+    public long hotRange;
+
+    private HugeAtomicLongArray longs;
+    private HugeAtomicDoubleArray doubles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.longs = HugeAtomicLongArray.newArray(size);
+        this.doubles = HugeAtomicDoubleArray.newArray(size);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            this.random = new SplittableRandom(BenchmarkGraphs.SEED + Thread.currentThread().getId());
+        }
+
+        long nextIndex(long bound) {
+            return random.nextLong(bound);
+        }
+    }
+
+    @Benchmark
+    public long longGetAndAdd(ThreadState state) {
+        return longs.getAndAdd(state.nextIndex(hotRange), 1L);
+    }
+
+    @Benchmark
+    public boolean longCompareAndSet(ThreadState state) {
+        long index = state.nextIndex(hotRange);
+        long current = longs.get(index);
+        return longs.compareAndSet(index, current, current + 1);
+    }
+
+    @Benchmark
+    public long longUpdate(ThreadState state) {
+        long index = state.nextIndex(hotRange);
+        longs.update(index, value -> Math.max(value, index));
+        return index;
+    }
+
+    @Benchmark
+    public double doubleGetAndAdd(ThreadState state) {
+        return doubles.getAndAdd(state.nextIndex(hotRange), 1.0);
+    }
+}
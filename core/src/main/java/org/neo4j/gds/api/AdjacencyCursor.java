@@ -35,6 +35,12 @@ public interface AdjacencyCursor extends AutoCloseable {
      */
     long NOT_FOUND = -1;
 
+    /**
+     * A batch size that is a good fit for {@link #nextBatch(long[], int, int)} for all adjacency list implementations,
+     * as it matches the number of targets that are decoded at once by the compressed adjacency lists.
+     */
+    int DEFAULT_BATCH_SIZE = 64;
+
     /**
      * Initialize this cursor to point to the given {@code index}.
      * The correct value for the index is highly implementation specific.
@@ -66,6 +72,21 @@ public interface AdjacencyCursor extends AutoCloseable {
      */
     long peekVLong();
 
+    /**
+     * Read and decode up to {@code length} target ids into {@code buffer}, starting at {@code offset}.
+     * This is equivalent to calling {@link #nextVLong()} in a loop as long as {@link #hasNextVLong()} returns {@code true},
+     * but implementations can copy whole blocks of decoded targets at once.
+     *
+     * @return the number of targets written into {@code buffer}, {@code 0} if the cursor is exhausted.
+     */
+    default int nextBatch(long[] buffer, int offset, int length) {
+        int count = 0;
+        while (count < length && hasNextVLong()) {
+            buffer[offset + count++] = nextVLong();
+        }
+        return count;
+    }
+
     /**
      * Return how many targets are still left to be decoded.
      */
@@ -139,6 +160,11 @@ public interface AdjacencyCursor extends AutoCloseable {
             return NOT_FOUND;
         }
 
+        @Override
+        public int nextBatch(long[] buffer, int offset, int length) {
+            return 0;
+        }
+
         @Override
         public int remaining() {
             return 0;
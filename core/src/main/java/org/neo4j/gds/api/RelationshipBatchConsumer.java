@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.api;
+
+/**
+ * Consumer interface for batches of relationships of a single source node, without properties.
+ *
+ * @see RelationshipIterator#forEachRelationshipBatch(long, long[], RelationshipBatchConsumer)
+ */
+@FunctionalInterface
+public interface RelationshipBatchConsumer {
+
+    /**
+     * Called for every batch of target nodes of the given source node.
+     * The {@code targets} array is owned by the caller and is re-used for the next batch,
+     * only the first {@code length} entries are valid.
+     *
+     * @param sourceNodeId mapped source node id
+     * @param targets      mapped target node ids
+     * @param length       number of valid target node ids in {@code targets}
+     * @return {@code true} if the iteration shall continue, otherwise {@code false}.
+     */
+    boolean accept(long sourceNodeId, long[] targets, int length);
+
+    /**
+     * Adapts a {@link RelationshipBatchConsumer} to a {@link RelationshipConsumer}
+     * for graphs that do not support batched iteration natively.
+     */
+    final class Batching implements RelationshipConsumer {
+
+        private final long[] buffer;
+        private final RelationshipBatchConsumer consumer;
+        private int length;
+        private boolean running;
+
+        Batching(long[] buffer, RelationshipBatchConsumer consumer) {
+            this.buffer = buffer;
+            this.consumer = consumer;
+            this.length = 0;
+            this.running = true;
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            buffer[length++] = targetNodeId;
+            if (length == buffer.length) {
+                length = 0;
+                running = consumer.accept(sourceNodeId, buffer, buffer.length);
+            }
+            return running;
+        }
+
+        void flush(long sourceNodeId) {
+            if (running && length > 0) {
+                consumer.accept(sourceNodeId, buffer, length);
+            }
+        }
+    }
+}
@@ -43,6 +43,23 @@ public interface RelationshipIterator extends RelationshipPredicate {
      */
     void forEachRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer);
 
+    /**
+     * Calls the given consumer function for batches of relationships of a given node.
+     * The target ids are written into the given {@code buffer}, which is handed to the consumer
+     * once it is full or all relationships have been visited.
+     * Implementations that can copy target ids in bulk, see {@link AdjacencyCursor#nextBatch(long[], int, int)},
+     * should override this method.
+     *
+     * @param nodeId id of the node for which to iterate relationships
+     * @param buffer re-used buffer for the target ids, must not be empty
+     * @param consumer relationship batch consumer function
+     */
+    default void forEachRelationshipBatch(long nodeId, long[] buffer, RelationshipBatchConsumer consumer) {
+        var batching = new RelationshipBatchConsumer.Batching(buffer, consumer);
+        forEachRelationship(nodeId, batching);
+        batching.flush(nodeId);
+    }
+
     Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue);
 
     /**
@@ -50,6 +50,7 @@ public interface GraphProjectFromStoreConfig extends GraphProjectConfig {
     String RELATIONSHIP_PROJECTION_KEY = "relationshipProjection";
     String NODE_PROPERTIES_KEY = "nodeProperties";
     String RELATIONSHIP_PROPERTIES_KEY = "relationshipProperties";
+    String PIPELINED_LOADING_KEY = "pipelinedLoading";
 
     @Key(NODE_PROJECTION_KEY)
     @ConvertWith(method = "org.neo4j.gds.AbstractNodeProjections#fromObject")
@@ -77,6 +78,18 @@ public interface GraphProjectFromStoreConfig extends GraphProjectConfig {
         return PropertyMappings.of();
     }
 
+    /**
+     * Starts scanning the relationship store while the nodes are still being loaded.
+     * Relationships are kept with their original node ids and property references
+     * in growable buffers until the id map is built.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    @Key(PIPELINED_LOADING_KEY)
+    default boolean pipelinedLoading() {
+        return false;
+    }
+
     @Configuration.Ignore
     @Override
     default GraphStoreFactory.Supplier graphStoreFactory() {
@@ -174,7 +187,7 @@ public interface GraphProjectFromStoreConfig extends GraphProjectConfig {
     @Value.Derived
     @Configuration.Ignore
     default Set<String> outputFieldDenylist() {
-        return Set.of(NODE_COUNT_KEY, RELATIONSHIP_COUNT_KEY);
+        return Set.of(NODE_COUNT_KEY, RELATIONSHIP_COUNT_KEY, PIPELINED_LOADING_KEY);
     }
 
     static GraphProjectFromStoreConfig emptyWithName(String userName, String graphName) {
@@ -27,10 +27,16 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.concurrency.ConcurrencyValidatorService;
 
 import java.util.Collection;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public interface WriteConfig extends ConcurrencyConfig {
 
     String WRITE_CONCURRENCY_KEY = "writeConcurrency";
+    String WRITE_BATCH_SIZE_KEY = "writeBatchSize";
+    String WRITE_MAX_IN_FLIGHT_TRANSACTIONS_KEY = "writeMaxInFlightTransactions";
+    String WRITE_TARGET_THROUGHPUT_KEY = "writeTargetThroughput";
 
     @Value.Default
     @Configuration.Key(WRITE_CONCURRENCY_KEY)
@@ -38,6 +44,29 @@ public interface WriteConfig extends ConcurrencyConfig {
         return concurrency();
     }
 
+    /**
+     * Number of entities written per transaction.
+     * If absent, the batch size is derived from the number of entities and the write concurrency.
+     */
+    @Configuration.Key(WRITE_BATCH_SIZE_KEY)
+    Optional<Long> writeBatchSize();
+
+    /**
+     * Upper bound on the number of write transactions that are open at the same time.
+     */
+    @Value.Default
+    @Configuration.Key(WRITE_MAX_IN_FLIGHT_TRANSACTIONS_KEY)
+    default int writeMaxInFlightTransactions() {
+        return writeConcurrency();
+    }
+
+    /**
+     * Maximum number of entities written per second, across all write transactions.
+     * If absent, writes are not throttled.
+     */
+    @Configuration.Key(WRITE_TARGET_THROUGHPUT_KEY)
+    Optional<Long> writeTargetThroughput();
+
     @Value.Check
     default void validateWriteConcurrency() {
         ConcurrencyValidatorService
@@ -45,6 +74,35 @@ public interface WriteConfig extends ConcurrencyConfig {
             .validate(writeConcurrency(), WRITE_CONCURRENCY_KEY, ConcurrencyConfig.CONCURRENCY_LIMITATION);
     }
 
+    @Value.Check
+    default void validateWriteBatching() {
+        writeBatchSize().ifPresent(batchSize -> {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The value of `%s` must be a positive number, but was `%d`.",
+                    WRITE_BATCH_SIZE_KEY,
+                    batchSize
+                ));
+            }
+        });
+        if (writeMaxInFlightTransactions() < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `%s` must be a positive number, but was `%d`.",
+                WRITE_MAX_IN_FLIGHT_TRANSACTIONS_KEY,
+                writeMaxInFlightTransactions()
+            ));
+        }
+        writeTargetThroughput().ifPresent(throughput -> {
+            if (throughput < 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The value of `%s` must be a positive number, but was `%d`.",
+                    WRITE_TARGET_THROUGHPUT_KEY,
+                    throughput
+                ));
+            }
+        });
+    }
+
     @Configuration.GraphStoreValidationCheck
     @Value.Default
     default void validateGraphIsSuitableForWrite(
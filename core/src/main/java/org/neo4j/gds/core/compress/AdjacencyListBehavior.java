@@ -23,9 +23,15 @@ import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.MappedAdjacencyList;
+import org.neo4j.gds.core.huge.MappedAdjacencyProperties;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
 import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
 import org.neo4j.gds.core.loading.CompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.loading.DeltaVarLongCompressor;
+import org.neo4j.gds.core.loading.MappedAdjacencyListBuilderFactory;
+import org.neo4j.gds.core.loading.PackedAdjacencyListBuilderFactory;
+import org.neo4j.gds.core.loading.PackedCompressor;
 import org.neo4j.gds.core.loading.RawCompressor;
 import org.neo4j.gds.core.loading.UncompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -36,7 +42,7 @@ import java.util.function.LongSupplier;
 
 /**
  * Manages different configurations of adjacency list building,
- * i.e., compressed or uncompressed.
+ * i.e., compressed, block-packed, memory-mapped or uncompressed.
  */
 public interface AdjacencyListBehavior {
 
@@ -48,9 +54,16 @@ public interface AdjacencyListBehavior {
         var resolvedAggregations = Arrays.stream(aggregations).map(Aggregation::resolve).toArray(Aggregation[]::new);
         var noAggregation = Arrays.stream(aggregations).map(Aggregation::resolve).allMatch(Aggregation::equivalentToNone);
 
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-            : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+        }
+        if (GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()) {
+            return mapped(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+        }
+        return compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
     }
 
     static AdjacencyCompressorFactory compressed(
@@ -68,6 +81,36 @@ public interface AdjacencyListBehavior {
         );
     }
 
+    static AdjacencyCompressorFactory packed(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return PackedCompressor.factory(
+            nodeCountSupplier,
+            PackedAdjacencyListBuilderFactory.of(),
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
+    static AdjacencyCompressorFactory mapped(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return DeltaVarLongCompressor.factory(
+            nodeCountSupplier,
+            MappedAdjacencyListBuilderFactory.of(),
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
     static AdjacencyCompressorFactory uncompressed(
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
@@ -84,18 +127,37 @@ public interface AdjacencyListBehavior {
     }
 
     static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
-            : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        if (GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()) {
+            return MappedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
     }
 
     static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
-            : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return PackedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        if (GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()) {
+            return MappedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
     }
 
     static MemoryEstimation adjacencyPropertiesEstimation(RelationshipType relationshipType, boolean undirected) {
+        if (GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()
+            && GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isDisabled()
+            && GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isDisabled()) {
+            return MappedAdjacencyProperties.adjacencyPropertiesEstimation(relationshipType, undirected);
+        }
         return UncompressedAdjacencyList.adjacencyPropertiesEstimation(relationshipType, undirected);
     }
 }
@@ -26,6 +26,10 @@ import java.util.Arrays;
 
 import static org.neo4j.gds.core.huge.VarLongDecoding.decodeDeltaVLongs;
 
+/**
+ * Decodes var-long encoded adjacency lists in blocks of {@link #CHUNK_SIZE} targets.
+ * {@link MappedAdjacencyDecompressingReader} implements the same logic on memory-mapped pages.
+ */
 final class AdjacencyDecompressingReader {
 
     static final int CHUNK_SIZE = 64;
@@ -89,6 +93,24 @@ final class AdjacencyDecompressingReader {
         return readNextBlock(remaining);
     }
 
+    int nextBatch(long[] buffer, int bufferOffset, int length, int remaining) {
+        int toCopy = Math.min(length, remaining);
+        long[] block = this.block;
+        int copied = 0;
+        while (copied < toCopy) {
+            if (pos == CHUNK_SIZE) {
+                int needToDecode = Math.min(CHUNK_SIZE, remaining - copied);
+                offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+                pos = 0;
+            }
+            int n = Math.min(CHUNK_SIZE - pos, toCopy - copied);
+            System.arraycopy(block, pos, buffer, bufferOffset + copied, n);
+            pos += n;
+            copied += n;
+        }
+        return copied;
+    }
+
     private long readNextBlock(int remaining) {
         offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
         return block[0];
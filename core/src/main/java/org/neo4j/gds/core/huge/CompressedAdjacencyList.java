@@ -109,6 +109,21 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         this.offsets = offsets;
     }
 
+    /**
+     * The pages holding the compressed targets, exposed for bulk persistence.
+     */
+    public byte[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public void close() {
         pages = null;
@@ -215,6 +230,13 @@ public final class CompressedAdjacencyList implements AdjacencyList {
             return decompress.peek(remaining);
         }
 
+        @Override
+        public int nextBatch(long[] buffer, int offset, int length) {
+            int copied = decompress.nextBatch(buffer, offset, length, remaining());
+            currentPosition += copied;
+            return copied;
+        }
+
         /**
          * Read and decode target ids until it is strictly larger than ({@literal >}) the provided {@code target}.
          * If there are no such targets before this cursor is exhausted, {@link org.neo4j.gds.api.AdjacencyCursor#NOT_FOUND -1} is returned.
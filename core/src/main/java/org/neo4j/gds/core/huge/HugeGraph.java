@@ -32,6 +32,7 @@ import org.neo4j.gds.api.FilteredIdMap;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipBatchConsumer;
 import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.api.RelationshipCursor;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
@@ -289,6 +290,12 @@ public class HugeGraph implements CSRGraph {
         runForEach(nodeId, fallbackValue, consumer);
     }
 
+    @Override
+    public void forEachRelationshipBatch(long nodeId, long[] buffer, RelationshipBatchConsumer consumer) {
+        var adjacencyCursor = adjacencyCursorForIteration(nodeId);
+        consumeAdjacentNodeBatches(nodeId, adjacencyCursor, buffer, consumer);
+    }
+
     @Override
     public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
         var adjacencyCursor = adjacencyCursorForIteration(nodeId);
@@ -501,6 +508,20 @@ public class HugeGraph implements CSRGraph {
         }
     }
 
+    private void consumeAdjacentNodeBatches(
+        long sourceId,
+        AdjacencyCursor adjacencyCursor,
+        long[] buffer,
+        RelationshipBatchConsumer consumer
+    ) {
+        int length;
+        while ((length = adjacencyCursor.nextBatch(buffer, 0, buffer.length)) > 0) {
+            if (!consumer.accept(sourceId, buffer, length)) {
+                break;
+            }
+        }
+    }
+
     private void consumeAdjacentNodesWithProperty(
         long sourceId,
         AdjacencyCursor adjacencyCursor,
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.loading.MutableIntValue;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.nio.ByteBuffer;
+
+import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
+
+/**
+ * An adjacency list in the same var-long encoded format as {@link CompressedAdjacencyList},
+ * but the encoded targets live in memory-mapped segments of a file instead of on the Java heap.
+ * Reading from the adjacency list is served from the OS page cache.
+ *
+ * Offsets are addresses into the mapped file, see {@link #SEGMENT_SHIFT}.
+ */
+public final class MappedAdjacencyList implements AdjacencyList {
+
+    public static final int SEGMENT_SHIFT = 28;
+    public static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> MappedAdjacencyList.adjacencyListEstimation());
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        return adjacencyListEstimation();
+    }
+
+    @TestOnly
+    public static MemoryEstimation adjacencyListEstimation(boolean undirected) {
+        return adjacencyListEstimation(ALL_RELATIONSHIPS, undirected);
+    }
+
+    private static MemoryEstimation adjacencyListEstimation() {
+        // the encoded targets are stored off-heap, only degrees and offsets are kept on the heap
+        return MemoryEstimations
+            .builder(MappedAdjacencyList.class)
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    private ByteBuffer[] segments;
+    private HugeIntArray degrees;
+    private HugeLongArray offsets;
+
+    public MappedAdjacencyList(ByteBuffer[] segments, HugeIntArray degrees, HugeLongArray offsets) {
+        this.segments = segments;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public void close() {
+        segments = null;
+        degrees = null;
+        offsets = null;
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new Cursor(segments);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof Cursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new Cursor(segments);
+    }
+
+    public static final class Cursor extends MutableIntValue implements AdjacencyCursor {
+
+        private ByteBuffer[] segments;
+        private final MappedAdjacencyDecompressingReader decompress;
+
+        private int maxTargets;
+        private int currentPosition;
+
+        private Cursor(ByteBuffer[] segments) {
+            this.segments = segments;
+            this.decompress = new MappedAdjacencyDecompressingReader();
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            maxTargets = decompress.reset(
+                segments[(int) (fromIndex >>> SEGMENT_SHIFT)],
+                (int) (fromIndex & SEGMENT_MASK),
+                degree
+            );
+            currentPosition = 0;
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof Cursor
+                ? (Cursor) destination
+                : new Cursor(segments);
+            dest.decompress.copyFrom(this.decompress);
+            dest.currentPosition = this.currentPosition;
+            dest.maxTargets = this.maxTargets;
+            return dest;
+        }
+
+        @Override
+        public int size() {
+            return maxTargets;
+        }
+
+        @Override
+        public int remaining() {
+            return maxTargets - currentPosition;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return currentPosition < maxTargets;
+        }
+
+        @Override
+        public long nextVLong() {
+            int current = currentPosition++;
+            int remaining = maxTargets - current;
+            return decompress.next(remaining);
+        }
+
+        @Override
+        public long peekVLong() {
+            int remaining = maxTargets - currentPosition;
+            return decompress.peek(remaining);
+        }
+
+        @Override
+        public int nextBatch(long[] buffer, int offset, int length) {
+            int copied = decompress.nextBatch(buffer, offset, length, remaining());
+            currentPosition += copied;
+            return copied;
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            long value = decompress.skipUntil(target, remaining(), this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advance(long target) {
+            int targetsLeftToBeDecoded = remaining();
+            if (targetsLeftToBeDecoded <= 0) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            long value = decompress.advance(target, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            int targetsLeftToBeDecoded = remaining();
+            if (targetsLeftToBeDecoded <= n) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+
+            var value = decompress.advanceBy(n, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public void close() {
+            segments = null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.nio.ByteBuffer;
+
+import static org.neo4j.gds.core.huge.MappedAdjacencyList.SEGMENT_MASK;
+import static org.neo4j.gds.core.huge.MappedAdjacencyList.SEGMENT_SHIFT;
+
+/**
+ * Relationship properties stored as uncompressed {@code long} values in memory-mapped segments of a file.
+ * The values are stored in little-endian byte order.
+ */
+public final class MappedAdjacencyProperties implements AdjacencyProperties {
+
+    public static MemoryEstimation adjacencyPropertiesEstimation(
+        RelationshipType relationshipType,
+        boolean undirected
+    ) {
+        // the property values are stored off-heap, the degrees are shared with the adjacency list
+        return MemoryEstimations
+            .builder(MappedAdjacencyProperties.class)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    private ByteBuffer[] segments;
+    private HugeIntArray degrees;
+    private HugeLongArray offsets;
+
+    public MappedAdjacencyProperties(ByteBuffer[] segments, HugeIntArray degrees, HugeLongArray offsets) {
+        this.segments = segments;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        var cursor = new Cursor(segments);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        if (reuse instanceof Cursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(segments);
+    }
+
+    @Override
+    public void close() {
+        segments = null;
+        degrees = null;
+        offsets = null;
+    }
+
+    static final class Cursor implements PropertyCursor {
+
+        private ByteBuffer[] segments;
+
+        private ByteBuffer segment;
+        private int index;
+        private int limit;
+
+        private Cursor(ByteBuffer[] segments) {
+            this.segments = segments;
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            this.segment = segments[(int) (fromIndex >>> SEGMENT_SHIFT)];
+            this.index = (int) (fromIndex & SEGMENT_MASK);
+            this.limit = index + degree * Long.BYTES;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return index < limit;
+        }
+
+        @Override
+        public long nextLong() {
+            long value = segment.getLong(index);
+            index += Long.BYTES;
+            return value;
+        }
+
+        @Override
+        public void close() {
+            segments = null;
+            segment = null;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.loading.BlockPacking;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.core.loading.BlockPacking.BLOCK_MASK;
+import static org.neo4j.gds.core.loading.BlockPacking.BLOCK_SHIFT;
+import static org.neo4j.gds.core.loading.BlockPacking.BLOCK_SIZE;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * An adjacency list that stores the targets of each node in blocks of bit-packed deltas.
+ * See {@link org.neo4j.gds.core.loading.BlockPacking} for the layout of a single list.
+ *
+ * Compared to {@link CompressedAdjacencyList}, a whole block is decoded in a single loop
+ * and cursors can skip over blocks by only looking at the block headers.
+ */
+public final class PackedAdjacencyList implements AdjacencyList {
+
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        // Best case scenario: the difference between consecutive targets is 1,
+        // each delta can be stored in a single bit.
+        long bestCaseWords = computeAdjacencyWords(avgDegree, nodeCount, 1L);
+
+        // Worst case scenario: targets are equally distributed across the id space,
+        // the difference between consecutive targets is the number of nodes divided by the average degree.
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long worstCaseWords = computeAdjacencyWords(avgDegree, nodeCount, deltaWorstCase);
+
+        int minPages = PageUtil.numPagesFor(bestCaseWords, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseWords, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+
+        long bytesPerPage = MemoryUsage.sizeOfLongArray(BumpAllocator.PAGE_SIZE);
+        long minMemoryReqs = minPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(minPages);
+        long maxMemoryReqs = maxPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(maxPages);
+
+        return MemoryEstimations
+            .builder(PackedAdjacencyList.class)
+            .fixed("pages", MemoryRange.of(minMemoryReqs, maxMemoryReqs))
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    @TestOnly
+    public static MemoryEstimation adjacencyListEstimation(boolean undirected) {
+        return adjacencyListEstimation(ALL_RELATIONSHIPS, undirected);
+    }
+
+    /* test private */
+    static long computeAdjacencyWords(long avgDegree, long nodeCount, long delta) {
+        if (avgDegree <= 0) {
+            return 0L;
+        }
+        long blocks = ceilDiv(avgDegree, BLOCK_SIZE);
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(delta);
+        long dataWords = ceilDiv(avgDegree * bits, Long.SIZE);
+        // first target + one header per block + packed data
+        return (1L + blocks + dataWords) * nodeCount;
+    }
+
+    private long[][] pages;
+    private HugeIntArray degrees;
+    private HugeLongArray offsets;
+
+    public PackedAdjacencyList(long[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    /**
+     * The pages holding the packed blocks, exposed for bulk persistence.
+     */
+    public long[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new Cursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof Cursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new Cursor(pages);
+    }
+
+    @Override
+    public void close() {
+        pages = null;
+        degrees = null;
+        offsets = null;
+    }
+
+    public static final class Cursor implements AdjacencyCursor {
+
+        private long[][] pages;
+        private final long[] block;
+
+        private long[] page;
+        private long firstTarget;
+        private int headerOffset;
+        private int dataOffset;
+        private int blockCount;
+        private int degree;
+
+        // index of the currently decoded block
+        private int currentBlock;
+        // number of targets in the currently decoded block
+        private int blockLength;
+        // position of the next target within the currently decoded block
+        private int pos;
+
+        private Cursor(long[][] pages) {
+            this.pages = pages;
+            this.block = new long[BLOCK_SIZE];
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            this.degree = degree;
+            this.currentBlock = 0;
+            this.pos = 0;
+            if (degree == 0) {
+                this.blockCount = 0;
+                this.blockLength = 0;
+                return;
+            }
+
+            this.page = pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)];
+            int offset = indexInPage(fromIndex, BumpAllocator.PAGE_MASK);
+            this.firstTarget = page[offset];
+            this.headerOffset = offset + 1;
+            this.blockCount = BlockPacking.blockCount(degree);
+            this.dataOffset = headerOffset + blockCount;
+            decodeCurrentBlock();
+        }
+
+        @Override
+        public int size() {
+            return degree;
+        }
+
+        @Override
+        public int remaining() {
+            return degree - (currentBlock << BLOCK_SHIFT) - pos;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return pos < blockLength || currentBlock < blockCount - 1;
+        }
+
+        @Override
+        public long nextVLong() {
+            if (pos == blockLength) {
+                seekBlock(currentBlock + 1);
+            }
+            return block[pos++];
+        }
+
+        @Override
+        public long peekVLong() {
+            if (pos == blockLength) {
+                seekBlock(currentBlock + 1);
+            }
+            return block[pos];
+        }
+
+        @Override
+        public int nextBatch(long[] buffer, int offset, int length) {
+            int toCopy = Math.min(length, remaining());
+            int copied = 0;
+            while (copied < toCopy) {
+                if (pos == blockLength) {
+                    seekBlock(currentBlock + 1);
+                }
+                int n = Math.min(blockLength - pos, toCopy - copied);
+                System.arraycopy(block, pos, buffer, offset + copied, n);
+                pos += n;
+                copied += n;
+            }
+            return copied;
+        }
+
+        /**
+         * Read and decode target ids until it is strictly larger than ({@literal >}) the provided {@code target}.
+         * Blocks whose largest target is not larger than {@code target} are skipped without being decoded.
+         * If there are no such targets before this cursor is exhausted, {@link org.neo4j.gds.api.AdjacencyCursor#NOT_FOUND -1} is returned.
+         */
+        @Override
+        public long skipUntil(long target) {
+            if (remaining() <= 0) {
+                return NOT_FOUND;
+            }
+            if (pos == blockLength) {
+                seekBlock(currentBlock + 1);
+            }
+
+            int targetBlock = currentBlock;
+            while (targetBlock < blockCount - 1 && lastValueOf(targetBlock) <= target) {
+                targetBlock++;
+            }
+            if (targetBlock != currentBlock) {
+                seekBlock(targetBlock);
+            }
+
+            int targetPos = pos;
+            int limit = blockLength - 1;
+            while (targetPos < limit && block[targetPos] <= target) {
+                targetPos++;
+            }
+            pos = targetPos + 1;
+            return block[targetPos];
+        }
+
+        /**
+         * Read and decode target ids until it is larger than or equal ({@literal >=}) the provided {@code target}.
+         * Blocks whose largest target is smaller than {@code target} are skipped without being decoded.
+         * If there are no such targets before this cursor is exhausted, {@link org.neo4j.gds.api.AdjacencyCursor#NOT_FOUND -1} is returned.
+         */
+        @Override
+        public long advance(long target) {
+            if (remaining() <= 0) {
+                return NOT_FOUND;
+            }
+            if (pos == blockLength) {
+                seekBlock(currentBlock + 1);
+            }
+
+            int targetBlock = currentBlock;
+            while (targetBlock < blockCount - 1 && lastValueOf(targetBlock) < target) {
+                targetBlock++;
+            }
+            if (targetBlock != currentBlock) {
+                seekBlock(targetBlock);
+            }
+
+            int targetPos = pos;
+            int limit = blockLength - 1;
+            while (targetPos < limit && block[targetPos] < target) {
+                targetPos++;
+            }
+            pos = targetPos + 1;
+            return block[targetPos];
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            if (remaining() <= n) {
+                return NOT_FOUND;
+            }
+
+            int index = (currentBlock << BLOCK_SHIFT) + pos + n;
+            int targetBlock = index >>> BLOCK_SHIFT;
+            if (targetBlock != currentBlock) {
+                seekBlock(targetBlock);
+            }
+            int targetPos = index & BLOCK_MASK;
+            pos = targetPos + 1;
+            return block[targetPos];
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof Cursor
+                ? (Cursor) destination
+                : new Cursor(pages);
+
+            System.arraycopy(block, 0, dest.block, 0, blockLength);
+            dest.page = page;
+            dest.firstTarget = firstTarget;
+            dest.headerOffset = headerOffset;
+            dest.dataOffset = dataOffset;
+            dest.blockCount = blockCount;
+            dest.degree = degree;
+            dest.currentBlock = currentBlock;
+            dest.blockLength = blockLength;
+            dest.pos = pos;
+
+            return dest;
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+            page = null;
+        }
+
+        private long lastValueOf(int blockIndex) {
+            return BlockPacking.lastValue(page[headerOffset + blockIndex]);
+        }
+
+        /**
+         * Moves the cursor to the start of the given block and decodes it.
+         * All blocks in between are skipped by only looking at their headers.
+         * All blocks before the last one are full blocks, which use exactly {@code bits} words.
+         */
+        private void seekBlock(int blockIndex) {
+            int dataOffset = this.dataOffset;
+            for (int i = currentBlock; i < blockIndex; i++) {
+                dataOffset += BlockPacking.bits(page[headerOffset + i]);
+            }
+            this.dataOffset = dataOffset;
+            this.currentBlock = blockIndex;
+            decodeCurrentBlock();
+        }
+
+        private void decodeCurrentBlock() {
+            int blockIndex = currentBlock;
+            int bits = BlockPacking.bits(page[headerOffset + blockIndex]);
+            int length = Math.min(BLOCK_SIZE, degree - (blockIndex << BLOCK_SHIFT));
+            long base = blockIndex == 0 ? firstTarget : lastValueOf(blockIndex - 1);
+
+            BlockPacking.unpack(page, dataOffset, bits, block, length);
+            BlockPacking.prefixSum(block, length, base);
+
+            this.blockLength = length;
+            this.pos = 0;
+        }
+    }
+}
@@ -119,6 +119,21 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
         this.offsets = offsets;
     }
 
+    /**
+     * The pages holding the targets or property values, exposed for bulk persistence.
+     */
+    public long[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public int degree(long node) {
         return degrees.get(node);
@@ -247,6 +262,14 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
             return currentPage[offset];
         }
 
+        @Override
+        public int nextBatch(long[] buffer, int offset, int length) {
+            int copied = Math.min(length, remaining());
+            System.arraycopy(currentPage, this.offset, buffer, offset, copied);
+            this.offset += copied;
+            return copied;
+        }
+
         @Override
         public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
             var dest = destination instanceof Cursor
@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.core.huge;
 
+import java.nio.ByteBuffer;
+
 public final class VarLongDecoding {
 
     public static int decodeDeltaVLongs(
@@ -46,6 +48,31 @@ public final class VarLongDecoding {
         return offset;
     }
 
+    public static int decodeDeltaVLongs(
+        long startValue,
+        ByteBuffer adjacencyPage,
+        int offset,
+        int limit,
+        long[] out
+    ) {
+        long input, value = 0L;
+        int into = 0, shift = 0;
+        while (into < limit) {
+            input = adjacencyPage.get(offset++);
+            value += (input & 127L) << shift;
+            if ((input & 128L) == 128L) {
+                startValue += value;
+                out[into++] = startValue;
+                value = 0L;
+                shift = 0;
+            } else {
+                shift += 7;
+            }
+        }
+
+        return offset;
+    }
+
     private VarLongDecoding() {
         throw new UnsupportedOperationException("No instances");
     }
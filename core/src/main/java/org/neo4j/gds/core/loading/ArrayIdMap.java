@@ -26,15 +26,19 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.LabeledIdMap;
 import org.neo4j.gds.collections.HugeSparseCollections;
 import org.neo4j.gds.collections.HugeSparseLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.mem.MemoryUsage;
 
 import java.util.Collection;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 /**
  * This is basically a long to int mapper. It sorts the id's in ascending order so its
@@ -129,15 +133,8 @@ public class ArrayIdMap extends LabeledIdMap {
 
         BitSet unionBitSet = labelInformation.unionBitSet(nodeLabels, nodeCount());
 
-        long nodeId = -1L;
-        long cursor = 0L;
-        long newNodeCount = unionBitSet.cardinality();
-        HugeLongArray newGraphIds = HugeLongArray.newArray(newNodeCount);
-
-        while ((nodeId = unionBitSet.nextSetBit(nodeId + 1)) != -1) {
-            newGraphIds.set(cursor, nodeId);
-            cursor++;
-        }
+        HugeLongArray newGraphIds = collectSetBits(unionBitSet, concurrency);
+        long newNodeCount = newGraphIds.size();
 
         HugeSparseLongArray newNodeToGraphIds = ArrayIdMapBuilderOps.buildSparseIdMap(
             newNodeCount,
@@ -158,4 +155,58 @@ public class ArrayIdMap extends LabeledIdMap {
 
         return Optional.of(new FilteredLabeledIdMap(this, rootToFilteredIdMap));
     }
+
+    /**
+     * Writes the indices of all set bits in ascending order into a new array.
+     * The words of the bit set are partitioned and every partition counts its
+     * set bits first, so that the partitions can write their node ids in parallel
+     * to the offsets given by the prefix sum of their cardinalities.
+     */
+    static HugeLongArray collectSetBits(BitSet bitSet, int concurrency) {
+        long[] words = bitSet.bits;
+        var partitions = PartitionUtils.rangePartition(
+            concurrency,
+            bitSet.wlen,
+            Function.identity(),
+            Optional.empty()
+        );
+
+        var cardinalities = new long[partitions.size()];
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(IntStream.range(0, partitions.size()).mapToObj(index -> (Runnable) () -> {
+                var partition = partitions.get(index);
+                long cardinality = 0L;
+                for (int word = (int) partition.startNode(); word < partition.startNode() + partition.nodeCount(); word++) {
+                    cardinality += Long.bitCount(words[word]);
+                }
+                cardinalities[index] = cardinality;
+            }))
+            .run();
+
+        var offsets = new long[partitions.size()];
+        long totalCardinality = 0L;
+        for (int index = 0; index < partitions.size(); index++) {
+            offsets[index] = totalCardinality;
+            totalCardinality += cardinalities[index];
+        }
+
+        HugeLongArray setBits = HugeLongArray.newArray(totalCardinality);
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(IntStream.range(0, partitions.size()).mapToObj(index -> (Runnable) () -> {
+                var partition = partitions.get(index);
+                long cursor = offsets[index];
+                for (int word = (int) partition.startNode(); word < partition.startNode() + partition.nodeCount(); word++) {
+                    long bits = words[word];
+                    while (bits != 0) {
+                        setBits.set(cursor++, ((long) word << 6) + Long.numberOfTrailingZeros(bits));
+                        bits &= bits - 1;
+                    }
+                }
+            }))
+            .run();
+
+        return setBits;
+    }
 }
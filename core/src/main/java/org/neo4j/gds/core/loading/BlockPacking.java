@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.mem.BitUtil;
+
+/**
+ * Encodes sorted adjacency lists into fixed-size blocks of bit-packed deltas.
+ *
+ * The layout of a single adjacency list with {@code n} targets and {@code b = ceil(n / 64)} blocks is:
+ *
+ * <pre>
+ * | first target | header 0 | ... | header b-1 | packed block 0 | ... | packed block b-1 |
+ * </pre>
+ *
+ * Every header stores the largest (i.e. last) target of its block in the upper 56 bits and
+ * the number of bits per packed delta of that block in the lower 8 bits.
+ * The headers allow a cursor to skip over whole blocks without decoding them.
+ *
+ * A block stores the deltas to the previous target, the first delta of the first block is always 0.
+ * Packed values use the same bit layout as the generated {@link AdjacencyPacking} code,
+ * i.e. values are written LSB first into consecutive little-endian words.
+ * A full block with {@code bits} bits per value occupies exactly {@code bits} words,
+ * only the last block of an adjacency list may be shorter.
+ */
+public final class BlockPacking {
+
+    public static final int BLOCK_SIZE = AdjacencyPacking.BLOCK_SIZE;
+    public static final int BLOCK_SHIFT = Integer.numberOfTrailingZeros(BLOCK_SIZE);
+    public static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    private static final int HEADER_SHIFT = Byte.SIZE;
+    private static final long BITS_MASK = (1L << HEADER_SHIFT) - 1;
+    private static final long MAX_TARGET = (1L << (Long.SIZE - HEADER_SHIFT)) - 1;
+
+    private BlockPacking() {}
+
+    public static int blockCount(int degree) {
+        return BitUtil.ceilDiv(degree, BLOCK_SIZE);
+    }
+
+    public static int bits(long header) {
+        return (int) (header & BITS_MASK);
+    }
+
+    public static long lastValue(long header) {
+        return header >>> HEADER_SHIFT;
+    }
+
+    /**
+     * Returns the number of words that are needed to store {@code count} values with {@code bits} bits each.
+     */
+    public static int dataWords(int bits, int count) {
+        return (bits * count + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Returns the number of words that {@link #pack(long[], int, long[])} writes for the given delta-encoded values.
+     */
+    public static int requiredWords(long[] deltas, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int blocks = blockCount(length);
+        int words = 1 + blocks;
+        for (int block = 0; block < blocks; block++) {
+            int start = block << BLOCK_SHIFT;
+            int count = Math.min(BLOCK_SIZE, length - start);
+            words += dataWords(bitsNeeded(deltas, start, count), count);
+        }
+        return words;
+    }
+
+    /**
+     * Packs the given delta-encoded values into {@code out}.
+     * The first value in {@code deltas} is the absolute value of the first target,
+     * all other values are the difference to their predecessor.
+     *
+     * @return the number of words written into {@code out}
+     */
+    public static int pack(long[] deltas, int length, long[] out) {
+        if (length == 0) {
+            return 0;
+        }
+        int blocks = blockCount(length);
+        int headerOffset = 1;
+        int dataOffset = headerOffset + blocks;
+
+        long value = deltas[0];
+        out[0] = value;
+
+        for (int block = 0; block < blocks; block++) {
+            int start = block << BLOCK_SHIFT;
+            int count = Math.min(BLOCK_SIZE, length - start);
+            int bits = bitsNeeded(deltas, start, count);
+
+            for (int i = Math.max(1, start); i < start + count; i++) {
+                value += deltas[i];
+            }
+            assert value <= MAX_TARGET : "Target id " + value + " exceeds the maximum supported id " + MAX_TARGET;
+
+            out[headerOffset + block] = (value << HEADER_SHIFT) | bits;
+            dataOffset = packBlock(deltas, start, count, bits, out, dataOffset);
+        }
+
+        return dataOffset;
+    }
+
+    /**
+     * Unpacks {@code count} values with {@code bits} bits each, starting at {@code offset} in {@code page}.
+     * The values are written into {@code out}, starting at index 0.
+     */
+    public static void unpack(long[] page, int offset, int bits, long[] out, int count) {
+        if (bits == 0) {
+            for (int i = 0; i < count; i++) {
+                out[i] = 0L;
+            }
+            return;
+        }
+        long mask = bits == Long.SIZE ? -1L : (1L << bits) - 1;
+        int bitIndex = 0;
+        for (int i = 0; i < count; i++) {
+            int word = offset + (bitIndex >>> 6);
+            int shift = bitIndex & 63;
+            long packed = page[word] >>> shift;
+            if (shift + bits > Long.SIZE) {
+                packed |= page[word + 1] << (Long.SIZE - shift);
+            }
+            out[i] = packed & mask;
+            bitIndex += bits;
+        }
+    }
+
+    /**
+     * Turns the deltas in {@code values} into absolute values, starting from {@code base}.
+     */
+    public static void prefixSum(long[] values, int count, long base) {
+        long value = base;
+        for (int i = 0; i < count; i++) {
+            value += values[i];
+            values[i] = value;
+        }
+    }
+
+    private static int packBlock(long[] deltas, int start, int count, int bits, long[] out, int offset) {
+        int words = dataWords(bits, count);
+        for (int i = offset; i < offset + words; i++) {
+            out[i] = 0L;
+        }
+        if (bits == 0) {
+            return offset;
+        }
+
+        // the first delta of the first block is always 0, the actual value is stored in front of the headers
+        int first = start == 0 ? 1 : 0;
+        int bitIndex = first * bits;
+        for (int i = start + first; i < start + count; i++) {
+            long value = deltas[i];
+            int word = offset + (bitIndex >>> 6);
+            int shift = bitIndex & 63;
+            out[word] |= value << shift;
+            if (shift + bits > Long.SIZE) {
+                out[word + 1] |= value >>> (Long.SIZE - shift);
+            }
+            bitIndex += bits;
+        }
+
+        return offset + words;
+    }
+
+    private static int bitsNeeded(long[] deltas, int start, int count) {
+        long bits = 0L;
+        // the first delta of the first block is always 0
+        for (int i = Math.max(1, start); i < start + count; i++) {
+            bits |= deltas[i];
+        }
+        return Long.SIZE - Long.numberOfLeadingZeros(bits);
+    }
+}
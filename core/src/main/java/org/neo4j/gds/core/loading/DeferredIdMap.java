@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.PartialIdMap;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A {@link PartialIdMap} for relationship importers that are started before the node import finished.
+ *
+ * The scanner tasks spill relationships with their original node ids until {@link #isDone()}
+ * and resolve them in bulk via {@link #await()}.
+ * The id map is handed to the scanner tasks in two steps: the coordinating importer waits
+ * for the node import via {@link #awaitLoaded()} and, once it is ready to track the
+ * relationship import, hands the id map over via {@link #release()}.
+ */
+final class DeferredIdMap implements PartialIdMap {
+
+    // completed by the node import
+    private final CompletableFuture<? extends PartialIdMap> loadedIdMap;
+    // completed by the coordinating relationship importer
+    private final CompletableFuture<PartialIdMap> releasedIdMap;
+
+    DeferredIdMap(CompletableFuture<? extends PartialIdMap> loadedIdMap) {
+        this.loadedIdMap = loadedIdMap;
+        this.releasedIdMap = new CompletableFuture<>();
+    }
+
+    boolean isDone() {
+        return releasedIdMap.isDone();
+    }
+
+    /**
+     * Blocks until the node import has finished.
+     * If the node import failed, the scanner tasks are released with that failure.
+     */
+    void awaitLoaded() {
+        try {
+            loadedIdMap.join();
+        } catch (RuntimeException e) {
+            releasedIdMap.completeExceptionally(e);
+            throw failure(e);
+        }
+    }
+
+    void release() {
+        releasedIdMap.complete(loadedIdMap.join());
+    }
+
+    /**
+     * Blocks until the id map has been released.
+     *
+     * @throws IllegalStateException if the node import failed
+     */
+    PartialIdMap await() {
+        try {
+            return releasedIdMap.join();
+        } catch (RuntimeException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public long toMappedNodeId(long originalNodeId) {
+        return await().toMappedNodeId(originalNodeId);
+    }
+
+    @Override
+    public OptionalLong rootNodeCount() {
+        return await().rootNodeCount();
+    }
+
+    private static IllegalStateException failure(RuntimeException e) {
+        var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return new IllegalStateException("Node import failed before relationships could be mapped.", cause);
+    }
+}
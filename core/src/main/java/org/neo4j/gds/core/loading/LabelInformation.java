@@ -26,6 +26,7 @@ import org.neo4j.gds.api.IdMap;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.function.LongUnaryOperator;
@@ -46,6 +47,13 @@ public interface LabelInformation {
         return MultiLabelInformation.Builder.of(expectedCapacity, labelTokenNodeLabelMapping);
     }
 
+    /**
+     * Creates label information from bit sets that are already indexed by mapped node ids.
+     */
+    static LabelInformation of(Map<NodeLabel, BitSet> labelBitSets) {
+        return MultiLabelInformation.of(labelBitSets);
+    }
+
     boolean isEmpty();
 
     Set<NodeLabel> labelSet();
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.huge.MappedAdjacencyList;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+public final class MappedAdjacencyListBuilder implements AdjacencyListBuilder<byte[], MappedAdjacencyList> {
+
+    private final MappedFile file;
+
+    MappedAdjacencyListBuilder() {
+        this.file = MappedFile.create("gds-adjacency-");
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(file.newLocalAllocator());
+    }
+
+    @Override
+    public Allocator newPositionalAllocator() {
+        return newAllocator();
+    }
+
+    @Override
+    public MappedAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets) {
+        // the lists are written in place, there are no pages that could be reordered
+        return new MappedAdjacencyList(file.finish(), degrees, offsets);
+    }
+
+    static final class Allocator implements AdjacencyListBuilder.Allocator<byte[]> {
+
+        private final MappedFile.LocalAllocator allocator;
+
+        private Allocator(MappedFile.LocalAllocator allocator) {
+            this.allocator = allocator;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public long write(byte[] targets, int length, long address) {
+            return allocator.write(targets, length);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.huge.MappedAdjacencyProperties;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+public final class MappedAdjacencyPropertiesBuilder implements AdjacencyListBuilder<long[], MappedAdjacencyProperties> {
+
+    private final MappedFile file;
+
+    MappedAdjacencyPropertiesBuilder() {
+        this.file = MappedFile.create("gds-properties-");
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(file.newLocalAllocator());
+    }
+
+    @Override
+    public PositionalAllocator newPositionalAllocator() {
+        return new PositionalAllocator(file);
+    }
+
+    @Override
+    public MappedAdjacencyProperties build(HugeIntArray degrees, HugeLongArray offsets) {
+        return new MappedAdjacencyProperties(file.finish(), degrees, offsets);
+    }
+
+    static final class Allocator implements AdjacencyListBuilder.Allocator<long[]> {
+
+        private final MappedFile.LocalAllocator allocator;
+
+        private Allocator(MappedFile.LocalAllocator allocator) {
+            this.allocator = allocator;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public long write(long[] properties, int length, long address) {
+            return allocator.write(properties, length);
+        }
+    }
+
+    static final class PositionalAllocator implements AdjacencyListBuilder.Allocator<long[]> {
+
+        private final MappedFile file;
+
+        private PositionalAllocator(MappedFile file) {
+            this.file = file;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public long write(long[] properties, int length, long address) {
+            long bytes = (long) length * Long.BYTES;
+            file.ensureMapped(address, bytes);
+            var buffer = file.writeView(address);
+            int index = MappedFile.indexInSegment(address);
+            for (int i = 0; i < length; i++) {
+                buffer.putLong(index, properties[i]);
+                index += Long.BYTES;
+            }
+            return address;
+        }
+    }
+}
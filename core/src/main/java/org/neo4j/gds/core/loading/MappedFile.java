@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.huge.MappedAdjacencyList;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A file that is memory-mapped in segments of {@link #SEGMENT_SIZE} bytes.
+ *
+ * Space is reserved by bumping a global position, a reservation never spans more than a single segment.
+ * Reservations that are larger than a segment are placed at the start of a segment and mapped on their own.
+ * An address {@code a} can therefore always be resolved by reading {@code segments[a >>> SEGMENT_SHIFT]}
+ * at index {@code a & SEGMENT_MASK}.
+ *
+ * The file is created as a temporary file, in {@link GdsFeatureToggles#MAPPED_STORE_DIRECTORY} if that is set,
+ * and removed from the file system right after it has been opened. The data stays accessible through the mappings
+ * and the disk space is released once the mappings are unreachable, so no files are left behind when a graph is dropped.
+ */
+final class MappedFile {
+
+    static final int SEGMENT_SHIFT = MappedAdjacencyList.SEGMENT_SHIFT;
+    static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    static final long SEGMENT_MASK = MappedAdjacencyList.SEGMENT_MASK;
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private final FileChannel channel;
+
+    private MappedByteBuffer[] segments;
+    private long position;
+
+    static MappedFile create(String prefix) {
+        var directory = GdsFeatureToggles.MAPPED_STORE_DIRECTORY.get();
+        try {
+            if (directory == null) {
+                return new MappedFile(Files.createTempFile(prefix, ".gds"));
+            }
+            var path = Paths.get(directory);
+            Files.createDirectories(path);
+            return new MappedFile(Files.createTempFile(path, prefix, ".gds"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedFile(Path file) throws IOException {
+        this.channel = FileChannel.open(file, READ, WRITE);
+        this.segments = new MappedByteBuffer[0];
+        this.position = 0L;
+        try {
+            Files.delete(file);
+        } catch (IOException e) {
+            // some platforms do not allow to delete open files
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Reserves {@code bytes} bytes and returns the address of the first reserved byte.
+     */
+    synchronized long reserve(long bytes) {
+        long address = position;
+        long nextSegment = (address | SEGMENT_MASK) + 1;
+
+        if (bytes > SEGMENT_SIZE) {
+            if (bytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot map a single adjacency list of %d bytes, the maximum is %d bytes.",
+                    bytes,
+                    Integer.MAX_VALUE
+                ));
+            }
+            if ((address & SEGMENT_MASK) != 0) {
+                address = nextSegment;
+            }
+            map(address, bytes);
+            position = address + BitUtil.ceilDiv(bytes, SEGMENT_SIZE) * SEGMENT_SIZE;
+            return address;
+        }
+
+        if (address + bytes > nextSegment) {
+            address = nextSegment;
+        }
+        if (segmentIndex(address) >= segments.length || segments[segmentIndex(address)] == null) {
+            map(address & ~SEGMENT_MASK, SEGMENT_SIZE);
+        }
+        position = address + bytes;
+        return address;
+    }
+
+    /**
+     * Makes sure that {@code bytes} bytes starting at {@code address} are mapped.
+     * This is used to write into the same addresses that have been reserved in another {@link MappedFile},
+     * the given address must follow the same layout as an address returned by {@link #reserve(long)}.
+     */
+    synchronized void ensureMapped(long address, long bytes) {
+        int index = segmentIndex(address);
+        if (index < segments.length && segments[index] != null && indexInSegment(address) + bytes <= segments[index].capacity()) {
+            return;
+        }
+        // large reservations start at a segment boundary and are mapped on their own
+        long segmentStart = address & ~SEGMENT_MASK;
+        map(segmentStart, bytes > SEGMENT_SIZE ? bytes : SEGMENT_SIZE);
+        position = Math.max(position, address + bytes);
+    }
+
+    /**
+     * Returns a writable view on the segment that contains the given {@code address}.
+     * The view has its own position and can be used by a single thread.
+     */
+    synchronized ByteBuffer writeView(long address) {
+        return segments[segmentIndex(address)].duplicate().order(BYTE_ORDER);
+    }
+
+    /**
+     * Finishes writing into this file and returns the mapped segments for reading.
+     */
+    synchronized ByteBuffer[] finish() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Arrays.copyOf(segments, segments.length, ByteBuffer[].class);
+    }
+
+    static int segmentIndex(long address) {
+        return (int) (address >>> SEGMENT_SHIFT);
+    }
+
+    static int indexInSegment(long address) {
+        return (int) (address & SEGMENT_MASK);
+    }
+
+    LocalAllocator newLocalAllocator() {
+        return new LocalAllocator(this);
+    }
+
+    private void map(long address, long bytes) {
+        int index = segmentIndex(address);
+        if (index >= segments.length) {
+            segments = Arrays.copyOf(segments, Math.max(index + 1, segments.length * 2));
+        }
+        try {
+            var segment = channel.map(FileChannel.MapMode.READ_WRITE, address, bytes);
+            segment.order(BYTE_ORDER);
+            segments[index] = segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Bump allocator on top of a {@link MappedFile}.
+     * Reserves chunks of {@link BumpAllocator#PAGE_SIZE} bytes from the file and hands out space from the current chunk.
+     * Data that does not fit into a single chunk gets a reservation of its own.
+     */
+    static final class LocalAllocator {
+
+        private static final long CHUNK_SIZE = BumpAllocator.PAGE_SIZE;
+
+        private final MappedFile file;
+
+        private ByteBuffer chunk;
+        private long top;
+        private long end;
+
+        private ByteBuffer buffer;
+        private long address;
+
+        private LocalAllocator(MappedFile file) {
+            this.file = file;
+            this.top = 0L;
+            this.end = 0L;
+        }
+
+        long write(byte[] data, int length) {
+            reserve(length);
+            buffer.position(indexInSegment(address));
+            buffer.put(data, 0, length);
+            return address;
+        }
+
+        long write(long[] data, int length) {
+            reserve((long) length * Long.BYTES);
+            var buffer = this.buffer;
+            int index = indexInSegment(address);
+            for (int i = 0; i < length; i++) {
+                buffer.putLong(index, data[i]);
+                index += Long.BYTES;
+            }
+            return address;
+        }
+
+        private void reserve(long bytes) {
+            if (bytes > CHUNK_SIZE) {
+                address = file.reserve(bytes);
+                buffer = file.writeView(address);
+                return;
+            }
+            if (bytes > end - top) {
+                top = file.reserve(CHUNK_SIZE);
+                end = top + CHUNK_SIZE;
+                chunk = file.writeView(top);
+            }
+            address = top;
+            buffer = chunk;
+            top += bytes;
+        }
+    }
+}
@@ -51,6 +51,10 @@ public final class MultiLabelInformation implements LabelInformation {
         this.labelInformation = labelInformation;
     }
 
+    static MultiLabelInformation of(Map<NodeLabel, BitSet> labelInformation) {
+        return new MultiLabelInformation(labelInformation);
+    }
+
     @Override
     public boolean isEmpty() {
         return labelInformation.isEmpty();
@@ -150,6 +154,10 @@ public final class MultiLabelInformation implements LabelInformation {
         if (labels.contains(NodeLabel.ALL_NODES)) {
             return new BatchNodeIterable.IdIterator(nodeCount);
         }
+        // A single label can be iterated without copying its bit set.
+        if (labels.size() == 1) {
+            return new BatchNodeIterable.BitSetIdIterator(labelInformation.get(labels.iterator().next()));
+        }
         return new BatchNodeIterable.BitSetIdIterator(unionBitSet(labels, nodeCount));
     }
 
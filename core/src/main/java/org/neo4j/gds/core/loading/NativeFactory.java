@@ -28,6 +28,8 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.CSRGraphStoreFactory;
 import org.neo4j.gds.api.GraphLoaderContext;
 import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableGraphLoaderContext;
+import org.neo4j.gds.api.PartialIdMap;
 import org.neo4j.gds.api.schema.GraphSchema;
 import org.neo4j.gds.compat.GraphDatabaseApiProxy;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
@@ -35,6 +37,7 @@ import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.GraphDimensionsStoreReader;
 import org.neo4j.gds.core.IdMapBehaviorServiceProvider;
 import org.neo4j.gds.core.compress.AdjacencyListBehavior;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -46,9 +49,13 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
+import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.internal.id.IdGeneratorFactory;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
 
 import static org.neo4j.gds.core.GraphDimensionsValidation.validate;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -243,9 +250,9 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         int concurrency = graphProjectConfig.readConcurrency();
         try {
             progressTracker.beginSubTask();
-            IdMapAndProperties nodes = loadNodes(concurrency);
-            RelationshipsAndProperties relationships = loadRelationships(nodes.idMap(), concurrency);
-            CSRGraphStore graphStore = createGraphStore(nodes, relationships);
+            CSRGraphStore graphStore = storeConfig.pipelinedLoading()
+                ? loadPipelined(concurrency)
+                : loadSequential(concurrency);
 
             logLoadingSummary(graphStore);
 
@@ -255,6 +262,67 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         }
     }
 
+    private CSRGraphStore loadSequential(int concurrency) {
+        IdMapAndProperties nodes = loadNodes(concurrency);
+        RelationshipsAndProperties relationships = loadRelationships(nodes.idMap(), concurrency);
+        return createGraphStore(nodes, relationships);
+    }
+
+    /**
+     * Scans the relationship store while the nodes are being loaded.
+     * Relationships are buffered with their original node ids and are
+     * mapped and compressed once the id map has been built.
+     */
+    private CSRGraphStore loadPipelined(int concurrency) {
+        var loadedIdMap = new CompletableFuture<IdMap>();
+        var deferredIdMap = new DeferredIdMap(loadedIdMap);
+
+        // Scanner tasks that finish scanning before the id map is built wait for it. They run in a dedicated pool,
+        // so that they cannot starve the node import of threads from the shared pool.
+        var relationshipExecutor = Executors.newFixedThreadPool(concurrency + 1, Pools::newThread);
+        try {
+            var relationshipLoadingContext = ImmutableGraphLoaderContext
+                .builder()
+                .from(loadingContext)
+                .executor(relationshipExecutor)
+                .build();
+            var scanningRelationshipsImporter = relationshipsImporter(
+                deferredIdMap,
+                relationshipLoadingContext,
+                concurrency
+            );
+            var pendingRelationships = CompletableFuture.supplyAsync(
+                scanningRelationshipsImporter::call,
+                relationshipExecutor
+            );
+
+            IdMapAndProperties nodes;
+            try {
+                nodes = loadNodes(concurrency);
+            } catch (RuntimeException e) {
+                loadedIdMap.completeExceptionally(e);
+                pendingRelationships.exceptionally(ignore -> null).join();
+                throw e;
+            }
+
+            RelationshipsAndProperties relationships;
+            try {
+                progressTracker.beginSubTask();
+                loadedIdMap.complete(nodes.idMap());
+                relationships = pendingRelationships.join();
+            } catch (CompletionException e) {
+                ExceptionUtil.throwIfUnchecked(e.getCause());
+                throw e;
+            } finally {
+                progressTracker.endSubTask();
+            }
+
+            return createGraphStore(nodes, relationships);
+        } finally {
+            relationshipExecutor.shutdown();
+        }
+    }
+
     private IdMapAndProperties loadNodes(int concurrency) {
         var scanningNodesImporter = new ScanningNodesImporterBuilder()
             .concurrency(concurrency)
@@ -273,14 +341,7 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
     }
 
     private RelationshipsAndProperties loadRelationships(IdMap idMap, int concurrency) {
-        var scanningRelationshipsImporter = new ScanningRelationshipsImporterBuilder()
-            .idMap(idMap)
-            .graphProjectConfig(graphProjectConfig)
-            .loadingContext(loadingContext)
-            .dimensions(dimensions)
-            .progressTracker(progressTracker)
-            .concurrency(concurrency)
-            .build();
+        var scanningRelationshipsImporter = relationshipsImporter(idMap, loadingContext, concurrency);
 
         try {
             progressTracker.beginSubTask();
@@ -289,4 +350,19 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
             progressTracker.endSubTask();
         }
     }
+
+    private ScanningRelationshipsImporter relationshipsImporter(
+        PartialIdMap idMap,
+        GraphLoaderContext loadingContext,
+        int concurrency
+    ) {
+        return new ScanningRelationshipsImporterBuilder()
+            .idMap(idMap)
+            .graphProjectConfig(graphProjectConfig)
+            .loadingContext(loadingContext)
+            .dimensions(dimensions)
+            .progressTracker(progressTracker)
+            .concurrency(concurrency)
+            .build();
+    }
 }
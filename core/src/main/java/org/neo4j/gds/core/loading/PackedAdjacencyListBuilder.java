@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<long[], PackedAdjacencyList> {
+
+    private final BumpAllocator<long[]> builder;
+
+    PackedAdjacencyListBuilder() {
+        this.builder = new BumpAllocator<>(UncompressedAdjacencyListBuilder.Factory.INSTANCE);
+    }
+
+    @Override
+    public AdjacencyListBuilder.Allocator<long[]> newAllocator() {
+        return new UncompressedAdjacencyListBuilder.Allocator(this.builder.newLocalAllocator());
+    }
+
+    @Override
+    public AdjacencyListBuilder.Allocator<long[]> newPositionalAllocator() {
+        return newAllocator();
+    }
+
+    @Override
+    public PackedAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets) {
+        var intoPages = builder.intoPages();
+        reorder(intoPages, offsets, degrees);
+        return new PackedAdjacencyList(intoPages, degrees, offsets);
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 
@@ -37,13 +38,30 @@ final class RecordScannerTaskRunner {
     }
 
     ImportResult runImport(ExecutorService executorService) {
+        return runImport(executorService, null);
+    }
+
+    /**
+     * Submits the scanner tasks and runs {@code whileScanning} in the calling thread
+     * before waiting for the tasks to finish.
+     */
+    ImportResult runImport(ExecutorService executorService, @Nullable Runnable whileScanning) {
         Collection<RecordScannerTask> tasks = new ArrayList<>(threadCount);
         for (int i = 0; i < threadCount; i++) {
             tasks.add(recordScannerTaskFactory.create(i));
         }
 
         long start = System.nanoTime();
-        ParallelUtil.run(tasks, executorService);
+        if (whileScanning == null) {
+            ParallelUtil.run(tasks, executorService);
+        } else {
+            var futures = ParallelUtil.run(tasks, false, executorService, null);
+            try {
+                whileScanning.run();
+            } finally {
+                ParallelUtil.awaitTermination(futures);
+            }
+        }
 
         ParallelUtil.run(recordScannerTaskFactory.adjacencyListBuilderTasks(), executorService);
         long elapsed = System.nanoTime() - start;
@@ -19,9 +19,14 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.PartialIdMap;
 import org.neo4j.gds.compat.PropertyReference;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+
 import static org.neo4j.gds.utils.ExceptionUtil.validateSourceNodeIsLoaded;
 import static org.neo4j.gds.utils.ExceptionUtil.validateTargetNodeIsLoaded;
 import static org.neo4j.token.api.TokenConstants.ANY_RELATIONSHIP_TYPE;
@@ -34,7 +39,11 @@ public final class RelationshipsBatchBuffer extends RecordsBatchBuffer<Relations
     // property references are stored individually.
     public static final int ENTRIES_PER_RELATIONSHIP = 2;
 
-    private final PartialIdMap idMap;
+    private PartialIdMap idMap;
+    // Original node ids are buffered as long as the id map is not yet available.
+    private boolean deferIdMapping;
+    // Batches of relationships that were scanned before the id map was available.
+    private @Nullable Queue<SpilledBatch> spilledBatches;
     private final int type;
     private final boolean throwOnUnMappedNodeIds;
 
@@ -62,6 +71,7 @@ public final class RelationshipsBatchBuffer extends RecordsBatchBuffer<Relations
     ) {
         super(Math.multiplyExact(ENTRIES_PER_RELATIONSHIP, capacity));
         this.idMap = idMap;
+        this.deferIdMapping = idMap instanceof DeferredIdMap && !((DeferredIdMap) idMap).isDone();
         this.type = type;
         this.throwOnUnMappedNodeIds = throwOnUnMappedNodeIds;
         this.relationshipReferences = new long[capacity];
@@ -75,6 +85,16 @@ public final class RelationshipsBatchBuffer extends RecordsBatchBuffer<Relations
     @Override
     public boolean offer(final RelationshipReference record) {
         if ((type == ANY_RELATIONSHIP_TYPE) || (type == record.typeTokenId())) {
+            if (deferIdMapping) {
+                add(
+                    record.sourceNodeReference(),
+                    record.targetNodeReference(),
+                    record.relationshipId(),
+                    record.propertiesReference()
+                );
+                return true;
+            }
+
             long source = idMap.toMappedNodeId(record.sourceNodeReference());
             long target = idMap.toMappedNodeId(record.targetNodeReference());
 
@@ -90,6 +110,104 @@ public final class RelationshipsBatchBuffer extends RecordsBatchBuffer<Relations
         return true;
     }
 
+    /**
+     * True, if the buffer holds original node ids because the id map has not been released yet.
+     */
+    boolean defersIdMapping() {
+        return deferIdMapping;
+    }
+
+    /**
+     * True, if the buffered original node ids can be mapped without blocking.
+     */
+    boolean canMapNodeIds() {
+        return !deferIdMapping || ((DeferredIdMap) idMap).isDone();
+    }
+
+    /**
+     * Moves the buffered relationships with their original node ids and property
+     * references into growable storage and empties the buffer, so that the store
+     * scan can continue while the id map is being built. The property values are
+     * read when the relationships are imported, within the same transaction.
+     */
+    void spill() {
+        assert deferIdMapping : "Only relationships with unmapped node ids can be spilled";
+        int length = this.length;
+        if (length == 0) {
+            return;
+        }
+        if (spilledBatches == null) {
+            spilledBatches = new ArrayDeque<>();
+        }
+        int relationshipCount = length / ENTRIES_PER_RELATIONSHIP;
+        spilledBatches.add(new SpilledBatch(
+            Arrays.copyOf(buffer, length),
+            Arrays.copyOf(relationshipReferences, relationshipCount),
+            Arrays.copyOf(propertyReferences, relationshipCount)
+        ));
+        reset();
+    }
+
+    /**
+     * Maps the buffered original node ids, if the buffer has been filled before
+     * the id map was available. Blocks until the id map is completed.
+     * Relationships with unmapped nodes are either rejected or dropped.
+     * Afterwards, the buffer maps node ids as they are offered.
+     */
+    void mapNodeIds() {
+        if (!deferIdMapping) {
+            return;
+        }
+
+        this.idMap = ((DeferredIdMap) this.idMap).await();
+        this.deferIdMapping = false;
+
+        // The mapped relationships are written at or before the position they are read from.
+        int length = this.length;
+        reset();
+        addMapped(buffer, relationshipReferences, propertyReferences, length);
+    }
+
+    /**
+     * Replaces the content of the buffer with the next spilled batch, mapping its node ids.
+     * Must be called after {@link #mapNodeIds()}.
+     *
+     * @return false, if there are no more spilled batches
+     */
+    boolean unspill() {
+        assert !deferIdMapping : "Node ids must be mapped before spilled relationships are imported";
+        reset();
+        var batch = spilledBatches == null ? null : spilledBatches.poll();
+        if (batch == null) {
+            return false;
+        }
+        addMapped(batch.nodeIds, batch.relationshipReferences, batch.propertyReferences, batch.nodeIds.length);
+        return true;
+    }
+
+    private void addMapped(
+        long[] nodeIds,
+        long[] relationshipReferences,
+        PropertyReference[] propertyReferences,
+        int length
+    ) {
+        for (int position = 0; position < length; position += 2) {
+            long sourceReference = nodeIds[position];
+            long targetReference = nodeIds[1 + position];
+            long source = idMap.toMappedNodeId(sourceReference);
+            long target = idMap.toMappedNodeId(targetReference);
+
+            if (throwOnUnMappedNodeIds) {
+                validateSourceNodeIsLoaded(source, sourceReference);
+                validateTargetNodeIsLoaded(target, targetReference);
+            } else if (source == -1 || target == -1) {
+                continue;
+            }
+
+            add(source, target, relationshipReferences[position >> 1], propertyReferences[position >> 1]);
+        }
+    }
+
     public void add(long sourceId, long targetId) {
         int position = this.length;
         long[] buffer = this.buffer;
@@ -151,4 +269,16 @@ public final class RelationshipsBatchBuffer extends RecordsBatchBuffer<Relations
     public int[] spareInts() {
         return histogram;
     }
+
+    private static final class SpilledBatch {
+        private final long[] nodeIds;
+        private final long[] relationshipReferences;
+        private final PropertyReference[] propertyReferences;
+
+        private SpilledBatch(long[] nodeIds, long[] relationshipReferences, PropertyReference[] propertyReferences) {
+            this.nodeIds = nodeIds;
+            this.relationshipReferences = relationshipReferences;
+            this.propertyReferences = propertyReferences;
+        }
+    }
 }
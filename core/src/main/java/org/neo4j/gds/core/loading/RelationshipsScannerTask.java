@@ -20,7 +20,7 @@
 package org.neo4j.gds.core.loading;
 
 import org.neo4j.gds.api.GraphLoaderContext;
-import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.PartialIdMap;
 import org.neo4j.gds.core.utils.RawValues;
 import org.neo4j.gds.core.utils.StatementAction;
 import org.neo4j.gds.core.utils.TerminationFlag;
@@ -37,7 +37,7 @@ public final class RelationshipsScannerTask extends StatementAction implements R
     public static RecordScannerTaskRunner.RecordScannerTaskFactory factory(
         GraphLoaderContext loadingContext,
         ProgressTracker progressTracker,
-        IdMap idMap,
+        PartialIdMap idMap,
         StoreScanner<RelationshipReference> scanner,
         Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters
     ) {
@@ -54,7 +54,7 @@ public final class RelationshipsScannerTask extends StatementAction implements R
     static final class Factory implements RecordScannerTaskRunner.RecordScannerTaskFactory {
         private final TransactionContext tx;
         private final ProgressTracker progressTracker;
-        private final IdMap idMap;
+        private final PartialIdMap idMap;
         private final StoreScanner<RelationshipReference> scanner;
         private final Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters;
         private final TerminationFlag terminationFlag;
@@ -62,7 +62,7 @@ public final class RelationshipsScannerTask extends StatementAction implements R
         Factory(
             TransactionContext tx,
             ProgressTracker progressTracker,
-            IdMap idMap,
+            PartialIdMap idMap,
             StoreScanner<RelationshipReference> scanner,
             Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters,
             TerminationFlag terminationFlag
@@ -98,7 +98,7 @@ public final class RelationshipsScannerTask extends StatementAction implements R
 
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
-    private final IdMap idMap;
+    private final PartialIdMap idMap;
     private final StoreScanner<RelationshipReference> scanner;
     private final int taskIndex;
     private final Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters;
@@ -110,7 +110,7 @@ public final class RelationshipsScannerTask extends StatementAction implements R
         TransactionContext tx,
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker,
-        IdMap idMap,
+        PartialIdMap idMap,
         StoreScanner<RelationshipReference> scanner,
         int taskIndex,
         Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters
@@ -142,26 +142,56 @@ public final class RelationshipsScannerTask extends StatementAction implements R
                 .map(ThreadLocalSingleTypeRelationshipImporter::buffer)
                 .toArray(RelationshipsBatchBuffer[]::new));
 
-            long allImportedRels = 0L;
-            long allImportedWeights = 0L;
             boolean scanNextBatch = true;
             while (compositeBuffer.scan(cursor, scanNextBatch).requiresFlush()) {
                 terminationFlag.assertRunning();
-                long imported = 0L;
                 for (ThreadLocalSingleTypeRelationshipImporter importer : importers) {
-                    imported += importer.importRelationships();
+                    var buffer = importer.buffer();
+                    if (!buffer.canMapNodeIds()) {
+                        // keep scanning while the nodes are still being loaded
+                        buffer.spill();
+                        continue;
+                    }
+                    importBuffered(importer);
+                }
+            }
+
+            // The scan finished before the id map was available, wait for it to import the spilled relationships.
+            for (ThreadLocalSingleTypeRelationshipImporter importer : importers) {
+                if (importer.buffer().defersIdMapping()) {
+                    importBuffered(importer);
                 }
-                int importedRels = RawValues.getHead(imported);
-                int importedWeights = RawValues.getTail(imported);
-                progressTracker.logProgress(importedRels);
-                allImportedRels += importedRels;
-                allImportedWeights += importedWeights;
             }
-            relationshipsImported = allImportedRels;
-            weightsImported = allImportedWeights;
         }
     }
 
+    /**
+     * Maps buffered original node ids, if necessary, and imports the buffer
+     * followed by all relationships that have been spilled before.
+     */
+    private void importBuffered(ThreadLocalSingleTypeRelationshipImporter importer) {
+        var buffer = importer.buffer();
+        if (!buffer.defersIdMapping()) {
+            importBatch(importer);
+            return;
+        }
+        buffer.mapNodeIds();
+        importBatch(importer);
+        while (buffer.unspill()) {
+            terminationFlag.assertRunning();
+            importBatch(importer);
+        }
+    }
+
+    private void importBatch(ThreadLocalSingleTypeRelationshipImporter importer) {
+        long imported = importer.importRelationships();
+        int importedRels = RawValues.getHead(imported);
+        int importedWeights = RawValues.getTail(imported);
+        progressTracker.logProgress(importedRels);
+        relationshipsImported += importedRels;
+        weightsImported += importedWeights;
+    }
+
     @Override
     public long propertiesImported() {
         return weightsImported;
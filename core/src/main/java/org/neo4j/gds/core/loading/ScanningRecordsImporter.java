@@ -68,14 +68,21 @@ public abstract class ScanningRecordsImporter<Record, T> {
             StoreScanner.DEFAULT_PREFETCH_SIZE,
             transaction
         )) {
-            progressTracker.beginSubTask("Store Scan");
-
-            progressTracker.logDebug(formatWithLocale("Start using %s", storeScanner.getClass().getSimpleName()));
-
             var taskFactory = recordScannerTaskFactory(nodeCount, sizing, storeScanner);
             var taskRunner = new RecordScannerTaskRunner(threadCount, taskFactory);
 
-            var importResult = taskRunner.runImport(executorService);
+            Runnable startStoreScan = () -> {
+                beginStoreScan();
+                progressTracker.logDebug(formatWithLocale("Start using %s", storeScanner.getClass().getSimpleName()));
+            };
+
+            RecordScannerTaskRunner.ImportResult importResult;
+            if (scansAhead()) {
+                importResult = taskRunner.runImport(executorService, startStoreScan);
+            } else {
+                startStoreScan.run();
+                importResult = taskRunner.runImport(executorService);
+            }
 
             long requiredBytes = storeScanner.storeSize(dimensions);
             long recordsImported = importResult.importedRecords();
@@ -113,6 +120,22 @@ public abstract class ScanningRecordsImporter<Record, T> {
         return build();
     }
 
+    /**
+     * Indicates that the scanner tasks are started before {@link #beginStoreScan()} is called.
+     * This allows importers to scan the store while their inputs are still being computed.
+     */
+    protected boolean scansAhead() {
+        return false;
+    }
+
+    /**
+     * Starts tracking the progress of the store scan.
+     * Importers that scan ahead wait for their inputs here.
+     */
+    protected void beginStoreScan() {
+        progressTracker.beginSubTask("Store Scan");
+    }
+
     public abstract RecordScannerTaskRunner.RecordScannerTaskFactory recordScannerTaskFactory(
         long nodeCount,
         ImportSizing sizing,
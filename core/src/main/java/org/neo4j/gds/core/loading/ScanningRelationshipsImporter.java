@@ -21,7 +21,7 @@ package org.neo4j.gds.core.loading;
 
 import org.immutables.builder.Builder;
 import org.neo4j.gds.api.GraphLoaderContext;
-import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.PartialIdMap;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.loading.SingleTypeRelationshipImporter.SingleTypeRelationshipImportContext;
@@ -36,7 +36,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
     private final GraphProjectFromStoreConfig graphProjectConfig;
     private final GraphLoaderContext loadingContext;
 
-    private final IdMap idMap;
+    private final PartialIdMap idMap;
     private List<SingleTypeRelationshipImportContext> importContexts;
 
     @Builder.Factory
@@ -45,7 +45,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
         GraphLoaderContext loadingContext,
         GraphDimensions dimensions,
         ProgressTracker progressTracker,
-        IdMap idMap,
+        PartialIdMap idMap,
         int concurrency
     ) {
         return new ScanningRelationshipsImporter(
@@ -63,7 +63,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
         GraphLoaderContext loadingContext,
         GraphDimensions dimensions,
         ProgressTracker progressTracker,
-        IdMap idMap,
+        PartialIdMap idMap,
         int concurrency
     ) {
         super(
@@ -127,6 +127,26 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
         );
     }
 
+    @Override
+    protected boolean scansAhead() {
+        return idMap instanceof DeferredIdMap;
+    }
+
+    @Override
+    protected void beginStoreScan() {
+        if (scansAhead()) {
+            // The scanner tasks only report progress once they can map
+            // their buffered relationships, which we allow after the
+            // store scan has started to be tracked.
+            var deferredIdMap = (DeferredIdMap) idMap;
+            deferredIdMap.awaitLoaded();
+            super.beginStoreScan();
+            deferredIdMap.release();
+        } else {
+            super.beginStoreScan();
+        }
+    }
+
     @Override
     public RelationshipsAndProperties build() {
         return RelationshipsAndProperties.of(importContexts);
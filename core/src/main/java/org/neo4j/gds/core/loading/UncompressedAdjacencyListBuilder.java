@@ -50,7 +50,7 @@ public final class UncompressedAdjacencyListBuilder implements AdjacencyListBuil
         return new UncompressedAdjacencyList(intoPages, degrees, offsets);
     }
 
-    private enum Factory implements BumpAllocator.Factory<long[]> {
+    enum Factory implements BumpAllocator.Factory<long[]> {
         INSTANCE;
 
         @Override
@@ -78,7 +78,7 @@ public final class UncompressedAdjacencyListBuilder implements AdjacencyListBuil
 
         private final BumpAllocator.LocalAllocator<long[]> allocator;
 
-        private Allocator(BumpAllocator.LocalAllocator<long[]> allocator) {
+        Allocator(BumpAllocator.LocalAllocator<long[]> allocator) {
             this.allocator = allocator;
         }
 
@@ -96,7 +96,7 @@ public final class UncompressedAdjacencyListBuilder implements AdjacencyListBuil
 
         private final BumpAllocator.LocalPositionalAllocator<long[]> allocator;
 
-        private PositionalAllocator(BumpAllocator.LocalPositionalAllocator<long[]> allocator) {
+        PositionalAllocator(BumpAllocator.LocalPositionalAllocator<long[]> allocator) {
             this.allocator = allocator;
         }
 
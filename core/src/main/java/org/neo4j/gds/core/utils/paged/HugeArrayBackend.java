@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+/**
+ * Storage backend of a {@link HugeLongArray}, {@link HugeDoubleArray} or {@link HugeIntArray}.
+ * <p>
+ * Heap arrays are paged into primitive Java arrays and reclaimed by the garbage collector.
+ * Off-heap arrays are a single block of native memory that is not scanned by the garbage collector
+ * and that is freed as soon as {@link HugeArray#release()} is called.
+ * Dropping an off-heap array without releasing it frees the memory eventually, once the array becomes unreachable.
+ * <p>
+ * Cursors over off-heap arrays see copies of the data, writes to {@link HugeCursor#array} are not
+ * propagated back into the array.
+ */
+public enum HugeArrayBackend {
+    HEAP,
+    OFF_HEAP;
+
+    /**
+     * The backend to use for algorithm scratch space, as configured by {@link GdsFeatureToggles#USE_OFF_HEAP_ARRAYS}.
+     */
+    public static HugeArrayBackend configured() {
+        return GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled() ? OFF_HEAP : HEAP;
+    }
+}
@@ -143,4 +143,13 @@ public final class HugeAtomicBitSet {
     public void clear(long index) {
         HugeAtomicBitSetOps.clear(bits, numBits, index);
     }
+
+    /**
+     * Destroys the bit set and releases the underlying words.
+     *
+     * @return the amount of memory freed, in bytes.
+     */
+    public long release() {
+        return bits.release();
+    }
 }
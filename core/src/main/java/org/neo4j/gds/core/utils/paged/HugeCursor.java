@@ -21,6 +21,8 @@ package org.neo4j.gds.core.utils.paged;
 
 import org.neo4j.gds.collections.PageUtil;
 
+import java.util.function.IntFunction;
+
 import static java.lang.reflect.Array.getLength;
 import static org.neo4j.gds.core.utils.paged.HugeArrays.PAGE_SHIFT;
 import static org.neo4j.gds.core.utils.paged.HugeArrays.PAGE_SIZE;
@@ -201,4 +203,80 @@ public abstract class HugeCursor<Array> implements AutoCloseable {
             pageIndex = -1;
         }
     }
+
+    /**
+     * Cursor over data that is not stored in Java arrays, such as off-heap huge arrays.
+     * Pages are laid out exactly as for a {@link PagedCursor}, but each page is copied
+     * into a single reused buffer when the cursor moves to it. The buffer is allocated on the first call to {@link #next()}.
+     * Writes to {@link #array} are not propagated back into the underlying data.
+     */
+    static final class CopyingCursor<Array> extends HugeCursor<Array> {
+
+        interface PageReader<Array> {
+            /**
+             * Copies {@code length} values starting at the global index {@code index} into {@code buffer[offset]}.
+             */
+            void read(long index, Array buffer, int offset, int length);
+        }
+
+        private final IntFunction<Array> bufferFactory;
+        private final PageReader<Array> reader;
+        private final long capacity;
+        private int pageIndex;
+        private int fromPage;
+        private int maxPage;
+        private long end;
+
+        CopyingCursor(long capacity, IntFunction<Array> bufferFactory, PageReader<Array> reader) {
+            super();
+            this.capacity = capacity;
+            this.bufferFactory = bufferFactory;
+            this.reader = reader;
+        }
+
+        @Override
+        void setRange() {
+            setRange(0L, capacity);
+        }
+
+        @Override
+        void setRange(long start, long end) {
+            fromPage = pageIndex(start);
+            maxPage = pageIndex(end - 1L);
+            pageIndex = fromPage - 1;
+            this.end = end;
+            base = (long) fromPage << PAGE_SHIFT;
+            offset = indexInPage(start);
+            limit = fromPage == maxPage ? exclusiveIndexOfPage(end) : PAGE_SIZE;
+        }
+
+        @Override
+        public boolean next() {
+            int current = ++pageIndex;
+            if (current > maxPage) {
+                return false;
+            }
+            if (current != fromPage) {
+                base += PAGE_SIZE;
+                offset = 0;
+                limit = current == maxPage ? exclusiveIndexOfPage(end) : PAGE_SIZE;
+            }
+            if (array == null) {
+                array = bufferFactory.apply((int) Math.min(capacity, PAGE_SIZE));
+            }
+            reader.read(base + offset, array, offset, limit - offset);
+            return true;
+        }
+
+        @Override
+        public void close() {
+            array = null;
+            base = 0L;
+            end = 0L;
+            limit = 0;
+            maxPage = -1;
+            fromPage = -1;
+            pageIndex = -1;
+        }
+    }
 }
@@ -21,11 +21,13 @@ package org.neo4j.gds.core.utils.paged;
 
 import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
 import org.neo4j.gds.core.utils.ArrayUtil;
+import org.neo4j.internal.unsafe.UnsafeUtil;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 import static org.neo4j.gds.core.utils.paged.HugeArrays.PAGE_SHIFT;
 import static org.neo4j.gds.core.utils.paged.HugeArrays.PAGE_SIZE;
@@ -42,6 +44,7 @@ import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
  * <p>
  * It is implemented by paging of smaller double-arrays ({@code double[][]}) to support approx. 32k bn. elements.
  * If the provided size is small enough, an optimized view of a single {@code double[]} might be used.
+ * Arrays created with {@link HugeArrayBackend#OFF_HEAP} are stored in native memory instead, see {@link HugeArrayBackend}.
  *
  * <ul>
  * <li>The array is of a fixed size and cannot grow or shrink dynamically.</li>
@@ -205,6 +208,24 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return PagedHugeDoubleArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size that is stored in the given backend.
+     */
+    public static HugeDoubleArray newArray(long size, HugeArrayBackend backend) {
+        if (backend == HugeArrayBackend.OFF_HEAP) {
+            return OffHeapHugeDoubleArray.of(size);
+        }
+        return newArray(size);
+    }
+
+    public static long memoryEstimation(long size, HugeArrayBackend backend) {
+        if (backend == HugeArrayBackend.OFF_HEAP) {
+            assert size >= 0;
+            return sizeOfInstance(OffHeapHugeDoubleArray.class) + size * Double.BYTES;
+        }
+        return memoryEstimation(size);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -237,6 +258,19 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return SingleHugeDoubleArray.of(size);
     }
 
+    /**
+     * Copies value by value, used when the source and destination are stored in different backends.
+     * Values of {@code dest} beyond {@code length} are reset to {@code 0}.
+     */
+    private static void copyValues(HugeDoubleArray source, HugeDoubleArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0D);
+        }
+    }
+
     private static final class SingleHugeDoubleArray extends HugeDoubleArray {
 
         private static HugeDoubleArray of(long size) {
@@ -312,6 +346,8 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                copyValues(this, dest, length);
             }
         }
 
@@ -463,6 +499,8 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0D);
                 }
+            } else {
+                copyValues(this, dest, length);
             }
         }
 
@@ -495,4 +533,133 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             return Arrays.stream(pages).flatMapToDouble(Arrays::stream);
         }
     }
+
+    private static final class OffHeapHugeDoubleArray extends HugeDoubleArray {
+
+        private static HugeDoubleArray of(long size) {
+            return new OffHeapHugeDoubleArray(size);
+        }
+
+        private final long size;
+        // zero once the memory has been released
+        private long address;
+        private final OffHeapMemory memory;
+
+        private OffHeapHugeDoubleArray(long size) {
+            this.size = size;
+            this.memory = OffHeapMemory.allocate(this, size * Double.BYTES);
+            this.address = memory.address;
+        }
+
+        private long addressOf(long index) {
+            return OffHeapMemory.elementAddress(address, size, index, 3);
+        }
+
+        private static double getDouble(long address) {
+            return Double.longBitsToDouble(UnsafeUtil.getLong(address));
+        }
+
+        private static void putDouble(long address, double value) {
+            UnsafeUtil.putLong(address, Double.doubleToRawLongBits(value));
+        }
+
+        @Override
+        public double get(long index) {
+            return getDouble(addressOf(index));
+        }
+
+        @Override
+        public void set(long index, double value) {
+            putDouble(addressOf(index), value);
+        }
+
+        @Override
+        public void addTo(long index, double value) {
+            long address = addressOf(index);
+            putDouble(address, getDouble(address) + value);
+        }
+
+        @Override
+        public void setAll(LongToDoubleFunction gen) {
+            for (long i = 0; i < size; i++) {
+                putDouble(addressOf(i), gen.applyAsDouble(i));
+            }
+        }
+
+        @Override
+        public void fill(double value) {
+            if (Double.doubleToRawLongBits(value) == 0L) {
+                UnsafeUtil.setMemory(OffHeapMemory.checkedAddress(address), size * Double.BYTES, (byte) 0);
+                return;
+            }
+            for (long i = 0; i < size; i++) {
+                putDouble(addressOf(i), value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeDoubleArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            if (dest instanceof OffHeapHugeDoubleArray) {
+                OffHeapHugeDoubleArray dst = (OffHeapHugeDoubleArray) dest;
+                UnsafeUtil.copyMemory(
+                    OffHeapMemory.checkedAddress(address),
+                    OffHeapMemory.checkedAddress(dst.address),
+                    length * Double.BYTES
+                );
+                UnsafeUtil.setMemory(dst.address + length * Double.BYTES, (dst.size - length) * Double.BYTES, (byte) 0);
+            } else {
+                copyValues(this, dest, length);
+            }
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(double[] source, long sliceStart, long sliceEnd) {
+            // validates the slice, values are written directly instead of through the copying cursor
+            initCursor(newCursor(), sliceStart, sliceEnd).close();
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            for (int i = 0; i < length; i++) {
+                putDouble(addressOf(sliceStart + i), source[i]);
+            }
+            return length;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return size * Double.BYTES;
+        }
+
+        @Override
+        public long release() {
+            // later accesses fail instead of touching freed memory
+            address = 0L;
+            return memory.free();
+        }
+
+        @Override
+        public HugeCursor<double[]> newCursor() {
+            return new HugeCursor.CopyingCursor<>(size, double[]::new, this::read);
+        }
+
+        private void read(long index, double[] buffer, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                buffer[offset + i] = getDouble(addressOf(index + i));
+            }
+        }
+
+        @Override
+        public DoubleStream stream() {
+            return LongStream.range(0, size).mapToDouble(this::get);
+        }
+    }
 }
@@ -21,6 +21,7 @@ package org.neo4j.gds.core.utils.paged;
 
 import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
 import org.neo4j.gds.core.utils.ArrayUtil;
+import org.neo4j.internal.unsafe.UnsafeUtil;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
@@ -41,6 +42,7 @@ import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
  * <p>
  * It is implemented by paging of smaller int-arrays ({@code int[][]}) to support approx. 32k bn. elements.
  * If the provided size is small enough, an optimized view of a single {@code int[]} might be used.
+ * Arrays created with {@link HugeArrayBackend#OFF_HEAP} are stored in native memory instead, see {@link HugeArrayBackend}.
  *
  * <ul>
  * <li>The array is of a fixed size and cannot grow or shrink dynamically.</li>
@@ -221,10 +223,28 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
         return PagedHugeIntArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size that is stored in the given backend.
+     */
+    public static HugeIntArray newArray(long size, HugeArrayBackend backend) {
+        if (backend == HugeArrayBackend.OFF_HEAP) {
+            return OffHeapHugeIntArray.of(size);
+        }
+        return newArray(size);
+    }
+
     public static HugeIntArray of(final int... values) {
         return new HugeIntArray.SingleHugeIntArray(values.length, values);
     }
 
+    public static long memoryEstimation(long size, HugeArrayBackend backend) {
+        if (backend == HugeArrayBackend.OFF_HEAP) {
+            assert size >= 0;
+            return sizeOfInstance(OffHeapHugeIntArray.class) + size * Integer.BYTES;
+        }
+        return memoryEstimation(size);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -253,6 +273,19 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
         return SingleHugeIntArray.of(size);
     }
 
+    /**
+     * Copies value by value, used when the source and destination are stored in different backends.
+     * Values of {@code dest} beyond {@code length} are reset to {@code 0}.
+     */
+    private static void copyValues(HugeIntArray source, HugeIntArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0);
+        }
+    }
+
     private static final class SingleHugeIntArray extends HugeIntArray {
 
         private static HugeIntArray of(long size) {
@@ -349,6 +382,8 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                copyValues(this, dest, length);
             }
         }
 
@@ -521,6 +556,8 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0);
                 }
+            } else {
+                copyValues(this, dest, length);
             }
         }
 
@@ -548,4 +585,142 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             return new HugeCursor.PagedCursor<>(size, pages);
         }
     }
+
+    private static final class OffHeapHugeIntArray extends HugeIntArray {
+
+        private static HugeIntArray of(long size) {
+            return new OffHeapHugeIntArray(size);
+        }
+
+        private final long size;
+        // zero once the memory has been released
+        private long address;
+        private final OffHeapMemory memory;
+
+        private OffHeapHugeIntArray(long size) {
+            this.size = size;
+            this.memory = OffHeapMemory.allocate(this, size * Integer.BYTES);
+            this.address = memory.address;
+        }
+
+        private long addressOf(long index) {
+            return OffHeapMemory.elementAddress(address, size, index, 2);
+        }
+
+        @Override
+        public int get(long index) {
+            return UnsafeUtil.getInt(addressOf(index));
+        }
+
+        @Override
+        public int getAndAdd(long index, int delta) {
+            long address = addressOf(index);
+            int value = UnsafeUtil.getInt(address);
+            UnsafeUtil.putInt(address, value + delta);
+            return value;
+        }
+
+        @Override
+        public void set(long index, int value) {
+            UnsafeUtil.putInt(addressOf(index), value);
+        }
+
+        @Override
+        public void or(long index, final int value) {
+            long address = addressOf(index);
+            UnsafeUtil.putInt(address, UnsafeUtil.getInt(address) | value);
+        }
+
+        @Override
+        public int and(long index, final int value) {
+            long address = addressOf(index);
+            int newValue = UnsafeUtil.getInt(address) & value;
+            UnsafeUtil.putInt(address, newValue);
+            return newValue;
+        }
+
+        @Override
+        public void addTo(long index, int value) {
+            long address = addressOf(index);
+            UnsafeUtil.putInt(address, UnsafeUtil.getInt(address) + value);
+        }
+
+        @Override
+        public void setAll(LongToIntFunction gen) {
+            for (long i = 0; i < size; i++) {
+                UnsafeUtil.putInt(addressOf(i), gen.applyAsInt(i));
+            }
+        }
+
+        @Override
+        public void fill(int value) {
+            if (value == 0) {
+                UnsafeUtil.setMemory(OffHeapMemory.checkedAddress(address), size * Integer.BYTES, (byte) 0);
+                return;
+            }
+            for (long i = 0; i < size; i++) {
+                UnsafeUtil.putInt(addressOf(i), value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeIntArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            if (dest instanceof OffHeapHugeIntArray) {
+                OffHeapHugeIntArray dst = (OffHeapHugeIntArray) dest;
+                UnsafeUtil.copyMemory(
+                    OffHeapMemory.checkedAddress(address),
+                    OffHeapMemory.checkedAddress(dst.address),
+                    length * Integer.BYTES
+                );
+                UnsafeUtil.setMemory(dst.address + length * Integer.BYTES, (dst.size - length) * Integer.BYTES, (byte) 0);
+            } else {
+                copyValues(this, dest, length);
+            }
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(int[] source, long sliceStart, long sliceEnd) {
+            // validates the slice, values are written directly instead of through the copying cursor
+            initCursor(newCursor(), sliceStart, sliceEnd).close();
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            for (int i = 0; i < length; i++) {
+                UnsafeUtil.putInt(addressOf(sliceStart + i), source[i]);
+            }
+            return length;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return size * Integer.BYTES;
+        }
+
+        @Override
+        public long release() {
+            // later accesses fail instead of touching freed memory
+            address = 0L;
+            return memory.free();
+        }
+
+        @Override
+        public HugeCursor<int[]> newCursor() {
+            return new HugeCursor.CopyingCursor<>(size, int[]::new, this::read);
+        }
+
+        private void read(long index, int[] buffer, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                buffer[offset + i] = UnsafeUtil.getInt(addressOf(index + i));
+            }
+        }
+    }
 }
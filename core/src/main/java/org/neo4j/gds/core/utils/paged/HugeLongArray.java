@@ -23,6 +23,7 @@ import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
 import org.neo4j.gds.collections.PageUtil;
 import org.neo4j.gds.core.utils.ArrayUtil;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.internal.unsafe.UnsafeUtil;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
@@ -35,6 +36,7 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
  * <p>
  * It is implemented by paging of smaller long-arrays ({@code long[][]}) to support approx. 32k bn. elements.
  * If the provided size is small enough, an optimized view of a single {@code long[]} might be used.
+ * Arrays created with {@link HugeArrayBackend#OFF_HEAP} are stored in native memory instead, see {@link HugeArrayBackend}.
  *
  * <ul>
  * <li>The array is of a fixed size and cannot grow or shrink dynamically.</li>
@@ -222,6 +224,24 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return PagedHugeLongArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size that is stored in the given backend.
+     */
+    public static HugeLongArray newArray(long size, HugeArrayBackend backend) {
+        if (backend == HugeArrayBackend.OFF_HEAP) {
+            return OffHeapHugeLongArray.of(size);
+        }
+        return newArray(size);
+    }
+
+    public static long memoryEstimation(long size, HugeArrayBackend backend) {
+        if (backend == HugeArrayBackend.OFF_HEAP) {
+            assert size >= 0;
+            return MemoryUsage.sizeOfInstance(OffHeapHugeLongArray.class) + size * Long.BYTES;
+        }
+        return memoryEstimation(size);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -262,6 +282,19 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return SingleHugeLongArray.of(size);
     }
 
+    /**
+     * Copies value by value, used when the source and destination are stored in different backends.
+     * Values of {@code dest} beyond {@code length} are reset to {@code 0}.
+     */
+    private static void copyValues(HugeLongArray source, HugeLongArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0L);
+        }
+    }
+
     private static final class SingleHugeLongArray extends HugeLongArray {
 
         private static HugeLongArray of(long size) {
@@ -349,6 +382,8 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                copyValues(this, dest, length);
             }
         }
 
@@ -525,6 +560,8 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0L);
                 }
+            } else {
+                copyValues(this, dest, length);
             }
         }
 
@@ -568,4 +605,152 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         }
 
     }
+
+    private static final class OffHeapHugeLongArray extends HugeLongArray {
+
+        private static HugeLongArray of(long size) {
+            return new OffHeapHugeLongArray(size);
+        }
+
+        private final long size;
+        // zero once the memory has been released
+        private long address;
+        private final OffHeapMemory memory;
+
+        private OffHeapHugeLongArray(long size) {
+            this.size = size;
+            this.memory = OffHeapMemory.allocate(this, size * Long.BYTES);
+            this.address = memory.address;
+        }
+
+        private long addressOf(long index) {
+            return OffHeapMemory.elementAddress(address, size, index, 3);
+        }
+
+        @Override
+        public long get(long index) {
+            return UnsafeUtil.getLong(addressOf(index));
+        }
+
+        @Override
+        public void set(long index, long value) {
+            UnsafeUtil.putLong(addressOf(index), value);
+        }
+
+        @Override
+        public void or(long index, final long value) {
+            long address = addressOf(index);
+            UnsafeUtil.putLong(address, UnsafeUtil.getLong(address) | value);
+        }
+
+        @Override
+        public long and(long index, final long value) {
+            long address = addressOf(index);
+            long newValue = UnsafeUtil.getLong(address) & value;
+            UnsafeUtil.putLong(address, newValue);
+            return newValue;
+        }
+
+        @Override
+        public void addTo(long index, long value) {
+            long address = addressOf(index);
+            UnsafeUtil.putLong(address, UnsafeUtil.getLong(address) + value);
+        }
+
+        @Override
+        public void setAll(LongUnaryOperator gen) {
+            for (long i = 0; i < size; i++) {
+                UnsafeUtil.putLong(addressOf(i), gen.applyAsLong(i));
+            }
+        }
+
+        @Override
+        public void fill(long value) {
+            if (value == 0L) {
+                UnsafeUtil.setMemory(OffHeapMemory.checkedAddress(address), size * Long.BYTES, (byte) 0);
+                return;
+            }
+            for (long i = 0; i < size; i++) {
+                UnsafeUtil.putLong(addressOf(i), value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeLongArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            if (dest instanceof OffHeapHugeLongArray) {
+                OffHeapHugeLongArray dst = (OffHeapHugeLongArray) dest;
+                UnsafeUtil.copyMemory(
+                    OffHeapMemory.checkedAddress(address),
+                    OffHeapMemory.checkedAddress(dst.address),
+                    length * Long.BYTES
+                );
+                UnsafeUtil.setMemory(dst.address + length * Long.BYTES, (dst.size - length) * Long.BYTES, (byte) 0);
+            } else {
+                copyValues(this, dest, length);
+            }
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(long[] source, long sliceStart, long sliceEnd) {
+            // validates the slice, values are written directly instead of through the copying cursor
+            initCursor(newCursor(), sliceStart, sliceEnd).close();
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            for (int i = 0; i < length; i++) {
+                UnsafeUtil.putLong(addressOf(sliceStart + i), source[i]);
+            }
+            return length;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return size * Long.BYTES;
+        }
+
+        @Override
+        public long binarySearch(long searchValue) {
+            long low = 0;
+            long high = size - 1;
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                long midVal = get(mid);
+                if (midVal < searchValue) {
+                    low = mid + 1;
+                } else if (midVal > searchValue) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return low - 1;
+        }
+
+        @Override
+        public long release() {
+            // later accesses fail instead of touching freed memory
+            address = 0L;
+            return memory.free();
+        }
+
+        @Override
+        public HugeCursor<long[]> newCursor() {
+            return new HugeCursor.CopyingCursor<>(size, long[]::new, this::read);
+        }
+
+        private void read(long index, long[] buffer, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                buffer[offset + i] = UnsafeUtil.getLong(addressOf(index + i));
+            }
+        }
+    }
 }
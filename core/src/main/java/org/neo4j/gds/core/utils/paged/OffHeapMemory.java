@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A zeroed block of native memory that backs an off-heap huge array.
+ * <p>
+ * The memory is freed by {@link #free()}. As a safety net, the memory of an owner that
+ * becomes unreachable without having been released is freed by a {@link Cleaner}.
+ */
+final class OffHeapMemory {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final AtomicLong ALLOCATED_BYTES = new AtomicLong();
+
+    static OffHeapMemory allocate(Object owner, long bytes) {
+        // never allocate 0 bytes so that we always own a valid address
+        long allocationSize = Math.max(bytes, Long.BYTES);
+        long address = UnsafeUtil.allocateMemory(allocationSize, EmptyMemoryTracker.INSTANCE);
+        UnsafeUtil.setMemory(address, allocationSize, (byte) 0);
+        ALLOCATED_BYTES.addAndGet(allocationSize);
+        var cleanable = CLEANER.register(owner, new Region(address, allocationSize));
+        return new OffHeapMemory(address, bytes, cleanable);
+    }
+
+    /**
+     * @return the number of bytes of native memory currently held by off-heap huge arrays
+     */
+    static long allocatedBytes() {
+        return ALLOCATED_BYTES.get();
+    }
+
+    /**
+     * Returns the address of the element at the given index.
+     *
+     * @throws ArrayIndexOutOfBoundsException if the index is not within {@code [0, size)}
+     * @throws IllegalStateException if the memory has been released, i.e. the address is zero
+     */
+    static long elementAddress(long address, long size, long index, int shift) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(formatWithLocale("Index %d out of bounds for length %d", index, size));
+        }
+        return checkedAddress(address) + (index << shift);
+    }
+
+    /**
+     * @throws IllegalStateException if the memory has been released, i.e. the address is zero
+     */
+    static long checkedAddress(long address) {
+        if (address == 0L) {
+            throw new IllegalStateException("The off-heap array has already been released.");
+        }
+        return address;
+    }
+
+    final long address;
+    private final long bytes;
+    private final Cleaner.Cleanable cleanable;
+    private boolean freed;
+
+    private OffHeapMemory(long address, long bytes, Cleaner.Cleanable cleanable) {
+        this.address = address;
+        this.bytes = bytes;
+        this.cleanable = cleanable;
+    }
+
+    /**
+     * Frees the native memory. The memory must not be accessed afterwards.
+     *
+     * @return the number of bytes freed, {@code 0} if the memory had already been freed
+     */
+    long free() {
+        if (freed) {
+            return 0L;
+        }
+        freed = true;
+        cleanable.clean();
+        return bytes;
+    }
+
+    private static final class Region implements Runnable {
+        private final long address;
+        private final long bytes;
+
+        private Region(long address, long bytes) {
+            this.address = address;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void run() {
+            UnsafeUtil.free(address, bytes, EmptyMemoryTracker.INSTANCE);
+            ALLOCATED_BYTES.addAndGet(-bytes);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.queue;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+/**
+ * A priority queue for long elements from a potentially huge id space
+ * of which only a small fraction is ever added to the queue.
+ * <p>
+ * In contrast to {@link HugeLongPriorityQueue}, the memory used by this
+ * queue is proportional to the number of elements that have been added
+ * and not to the largest possible element. The heap grows on demand,
+ * costs and heap positions are kept in hash maps. The position index
+ * allows updating the cost of an element in log(size) time.
+ * <p>
+ * <b>NOTE</b>: Iteration order is not specified.
+ */
+public abstract class SparseLongPriorityQueue {
+
+    private static final int DEFAULT_EXPECTED_ELEMENTS = 16;
+
+    /**
+     * Estimates the fixed part of the queue, the remainder
+     * grows with the number of elements added to the queue.
+     */
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(SparseLongPriorityQueue.class)
+            .fixed("heap", MemoryUsage.sizeOfLongArray(DEFAULT_EXPECTED_ELEMENTS + 1))
+            .fixed("positions", MemoryUsage.sizeOfInstance(LongIntHashMap.class))
+            .fixed("costs", MemoryUsage.sizeOfInstance(LongDoubleHashMap.class))
+            .build();
+    }
+
+    // 1-based, heap[0] is unused
+    private long[] heap;
+    // maps elements currently in the heap to their heap index
+    private final LongIntHashMap positions;
+
+    private int size = 0;
+
+    protected final LongDoubleHashMap costValues;
+
+    protected SparseLongPriorityQueue(int expectedElements) {
+        this.heap = new long[Math.max(expectedElements, 1) + 1];
+        this.positions = new LongIntHashMap(expectedElements);
+        this.costValues = new LongDoubleHashMap(expectedElements);
+    }
+
+    /**
+     * Adds an element associated with a cost to the queue in log(size) time.
+     */
+    public void add(long element, double cost) {
+        assert !positions.containsKey(element);
+        costValues.put(element, cost);
+        insert(element);
+    }
+
+    /**
+     * Adds an element associated with a cost to the queue in log(size) time.
+     * If the element was already in the queue, it's cost are updated and the
+     * heap is reordered in log(size) time.
+     */
+    public void set(long element, double cost) {
+        costValues.put(element, cost);
+        int pos = positions.getOrDefault(element, 0);
+        if (pos == 0) {
+            insert(element);
+        } else if (!upHeap(pos) && pos < size) {
+            downHeap(pos);
+        }
+    }
+
+    /**
+     * Returns the cost associated with the given element.
+     * If the element has been popped from the queue, its
+     * latest cost value is being returned.
+     *
+     * @return The double cost value for the element. 0.0D if the element is not found.
+     */
+    public double cost(long element) {
+        return costValues.get(element);
+    }
+
+    /**
+     * Returns true, iff the element is contained in the queue.
+     */
+    public boolean containsElement(long element) {
+        return positions.containsKey(element);
+    }
+
+    /**
+     * Returns the element with the minimum cost from the queue in constant time.
+     */
+    public long top() {
+        return size > 0 ? heap[1] : -1;
+    }
+
+    /**
+     * Removes and returns the element with the minimum cost from the queue in log(size) time.
+     */
+    public long pop() {
+        if (size > 0) {
+            long result = heap[1];
+            positions.remove(result);
+            long last = heap[size];
+            size--;
+            if (size > 0) {
+                heap[1] = last;
+                positions.put(last, 1);
+                downHeap(1);
+            }
+            return result;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the number of elements currently stored in the queue.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true iff there are currently no elements stored in the queue.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries and their costs from the queue.
+     */
+    public void clear() {
+        size = 0;
+        positions.clear();
+        costValues.clear();
+    }
+
+    /**
+     * Defines the ordering of the queue.
+     * Returns true iff {@code a} is strictly less than {@code b}.
+     * <p>
+     * The default behavior assumes a min queue, where the value with smallest cost is on top.
+     * The resulting order is not stable.
+     */
+    protected abstract boolean lessThan(long a, long b);
+
+    private void insert(long element) {
+        size++;
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length + (heap.length >>> 1));
+        }
+        heap[size] = element;
+        positions.put(element, size);
+        upHeap(size);
+    }
+
+    private boolean upHeap(int origPos) {
+        int i = origPos;
+        // save bottom node
+        long node = heap[i];
+        // find parent of current node
+        int j = i >>> 1;
+        while (j > 0 && lessThan(node, heap[j])) {
+            // shift parents down
+            move(j, i);
+            i = j;
+            // find new parent of swapped node
+            j = j >>> 1;
+        }
+        // install saved node
+        heap[i] = node;
+        positions.put(node, i);
+        return i != origPos;
+    }
+
+    private void downHeap(int i) {
+        // save top node
+        long node = heap[i];
+        // find smallest child of top node
+        int j = i << 1;
+        int k = j + 1;
+        if (k <= size && lessThan(heap[k], heap[j])) {
+            j = k;
+        }
+        while (j <= size && lessThan(heap[j], node)) {
+            // shift up child
+            move(j, i);
+            i = j;
+            // find smallest child of swapped node
+            j = i << 1;
+            k = j + 1;
+            if (k <= size && lessThan(heap[k], heap[j])) {
+                j = k;
+            }
+        }
+        // install saved node
+        heap[i] = node;
+        positions.put(node, i);
+    }
+
+    private void move(int from, int to) {
+        long element = heap[from];
+        heap[to] = element;
+        positions.put(element, to);
+    }
+
+    /**
+     * Returns a growing min priority queue,
+     * i.e. the element with the lowest priority is always on top.
+     */
+    public static SparseLongPriorityQueue min() {
+        return min(DEFAULT_EXPECTED_ELEMENTS);
+    }
+
+    /**
+     * Returns a growing min priority queue,
+     * i.e. the element with the lowest priority is always on top.
+     */
+    public static SparseLongPriorityQueue min(int expectedElements) {
+        return new SparseLongPriorityQueue(expectedElements) {
+            @Override
+            protected boolean lessThan(long a, long b) {
+                return costValues.get(a) < costValues.get(b);
+            }
+        };
+    }
+}
@@ -37,7 +37,10 @@ public class NativeNodePropertiesExporterBuilder extends NodePropertyExporterBui
             terminationFlag,
             progressTracker,
             writeConcurrency,
-            executorService
+            executorService,
+            batchSize,
+            maxInFlightTransactions,
+            targetThroughput
         );
     }
 }
@@ -49,6 +49,9 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
     protected final long nodeCount;
     protected final LongUnaryOperator toOriginalId;
     protected final LongAdder propertiesWritten;
+    protected final long batchSize;
+    protected final int maxInFlightTransactions;
+    protected final long targetThroughput;
 
     public static NodePropertyExporterBuilder<NativeNodePropertyExporter> builder(TransactionContext transactionContext, IdMap idMap, TerminationFlag terminationFlag) {
         return new NativeNodePropertiesExporterBuilder(transactionContext)
@@ -81,7 +84,10 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker,
         int concurrency,
-        ExecutorService executorService
+        ExecutorService executorService,
+        long batchSize,
+        int maxInFlightTransactions,
+        long targetThroughput
     ) {
         super(tx);
         this.nodeCount = nodeCount;
@@ -91,6 +97,9 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         this.concurrency = concurrency;
         this.executorService = executorService;
         this.propertiesWritten = new LongAdder();
+        this.batchSize = batchSize;
+        this.maxInFlightTransactions = maxInFlightTransactions;
+        this.targetThroughput = targetThroughput;
     }
 
     @Override
@@ -150,48 +159,40 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
     }
 
     private void writeSequential(WriteConsumer writer) {
-        acceptInTransaction(stmt -> {
-            terminationFlag.assertRunning();
-            long progress = 0L;
-            Write ops = stmt.dataWrite();
-            for (long i = 0L; i < nodeCount; i++) {
-                writer.accept(ops, i);
-                progressTracker.logProgress();
-                if (++progress % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
-                    terminationFlag.assertRunning();
-                }
-            }
-        });
+        // without an explicit batch size, everything is written in a single transaction
+        long sequentialBatchSize = batchSize > 0 ? batchSize : Math.max(1L, nodeCount);
+        var throttle = WriteThrottle.of(targetThroughput);
+        var throughput = WriteThroughput.start(progressTracker, "nodes");
+        LazyBatchCollection
+            .of(
+                nodeCount,
+                sequentialBatchSize,
+                (start, len) -> writeBatch(writer, start, len, throttle, throughput)
+            )
+            .forEach(Runnable::run);
+        throughput.finish();
     }
 
     private void writeParallel(WriteConsumer writer) {
-        final long batchSize = ParallelUtil.adjustedBatchSize(
+        final long parallelBatchSize = batchSize > 0 ? batchSize : ParallelUtil.adjustedBatchSize(
             nodeCount,
             concurrency,
             MIN_BATCH_SIZE,
             MAX_BATCH_SIZE
         );
+        // every running task holds exactly one open transaction
+        int inFlightTransactions = maxInFlightTransactions > 0
+            ? Math.min(concurrency, maxInFlightTransactions)
+            : concurrency;
+        var throttle = WriteThrottle.of(targetThroughput);
+        var throughput = WriteThroughput.start(progressTracker, "nodes");
         final Collection<Runnable> runnables = LazyBatchCollection.of(
             nodeCount,
-            batchSize,
-            (start, len) -> () -> {
-                acceptInTransaction(stmt -> {
-                    terminationFlag.assertRunning();
-                    long end = start + len;
-                    Write ops = stmt.dataWrite();
-                    for (long currentNode = start; currentNode < end; currentNode++) {
-                        writer.accept(ops, currentNode);
-                        progressTracker.logProgress();
-
-                        if ((currentNode - start) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
-                            terminationFlag.assertRunning();
-                        }
-                    }
-                });
-            }
+            parallelBatchSize,
+            (start, len) -> writeBatch(writer, start, len, throttle, throughput)
         );
         RunWithConcurrency.builder()
-            .concurrency(concurrency)
+            .concurrency(inFlightTransactions)
             .tasks(runnables)
             .maxWaitRetries(Integer.MAX_VALUE)
             .waitTime(10L, TimeUnit.MICROSECONDS)
@@ -199,5 +200,32 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
             .executor(executorService)
             .mayInterruptIfRunning(false)
             .run();
+        throughput.finish();
+    }
+
+    private Runnable writeBatch(
+        WriteConsumer writer,
+        long start,
+        long length,
+        WriteThrottle throttle,
+        WriteThroughput throughput
+    ) {
+        return () -> {
+            long transactionStart = System.nanoTime();
+            acceptInTransaction(stmt -> {
+                terminationFlag.assertRunning();
+                long end = start + length;
+                Write ops = stmt.dataWrite();
+                for (long currentNode = start; currentNode < end; currentNode++) {
+                    if ((currentNode - start) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                        terminationFlag.assertRunning();
+                        throttle.acquire(Math.min(TerminationFlag.RUN_CHECK_NODE_COUNT, end - currentNode), terminationFlag);
+                    }
+                    writer.accept(ops, currentNode);
+                    progressTracker.logProgress();
+                }
+            });
+            throughput.transactionCommitted(length, transactionStart);
+        };
     }
 }
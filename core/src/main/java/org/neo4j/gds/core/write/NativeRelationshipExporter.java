@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.write;
 
 import org.jetbrains.annotations.Nullable;
+import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.RelationshipIterator;
@@ -49,6 +50,8 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
     private final ExecutorService executorService;
+    private final long batchSize;
+    private final long targetThroughput;
 
     public static RelationshipExporterBuilder<NativeRelationshipExporter> builder(
         TransactionContext transactionContext,
@@ -81,7 +84,9 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         LongUnaryOperator toOriginalId,
         RelationshipPropertyTranslator propertyTranslator,
         TerminationFlag terminationFlag,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        long batchSize,
+        long targetThroughput
     ) {
         super(transactionContext);
         this.graph = graph;
@@ -90,6 +95,8 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
         this.executorService = Pools.DEFAULT_SINGLE_THREAD_POOL;
+        this.batchSize = batchSize;
+        this.targetThroughput = targetThroughput;
     }
 
     @Override
@@ -117,22 +124,27 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
     }
 
     private void write(int relationshipTypeToken, int propertyKeyToken, @Nullable RelationshipWithPropertyConsumer afterWriteConsumer) {
-        // We use MIN_BATCH_SIZE since writing relationships
+        var throttle = WriteThrottle.of(targetThroughput);
+        var throughput = WriteThroughput.start(progressTracker, "relationships");
+        // We use MIN_BATCH_SIZE by default since writing relationships
         // is performed batch-wise, but single-threaded.
         var tasks = PartitionUtils.degreePartitionWithBatchSize(
             graph,
-            NativeNodePropertyExporter.MIN_BATCH_SIZE,
+            batchSize > 0 ? batchSize : NativeNodePropertyExporter.MIN_BATCH_SIZE,
             partition -> createBatchRunnable(
                 relationshipTypeToken,
                 propertyKeyToken,
                 partition,
-                afterWriteConsumer
+                afterWriteConsumer,
+                throttle,
+                throughput
             )
         );
 
         progressTracker.beginSubTask();
         try {
             tasks.forEach(runnable -> ParallelUtil.run(runnable, executorService));
+            throughput.finish();
         } finally {
             progressTracker.endSubTask();
         }
@@ -142,35 +154,45 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         int relationshipToken,
         int propertyToken,
         Partition partition,
-        @Nullable RelationshipWithPropertyConsumer afterWrite
+        @Nullable RelationshipWithPropertyConsumer afterWrite,
+        WriteThrottle throttle,
+        WriteThroughput throughput
     ) {
-        return () -> acceptInTransaction(stmt -> {
-            terminationFlag.assertRunning();
-            Write ops = stmt.dataWrite();
-
-
-            RelationshipWithPropertyConsumer writeConsumer = new WriteConsumer(
-                toOriginalId,
-                ops,
-                propertyTranslator,
-                relationshipToken,
-                propertyToken,
-                progressTracker
-            );
-            if (afterWrite != null) {
-                writeConsumer = writeConsumer.andThen(afterWrite);
-            }
-            RelationshipIterator relationshipIterator = graph.concurrentCopy();
-            RelationshipWithPropertyConsumer finalWriteConsumer = writeConsumer;
-            var startNode = partition.startNode();
-            partition.consume(nodeId -> {
-                relationshipIterator.forEachRelationship(nodeId, Double.NaN, finalWriteConsumer);
-
-                if ((nodeId - startNode) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
-                    terminationFlag.assertRunning();
+        return () -> {
+            long transactionStart = System.nanoTime();
+            var relationshipsWritten = new MutableLong();
+            acceptInTransaction(stmt -> {
+                terminationFlag.assertRunning();
+                Write ops = stmt.dataWrite();
+
+
+                RelationshipWithPropertyConsumer writeConsumer = new WriteConsumer(
+                    toOriginalId,
+                    ops,
+                    propertyTranslator,
+                    relationshipToken,
+                    propertyToken,
+                    progressTracker
+                );
+                if (afterWrite != null) {
+                    writeConsumer = writeConsumer.andThen(afterWrite);
                 }
+                RelationshipIterator relationshipIterator = graph.concurrentCopy();
+                RelationshipWithPropertyConsumer finalWriteConsumer = writeConsumer;
+                var startNode = partition.startNode();
+                partition.consume(nodeId -> {
+                    var degree = graph.degree(nodeId);
+                    throttle.acquire(degree, terminationFlag);
+                    relationshipIterator.forEachRelationship(nodeId, Double.NaN, finalWriteConsumer);
+                    relationshipsWritten.add(degree);
+
+                    if ((nodeId - startNode) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                        terminationFlag.assertRunning();
+                    }
+                });
             });
-        });
+            throughput.transactionCommitted(relationshipsWritten.longValue(), transactionStart);
+        };
     }
 
     private static class WriteConsumer implements RelationshipWithPropertyConsumer {
@@ -39,7 +39,9 @@ public final class NativeRelationshipExporterBuilder extends RelationshipExporte
             toOriginalId,
             propertyTranslator,
             terminationFlag,
-            progressTracker
+            progressTracker,
+            batchSize,
+            targetThroughput
         );
     }
 }
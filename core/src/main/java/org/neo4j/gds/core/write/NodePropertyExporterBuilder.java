@@ -21,6 +21,7 @@ package org.neo4j.gds.core.write;
 
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.config.WriteConfig;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -36,6 +37,12 @@ public abstract class NodePropertyExporterBuilder<T extends NodePropertyExporter
     protected ExecutorService executorService;
     protected int writeConcurrency = ConcurrencyConfig.DEFAULT_CONCURRENCY;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
+    // 0 selects a batch size based on node count and concurrency
+    protected long batchSize = 0L;
+    // 0 allows one open transaction per writer thread
+    protected int maxInFlightTransactions = 0;
+    // 0 disables throttling
+    protected long targetThroughput = 0L;
 
     public abstract T build();
 
@@ -71,4 +78,53 @@ public abstract class NodePropertyExporterBuilder<T extends NodePropertyExporter
         return this;
     }
 
+    /**
+     * Set the number of nodes written per transaction.
+     * By default, the batch size is derived from the node count and the write concurrency.
+     *
+     * @param batchSize The number of nodes written per transaction.
+     * @return this
+     */
+    public NodePropertyExporterBuilder<T> withBatchSize(long batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of write transactions that are open at the same time.
+     * By default, every writer thread holds one open transaction.
+     *
+     * @param maxInFlightTransactions The maximum number of concurrently open write transactions.
+     * @return this
+     */
+    public NodePropertyExporterBuilder<T> withMaxInFlightTransactions(int maxInFlightTransactions) {
+        this.maxInFlightTransactions = maxInFlightTransactions;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of nodes written per second across all writer threads.
+     * By default, writes are not throttled.
+     *
+     * @param targetThroughput The maximum number of nodes written per second.
+     * @return this
+     */
+    public NodePropertyExporterBuilder<T> withTargetThroughput(long targetThroughput) {
+        this.targetThroughput = targetThroughput;
+        return this;
+    }
+
+    /**
+     * Apply the batching options of the given write configuration.
+     *
+     * @param config The write configuration.
+     * @return this
+     */
+    public NodePropertyExporterBuilder<T> withBatching(WriteConfig config) {
+        this.batchSize = config.writeBatchSize().orElse(0L);
+        this.maxInFlightTransactions = config.writeMaxInFlightTransactions();
+        this.targetThroughput = config.writeTargetThroughput().orElse(0L);
+        return this;
+    }
+
 }
@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.write;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.config.WriteConfig;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.values.storable.Values;
@@ -35,6 +36,10 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
     protected Graph graph;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
     protected RelationshipPropertyTranslator propertyTranslator = Values::doubleValue;
+    // 0 selects the default batch size
+    protected long batchSize = 0L;
+    // 0 disables throttling
+    protected long targetThroughput = 0L;
 
     public abstract T build();
 
@@ -58,6 +63,42 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
         return this;
     }
 
+    /**
+     * Set the approximate number of relationships written per transaction.
+     *
+     * @param batchSize The number of relationships written per transaction.
+     * @return this
+     */
+    public RelationshipExporterBuilder<T> withBatchSize(long batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of relationships written per second.
+     * By default, writes are not throttled.
+     *
+     * @param targetThroughput The maximum number of relationships written per second.
+     * @return this
+     */
+    public RelationshipExporterBuilder<T> withTargetThroughput(long targetThroughput) {
+        this.targetThroughput = targetThroughput;
+        return this;
+    }
+
+    /**
+     * Apply the batching options of the given write configuration.
+     * Relationships are written by a single transaction at a time, so the number of in-flight transactions does not apply.
+     *
+     * @param config The write configuration.
+     * @return this
+     */
+    public RelationshipExporterBuilder<T> withBatching(WriteConfig config) {
+        this.batchSize = config.writeBatchSize().orElse(0L);
+        this.targetThroughput = config.writeTargetThroughput().orElse(0L);
+        return this;
+    }
+
     /**
      * Set the {@link ProgressTracker} to use for logging progress during export.
      *
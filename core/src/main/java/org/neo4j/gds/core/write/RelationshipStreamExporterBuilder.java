@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.write;
 
 import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.config.WriteConfig;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -58,6 +59,19 @@ public abstract class RelationshipStreamExporterBuilder<T extends RelationshipSt
         return this;
     }
 
+    /**
+     * Apply the batching options of the given write configuration.
+     * Relationships are streamed through a single transaction at a time,
+     * so only the batch size applies.
+     *
+     * @param config The write configuration.
+     * @return this
+     */
+    public RelationshipStreamExporterBuilder<T> withBatching(WriteConfig config) {
+        config.writeBatchSize().ifPresent(batchSize -> this.batchSize = Math.toIntExact(batchSize));
+        return this;
+    }
+
     /**
      * Set the {@link ProgressTracker} to use for logging progress during export.
      *
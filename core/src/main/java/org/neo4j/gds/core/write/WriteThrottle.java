@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.neo4j.gds.core.utils.TerminationFlag;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limits the number of rows written per second across all writer threads.
+ *
+ * Every caller reserves a time slot proportional to the number of rows it is about to write
+ * and is parked until that slot starts. Slots are handed out on a shared timeline,
+ * so concurrent writers are spread out evenly instead of bursting.
+ * Waiting callers are parked in bounded slices and check for termination in between,
+ * so that a terminated write does not keep its transaction open until the slot starts.
+ */
+final class WriteThrottle {
+
+    static final WriteThrottle UNLIMITED = new WriteThrottle(0D);
+
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final double nanosPerRow;
+    private final AtomicLong nextFreeSlot;
+
+    static WriteThrottle of(long targetThroughput) {
+        if (targetThroughput <= 0) {
+            return UNLIMITED;
+        }
+        return new WriteThrottle((double) TimeUnit.SECONDS.toNanos(1) / targetThroughput);
+    }
+
+    private WriteThrottle(double nanosPerRow) {
+        this.nanosPerRow = nanosPerRow;
+        this.nextFreeSlot = new AtomicLong(System.nanoTime());
+    }
+
+    void acquire(long rows, TerminationFlag terminationFlag) {
+        if (this == UNLIMITED || rows <= 0) {
+            return;
+        }
+
+        long cost = (long) (rows * nanosPerRow);
+        long now = System.nanoTime();
+        long slotStart;
+        long nextSlot;
+        do {
+            nextSlot = nextFreeSlot.get();
+            // an idle throttle does not accumulate credit
+            slotStart = Math.max(nextSlot, now);
+        } while (!nextFreeSlot.compareAndSet(nextSlot, slotStart + cost));
+
+        long remaining;
+        while ((remaining = slotStart - System.nanoTime()) > 0) {
+            terminationFlag.assertRunning();
+            LockSupport.parkNanos(Math.min(remaining, MAX_PARK_NANOS));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reports the write throughput of committed transactions through the {@link ProgressTracker}.
+ * Each committed transaction and the overall throughput are logged next to the regular progress.
+ */
+final class WriteThroughput {
+
+    private final ProgressTracker progressTracker;
+    private final String entities;
+    private final LongAdder rowsWritten;
+    private final long startNanos;
+
+    static WriteThroughput start(ProgressTracker progressTracker, String entities) {
+        return new WriteThroughput(progressTracker, entities);
+    }
+
+    private WriteThroughput(ProgressTracker progressTracker, String entities) {
+        this.progressTracker = progressTracker;
+        this.entities = entities;
+        this.rowsWritten = new LongAdder();
+        this.startNanos = System.nanoTime();
+    }
+
+    void transactionCommitted(long rows, long transactionStartNanos) {
+        rowsWritten.add(rows);
+        progressTracker.logInfo(message("Committed transaction with", rows, transactionStartNanos));
+    }
+
+    void finish() {
+        progressTracker.logInfo(message("Wrote", rowsWritten.sum(), startNanos));
+    }
+
+    private String message(String prefix, long rows, long sinceNanos) {
+        long elapsedNanos = Math.max(1L, System.nanoTime() - sinceNanos);
+        long rowsPerSecond = (long) (rows * ((double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos));
+        return formatWithLocale(
+            "%s %d %s in %d ms (%d %s/s)",
+            prefix,
+            rows,
+            entities,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            rowsPerSecond,
+            entities
+        );
+    }
+}
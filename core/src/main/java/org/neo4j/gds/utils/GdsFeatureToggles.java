@@ -24,6 +24,7 @@ import org.jetbrains.annotations.TestOnly;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public enum GdsFeatureToggles {
 
@@ -34,7 +35,10 @@ public enum GdsFeatureToggles {
     USE_BIT_ID_MAP(true),
     USE_SHARDED_ID_MAP(false),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
+    USE_PACKED_ADJACENCY_LIST(false),
+    USE_MAPPED_ADJACENCY_LIST(false),
     USE_REORDERED_ADJACENCY_LIST(false),
+    USE_OFF_HEAP_ARRAYS(false),
     ENABLE_ARROW_DATABASE_IMPORT(true);
 
     public boolean isEnabled() {
@@ -109,6 +113,13 @@ public enum GdsFeatureToggles {
     );
     public static final AtomicInteger PAGES_PER_THREAD = new AtomicInteger(PAGES_PER_THREAD_FLAG);
 
+    // Directory into which memory-mapped adjacency lists are written, see USE_MAPPED_ADJACENCY_LIST.
+    // Defaults to the temporary directory. Files are removed from the directory as soon as they are mapped.
+    private static final String MAPPED_STORE_DIRECTORY_FLAG = System.getProperty(
+        name(GdsFeatureToggles.class, "mappedStoreDirectory")
+    );
+    public static final AtomicReference<String> MAPPED_STORE_DIRECTORY = new AtomicReference<>(MAPPED_STORE_DIRECTORY_FLAG);
+
     private static String name(Class<?> location, String name) {
         return location.getCanonicalName() + "." + name;
     }
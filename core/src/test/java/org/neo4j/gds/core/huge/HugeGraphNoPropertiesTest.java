@@ -28,6 +28,8 @@ import org.neo4j.gds.StoreLoaderBuilder;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.graphdb.GraphDatabaseService;
 
+import java.util.ArrayList;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 final class HugeGraphNoPropertiesTest extends BaseTest {
@@ -83,6 +85,31 @@ final class HugeGraphNoPropertiesTest extends BaseTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(Orientation.class)
+    void batchedIterationShouldReturnAllTargets(Orientation orientation) {
+        Graph graph = loadGraph(db, orientation);
+
+        // smaller than the maximum degree to force multiple batches
+        long[] buffer = new long[2];
+        graph.forEachNode((nodeId) -> {
+            var expected = new ArrayList<Long>();
+            graph.forEachRelationship(nodeId, (s, t) -> expected.add(t));
+
+            var actual = new ArrayList<Long>();
+            graph.forEachRelationshipBatch(nodeId, buffer, (s, targets, length) -> {
+                assertEquals(nodeId, s);
+                for (int i = 0; i < length; i++) {
+                    actual.add(targets[i]);
+                }
+                return true;
+            });
+
+            assertEquals(expected, actual);
+            return true;
+        });
+    }
+
     private Graph loadGraph(final GraphDatabaseService db, Orientation orientation) {
         return new StoreLoaderBuilder()
             .databaseService(db)
@@ -171,6 +171,52 @@ class TransientCsrListTest {
         });
     }
 
+    @ParameterizedTest
+    @MethodSource("org.neo4j.gds.core.TestMethodRunner#adjacencyCompressions")
+    void shouldReadBatchesAcrossBlocks(TestMethodRunner runner) {
+        runner.run(() -> {
+            int targetCount = 2 * CHUNK_SIZE + 7;
+            long[] targets = new long[targetCount];
+            Arrays.setAll(targets, i -> 3L * i);
+            var adjacencyCursor = adjacencyCursorFromTargets(targets);
+
+            long[] buffer = new long[targetCount + 1];
+            int batchSize = CHUNK_SIZE / 3;
+            int position = 0;
+            int read;
+            while ((read = adjacencyCursor.nextBatch(buffer, position, batchSize)) > 0) {
+                position += read;
+                assertEquals(targetCount - position, adjacencyCursor.remaining());
+            }
+
+            assertEquals(targetCount, position);
+            assertThat(Arrays.copyOf(buffer, position)).containsExactly(targets);
+            assertFalse(adjacencyCursor.hasNextVLong());
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.neo4j.gds.core.TestMethodRunner#adjacencyCompressions")
+    void shouldMixBatchAndSingleReads(TestMethodRunner runner) {
+        runner.run(() -> {
+            int targetCount = CHUNK_SIZE + 9;
+            long[] targets = new long[targetCount];
+            Arrays.setAll(targets, i -> i);
+            var adjacencyCursor = adjacencyCursorFromTargets(targets);
+
+            assertEquals(0, adjacencyCursor.nextVLong());
+            assertEquals(5, adjacencyCursor.advance(5));
+
+            long[] buffer = new long[CHUNK_SIZE];
+            assertEquals(CHUNK_SIZE, adjacencyCursor.nextBatch(buffer, 0, CHUNK_SIZE));
+            assertThat(buffer).containsExactly(LongStream.range(6, 6 + CHUNK_SIZE).toArray());
+
+            assertEquals(6 + CHUNK_SIZE, adjacencyCursor.peekVLong());
+            assertEquals(3, adjacencyCursor.nextBatch(buffer, 0, CHUNK_SIZE));
+            assertEquals(0, adjacencyCursor.nextBatch(buffer, 0, CHUNK_SIZE));
+        });
+    }
+
     static Stream<Arguments> testRunnersAndDegrees() {
         return TestSupport.crossArguments(
             () -> TestMethodRunner.adjacencyCompressions().map(Arguments::of),
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.loading;
 
+import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.IntObjectHashMap;
 import com.carrotsearch.hppc.IntObjectMap;
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,7 @@ import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -113,4 +115,20 @@ class ArrayIdMapTest {
 
         assertThat(hugeIdMap.highestOriginalId()).isEqualTo(highestNeoId);
     }
+
+    @Test
+    void shouldCollectSetBitsInParallel() {
+        var bitSet = new BitSet(100_000);
+        var expected = new ArrayList<Long>();
+        for (long nodeId = 0; nodeId < 100_000; nodeId++) {
+            if (nodeId % 7 == 0 || (nodeId > 42_000 && nodeId < 43_000)) {
+                bitSet.set(nodeId);
+                expected.add(nodeId);
+            }
+        }
+
+        var setBits = ArrayIdMap.collectSetBits(bitSet, 4);
+
+        assertThat(setBits.toArray()).containsExactly(expected.stream().mapToLong(Long::longValue).toArray());
+    }
 }
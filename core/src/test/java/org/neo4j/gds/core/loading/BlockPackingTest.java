@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.Aggregation;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.core.loading.BlockPacking.BLOCK_SIZE;
+
+class BlockPackingTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 63, 64, 65, 127, 128, 129, 1337})
+    void shouldRoundTrip(int degree) {
+        var random = new Random(42L);
+        var targets = random.longs(degree, 0, 1L << 40).toArray();
+        Arrays.sort(targets);
+
+        var packed = pack(targets);
+
+        assertThat(unpack(packed, degree)).containsExactly(targets);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 31, 32, 33, 47})
+    void shouldRoundTripFixedBitWidths(int bits) {
+        int degree = 3 * BLOCK_SIZE + 17;
+        long delta = bits == 0 ? 0L : 1L << (bits - 1);
+        var targets = new long[degree];
+        for (int i = 1; i < degree; i++) {
+            targets[i] = targets[i - 1] + delta;
+        }
+
+        var packed = pack(targets);
+
+        assertThat(BlockPacking.bits(packed[1])).isEqualTo(bits);
+        assertThat(unpack(packed, degree)).containsExactly(targets);
+    }
+
+    @Test
+    void shouldStoreLastValueOfEachBlockInHeader() {
+        int degree = 2 * BLOCK_SIZE + 1;
+        var targets = new long[degree];
+        Arrays.setAll(targets, i -> 2L * i + 42L);
+
+        var packed = pack(targets);
+
+        assertThat(packed[0]).isEqualTo(42L);
+        assertThat(BlockPacking.lastValue(packed[1])).isEqualTo(targets[BLOCK_SIZE - 1]);
+        assertThat(BlockPacking.lastValue(packed[2])).isEqualTo(targets[2 * BLOCK_SIZE - 1]);
+        assertThat(BlockPacking.lastValue(packed[3])).isEqualTo(targets[degree - 1]);
+    }
+
+    @Test
+    void shouldComputeRequiredWords() {
+        int degree = BLOCK_SIZE + 3;
+        var targets = new long[degree];
+        Arrays.setAll(targets, i -> 4L * i);
+        var deltas = targets.clone();
+        AdjacencyCompression.deltaEncodeSortedValues(deltas, 0, degree, Aggregation.NONE);
+
+        // first target + 2 headers + 64 * 3 bits + 3 * 3 bits
+        assertThat(BlockPacking.requiredWords(deltas, degree)).isEqualTo(1 + 2 + 3 + 1);
+        assertThat(BlockPacking.pack(deltas, degree, new long[7])).isEqualTo(7);
+    }
+
+    private static long[] pack(long[] targets) {
+        var deltas = targets.clone();
+        int length = AdjacencyCompression.deltaEncodeSortedValues(deltas, 0, deltas.length, Aggregation.NONE);
+        var packed = new long[BlockPacking.requiredWords(deltas, length)];
+        int words = BlockPacking.pack(deltas, length, packed);
+        assertThat(words).isEqualTo(packed.length);
+        return packed;
+    }
+
+    private static long[] unpack(long[] packed, int degree) {
+        int blocks = BlockPacking.blockCount(degree);
+        var result = new long[degree];
+        var block = new long[BLOCK_SIZE];
+        int dataOffset = 1 + blocks;
+        long base = packed[0];
+        for (int i = 0; i < blocks; i++) {
+            int bits = BlockPacking.bits(packed[1 + i]);
+            int count = Math.min(BLOCK_SIZE, degree - i * BLOCK_SIZE);
+            BlockPacking.unpack(packed, dataOffset, bits, block, count);
+            BlockPacking.prefixSum(block, count, base);
+            System.arraycopy(block, 0, result, i * BLOCK_SIZE, count);
+            dataOffset += BlockPacking.dataWords(bits, count);
+            base = BlockPacking.lastValue(packed[1 + i]);
+        }
+        return result;
+    }
+}
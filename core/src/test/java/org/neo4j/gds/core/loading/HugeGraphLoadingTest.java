@@ -33,9 +33,12 @@ import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.StoreLoaderBuilder;
+import org.neo4j.gds.StoreLoaderWithConfigBuilder;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.config.ImmutableGraphProjectFromStoreConfig;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.graphdb.Label;
@@ -379,6 +382,47 @@ final class HugeGraphLoadingTest extends BaseTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testPipelinedLoading(int concurrency) {
+        var label = Label.label("Node");
+        var unused = Label.label("Unused");
+        var relType = org.neo4j.graphdb.RelationshipType.withName("REL");
+        int nodeCount = 20_000;
+
+        runInTransaction(db, tx -> {
+            var nodes = new Node[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                nodes[i] = tx.createNode(i % 10 == 0 ? unused : label);
+            }
+            for (int i = 0; i < nodeCount; i++) {
+                var relationship = nodes[i].createRelationshipTo(nodes[(i * 7 + 1) % nodeCount], relType);
+                relationship.setProperty("weight", (double) i);
+            }
+        });
+
+        var sequentialLoader = new StoreLoaderBuilder()
+            .databaseService(db)
+            .addNodeLabel(label.name())
+            .addRelationshipType(relType.name())
+            .addRelationshipProperty(PropertyMapping.of("weight", 0.0))
+            .concurrency(concurrency)
+            .build();
+        var sequentialConfig = (GraphProjectFromStoreConfig) sequentialLoader.projectConfig();
+
+        var pipelinedGraph = new StoreLoaderWithConfigBuilder()
+            .databaseService(db)
+            .graphProjectConfig(ImmutableGraphProjectFromStoreConfig
+                .builder()
+                .from(sequentialConfig)
+                .pipelinedLoading(true)
+                .build())
+            .build()
+            .graph();
+
+        assertGraphEquals(sequentialLoader.graph(), pipelinedGraph);
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 4})
     void testSingleLabelPartitionedTokenIndexRespectingBatchSize(int concurrency) {
@@ -82,10 +82,24 @@ class LabelInformationTest {
             arguments((LabelProducer) (id) -> labelA, labelA, all),
             arguments((LabelProducer) (id) -> id % 2 == 0 ? labelA : labelB, labelAB, all),
             arguments((LabelProducer) (id) -> id % 2 == 0 ? labelA : labelB, labelA, even),
-            arguments((LabelProducer) (id) -> id % 2 == 0 ? labelA : labelB, anyLabel, all)
+            arguments((LabelProducer) (id) -> id % 2 == 0 ? labelA : labelB, anyLabel, all),
+            arguments((LabelProducer) (id) -> id % 3 == 0 ? labelAB : id % 2 == 0 ? labelA : List.of(), labelAB, List.of(0L, 2L, 3L, 4L, 6L, 8L, 9L))
         );
     }
 
+    @Test
+    void nodeCountForLabel() {
+        var nodeIds = LongStream.range(0, 10).boxed().collect(Collectors.toList());
+        var labelInformation = buildLabelInformation(
+            nodeIds,
+            node -> node,
+            id -> id % 3 == 0 ? NodeLabel.listOf("A", "B") : NodeLabel.listOf("A")
+        );
+
+        assertThat(labelInformation.nodeCountForLabel(NodeLabel.of("A"))).isEqualTo(10);
+        assertThat(labelInformation.nodeCountForLabel(NodeLabel.of("B"))).isEqualTo(4);
+    }
+
 
     private void testLabelAssignment(Collection<Long> nodeIds, LongUnaryOperator nodeIdMap) {
         var label = NodeLabel.of("A");
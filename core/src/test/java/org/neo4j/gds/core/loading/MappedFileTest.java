@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.core.loading.MappedFile.SEGMENT_SIZE;
+
+class MappedFileTest {
+
+    @Test
+    void shouldReserveConsecutiveSpace() {
+        var file = MappedFile.create("test-");
+
+        assertThat(file.reserve(42)).isEqualTo(0L);
+        assertThat(file.reserve(1337)).isEqualTo(42L);
+        assertThat(file.reserve(0)).isEqualTo(42L + 1337L);
+
+        file.finish();
+    }
+
+    @Test
+    void shouldNotSpanSegments() {
+        var file = MappedFile.create("test-");
+
+        assertThat(file.reserve(SEGMENT_SIZE - 10)).isEqualTo(0L);
+        assertThat(file.reserve(20)).isEqualTo(SEGMENT_SIZE);
+
+        var segments = file.finish();
+        assertThat(segments[0].capacity()).isEqualTo(SEGMENT_SIZE);
+        assertThat(segments[1].capacity()).isEqualTo(SEGMENT_SIZE);
+    }
+
+    @Test
+    void shouldWriteAndReadData() {
+        var file = MappedFile.create("test-");
+        var allocator = file.newLocalAllocator();
+
+        long bytesAddress = allocator.write(new byte[]{1, 2, 3, 4}, 3);
+        long longsAddress = allocator.write(new long[]{42L, -1L, Long.MAX_VALUE}, 3);
+
+        var segment = file.finish()[0];
+
+        assertThat(bytesAddress).isEqualTo(0L);
+        assertThat(segment.get(0)).isEqualTo((byte) 1);
+        assertThat(segment.get(1)).isEqualTo((byte) 2);
+        assertThat(segment.get(2)).isEqualTo((byte) 3);
+
+        assertThat(longsAddress).isEqualTo(3L);
+        assertThat(segment.getLong(3)).isEqualTo(42L);
+        assertThat(segment.getLong(11)).isEqualTo(-1L);
+        assertThat(segment.getLong(19)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldWritePropertiesAtTheSameAddresses() {
+        var firstBuilder = new MappedAdjacencyPropertiesBuilder();
+        var secondBuilder = new MappedAdjacencyPropertiesBuilder();
+
+        var allocator = firstBuilder.newAllocator();
+        var positionalAllocator = secondBuilder.newPositionalAllocator();
+
+        var large = new long[2 * BumpAllocator.PAGE_SIZE];
+        long smallAddress = allocator.write(new long[]{1L, 2L}, 2, -1L);
+        long largeAddress = allocator.write(large, large.length, -1L);
+        positionalAllocator.write(new long[]{3L, 4L}, 2, smallAddress);
+        positionalAllocator.write(large, large.length, largeAddress);
+
+        var degrees = HugeIntArray.of(2, large.length);
+        var offsets = HugeLongArray.of(smallAddress, largeAddress);
+        var first = firstBuilder.build(degrees, offsets);
+        var second = secondBuilder.build(degrees, offsets);
+
+        var firstCursor = first.propertyCursor(0);
+        assertThat(firstCursor.nextLong()).isEqualTo(1L);
+        assertThat(firstCursor.nextLong()).isEqualTo(2L);
+        assertThat(firstCursor.hasNextLong()).isFalse();
+
+        var secondCursor = second.propertyCursor(0);
+        assertThat(secondCursor.nextLong()).isEqualTo(3L);
+        assertThat(secondCursor.nextLong()).isEqualTo(4L);
+        assertThat(secondCursor.hasNextLong()).isFalse();
+
+        var count = 0;
+        var largeCursor = second.propertyCursor(1);
+        while (largeCursor.hasNextLong()) {
+            assertThat(largeCursor.nextLong()).isEqualTo(0L);
+            count++;
+        }
+        assertThat(count).isEqualTo(large.length);
+    }
+
+    @Test
+    void shouldNotLeaveFilesInConfiguredDirectory(@TempDir Path directory) throws Exception {
+        var before = GdsFeatureToggles.MAPPED_STORE_DIRECTORY.getAndSet(directory.toString());
+        ByteBuffer[] segments;
+        long address;
+        try {
+            var file = MappedFile.create("test-");
+            address = file.newLocalAllocator().write(new byte[]{42}, 1);
+            segments = file.finish();
+        } finally {
+            GdsFeatureToggles.MAPPED_STORE_DIRECTORY.set(before);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+        assertThat(segments[MappedFile.segmentIndex(address)].get(MappedFile.indexInSegment(address))).isEqualTo((byte) 42);
+    }
+}
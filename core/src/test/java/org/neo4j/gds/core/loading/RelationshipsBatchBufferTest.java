@@ -20,8 +20,15 @@
 package org.neo4j.gds.core.loading;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.PartialIdMap;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.compat.PropertyReference;
 
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RelationshipsBatchBufferTest {
@@ -32,4 +39,113 @@ class RelationshipsBatchBufferTest {
         buffer.add(0, 1, -1, Neo4jProxy.noPropertyReference());
         assertTrue(buffer.isFull());
     }
+
+    @Test
+    void mapBufferedNodeIdsOnceTheIdMapIsReleased() {
+        var loadedIdMap = new CompletableFuture<PartialIdMap>();
+        var deferredIdMap = new DeferredIdMap(loadedIdMap);
+        var buffer = new RelationshipsBatchBuffer(deferredIdMap, -1, 3, false);
+
+        buffer.offer(relationship(0, 10, 11));
+        buffer.offer(relationship(1, 10, 42));
+        buffer.offer(relationship(2, 12, 10));
+
+        // original node ids are buffered until the id map is available
+        assertThat(Arrays.copyOf(buffer.batch(), buffer.length())).containsExactly(10, 11, 10, 42, 12, 10);
+
+        loadedIdMap.complete(offsetIdMap());
+        deferredIdMap.awaitLoaded();
+        deferredIdMap.release();
+        buffer.mapNodeIds();
+
+        // the relationship to the unmapped node is dropped
+        assertThat(Arrays.copyOf(buffer.batch(), buffer.length())).containsExactly(0, 1, 2, 0);
+        assertThat(Arrays.copyOf(buffer.relationshipReferences(), 2)).containsExactly(0, 2);
+
+        // subsequent records are mapped immediately
+        buffer.reset();
+        buffer.offer(relationship(3, 11, 12));
+        assertThat(Arrays.copyOf(buffer.batch(), buffer.length())).containsExactly(1, 2);
+    }
+
+    @Test
+    void spillRelationshipsUntilTheIdMapIsReleased() {
+        var loadedIdMap = new CompletableFuture<PartialIdMap>();
+        var deferredIdMap = new DeferredIdMap(loadedIdMap);
+        var buffer = new RelationshipsBatchBuffer(deferredIdMap, -1, 2, false);
+
+        buffer.offer(relationship(0, 10, 11));
+        buffer.offer(relationship(1, 10, 42));
+        assertThat(buffer.canMapNodeIds()).isFalse();
+        buffer.spill();
+        assertThat(buffer.length()).isZero();
+
+        buffer.offer(relationship(2, 12, 10));
+        buffer.spill();
+        buffer.offer(relationship(3, 11, 12));
+
+        loadedIdMap.complete(offsetIdMap());
+        deferredIdMap.awaitLoaded();
+        deferredIdMap.release();
+        assertThat(buffer.canMapNodeIds()).isTrue();
+
+        // the current batch is mapped first
+        buffer.mapNodeIds();
+        assertThat(Arrays.copyOf(buffer.batch(), buffer.length())).containsExactly(1, 2);
+
+        // followed by the spilled batches, without the relationship to the unmapped node
+        assertThat(buffer.unspill()).isTrue();
+        assertThat(Arrays.copyOf(buffer.batch(), buffer.length())).containsExactly(0, 1);
+        assertThat(Arrays.copyOf(buffer.relationshipReferences(), 1)).containsExactly(0);
+
+        assertThat(buffer.unspill()).isTrue();
+        assertThat(Arrays.copyOf(buffer.batch(), buffer.length())).containsExactly(2, 0);
+        assertThat(Arrays.copyOf(buffer.relationshipReferences(), 1)).containsExactly(2);
+
+        assertThat(buffer.unspill()).isFalse();
+        assertThat(buffer.length()).isZero();
+    }
+
+    private static PartialIdMap offsetIdMap() {
+        return new PartialIdMap() {
+            @Override
+            public long toMappedNodeId(long originalNodeId) {
+                return originalNodeId >= 10 && originalNodeId <= 12 ? originalNodeId - 10 : -1;
+            }
+
+            @Override
+            public OptionalLong rootNodeCount() {
+                return OptionalLong.of(3);
+            }
+        };
+    }
+
+    private static RelationshipReference relationship(long id, long source, long target) {
+        return new RelationshipReference() {
+            @Override
+            public long relationshipId() {
+                return id;
+            }
+
+            @Override
+            public int typeTokenId() {
+                return 0;
+            }
+
+            @Override
+            public long sourceNodeReference() {
+                return source;
+            }
+
+            @Override
+            public long targetNodeReference() {
+                return target;
+            }
+
+            @Override
+            public PropertyReference propertiesReference() {
+                return Neo4jProxy.noPropertyReference();
+            }
+        };
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class OffHeapHugeDoubleArrayTest extends HugeArrayTestBase<double[], Double, HugeDoubleArray> {
+
+    @Test
+    void shouldAddToValues() {
+        testArray(10, array -> {
+            array.set(4, 42D);
+            array.addTo(4, 1337D);
+            assertEquals(42D + 1337D, array.get(4), 1e-4);
+        });
+    }
+
+    @Test
+    void shouldStreamValues() {
+        var array = HugeDoubleArray.newArray(5, HugeArrayBackend.OFF_HEAP);
+        array.setAll(i -> i * 0.5D);
+
+        assertArrayEquals(new double[]{0D, 0.5D, 1D, 1.5D, 2D}, array.stream().toArray(), 1e-4);
+        array.release();
+    }
+
+    @Test
+    void shouldFillNegativeZero() {
+        var array = HugeDoubleArray.newArray(3, HugeArrayBackend.OFF_HEAP);
+        array.fill(-0D);
+
+        assertEquals(Double.doubleToRawLongBits(-0D), Double.doubleToRawLongBits(array.get(2)));
+        array.release();
+    }
+
+    @Test
+    void shouldRejectAccessOutOfBounds() {
+        var array = singleArray(10);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(10));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(-1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.set(10, 42.0));
+        array.release();
+    }
+
+    @Test
+    void shouldRejectAccessAfterRelease() {
+        var array = singleArray(10);
+        array.set(4, 42.0);
+        array.release();
+        assertThrows(IllegalStateException.class, () -> array.get(4));
+        assertThrows(IllegalStateException.class, () -> array.set(4, 42.0));
+        assertThrows(IllegalStateException.class, () -> array.fill(0.0));
+    }
+
+    @Override
+    HugeDoubleArray singleArray(final int size) {
+        return HugeDoubleArray.newArray(size, HugeArrayBackend.OFF_HEAP);
+    }
+
+    @Override
+    HugeDoubleArray pagedArray(final int size) {
+        return HugeDoubleArray.newArray(size, HugeArrayBackend.OFF_HEAP);
+    }
+
+    @Override
+    long bufferSize(final int size) {
+        return (long) size * Double.BYTES;
+    }
+
+    @Override
+    Double box(final int value) {
+        return (double) value;
+    }
+
+    @Override
+    int unbox(final Double value) {
+        return value.intValue();
+    }
+
+    @Override
+    Double primitiveNull() {
+        return 0D;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class OffHeapHugeIntArrayTest extends HugeArrayTestBase<int[], Integer, HugeIntArray> {
+
+    @Test
+    void shouldGetAndAddValues() {
+        testArray(10, array -> {
+            array.set(4, 42);
+            assertEquals(42, array.getAndAdd(4, 1337));
+            assertEquals(42 + 1337, array.get(4));
+        });
+    }
+
+    @Test
+    void shouldBinaryOrAndAndValues() {
+        testArray(10, array -> {
+            array.set(4, 0b1010);
+            array.or(4, 0b0101);
+            assertEquals(0b1111, array.get(4));
+            assertEquals(0b0110, array.and(4, 0b0110));
+        });
+    }
+
+    @Test
+    void shouldRejectAccessOutOfBounds() {
+        var array = singleArray(10);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(10));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(-1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.set(10, 42));
+        array.release();
+    }
+
+    @Test
+    void shouldRejectAccessAfterRelease() {
+        var array = singleArray(10);
+        array.set(4, 42);
+        array.release();
+        assertThrows(IllegalStateException.class, () -> array.get(4));
+        assertThrows(IllegalStateException.class, () -> array.set(4, 42));
+        assertThrows(IllegalStateException.class, () -> array.fill(0));
+    }
+
+    @Override
+    HugeIntArray singleArray(final int size) {
+        return HugeIntArray.newArray(size, HugeArrayBackend.OFF_HEAP);
+    }
+
+    @Override
+    HugeIntArray pagedArray(final int size) {
+        return HugeIntArray.newArray(size, HugeArrayBackend.OFF_HEAP);
+    }
+
+    @Override
+    long bufferSize(final int size) {
+        return (long) size * Integer.BYTES;
+    }
+
+    @Override
+    Integer box(final int value) {
+        return value;
+    }
+
+    @Override
+    int unbox(final Integer value) {
+        return value;
+    }
+
+    @Override
+    Integer primitiveNull() {
+        return 0;
+    }
+}
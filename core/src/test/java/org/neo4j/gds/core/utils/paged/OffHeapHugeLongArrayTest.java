@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class OffHeapHugeLongArrayTest extends HugeArrayTestBase<long[], Long, HugeLongArray> {
+
+    @Test
+    void shouldAddToValues() {
+        testArray(10, array -> {
+            array.set(4, 42L);
+            array.addTo(4, 1337L);
+            assertEquals(42L + 1337L, array.get(4));
+        });
+    }
+
+    @Test
+    void shouldBinarySearch() {
+        var array = HugeLongArray.newArray(HugeArrays.PAGE_SIZE * 3, HugeArrayBackend.OFF_HEAP);
+        array.setAll(i -> i);
+
+        assertEquals(20000, array.binarySearch(20000));
+        assertEquals(HugeArrays.PAGE_SIZE * 3 - 1, array.binarySearch(HugeArrays.PAGE_SIZE * 3 + 10));
+        assertEquals(-1, array.binarySearch(-10));
+        array.release();
+    }
+
+    @Test
+    void shouldCopyBetweenBackends() {
+        var offHeap = HugeLongArray.newArray(100, HugeArrayBackend.OFF_HEAP);
+        var heap = HugeLongArray.newArray(120);
+        heap.fill(1337L);
+        offHeap.setAll(i -> i + 42L);
+
+        offHeap.copyTo(heap, 100);
+        for (long i = 0; i < 100; i++) {
+            assertEquals(i + 42L, heap.get(i));
+        }
+        for (long i = 100; i < 120; i++) {
+            assertEquals(0L, heap.get(i));
+        }
+
+        heap.setAll(i -> i);
+        heap.copyTo(offHeap, 120);
+        for (long i = 0; i < 100; i++) {
+            assertEquals(i, offHeap.get(i));
+        }
+        offHeap.release();
+    }
+
+    @Test
+    void shouldFreeNativeMemoryOnRelease() {
+        var array = HugeLongArray.newArray(1000, HugeArrayBackend.OFF_HEAP);
+        assertThat(OffHeapMemory.allocatedBytes()).isGreaterThanOrEqualTo(8000L);
+
+        assertEquals(8000L, array.release());
+        assertEquals(0L, array.release());
+    }
+
+    @Test
+    void shouldComputeMemoryEstimation() {
+        long instanceSize = HugeLongArray.memoryEstimation(0L, HugeArrayBackend.OFF_HEAP);
+        assertEquals(instanceSize + 800L, HugeLongArray.memoryEstimation(100L, HugeArrayBackend.OFF_HEAP));
+        assertEquals(
+            instanceSize + 800_000_000_000L,
+            HugeLongArray.memoryEstimation(100_000_000_000L, HugeArrayBackend.OFF_HEAP)
+        );
+        assertEquals(HugeLongArray.memoryEstimation(100L), HugeLongArray.memoryEstimation(100L, HugeArrayBackend.HEAP));
+    }
+
+    @Test
+    void shouldRejectAccessOutOfBounds() {
+        var array = singleArray(10);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(10));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(-1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.set(10, 42L));
+        array.release();
+    }
+
+    @Test
+    void shouldRejectAccessAfterRelease() {
+        var array = singleArray(10);
+        array.set(4, 42L);
+        array.release();
+        assertThrows(IllegalStateException.class, () -> array.get(4));
+        assertThrows(IllegalStateException.class, () -> array.set(4, 42L));
+        assertThrows(IllegalStateException.class, () -> array.fill(0L));
+    }
+
+    @Override
+    HugeLongArray singleArray(final int size) {
+        return HugeLongArray.newArray(size, HugeArrayBackend.OFF_HEAP);
+    }
+
+    @Override
+    HugeLongArray pagedArray(final int size) {
+        return HugeLongArray.newArray(size, HugeArrayBackend.OFF_HEAP);
+    }
+
+    @Override
+    long bufferSize(final int size) {
+        return (long) size * Long.BYTES;
+    }
+
+    @Override
+    Long box(final int value) {
+        return (long) value;
+    }
+
+    @Override
+    int unbox(final Long value) {
+        return value.intValue();
+    }
+
+    @Override
+    Long primitiveNull() {
+        return 0L;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SparseLongPriorityQueueTest {
+
+    @Test
+    void testIsEmpty() {
+        var queue = SparseLongPriorityQueue.min();
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertEquals(-1, queue.pop());
+    }
+
+    @Test
+    void testPopInCostOrder() {
+        var queue = SparseLongPriorityQueue.min(2);
+        queue.add(1_000_000_000_000L, 3.0);
+        queue.add(42L, 1.0);
+        queue.add(7L, 2.0);
+        queue.add(Long.MAX_VALUE, 0.5);
+
+        assertEquals(4, queue.size());
+        assertEquals(Long.MAX_VALUE, queue.top());
+        assertEquals(Long.MAX_VALUE, queue.pop());
+        assertEquals(42L, queue.pop());
+        assertEquals(7L, queue.pop());
+        assertEquals(1_000_000_000_000L, queue.pop());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testSetUpdatesCost() {
+        var queue = SparseLongPriorityQueue.min();
+        queue.add(1L, 1.0);
+        queue.add(2L, 2.0);
+        queue.add(3L, 3.0);
+
+        // decrease
+        queue.set(3L, 0.5);
+        assertEquals(3L, queue.top());
+        // increase
+        queue.set(3L, 4.0);
+        assertEquals(1L, queue.top());
+        // insert
+        queue.set(4L, 1.5);
+
+        assertEquals(4, queue.size());
+        assertEquals(1L, queue.pop());
+        assertEquals(4L, queue.pop());
+        assertEquals(2L, queue.pop());
+        assertEquals(3L, queue.pop());
+    }
+
+    @Test
+    void testCostIsRetainedAfterPop() {
+        var queue = SparseLongPriorityQueue.min();
+        queue.add(23L, 4.2);
+
+        assertTrue(queue.containsElement(23L));
+        assertEquals(23L, queue.pop());
+        assertFalse(queue.containsElement(23L));
+        assertEquals(4.2, queue.cost(23L));
+    }
+
+    @Test
+    void testClear() {
+        var queue = SparseLongPriorityQueue.min();
+        queue.add(1L, 1.0);
+        queue.add(2L, 2.0);
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.containsElement(1L));
+        assertEquals(0.0, queue.cost(1L));
+    }
+
+    @Test
+    void testRandomUpdates() {
+        var random = new Random(42);
+        var queue = SparseLongPriorityQueue.min();
+        var costs = new double[1_000];
+
+        for (int i = 0; i < 10_000; i++) {
+            int element = random.nextInt(costs.length);
+            costs[element] = random.nextDouble();
+            queue.set(element * 1_000_003L, costs[element]);
+        }
+
+        var expected = new ArrayList<Double>();
+        for (int element = 0; element < costs.length; element++) {
+            if (queue.containsElement(element * 1_000_003L)) {
+                expected.add(costs[element]);
+            }
+        }
+        expected.sort(Comparator.naturalOrder());
+
+        List<Double> actual = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            actual.add(queue.cost(queue.pop()));
+        }
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+}
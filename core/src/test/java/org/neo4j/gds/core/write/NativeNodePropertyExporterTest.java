@@ -180,7 +180,9 @@ class NativeNodePropertyExporterTest extends BaseTest {
         exporter.write("newProp1", new LongTestPropertyValues(nodeId -> 1L));
 
         // then assert messages
+        // the throughput depends on timing and is asserted separately
         assertThat(log.getMessages(TestLog.INFO))
+            .filteredOn(message -> !message.contains(":: Committed transaction with") && !message.contains(":: Wrote "))
             .extracting(removingThreadId())
             .containsExactly(
                 "AlgoNameGoesHere :: WriteNodeProperties :: Start",
@@ -208,6 +210,46 @@ class NativeNodePropertyExporterTest extends BaseTest {
             );
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void writesInConfiguredBatches(boolean parallel) {
+        // given a graph of 20 nodes
+        runQuery("UNWIND range(1, 20) AS i CREATE (:A)");
+        Graph graph = new StoreLoaderBuilder().databaseService(db).addNodeLabel("A").build().graph();
+
+        var log = Neo4jProxy.testLog();
+        var writeConcurrency = 4;
+        var progressTracker = new TaskProgressTracker(
+            NodePropertyExporter.baseTask("AlgoNameGoesHere", graph.nodeCount()),
+            log,
+            writeConcurrency,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+        var exporterBuilder = NativeNodePropertyExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, TerminationFlag.RUNNING_TRUE)
+            .withProgressTracker(progressTracker)
+            .withBatchSize(6)
+            .withMaxInFlightTransactions(2);
+        if (parallel) {
+            exporterBuilder = exporterBuilder.parallel(Pools.DEFAULT, writeConcurrency);
+        }
+        var exporter = exporterBuilder.build();
+
+        exporter.write("newProp1", new LongTestPropertyValues(nodeId -> nodeId));
+
+        assertThat(exporter.propertiesWritten()).isEqualTo(20L);
+        runQueryWithRowConsumer(db, "MATCH (n:A) WHERE n.newProp1 IS NOT NULL RETURN count(n) AS count", row ->
+            assertThat(row.getNumber("count").longValue()).isEqualTo(20L)
+        );
+
+        // 20 nodes in batches of 6
+        assertThat(log.getMessages(TestLog.INFO))
+            .filteredOn(message -> message.contains("WriteNodeProperties :: Committed transaction with"))
+            .hasSize(4);
+        assertThat(log.getMessages(TestLog.INFO))
+            .anyMatch(message -> message.contains("WriteNodeProperties :: Wrote 20 nodes in"));
+    }
+
     private void transactionTerminationTest(ExecutorService executorService) {
         TerminationFlag terminationFlag = () -> false;
         var exporter = NativeNodePropertyExporter
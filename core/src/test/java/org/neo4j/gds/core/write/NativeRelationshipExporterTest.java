@@ -203,7 +203,9 @@ class NativeRelationshipExporterTest extends BaseTest {
         exporter.write("T");
 
         // then assert messages
+        // the throughput depends on timing and is asserted separately
         assertThat(log.getMessages(TestLog.INFO))
+            .filteredOn(message -> !message.contains(":: Committed transaction with") && !message.contains(":: Wrote "))
             .extracting(removingThreadId())
             .containsExactly(
                 "WriteRelationships :: Start",
@@ -231,6 +233,29 @@ class NativeRelationshipExporterTest extends BaseTest {
             );
     }
 
+    @Test
+    void reportsThroughputPerTransaction() {
+        Graph graph = GdlFactory.of("(a)-[:T]->(b),".repeat(20)).build().getUnion();
+
+        var log = Neo4jProxy.testLog();
+        var task = Tasks.leaf("WriteRelationships", graph.relationshipCount());
+        var progressTracker = new TaskProgressTracker(task, log, RelationshipExporterBuilder.DEFAULT_WRITE_CONCURRENCY, EmptyTaskRegistryFactory.INSTANCE);
+
+        var exporter = NativeRelationshipExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, TerminationFlag.RUNNING_TRUE)
+            .withProgressTracker(progressTracker)
+            .withBatchSize(5)
+            .build();
+
+        exporter.write("T");
+
+        assertThat(log.getMessages(TestLog.INFO))
+            .filteredOn(message -> message.contains("WriteRelationships :: Committed transaction with"))
+            .hasSizeGreaterThan(1);
+        assertThat(log.getMessages(TestLog.INFO))
+            .anyMatch(message -> message.contains("WriteRelationships :: Wrote 20 relationships in"));
+    }
+
     private NativeRelationshipExporter setupExportTest(boolean includeProperties) {
         // create graph to export
         clearDb();
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.graphdb.TransactionTerminatedException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteThrottleTest {
+
+    @Test
+    void shouldNotWaitWhenUnlimited() {
+        var throttle = WriteThrottle.of(0);
+        assertThat(throttle).isSameAs(WriteThrottle.UNLIMITED);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            throttle.acquire(1_000_000, TerminationFlag.RUNNING_TRUE);
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000L);
+    }
+
+    @Test
+    void shouldSpreadWritesOverTime() {
+        // 1000 rows per second
+        var throttle = WriteThrottle.of(1000);
+
+        long start = System.nanoTime();
+        // the first slot starts immediately, the following ones wait for their predecessors
+        throttle.acquire(100, TerminationFlag.RUNNING_TRUE);
+        throttle.acquire(100, TerminationFlag.RUNNING_TRUE);
+        throttle.acquire(100, TerminationFlag.RUNNING_TRUE);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200L);
+    }
+
+    @Test
+    void shouldStopWaitingWhenTerminated() {
+        // 1 row per second
+        var throttle = WriteThrottle.of(1);
+        var running = new AtomicBoolean(true);
+        TerminationFlag terminationFlag = running::get;
+
+        // reserves the first slot, the next one starts in 1000 seconds
+        throttle.acquire(1000, terminationFlag);
+        running.set(false);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> throttle.acquire(1, terminationFlag))
+            .isInstanceOf(TransactionTerminatedException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000L);
+    }
+}
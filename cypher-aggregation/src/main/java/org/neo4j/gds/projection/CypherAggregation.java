@@ -72,7 +72,6 @@ import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -116,10 +115,13 @@ public final class CypherAggregation extends BaseProc {
         // #result() is called twice, we cache the result of the first call to return it again in the second invocation
         private @Nullable AggregationResult result;
 
-        private @Nullable String graphName;
-        private @Nullable LazyIdMapBuilder idMapBuilder;
-        private @Nullable List<RelationshipPropertySchema> relationshipPropertySchemas;
+        private volatile @Nullable String graphName;
+        private volatile @Nullable LazyIdMapBuilder idMapBuilder;
+        private volatile @Nullable List<RelationshipPropertySchema> relationshipPropertySchemas;
+        private @Nullable String[] relationshipPropertyKeys;
+        private @Nullable ThreadLocal<double[]> relationshipPropertyValues;
         private final Map<RelationshipType, RelationshipsBuilder> relImporters;
+        private final Map<String, RelationshipsBuilder> relImportersByTypeName;
         // Used for initializing builders
         private final Lock lock;
 
@@ -132,6 +134,7 @@ public final class CypherAggregation extends BaseProc {
             this.databaseId = databaseId;
             this.username = username;
             this.relImporters = new ConcurrentHashMap<>();
+            this.relImportersByTypeName = new ConcurrentHashMap<>();
             this.graphSchemaBuilder = ImmutableGraphSchema.builder();
             this.lock = new ReentrantLock();
         }
@@ -146,8 +149,10 @@ public final class CypherAggregation extends BaseProc {
         ) {
             initGraphName(graphName);
 
-            Map<String, Value> sourceNodePropertyValues = null;
-            Map<String, Value> targetNodePropertyValues = null;
+            // Property values are only converted when a node is added for the first time,
+            // rows referencing an already imported node do not allocate.
+            Map<String, Object> sourceNodePropertyValues = null;
+            Map<String, Object> targetNodePropertyValues = null;
             @Nullable NodeLabelToken sourceNodeLabels = null;
             @Nullable NodeLabelToken targetNodeLabels = null;
 
@@ -172,8 +177,8 @@ public final class CypherAggregation extends BaseProc {
 
             initIdMapBuilder(sourceNodePropertyValues, targetNodePropertyValues, sourceNodeLabels, targetNodeLabels);
 
-            Map<String, Value> relationshipProperties = null;
-            RelationshipType relationshipType = RelationshipType.ALL_RELATIONSHIPS;
+            Map<String, Object> relationshipProperties = null;
+            String relationshipType = RelationshipType.ALL_RELATIONSHIPS.name;
 
             if (relationshipConfig != null) {
                 initRelationshipPropertySchemas(relationshipConfig);
@@ -189,27 +194,30 @@ public final class CypherAggregation extends BaseProc {
                 }
             }
 
-            var relImporter = this.relImporters.computeIfAbsent(relationshipType, type -> newRelImporter());
+            var relImporter = relImporter(relationshipType);
 
             var intermediateSourceId = loadNode(sourceNode, sourceNodeLabels, sourceNodePropertyValues);
 
             if (targetNode != null) {
                 var intermediateTargetId = loadNode(targetNode, targetNodeLabels, targetNodePropertyValues);
 
-                if (this.relationshipPropertySchemas != null && !this.relationshipPropertySchemas.isEmpty()) {
-                    assert relationshipProperties != null;
-                    if (this.relationshipPropertySchemas.size() == 1) {
-                        var relationshipProperty = this.relationshipPropertySchemas.get(0).key();
+                var relationshipPropertyKeys = this.relationshipPropertyKeys;
+                if (relationshipPropertyKeys != null && relationshipPropertyKeys.length > 0) {
+                    if (relationshipPropertyKeys.length == 1) {
                         double propertyValue = loadOneRelationshipProperty(
                             relationshipProperties,
-                            relationshipProperty
+                            relationshipPropertyKeys[0]
                         );
                         relImporter.addFromInternal(intermediateSourceId, intermediateTargetId, propertyValue);
                     } else {
-                        var propertyValues = loadMultipleRelationshipProperties(
-                            relationshipProperties,
-                            this.relationshipPropertySchemas
-                        );
+                        // the builder copies the values into its own buffers, so we can reuse the array
+                        var propertyValues = this.relationshipPropertyValues.get();
+                        for (int i = 0; i < relationshipPropertyKeys.length; i++) {
+                            propertyValues[i] = loadOneRelationshipProperty(
+                                relationshipProperties,
+                                relationshipPropertyKeys[i]
+                            );
+                        }
                         relImporter.addFromInternal(intermediateSourceId, intermediateTargetId, propertyValues);
                     }
                 } else {
@@ -219,8 +227,11 @@ public final class CypherAggregation extends BaseProc {
         }
 
         private void initRelationshipPropertySchemas(@NotNull Map<String, Object> relationshipConfig) {
+            if (this.relationshipPropertySchemas != null) {
+                return;
+            }
             initObjectUnderLock(() -> this.relationshipPropertySchemas, () -> {
-                this.relationshipPropertySchemas = new ArrayList<>();
+                var propertySchemas = new ArrayList<RelationshipPropertySchema>();
 
                 // We need to do this before extracting the `relationshipProperties`, because
                 // we remove the original entry from the map during converting; also we remove null keys
@@ -228,16 +239,25 @@ public final class CypherAggregation extends BaseProc {
                 var relationshipPropertyKeys = relationshipConfig.get("properties");
                 if (relationshipPropertyKeys instanceof Map) {
                     for (var propertyKey : ((Map<?, ?>) relationshipPropertyKeys).keySet()) {
-                        this.relationshipPropertySchemas.add(RelationshipPropertySchema.of(
+                        propertySchemas.add(RelationshipPropertySchema.of(
                             String.valueOf(propertyKey),
                             ValueType.DOUBLE
                         ));
                     }
                 }
+
+                var propertyKeys = propertySchemas.stream().map(RelationshipPropertySchema::key).toArray(String[]::new);
+                this.relationshipPropertyValues = ThreadLocal.withInitial(() -> new double[propertyKeys.length]);
+                this.relationshipPropertyKeys = propertyKeys;
+                // published last, it guards the initialization
+                this.relationshipPropertySchemas = propertySchemas;
             });
         }
 
         private void initGraphName(String graphName) {
+            if (this.graphName != null) {
+                return;
+            }
             initObjectUnderLock(() -> this.graphName, () -> {
                 validateGraphName(graphName);
                 this.graphName = graphName;
@@ -245,11 +265,14 @@ public final class CypherAggregation extends BaseProc {
         }
 
         private void initIdMapBuilder(
-            Map<String, Value> sourceNodePropertyValues,
-            Map<String, Value> targetNodePropertyValues,
+            @Nullable Map<String, Object> sourceNodePropertyValues,
+            @Nullable Map<String, Object> targetNodePropertyValues,
             @Nullable NodeLabelToken sourceNodeLabels,
             @Nullable NodeLabelToken targetNodeLabels
         ) {
+            if (this.idMapBuilder != null) {
+                return;
+            }
             initObjectUnderLock(() -> this.idMapBuilder, () -> {
                 this.idMapBuilder = newIdMapBuilder(
                     sourceNodeLabels,
@@ -280,9 +303,9 @@ public final class CypherAggregation extends BaseProc {
         @NotNull
         private LazyIdMapBuilder newIdMapBuilder(
             @Nullable NodeLabelToken sourceNodeLabels,
-            @Nullable Map<String, Value> sourceNodeProperties,
+            @Nullable Map<String, Object> sourceNodeProperties,
             @Nullable NodeLabelToken targetNodeLabels,
-            @Nullable Map<String, Value> targetNodeProperties
+            @Nullable Map<String, Object> targetNodeProperties
         ) {
             boolean hasLabelInformation = !(sourceNodeLabels == null && targetNodeLabels == null);
             boolean hasProperties = !(sourceNodeProperties == null && targetNodeProperties == null);
@@ -296,14 +319,14 @@ public final class CypherAggregation extends BaseProc {
         }
 
         @Nullable
-        private Map<String, Value> propertiesConfig(
+        private Map<String, Object> propertiesConfig(
             String propertyKey,
             @NotNull Map<String, Object> propertiesConfig
         ) {
             var nodeProperties = propertiesConfig.remove(propertyKey);
             if (nodeProperties == null || nodeProperties instanceof Map) {
                 //noinspection unchecked
-                return objectsToValues((Map<String, Object>) nodeProperties);
+                return (Map<String, Object>) nodeProperties;
             }
             throw new IllegalArgumentException(formatWithLocale(
                 "The value of `%s` must be a `Map of Property Values`, but was `%s`.",
@@ -353,16 +376,16 @@ public final class CypherAggregation extends BaseProc {
             return nodeLabelToken;
         }
 
-        private RelationshipType typeConfig(
+        private String typeConfig(
             @SuppressWarnings("SameParameterValue") String relationshipTypeKey,
             @NotNull Map<String, Object> relationshipConfig
         ) {
             var relationshipTypeEntry = relationshipConfig.remove(relationshipTypeKey);
             if (relationshipTypeEntry instanceof String) {
-                return RelationshipType.of((String) relationshipTypeEntry);
+                return (String) relationshipTypeEntry;
             }
             if (relationshipTypeEntry == null) {
-                return RelationshipType.ALL_RELATIONSHIPS;
+                return RelationshipType.ALL_RELATIONSHIPS.name;
             }
             throw new IllegalArgumentException(formatWithLocale(
                 "The value of `%s` must be `String`, but was `%s`.",
@@ -371,6 +394,22 @@ public final class CypherAggregation extends BaseProc {
             ));
         }
 
+        /**
+         * Resolves the builder by the type name as given in the row,
+         * so that the per-row lookup neither allocates a type nor a lambda.
+         */
+        private RelationshipsBuilder relImporter(String relationshipType) {
+            var relImporter = this.relImportersByTypeName.get(relationshipType);
+            if (relImporter == null) {
+                relImporter = this.relImporters.computeIfAbsent(
+                    RelationshipType.of(relationshipType),
+                    type -> newRelImporter()
+                );
+                this.relImportersByTypeName.putIfAbsent(relationshipType, relImporter);
+            }
+            return relImporter;
+        }
+
         private RelationshipsBuilder newRelImporter() {
             assert this.idMapBuilder != null;
 
@@ -392,20 +431,6 @@ public final class CypherAggregation extends BaseProc {
             return relationshipsBuilderBuilder.build();
         }
 
-        private static @Nullable Map<String, Value> objectsToValues(@Nullable Map<String, Object> properties) {
-            if (properties == null) {
-                return null;
-            }
-            var values = new HashMap<String, Value>(properties.size());
-            properties.forEach((key, valueObject) -> {
-                if (valueObject != null) {
-                    var value = ValueConverter.toValue(valueObject);
-                    values.put(key, value);
-                }
-            });
-            return values;
-        }
-
         private long extractNodeId(@Nullable Object node) {
             if (node instanceof Node) {
                 return ((Node) node).getId();
@@ -465,7 +490,7 @@ public final class CypherAggregation extends BaseProc {
         private long loadNode(
             @Nullable Object node,
             @Nullable NodeLabelToken nodeLabels,
-            @Nullable Map<String, Value> nodeProperties
+            @Nullable Map<String, Object> nodeProperties
         ) {
             assert this.idMapBuilder != null;
 
@@ -477,26 +502,22 @@ public final class CypherAggregation extends BaseProc {
         }
 
         private static double loadOneRelationshipProperty(
-            @NotNull Map<String, Value> relationshipProperties,
+            @Nullable Map<String, Object> relationshipProperties,
             String relationshipPropertyKey
         ) {
-            var propertyValueObject = relationshipProperties.get(relationshipPropertyKey);
-            var propertyValue = Objects.requireNonNullElse(propertyValueObject, Values.NO_VALUE);
+            var propertyValueObject = relationshipProperties == null
+                ? null
+                : relationshipProperties.get(relationshipPropertyKey);
+            // numbers are read directly, everything else goes through the value conversion for validation
+            if (propertyValueObject instanceof Number) {
+                return ((Number) propertyValueObject).doubleValue();
+            }
+            var propertyValue = propertyValueObject == null
+                ? Values.NO_VALUE
+                : ValueConverter.toValue(propertyValueObject);
             return ReadHelper.extractValue(propertyValue, DefaultValue.DOUBLE_DEFAULT_FALLBACK);
         }
 
-        private static double[] loadMultipleRelationshipProperties(
-            @NotNull Map<String, Value> relationshipProperties,
-            List<RelationshipPropertySchema> relationshipPropertyKeys
-        ) {
-            var propertyValues = new double[relationshipPropertyKeys.size()];
-            Arrays.setAll(propertyValues, i -> {
-                var relationshipPropertyKey = relationshipPropertyKeys.get(i).key();
-                return loadOneRelationshipProperty(relationshipProperties, relationshipPropertyKey);
-            });
-            return propertyValues;
-        }
-
         @UserAggregationResult
         @ReturnType(AggregationResult.class)
         public @Nullable Map<String, Object> result() {
@@ -622,6 +643,7 @@ public final class CypherAggregation extends BaseProc {
             // release all references to the builders
             // we are only be called once and don't support double invocations of `result` building
             this.relImporters.clear();
+            this.relImportersByTypeName.clear();
         }
 
         private static NodeSchema nodeSchemaWithProperties(Iterable<NodeLabel> nodeLabels, Map<String, NodePropertyValues> propertyMap) {
@@ -831,7 +853,7 @@ final class LazyIdMapBuilder implements PartialIdMap {
 
     long addNodeWithProperties(
         long nodeId,
-        Map<String, Value> properties,
+        Map<String, Object> propertyObjects,
         @Nullable NodeLabelToken nodeLabels
     ) {
         var intermediateId = this.intermediateIdMapBuilder.toMappedNodeId(nodeId);
@@ -846,6 +868,7 @@ final class LazyIdMapBuilder implements PartialIdMap {
         if (nodeLabels == null) {
             nodeLabels = NodeLabelTokens.empty();
         }
+        var properties = objectsToValues(propertyObjects);
         if (properties.isEmpty()) {
             this.nodesBuilder.addNode(intermediateId, nodeLabels);
         } else {
@@ -855,6 +878,17 @@ final class LazyIdMapBuilder implements PartialIdMap {
         return intermediateId;
     }
 
+    private static Map<String, Value> objectsToValues(Map<String, Object> properties) {
+        var values = new HashMap<String, Value>(properties.size());
+        properties.forEach((key, valueObject) -> {
+            if (valueObject != null) {
+                var value = ValueConverter.toValue(valueObject);
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
     @Override
     public long toMappedNodeId(long originalNodeId) {
         return originalNodeId;
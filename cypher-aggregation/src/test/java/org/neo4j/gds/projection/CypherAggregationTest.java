@@ -43,6 +43,8 @@ import org.neo4j.gds.wcc.WccStreamProc;
 import org.neo4j.graphdb.Direction;
 import org.neo4j.graphdb.RelationshipType;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -577,6 +579,53 @@ class CypherAggregationTest extends BaseProcTest {
         });
     }
 
+    @Test
+    void testMultipleRelationshipPropertiesWithMultipleTypes() {
+        runQuery(
+            "UNWIND [" +
+            "  {s: 0, t: 1, type: 'A', weight: 1, cost: 2.5}," +
+            "  {s: 1, t: 2, type: 'B', weight: 3}," +
+            "  {s: 2, t: 0, type: 'A', cost: 4.5}" +
+            "] AS row " +
+            "RETURN gds.alpha.graph.project('g', row.s, row.t, null, " +
+            "   { relationshipType: row.type, properties: {weight: row.weight, cost: row.cost} }" +
+            ")"
+        );
+
+        var graphStore = GraphStoreCatalog.get("", db.databaseName(), "g").graphStore();
+
+        assertThat(graphStore.relationshipTypes()).containsExactlyInAnyOrder(
+            org.neo4j.gds.RelationshipType.of("A"),
+            org.neo4j.gds.RelationshipType.of("B")
+        );
+
+        var expected = Map.of(
+            "weight", Map.of("A", new double[]{1.0, Double.NaN}, "B", new double[]{3.0}),
+            "cost", Map.of("A", new double[]{2.5, 4.5}, "B", new double[]{Double.NaN})
+        );
+
+        expected.forEach((property, expectedByType) -> expectedByType.forEach((type, expectedValues) -> {
+            var graph = graphStore.getGraph(org.neo4j.gds.RelationshipType.of(type), Optional.of(property));
+            var actualValues = new ArrayList<Double>();
+            graph.forEachNode(nodeId -> {
+                graph.forEachRelationship(nodeId, 0.0, (s, t, value) -> actualValues.add(value));
+                return true;
+            });
+            assertThat(actualValues)
+                .as("property %s of type %s", property, type)
+                .containsExactlyInAnyOrder(Arrays.stream(expectedValues).boxed().toArray(Double[]::new));
+        }));
+    }
+
+    @Test
+    void testInvalidRelationshipProperty() {
+        assertThatThrownBy(() -> runQuery(
+            "RETURN gds.alpha.graph.project('g', 0, 1, null, { properties: {weight: 'heavy'} })"
+        ))
+            .getRootCause()
+            .hasMessage("Unsupported GDS node property of type `String`.");
+    }
+
     @Test
     void testPipelinePseudoAnonymous() {
         assertCypherResult(
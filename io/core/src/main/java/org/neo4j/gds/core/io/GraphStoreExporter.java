@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.io;
 
 import org.neo4j.common.Validator;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
@@ -27,6 +28,8 @@ import org.neo4j.gds.api.IdMap;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.LongFunction;
@@ -97,10 +100,38 @@ public abstract class GraphStoreExporter<CONFIG extends GraphStoreExporterBaseCo
 
     protected abstract IdMappingType idMappingType();
 
+    /**
+     * The in-memory node properties to export, all properties by default.
+     */
+    protected Collection<String> exportedNodeProperties(GraphStore graphStore) {
+        return graphStore.nodePropertyKeys();
+    }
+
+    /**
+     * The relationship types to export, all types by default.
+     */
+    protected Collection<RelationshipType> exportedRelationshipTypes(GraphStore graphStore) {
+        return graphStore.relationshipTypes();
+    }
+
+    /**
+     * Node properties that are computed during the export in addition to the in-memory ones.
+     */
+    protected Map<String, LongFunction<Object>> computedNodeProperties(GraphStore graphStore) {
+        return Map.of();
+    }
+
     public ExportedProperties run() {
+        var additionalNodeProperties = new HashMap<>(neoNodeProperties);
+        additionalNodeProperties.putAll(computedNodeProperties(graphStore));
+
         var metaDataStore = MetaDataStore.of(graphStore);
-        var nodeStore = NodeStore.of(graphStore, neoNodeProperties);
-        var relationshipStore = RelationshipStore.of(graphStore, config.defaultRelationshipType());
+        var nodeStore = NodeStore.of(graphStore, exportedNodeProperties(graphStore), additionalNodeProperties);
+        var relationshipStore = RelationshipStore.of(
+            graphStore,
+            exportedRelationshipTypes(graphStore),
+            config.defaultRelationshipType()
+        );
         var graphProperties = graphStore
             .graphPropertyKeys()
             .stream()
@@ -120,7 +151,7 @@ public abstract class GraphStoreExporter<CONFIG extends GraphStoreExporterBaseCo
 
         export(graphStoreInput);
 
-        long importedNodeProperties = (nodeStore.propertyCount() + neoNodeProperties.size()) * graphStore.nodeCount();
+        long importedNodeProperties = (nodeStore.propertyCount() + additionalNodeProperties.size()) * graphStore.nodeCount();
         long importedRelationshipProperties = relationshipStore.propertyCount();
         return ImmutableExportedProperties.of(importedNodeProperties, importedRelationshipProperties);
     }
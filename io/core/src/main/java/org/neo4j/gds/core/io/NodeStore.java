@@ -25,6 +25,7 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -103,6 +104,7 @@ public class NodeStore {
 
     static NodeStore of(
         GraphStore graphStore,
+        Collection<String> nodePropertyKeys,
         Map<String, LongFunction<Object>> additionalProperties
     ) {
         HugeIntArray labelCounts = null;
@@ -127,7 +129,9 @@ public class NodeStore {
         graphStore.nodeLabels().forEach(label -> {
             var properties = nodeProperties.computeIfAbsent(label.name, k -> new HashMap<>());
             graphStore.schema().nodeSchema().propertySchemasFor(label).forEach(propertySchema -> {
-                properties.put(propertySchema.key(), graphStore.nodeProperty(propertySchema.key()).values());
+                if (nodePropertyKeys.contains(propertySchema.key())) {
+                    properties.put(propertySchema.key(), graphStore.nodeProperty(propertySchema.key()).values());
+                }
             });
         });
 
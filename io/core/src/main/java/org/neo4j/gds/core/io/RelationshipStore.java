@@ -26,6 +26,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -74,13 +75,19 @@ public final class RelationshipStore {
         );
     }
 
-    static RelationshipStore of(GraphStore graphStore, String defaultRelationshipType) {
+    static RelationshipStore of(
+        GraphStore graphStore,
+        Collection<RelationshipType> relationshipTypes,
+        String defaultRelationshipType
+    ) {
         Map<RelationshipType, CompositeRelationshipIterator> relationshipIterators = new HashMap<>();
         var propertyCount = new MutableLong(0);
+        var relationshipCount = new MutableLong(0);
 
-        graphStore.relationshipTypes().forEach(relationshipType -> {
+        relationshipTypes.forEach(relationshipType -> {
             var outputProperties = new ArrayList<>(graphStore.relationshipPropertyKeys(relationshipType));
 
+            relationshipCount.add(graphStore.relationshipCount(relationshipType));
             propertyCount.add(outputProperties.size() * graphStore.relationshipCount(relationshipType));
 
             var outputRelationshipType = relationshipType.equals(RelationshipType.ALL_RELATIONSHIPS)
@@ -98,7 +105,7 @@ public final class RelationshipStore {
 
         return new RelationshipStore(
             graphStore.nodes(),
-            graphStore.relationshipCount(),
+            relationshipCount.getValue(),
             propertyCount.getValue(),
             relationshipIterators
         );
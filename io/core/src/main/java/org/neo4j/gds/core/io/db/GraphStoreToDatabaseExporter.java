@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.io.db;
 
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.io.GraphStoreExporter;
 import org.neo4j.gds.core.io.GraphStoreInput;
@@ -28,8 +29,13 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.logging.Log;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class GraphStoreToDatabaseExporter extends GraphStoreExporter<GraphStoreToDatabaseExporterConfig> {
 
@@ -83,4 +89,29 @@ public final class GraphStoreToDatabaseExporter extends GraphStoreExporter<Graph
     protected IdMappingType idMappingType() {
         return IdMappingType.MAPPED;
     }
+
+    @Override
+    protected Collection<String> exportedNodeProperties(GraphStore graphStore) {
+        return config.nodePropertyIdentifiers(graphStore);
+    }
+
+    @Override
+    protected Collection<RelationshipType> exportedRelationshipTypes(GraphStore graphStore) {
+        return config.relationshipTypeIdentifiers(graphStore);
+    }
+
+    @Override
+    protected Map<String, LongFunction<Object>> computedNodeProperties(GraphStore graphStore) {
+        return config.originalIdProperty().map(originalIdProperty -> {
+            if (exportedNodeProperties(graphStore).contains(originalIdProperty)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The `%s` `%s` is already present in the in-memory graph.",
+                    GraphStoreToDatabaseExporterConfig.ORIGINAL_ID_PROPERTY_KEY,
+                    originalIdProperty
+                ));
+            }
+            var idMap = graphStore.nodes();
+            return Map.<String, LongFunction<Object>>of(originalIdProperty, idMap::toOriginalNodeId);
+        }).orElse(Map.of());
+    }
 }
@@ -20,15 +20,26 @@
 package org.neo4j.gds.core.io.db;
 
 import org.immutables.value.Value;
+import org.neo4j.gds.ElementProjection;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.config.ElementTypeValidator;
 import org.neo4j.gds.config.JobIdConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.io.GraphStoreExporterBaseConfig;
+import org.neo4j.gds.utils.StringJoining;
 import org.neo4j.internal.batchimport.IndexConfig;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @ValueClass
 @Configuration
@@ -36,10 +47,71 @@ import java.util.Optional;
 public interface GraphStoreToDatabaseExporterConfig extends GraphStoreExporterBaseConfig, JobIdConfig {
 
     String DB_NAME_KEY = "dbName";
+    String NODE_PROPERTIES_KEY = "nodeProperties";
+    String RELATIONSHIP_TYPES_KEY = "relationshipTypes";
+    String ORIGINAL_ID_PROPERTY_KEY = "originalIdProperty";
 
     @Configuration.Key(DB_NAME_KEY)
     String dbName();
 
+    /**
+     * The in-memory node properties to export, all properties by default.
+     */
+    @Value.Default
+    @Configuration.Key(NODE_PROPERTIES_KEY)
+    default List<String> nodeProperties() {
+        return Collections.singletonList(ElementProjection.PROJECT_ALL);
+    }
+
+    /**
+     * The relationship types to export, all types by default.
+     * An empty list exports nodes only.
+     */
+    @Value.Default
+    @Configuration.Key(RELATIONSHIP_TYPES_KEY)
+    default List<String> relationshipTypes() {
+        return Collections.singletonList(ElementProjection.PROJECT_ALL);
+    }
+
+    /**
+     * If present, the original node id is written to this node property,
+     * so that exported results can be matched against the source database.
+     */
+    @Configuration.Key(ORIGINAL_ID_PROPERTY_KEY)
+    Optional<String> originalIdProperty();
+
+    @Configuration.Ignore
+    default Collection<String> nodePropertyIdentifiers(GraphStore graphStore) {
+        if (nodeProperties().contains(ElementProjection.PROJECT_ALL)) {
+            return graphStore.nodePropertyKeys();
+        }
+
+        var invalidProperties = nodeProperties()
+            .stream()
+            .filter(propertyKey -> !graphStore.hasNodeProperty(propertyKey))
+            .collect(Collectors.toList());
+
+        if (!invalidProperties.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Could not find the specified `%s` of %s. Available properties are %s.",
+                NODE_PROPERTIES_KEY,
+                StringJoining.join(invalidProperties),
+                StringJoining.join(graphStore.nodePropertyKeys().stream().sorted())
+            ));
+        }
+
+        return nodeProperties();
+    }
+
+    @Configuration.Ignore
+    default Collection<RelationshipType> relationshipTypeIdentifiers(GraphStore graphStore) {
+        return ElementTypeValidator.resolveAndValidateTypes(
+            graphStore,
+            relationshipTypes(),
+            "`" + RELATIONSHIP_TYPES_KEY + "`"
+        );
+    }
+
     @Value.Default
     @Deprecated(forRemoval = true, since = "2.2")
     default boolean enableDebugLog() {
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file;
+
+import org.neo4j.gds.utils.StringJoining;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * Compression applied to the data files of a file export.
+ * Each data file is compressed as an independent stream, so that writer threads do not need to coordinate.
+ */
+public enum FileCompression {
+    NONE("") {
+        @Override
+        public OutputStream compress(OutputStream outputStream) {
+            return outputStream;
+        }
+
+        @Override
+        public InputStream decompress(InputStream inputStream) {
+            return inputStream;
+        }
+    },
+    GZIP(".gz") {
+        @Override
+        public OutputStream compress(OutputStream outputStream) throws IOException {
+            // Exports are bound by disk bandwidth, the fastest level already gives most of the size reduction.
+            return new GZIPOutputStream(outputStream, BUFFER_SIZE) {
+                {
+                    def.setLevel(Deflater.BEST_SPEED);
+                }
+            };
+        }
+
+        @Override
+        public InputStream decompress(InputStream inputStream) throws IOException {
+            return new GZIPInputStream(inputStream, BUFFER_SIZE);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final List<String> VALUES = Arrays
+        .stream(FileCompression.values())
+        .map(FileCompression::name)
+        .collect(Collectors.toList());
+
+    private final String fileExtension;
+
+    FileCompression(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * The suffix appended to the names of compressed data files, empty for uncompressed files.
+     */
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    public abstract OutputStream compress(OutputStream outputStream) throws IOException;
+
+    public abstract InputStream decompress(InputStream inputStream) throws IOException;
+
+    public static FileCompression fromFileName(String fileName) {
+        for (FileCompression compression : values()) {
+            if (compression != NONE && fileName.endsWith(compression.fileExtension())) {
+                return compression;
+            }
+        }
+        return NONE;
+    }
+
+    public static FileCompression parse(Object object) {
+        if (object instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) object);
+            if (!VALUES.contains(inputString)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Compression `%s` is not supported. Must be one of: %s.",
+                    object,
+                    StringJoining.join(VALUES)
+                ));
+            }
+            return FileCompression.valueOf(inputString);
+        } else if (object instanceof FileCompression) {
+            return (FileCompression) object;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected Compression or String. Got %s.",
+            object.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(FileCompression compression) {
+        return compression.toString();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file;
+
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * Format of a file export.
+ * CSV files can be read by other tools, the binary format is only read back by GDS,
+ * but restores the in-memory graph without parsing or compressing it again.
+ */
+public enum FileFormat {
+    CSV,
+    BINARY;
+
+    private static final List<String> VALUES = Arrays
+        .stream(FileFormat.values())
+        .map(FileFormat::name)
+        .collect(Collectors.toList());
+
+    public static FileFormat parse(Object object) {
+        if (object instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) object);
+            if (!VALUES.contains(inputString)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Format `%s` is not supported. Must be one of: %s.",
+                    object,
+                    StringJoining.join(VALUES)
+                ));
+            }
+            return FileFormat.valueOf(inputString);
+        } else if (object instanceof FileFormat) {
+            return (FileFormat) object;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected Format or String. Got %s.",
+            object.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(FileFormat format) {
+        return format.toString();
+    }
+}
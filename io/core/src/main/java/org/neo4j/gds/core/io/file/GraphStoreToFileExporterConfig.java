@@ -26,6 +26,8 @@ import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.Username;
 import org.neo4j.gds.core.io.GraphStoreExporterBaseConfig;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
@@ -39,6 +41,36 @@ public interface GraphStoreToFileExporterConfig extends GraphStoreExporterBaseCo
 
     String exportName();
 
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.core.io.file.FileCompression#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.io.file.FileCompression#toString")
+    default FileCompression compression() {
+        return FileCompression.NONE;
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.core.io.file.FileFormat#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.io.file.FileFormat#toString")
+    default FileFormat format() {
+        return FileFormat.CSV;
+    }
+
+    @Value.Check
+    default void validateBinaryFormat() {
+        if (format() != FileFormat.BINARY) {
+            return;
+        }
+        if (compression() != FileCompression.NONE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The binary format does not support compression, got %s.",
+                compression()
+            ));
+        }
+        if (!additionalNodeProperties().mappings().isEmpty()) {
+            throw new IllegalArgumentException("The binary format does not support additional node properties.");
+        }
+    }
+
     static GraphStoreToFileExporterConfig of(String username, CypherMapWrapper config) {
         return new GraphStoreToFileExporterConfigImpl(username, config);
     }
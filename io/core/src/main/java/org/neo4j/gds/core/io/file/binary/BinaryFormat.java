@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Layout of a binary graph export.
+ * <p>
+ * The export directory contains a header file, which holds the schema and
+ * the layout of all columns, and one file per column. Columns are stored as
+ * raw little-endian blocks, so that they can be read back in bulk.
+ */
+final class BinaryFormat {
+
+    static final int MAGIC = 0x47445342;
+    static final int VERSION = 1;
+
+    static final byte COMPRESSED_ADJACENCY = 0;
+    static final byte UNCOMPRESSED_ADJACENCY = 1;
+    static final byte PACKED_ADJACENCY = 2;
+
+    static final String HEADER_FILE = "header.bin";
+    static final String NODE_IDS_FILE = "node_ids.bin";
+
+    static String labelFile(int labelIndex) {
+        return formatWithLocale("node_label_%d.bin", labelIndex);
+    }
+
+    static String nodePropertyFile(int propertyIndex) {
+        return formatWithLocale("node_property_%d.bin", propertyIndex);
+    }
+
+    static String degreesFile(int typeIndex) {
+        return formatWithLocale("relationships_%d_degrees.bin", typeIndex);
+    }
+
+    static String offsetsFile(int typeIndex) {
+        return formatWithLocale("relationships_%d_offsets.bin", typeIndex);
+    }
+
+    static String adjacencyFile(int typeIndex) {
+        return formatWithLocale("relationships_%d_adjacency.bin", typeIndex);
+    }
+
+    static String propertyOffsetsFile(int typeIndex, int propertyIndex) {
+        return formatWithLocale("relationships_%d_property_%d_offsets.bin", typeIndex, propertyIndex);
+    }
+
+    static String propertyFile(int typeIndex, int propertyIndex) {
+        return formatWithLocale("relationships_%d_property_%d.bin", typeIndex, propertyIndex);
+    }
+
+    static String graphPropertyFile(int propertyIndex) {
+        return formatWithLocale("graph_property_%d.bin", propertyIndex);
+    }
+
+    private BinaryFormat() {}
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Buffered little-endian reader on top of a {@link java.nio.channels.FileChannel}.
+ * Large blocks, such as adjacency pages, are read directly into their target arrays.
+ */
+final class BinaryReader implements AutoCloseable {
+
+    private static final int CHUNK_SIZE = 1 << 14;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    static BinaryReader open(Path file) {
+        try {
+            return new BinaryReader(FileChannel.open(file, READ));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BinaryReader(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BinaryWriter.BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.buffer.flip();
+    }
+
+    byte readByte() {
+        ensureAvailable(Byte.BYTES);
+        return buffer.get();
+    }
+
+    boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    int readInt() {
+        ensureAvailable(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    long readLong() {
+        ensureAvailable(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    float readFloat() {
+        ensureAvailable(Float.BYTES);
+        return buffer.getFloat();
+    }
+
+    double readDouble() {
+        ensureAvailable(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    String readString() {
+        var bytes = new byte[readInt()];
+        readBytes(bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    void readBytes(byte[] target, int offset, int length) {
+        int buffered = Math.min(length, buffer.remaining());
+        buffer.get(target, offset, buffered);
+        if (buffered < length) {
+            readFully(ByteBuffer.wrap(target, offset + buffered, length - buffered));
+        }
+    }
+
+    void readInts(int[] target, int offset, int length) {
+        while (length > 0) {
+            ensureAvailable(Integer.BYTES);
+            int count = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().get(target, offset, count);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void readLongs(long[] target, int offset, int length) {
+        while (length > 0) {
+            ensureAvailable(Long.BYTES);
+            int count = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(target, offset, count);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void readFloats(float[] target, int offset, int length) {
+        while (length > 0) {
+            ensureAvailable(Float.BYTES);
+            int count = Math.min(length, buffer.remaining() / Float.BYTES);
+            buffer.asFloatBuffer().get(target, offset, count);
+            buffer.position(buffer.position() + count * Float.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void readDoubles(double[] target, int offset, int length) {
+        while (length > 0) {
+            ensureAvailable(Double.BYTES);
+            int count = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().get(target, offset, count);
+            buffer.position(buffer.position() + count * Double.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Reads an array written by {@link BinaryWriter#writeLongArray(long[])}.
+     */
+    @Nullable long[] readLongArray() {
+        int length = readInt();
+        if (length == -1) {
+            return null;
+        }
+        var values = new long[length];
+        readLongs(values, 0, length);
+        return values;
+    }
+
+    @Nullable float[] readFloatArray() {
+        int length = readInt();
+        if (length == -1) {
+            return null;
+        }
+        var values = new float[length];
+        readFloats(values, 0, length);
+        return values;
+    }
+
+    @Nullable double[] readDoubleArray() {
+        int length = readInt();
+        if (length == -1) {
+            return null;
+        }
+        var values = new double[length];
+        readDoubles(values, 0, length);
+        return values;
+    }
+
+    HugeIntArray readHugeIntArray(long size) {
+        var array = HugeIntArray.newArray(size);
+        var chunk = new int[(int) Math.min(size, CHUNK_SIZE)];
+        for (long start = 0; start < size; start += chunk.length) {
+            int length = (int) Math.min(chunk.length, size - start);
+            readInts(chunk, 0, length);
+            array.copyFromArrayIntoSlice(chunk, start, start + length);
+        }
+        return array;
+    }
+
+    HugeLongArray readHugeLongArray(long size) {
+        var array = HugeLongArray.newArray(size);
+        var chunk = new long[(int) Math.min(size, CHUNK_SIZE)];
+        for (long start = 0; start < size; start += chunk.length) {
+            int length = (int) Math.min(chunk.length, size - start);
+            readLongs(chunk, 0, length);
+            array.copyFromArrayIntoSlice(chunk, start, start + length);
+        }
+        return array;
+    }
+
+    HugeDoubleArray readHugeDoubleArray(long size) {
+        var array = HugeDoubleArray.newArray(size);
+        var chunk = new double[(int) Math.min(size, CHUNK_SIZE)];
+        for (long start = 0; start < size; start += chunk.length) {
+            int length = (int) Math.min(chunk.length, size - start);
+            readDoubles(chunk, 0, length);
+            array.copyFromArrayIntoSlice(chunk, start, start + length);
+        }
+        return array;
+    }
+
+    private void ensureAvailable(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) == -1) {
+                    throw new EOFException("Unexpected end of binary graph file.");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    private void readFully(ByteBuffer target) {
+        try {
+            while (target.hasRemaining()) {
+                if (channel.read(target) == -1) {
+                    throw new EOFException("Unexpected end of binary graph file.");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.Aggregation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads and writes the {@link org.neo4j.gds.api.schema.GraphSchema} section of the binary header.
+ */
+final class BinarySchemaFormat {
+
+    static void write(BinaryWriter writer, GraphSchema schema) {
+        var nodeProperties = schema.nodeSchema().properties();
+        writer.writeInt(nodeProperties.size());
+        nodeProperties.forEach((nodeLabel, properties) -> {
+            writer.writeString(nodeLabel.name);
+            writer.writeInt(properties.size());
+            properties.values().forEach(propertySchema -> writePropertySchema(writer, propertySchema));
+        });
+
+        var relationshipSchema = schema.relationshipSchema();
+        var relationshipProperties = relationshipSchema.properties();
+        writer.writeInt(relationshipProperties.size());
+        relationshipProperties.forEach((relationshipType, properties) -> {
+            writer.writeString(relationshipType.name);
+            writer.writeString(relationshipSchema.orientation(relationshipType).name());
+            writer.writeInt(properties.size());
+            properties.values().forEach(propertySchema -> {
+                writePropertySchema(writer, propertySchema);
+                writer.writeString(propertySchema.aggregation().name());
+            });
+        });
+
+        var graphProperties = schema.graphProperties();
+        writer.writeInt(graphProperties.size());
+        graphProperties.values().forEach(propertySchema -> writePropertySchema(writer, propertySchema));
+    }
+
+    static GraphSchema read(BinaryReader reader) {
+        var nodeSchemaBuilder = NodeSchema.builder();
+        int labelCount = reader.readInt();
+        for (int i = 0; i < labelCount; i++) {
+            var nodeLabel = NodeLabel.of(reader.readString());
+            nodeSchemaBuilder.addLabel(nodeLabel);
+            int propertyCount = reader.readInt();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readPropertySchema(reader);
+                nodeSchemaBuilder.addProperty(nodeLabel, propertySchema.key(), propertySchema);
+            }
+        }
+
+        var relationshipSchemaBuilder = RelationshipSchema.builder();
+        int typeCount = reader.readInt();
+        for (int i = 0; i < typeCount; i++) {
+            var relationshipType = RelationshipType.of(reader.readString());
+            var orientation = Orientation.valueOf(reader.readString());
+            relationshipSchemaBuilder.addRelationshipType(relationshipType, orientation);
+            int propertyCount = reader.readInt();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readPropertySchema(reader);
+                var aggregation = Aggregation.valueOf(reader.readString());
+                relationshipSchemaBuilder.addProperty(
+                    relationshipType,
+                    orientation,
+                    propertySchema.key(),
+                    RelationshipPropertySchema.of(
+                        propertySchema.key(),
+                        propertySchema.valueType(),
+                        propertySchema.defaultValue(),
+                        propertySchema.state(),
+                        aggregation
+                    )
+                );
+            }
+        }
+
+        Map<String, PropertySchema> graphProperties = new LinkedHashMap<>();
+        int graphPropertyCount = reader.readInt();
+        for (int i = 0; i < graphPropertyCount; i++) {
+            var propertySchema = readPropertySchema(reader);
+            graphProperties.put(propertySchema.key(), propertySchema);
+        }
+
+        return GraphSchema.of(nodeSchemaBuilder.build(), relationshipSchemaBuilder.build(), graphProperties);
+    }
+
+    private static void writePropertySchema(BinaryWriter writer, PropertySchema propertySchema) {
+        writer.writeString(propertySchema.key());
+        writer.writeString(propertySchema.valueType().name());
+        writer.writeString(propertySchema.state().name());
+        writeDefaultValue(writer, propertySchema.defaultValue(), propertySchema.valueType());
+    }
+
+    private static PropertySchema readPropertySchema(BinaryReader reader) {
+        var key = reader.readString();
+        var valueType = ValueType.valueOf(reader.readString());
+        var state = PropertyState.valueOf(reader.readString());
+        var defaultValue = readDefaultValue(reader, valueType);
+        return PropertySchema.of(key, valueType, defaultValue, state);
+    }
+
+    private static void writeDefaultValue(BinaryWriter writer, DefaultValue defaultValue, ValueType valueType) {
+        // Fallback values are derived from the value type when reading.
+        writer.writeBoolean(defaultValue.isUserDefined());
+        if (!defaultValue.isUserDefined()) {
+            return;
+        }
+        switch (valueType) {
+            case LONG:
+                writer.writeLong(defaultValue.longValue());
+                break;
+            case DOUBLE:
+                writer.writeDouble(defaultValue.doubleValue());
+                break;
+            case LONG_ARRAY:
+                writer.writeLongArray(defaultValue.longArrayValue());
+                break;
+            case FLOAT_ARRAY:
+                writer.writeFloatArray(defaultValue.floatArrayValue());
+                break;
+            case DOUBLE_ARRAY:
+                writer.writeDoubleArray(defaultValue.doubleArrayValue());
+                break;
+            default:
+                writer.writeString(String.valueOf(defaultValue.getObject()));
+        }
+    }
+
+    private static DefaultValue readDefaultValue(BinaryReader reader, ValueType valueType) {
+        if (!reader.readBoolean()) {
+            return valueType.fallbackValue();
+        }
+        switch (valueType) {
+            case LONG:
+                return DefaultValue.of(reader.readLong(), true);
+            case DOUBLE:
+                return DefaultValue.of(reader.readDouble(), true);
+            case LONG_ARRAY:
+                return DefaultValue.of(reader.readLongArray(), true);
+            case FLOAT_ARRAY:
+                return DefaultValue.of(reader.readFloatArray(), true);
+            case DOUBLE_ARRAY:
+                return DefaultValue.of(reader.readDoubleArray(), true);
+            default:
+                return DefaultValue.of(reader.readString(), valueType, true);
+        }
+    }
+
+    private BinarySchemaFormat() {}
+}
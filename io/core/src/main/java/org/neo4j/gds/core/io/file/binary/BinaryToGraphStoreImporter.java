@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationships;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.graph.DoubleArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.DoubleGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.FloatArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.GraphProperty;
+import org.neo4j.gds.api.properties.graph.GraphPropertyStore;
+import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.LongArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
+import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.io.file.FileToGraphStoreImporter;
+import org.neo4j.gds.core.io.file.ImmutableUserGraphStore;
+import org.neo4j.gds.core.loading.ArrayIdMap;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilderOps;
+import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.values.storable.NumberType;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.COMPRESSED_ADJACENCY;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.HEADER_FILE;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.MAGIC;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.NODE_IDS_FILE;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.PACKED_ADJACENCY;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.VERSION;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Imports a graph store that has been exported by {@link GraphStoreToBinaryExporter}.
+ * <p>
+ * All columns are read in bulk into the data structures of a
+ * {@link org.neo4j.gds.core.loading.CSRGraphStore}. Adjacency lists are restored
+ * from their pages, degrees and offsets, so relationships are neither sorted nor
+ * compressed again. The only derived structure is the mapping from original to
+ * internal node ids. Columns are read concurrently.
+ */
+public final class BinaryToGraphStoreImporter {
+
+    private final int concurrency;
+    private final Path importPath;
+
+    public BinaryToGraphStoreImporter(int concurrency, Path importPath) {
+        this.concurrency = concurrency;
+        this.importPath = importPath;
+    }
+
+    public FileToGraphStoreImporter.UserGraphStore run() {
+        var header = readHeader();
+        var schema = header.schema;
+        long nodeCount = header.nodeCount;
+
+        var originalIds = new HugeLongArray[1];
+        var labelBitSets = new BitSet[header.nodeLabels.size()];
+        var nodePropertyValues = new NodePropertyValues[header.nodePropertyKeys.size()];
+        var relationships = new Relationships[header.relationshipLayouts.size()][];
+
+        var tasks = new ArrayList<Runnable>();
+        tasks.add(() -> {
+            try (var reader = open(NODE_IDS_FILE)) {
+                originalIds[0] = reader.readHugeLongArray(nodeCount);
+            }
+        });
+        if (header.nodeLabels.size() > 1) {
+            for (int labelIndex = 0; labelIndex < labelBitSets.length; labelIndex++) {
+                int index = labelIndex;
+                tasks.add(() -> labelBitSets[index] = importLabel(index));
+            }
+        }
+        var nodePropertySchemas = schema.nodeSchema().unionProperties();
+        for (int propertyIndex = 0; propertyIndex < nodePropertyValues.length; propertyIndex++) {
+            int index = propertyIndex;
+            var valueType = nodePropertySchemas.get(header.nodePropertyKeys.get(index)).valueType();
+            tasks.add(() -> nodePropertyValues[index] = importNodeProperty(index, valueType, nodeCount));
+        }
+        for (int typeIndex = 0; typeIndex < relationships.length; typeIndex++) {
+            int index = typeIndex;
+            tasks.add(() -> relationships[index] = importRelationships(index, header.relationshipLayouts.get(index), nodeCount));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(Pools.DEFAULT)
+            .run();
+
+        var graphStoreBuilder = new GraphStoreBuilder()
+            .databaseId(DatabaseId.from(header.databaseName))
+            .capabilities(ImmutableStaticCapabilities.of(header.canWriteToDatabase))
+            .schema(schema)
+            .concurrency(concurrency);
+
+        var idMap = new ArrayIdMap(
+            originalIds[0],
+            ArrayIdMapBuilderOps.buildSparseIdMap(nodeCount, header.highestOriginalId, concurrency, originalIds[0]),
+            labelInformation(header.nodeLabels, labelBitSets, nodeCount),
+            nodeCount,
+            header.highestOriginalId
+        );
+        graphStoreBuilder.nodes(idMap);
+
+        var nodeProperties = new HashMap<String, NodePropertyValues>();
+        for (int propertyIndex = 0; propertyIndex < nodePropertyValues.length; propertyIndex++) {
+            nodeProperties.put(header.nodePropertyKeys.get(propertyIndex), nodePropertyValues[propertyIndex]);
+        }
+        CSRGraphStoreUtil.extractNodeProperties(graphStoreBuilder, nodePropertySchemas::get, nodeProperties);
+
+        var topologies = new HashMap<RelationshipType, Relationships.Topology>();
+        var propertyStores = new HashMap<RelationshipType, RelationshipPropertyStore>();
+        for (int typeIndex = 0; typeIndex < relationships.length; typeIndex++) {
+            var layout = header.relationshipLayouts.get(typeIndex);
+            var propertySchemas = schema.relationshipSchema().properties().get(layout.relationshipType);
+            var propertyStoreBuilder = RelationshipPropertyStore.builder();
+            for (int propertyIndex = 0; propertyIndex < layout.propertyKeys.size(); propertyIndex++) {
+                var propertySchema = propertySchemas.get(layout.propertyKeys.get(propertyIndex));
+                propertyStoreBuilder.putIfAbsent(propertySchema.key(), RelationshipProperty.of(
+                    propertySchema.key(),
+                    NumberType.FLOATING_POINT,
+                    propertySchema.state(),
+                    relationships[typeIndex][propertyIndex].properties().orElseThrow(),
+                    propertySchema.defaultValue(),
+                    propertySchema.aggregation()
+                ));
+            }
+            topologies.put(layout.relationshipType, relationships[typeIndex][0].topology());
+            propertyStores.put(layout.relationshipType, propertyStoreBuilder.build());
+        }
+        graphStoreBuilder.relationships(topologies);
+        graphStoreBuilder.relationshipPropertyStores(propertyStores);
+
+        var graphPropertyStoreBuilder = GraphPropertyStore.builder();
+        for (int propertyIndex = 0; propertyIndex < header.graphPropertyKeys.size(); propertyIndex++) {
+            var propertyKey = header.graphPropertyKeys.get(propertyIndex);
+            var valueType = schema.graphProperties().get(propertyKey).valueType();
+            graphPropertyStoreBuilder.putIfAbsent(
+                propertyKey,
+                GraphProperty.of(propertyKey, importGraphProperty(propertyIndex, valueType))
+            );
+        }
+        graphStoreBuilder.graphProperties(graphPropertyStoreBuilder.build());
+
+        return ImmutableUserGraphStore.of(header.userName, graphStoreBuilder.build());
+    }
+
+    private Header readHeader() {
+        try (var reader = open(HEADER_FILE)) {
+            if (reader.readInt() != MAGIC) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The directory '%s' does not contain a binary graph export.",
+                    importPath
+                ));
+            }
+            int version = reader.readInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Unsupported binary graph export version %d, expected version %d.",
+                    version,
+                    VERSION
+                ));
+            }
+
+            var header = new Header();
+            header.userName = reader.readString();
+            header.databaseName = reader.readString();
+            header.canWriteToDatabase = reader.readBoolean();
+            header.nodeCount = reader.readLong();
+            header.highestOriginalId = reader.readLong();
+            header.schema = BinarySchemaFormat.read(reader);
+
+            int labelCount = reader.readInt();
+            for (int i = 0; i < labelCount; i++) {
+                header.nodeLabels.add(NodeLabel.of(reader.readString()));
+            }
+
+            int nodePropertyCount = reader.readInt();
+            for (int i = 0; i < nodePropertyCount; i++) {
+                header.nodePropertyKeys.add(reader.readString());
+            }
+
+            int typeCount = reader.readInt();
+            for (int i = 0; i < typeCount; i++) {
+                var layout = new RelationshipLayout();
+                layout.relationshipType = RelationshipType.of(reader.readString());
+                layout.adjacencyKind = reader.readByte();
+                layout.elementCount = reader.readLong();
+                layout.orientation = Orientation.valueOf(reader.readString());
+                layout.isMultiGraph = reader.readBoolean();
+                int propertyCount = reader.readInt();
+                layout.defaultPropertyValues = new double[propertyCount];
+                for (int j = 0; j < propertyCount; j++) {
+                    layout.propertyKeys.add(reader.readString());
+                    layout.defaultPropertyValues[j] = reader.readDouble();
+                }
+                header.relationshipLayouts.add(layout);
+            }
+
+            int graphPropertyCount = reader.readInt();
+            for (int i = 0; i < graphPropertyCount; i++) {
+                header.graphPropertyKeys.add(reader.readString());
+            }
+            return header;
+        }
+    }
+
+    private static LabelInformation labelInformation(List<NodeLabel> nodeLabels, BitSet[] labelBitSets, long nodeCount) {
+        if (nodeLabels.size() == 1) {
+            return LabelInformation.single(nodeLabels.get(0)).build(nodeCount, LongUnaryOperator.identity());
+        }
+        var bitSetsByLabel = new HashMap<NodeLabel, BitSet>();
+        for (int labelIndex = 0; labelIndex < nodeLabels.size(); labelIndex++) {
+            bitSetsByLabel.put(nodeLabels.get(labelIndex), labelBitSets[labelIndex]);
+        }
+        return LabelInformation.of(bitSetsByLabel);
+    }
+
+    private BitSet importLabel(int labelIndex) {
+        try (var reader = open(BinaryFormat.labelFile(labelIndex))) {
+            int wordCount = reader.readInt();
+            var words = new long[wordCount];
+            reader.readLongs(words, 0, wordCount);
+            return new BitSet(words, wordCount);
+        }
+    }
+
+    private NodePropertyValues importNodeProperty(int propertyIndex, ValueType valueType, long nodeCount) {
+        try (var reader = open(BinaryFormat.nodePropertyFile(propertyIndex))) {
+            switch (valueType) {
+                case LONG:
+                    return reader.readHugeLongArray(nodeCount).asNodeProperties();
+                case DOUBLE:
+                    return reader.readHugeDoubleArray(nodeCount).asNodeProperties();
+                case LONG_ARRAY:
+                    var longArrays = HugeObjectArray.newArray(long[].class, nodeCount);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        longArrays.set(nodeId, reader.readLongArray());
+                    }
+                    return longArrays.asNodeProperties();
+                case FLOAT_ARRAY:
+                    var floatArrays = HugeObjectArray.newArray(float[].class, nodeCount);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        floatArrays.set(nodeId, reader.readFloatArray());
+                    }
+                    return floatArrays.asNodeProperties();
+                case DOUBLE_ARRAY:
+                    var doubleArrays = HugeObjectArray.newArray(double[].class, nodeCount);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        doubleArrays.set(nodeId, reader.readDoubleArray());
+                    }
+                    return doubleArrays.asNodeProperties();
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Binary import does not support node properties of type %s.",
+                        valueType
+                    ));
+            }
+        }
+    }
+
+    /**
+     * Returns one {@link org.neo4j.gds.api.Relationships} per property, or a single one without properties,
+     * all sharing the same topology.
+     */
+    private Relationships[] importRelationships(int typeIndex, RelationshipLayout layout, long nodeCount) {
+        HugeIntArray degrees;
+        try (var reader = open(BinaryFormat.degreesFile(typeIndex))) {
+            degrees = reader.readHugeIntArray(nodeCount);
+        }
+        HugeLongArray offsets;
+        try (var reader = open(BinaryFormat.offsetsFile(typeIndex))) {
+            offsets = reader.readHugeLongArray(nodeCount);
+        }
+
+        AdjacencyList adjacencyList;
+        if (layout.adjacencyKind == COMPRESSED_ADJACENCY) {
+            adjacencyList = new CompressedAdjacencyList(importBytePages(BinaryFormat.adjacencyFile(typeIndex)), degrees, offsets);
+        } else if (layout.adjacencyKind == PACKED_ADJACENCY) {
+            adjacencyList = new PackedAdjacencyList(importLongPages(BinaryFormat.adjacencyFile(typeIndex)), degrees, offsets);
+        } else {
+            adjacencyList = new UncompressedAdjacencyList(importLongPages(BinaryFormat.adjacencyFile(typeIndex)), degrees, offsets);
+        }
+
+        var topology = ImmutableTopology.of(adjacencyList, layout.elementCount, layout.orientation, layout.isMultiGraph);
+
+        int propertyCount = layout.propertyKeys.size();
+        var relationships = new Relationships[Math.max(1, propertyCount)];
+        if (propertyCount == 0) {
+            relationships[0] = ImmutableRelationships.of(topology, Optional.empty());
+        }
+        for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+            HugeLongArray propertyOffsets;
+            try (var reader = open(BinaryFormat.propertyOffsetsFile(typeIndex, propertyIndex))) {
+                propertyOffsets = reader.readHugeLongArray(nodeCount);
+            }
+            var propertiesList = new UncompressedAdjacencyList(
+                importLongPages(BinaryFormat.propertyFile(typeIndex, propertyIndex)),
+                degrees,
+                propertyOffsets
+            );
+            relationships[propertyIndex] = ImmutableRelationships.of(topology, Optional.of(ImmutableProperties.of(
+                propertiesList,
+                layout.elementCount,
+                layout.orientation,
+                layout.isMultiGraph,
+                layout.defaultPropertyValues[propertyIndex]
+            )));
+        }
+        return relationships;
+    }
+
+    private byte[][] importBytePages(String fileName) {
+        try (var reader = open(fileName)) {
+            var pages = new byte[reader.readInt()][];
+            for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+                int length = reader.readInt();
+                if (length != -1) {
+                    pages[pageIndex] = new byte[length];
+                    reader.readBytes(pages[pageIndex], 0, length);
+                }
+            }
+            return pages;
+        }
+    }
+
+    private long[][] importLongPages(String fileName) {
+        try (var reader = open(fileName)) {
+            var pages = new long[reader.readInt()][];
+            for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+                int length = reader.readInt();
+                if (length != -1) {
+                    pages[pageIndex] = new long[length];
+                    reader.readLongs(pages[pageIndex], 0, length);
+                }
+            }
+            return pages;
+        }
+    }
+
+    private GraphPropertyValues importGraphProperty(int propertyIndex, ValueType valueType) {
+        try (var reader = open(BinaryFormat.graphPropertyFile(propertyIndex))) {
+            switch (valueType) {
+                case LONG:
+                    return LongGraphPropertyValues.ofLongStream(LongStream.of(reader.readLongArray()));
+                case DOUBLE:
+                    return DoubleGraphPropertyValues.ofDoubleStream(DoubleStream.of(reader.readDoubleArray()));
+                case LONG_ARRAY:
+                    var longArrays = new long[reader.readInt()][];
+                    for (int i = 0; i < longArrays.length; i++) {
+                        longArrays[i] = reader.readLongArray();
+                    }
+                    return LongArrayGraphPropertyValues.ofLongArrayStream(Arrays.stream(longArrays));
+                case FLOAT_ARRAY:
+                    var floatArrays = new float[reader.readInt()][];
+                    for (int i = 0; i < floatArrays.length; i++) {
+                        floatArrays[i] = reader.readFloatArray();
+                    }
+                    return FloatArrayGraphPropertyValues.ofFloatArrayStream(Arrays.stream(floatArrays));
+                case DOUBLE_ARRAY:
+                    var doubleArrays = new double[reader.readInt()][];
+                    for (int i = 0; i < doubleArrays.length; i++) {
+                        doubleArrays[i] = reader.readDoubleArray();
+                    }
+                    return DoubleArrayGraphPropertyValues.ofDoubleArrayStream(Arrays.stream(doubleArrays));
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Binary import does not support graph properties of type %s.",
+                        valueType
+                    ));
+            }
+        }
+    }
+
+    private BinaryReader open(String fileName) {
+        return BinaryReader.open(importPath.resolve(fileName));
+    }
+
+    private static final class Header {
+        String userName;
+        String databaseName;
+        boolean canWriteToDatabase;
+        long nodeCount;
+        long highestOriginalId;
+        GraphSchema schema;
+        final List<NodeLabel> nodeLabels = new ArrayList<>();
+        final List<String> nodePropertyKeys = new ArrayList<>();
+        final List<RelationshipLayout> relationshipLayouts = new ArrayList<>();
+        final List<String> graphPropertyKeys = new ArrayList<>();
+    }
+
+    private static final class RelationshipLayout {
+        RelationshipType relationshipType;
+        byte adjacencyKind;
+        long elementCount;
+        Orientation orientation;
+        boolean isMultiGraph;
+        final List<String> propertyKeys = new ArrayList<>();
+        double[] defaultPropertyValues;
+    }
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.IntArrayList;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
+import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.io.GraphStoreExporter;
+import org.neo4j.gds.core.io.ImmutableExportedProperties;
+import org.neo4j.gds.core.io.file.FileCompression;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.COMPRESSED_ADJACENCY;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.HEADER_FILE;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.MAGIC;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.NODE_IDS_FILE;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.PACKED_ADJACENCY;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.UNCOMPRESSED_ADJACENCY;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.VERSION;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Exports a graph store into the binary columnar format that is read by {@link BinaryToGraphStoreImporter}.
+ * <p>
+ * In contrast to the CSV export, the id map, the adjacency lists and the properties
+ * are written in their in-memory representation. Adjacency lists are written including
+ * their compressed pages, degrees and offsets, which allows the importer to restore them
+ * without sorting or compressing the relationships again.
+ * Adjacency lists of any other implementation, e.g. memory-mapped ones, are written
+ * in the uncompressed layout by reading them through their cursors.
+ * Each column is written to a separate file and the files are written concurrently.
+ */
+public final class GraphStoreToBinaryExporter {
+
+    private final GraphStore graphStore;
+    private final GraphStoreToFileExporterConfig config;
+    private final Path exportPath;
+
+    public GraphStoreToBinaryExporter(
+        GraphStore graphStore,
+        GraphStoreToFileExporterConfig config,
+        Path exportPath
+    ) {
+        if (config.compression() != FileCompression.NONE) {
+            // columns are read back in bulk straight into their target arrays
+            throw new IllegalArgumentException(formatWithLocale(
+                "Binary export does not support compression, got %s.",
+                config.compression()
+            ));
+        }
+        this.graphStore = graphStore;
+        this.config = config;
+        this.exportPath = exportPath;
+    }
+
+    public GraphStoreExporter.ExportedProperties run() {
+        var nodeLabels = new ArrayList<>(graphStore.nodes().availableNodeLabels());
+        var nodePropertyKeys = new ArrayList<>(graphStore.nodePropertyKeys());
+        var relationshipTypes = new ArrayList<>(graphStore.relationshipTypes());
+        var graphPropertyKeys = new ArrayList<>(graphStore.graphPropertyKeys());
+
+        var topologies = new ArrayList<Relationships.Topology>();
+        for (RelationshipType relationshipType : relationshipTypes) {
+            var graph = (CSRGraph) graphStore.getGraph(relationshipType);
+            topologies.add(graph.relationshipTopologies().get(relationshipType));
+        }
+
+        try (var header = BinaryWriter.open(exportPath.resolve(HEADER_FILE))) {
+            header.writeInt(MAGIC);
+            header.writeInt(VERSION);
+            header.writeString(config.username());
+            header.writeString(graphStore.databaseId().databaseName());
+            header.writeBoolean(graphStore.capabilities().canWriteToDatabase());
+            header.writeLong(graphStore.nodeCount());
+            header.writeLong(graphStore.nodes().highestOriginalId());
+
+            BinarySchemaFormat.write(header, graphStore.schema());
+
+            header.writeInt(nodeLabels.size());
+            nodeLabels.forEach(nodeLabel -> header.writeString(nodeLabel.name));
+
+            header.writeInt(nodePropertyKeys.size());
+            nodePropertyKeys.forEach(header::writeString);
+
+            header.writeInt(relationshipTypes.size());
+            for (int typeIndex = 0; typeIndex < relationshipTypes.size(); typeIndex++) {
+                var relationshipType = relationshipTypes.get(typeIndex);
+                var topology = topologies.get(typeIndex);
+                header.writeString(relationshipType.name);
+                header.writeByte(adjacencyKind(topology.adjacencyList()));
+                header.writeLong(topology.elementCount());
+                header.writeString(topology.orientation().name());
+                header.writeBoolean(topology.isMultiGraph());
+
+                var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relationshipType));
+                header.writeInt(propertyKeys.size());
+                for (String propertyKey : propertyKeys) {
+                    var properties = graphStore.relationshipPropertyValues(relationshipType, propertyKey).values();
+                    uncompressedProperties(properties.propertiesList());
+                    header.writeString(propertyKey);
+                    header.writeDouble(properties.defaultPropertyValue());
+                }
+            }
+
+            header.writeInt(graphPropertyKeys.size());
+            graphPropertyKeys.forEach(header::writeString);
+        }
+
+        var tasks = new ArrayList<Runnable>();
+        tasks.add(this::exportNodeIds);
+        if (nodeLabels.size() > 1) {
+            for (int labelIndex = 0; labelIndex < nodeLabels.size(); labelIndex++) {
+                int index = labelIndex;
+                tasks.add(() -> exportLabel(index, nodeLabels.get(index)));
+            }
+        }
+        for (int propertyIndex = 0; propertyIndex < nodePropertyKeys.size(); propertyIndex++) {
+            int index = propertyIndex;
+            tasks.add(() -> exportNodeProperty(index, graphStore.nodeProperty(nodePropertyKeys.get(index)).values()));
+        }
+        for (int typeIndex = 0; typeIndex < relationshipTypes.size(); typeIndex++) {
+            int index = typeIndex;
+            tasks.add(() -> exportTopology(index, topologies.get(index)));
+
+            var relationshipType = relationshipTypes.get(typeIndex);
+            var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relationshipType));
+            for (int propertyIndex = 0; propertyIndex < propertyKeys.size(); propertyIndex++) {
+                int innerIndex = propertyIndex;
+                var properties = graphStore
+                    .relationshipPropertyValues(relationshipType, propertyKeys.get(propertyIndex))
+                    .values()
+                    .propertiesList();
+                tasks.add(() -> exportRelationshipProperty(index, innerIndex, uncompressedProperties(properties)));
+            }
+        }
+        for (int propertyIndex = 0; propertyIndex < graphPropertyKeys.size(); propertyIndex++) {
+            int index = propertyIndex;
+            tasks.add(() -> exportGraphProperty(index, graphPropertyKeys.get(index)));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(config.writeConcurrency())
+            .tasks(tasks)
+            .executor(Pools.DEFAULT)
+            .run();
+
+        long nodePropertyCount = nodePropertyKeys.size() * graphStore.nodeCount();
+        long relationshipPropertyCount = 0;
+        for (int typeIndex = 0; typeIndex < relationshipTypes.size(); typeIndex++) {
+            relationshipPropertyCount += topologies.get(typeIndex).elementCount() *
+                                         graphStore.relationshipPropertyKeys(relationshipTypes.get(typeIndex)).size();
+        }
+        return ImmutableExportedProperties.of(nodePropertyCount, relationshipPropertyCount);
+    }
+
+    private void exportNodeIds() {
+        var nodes = graphStore.nodes();
+        try (var writer = BinaryWriter.open(exportPath.resolve(NODE_IDS_FILE))) {
+            for (long nodeId = 0; nodeId < nodes.nodeCount(); nodeId++) {
+                writer.writeLong(nodes.toOriginalNodeId(nodeId));
+            }
+        }
+    }
+
+    private void exportLabel(int labelIndex, NodeLabel nodeLabel) {
+        var nodes = graphStore.nodes();
+        var bitSet = new BitSet(nodes.nodeCount());
+        for (long nodeId = 0; nodeId < nodes.nodeCount(); nodeId++) {
+            if (nodes.hasLabel(nodeId, nodeLabel)) {
+                bitSet.set(nodeId);
+            }
+        }
+        try (var writer = BinaryWriter.open(exportPath.resolve(BinaryFormat.labelFile(labelIndex)))) {
+            writer.writeInt(bitSet.wlen);
+            writer.writeLongs(bitSet.bits, 0, bitSet.wlen);
+        }
+    }
+
+    private void exportNodeProperty(int propertyIndex, NodePropertyValues values) {
+        long nodeCount = graphStore.nodeCount();
+        try (var writer = BinaryWriter.open(exportPath.resolve(BinaryFormat.nodePropertyFile(propertyIndex)))) {
+            switch (values.valueType()) {
+                case LONG:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writer.writeLong(values.longValue(nodeId));
+                    }
+                    break;
+                case DOUBLE:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writer.writeDouble(values.doubleValue(nodeId));
+                    }
+                    break;
+                case LONG_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writer.writeLongArray(values.longArrayValue(nodeId));
+                    }
+                    break;
+                case FLOAT_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writer.writeFloatArray(values.floatArrayValue(nodeId));
+                    }
+                    break;
+                case DOUBLE_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writer.writeDoubleArray(values.doubleArrayValue(nodeId));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Binary export does not support node properties of type %s.",
+                        values.valueType()
+                    ));
+            }
+        }
+    }
+
+    private void exportTopology(int typeIndex, Relationships.Topology topology) {
+        var adjacencyList = topology.adjacencyList();
+        if (adjacencyList instanceof CompressedAdjacencyList) {
+            var compressed = (CompressedAdjacencyList) adjacencyList;
+            exportHugeIntArray(BinaryFormat.degreesFile(typeIndex), compressed.degrees());
+            exportHugeLongArray(BinaryFormat.offsetsFile(typeIndex), compressed.offsets());
+            try (var writer = BinaryWriter.open(exportPath.resolve(BinaryFormat.adjacencyFile(typeIndex)))) {
+                var pages = compressed.pages();
+                writer.writeInt(pages.length);
+                for (byte[] page : pages) {
+                    if (page == null) {
+                        writer.writeInt(-1);
+                    } else {
+                        writer.writeInt(page.length);
+                        writer.writeBytes(page, 0, page.length);
+                    }
+                }
+            }
+        } else if (adjacencyList instanceof UncompressedAdjacencyList) {
+            var uncompressed = (UncompressedAdjacencyList) adjacencyList;
+            exportHugeIntArray(BinaryFormat.degreesFile(typeIndex), uncompressed.degrees());
+            exportHugeLongArray(BinaryFormat.offsetsFile(typeIndex), uncompressed.offsets());
+            exportLongPages(BinaryFormat.adjacencyFile(typeIndex), uncompressed.pages());
+        } else if (adjacencyList instanceof PackedAdjacencyList) {
+            var packed = (PackedAdjacencyList) adjacencyList;
+            exportHugeIntArray(BinaryFormat.degreesFile(typeIndex), packed.degrees());
+            exportHugeLongArray(BinaryFormat.offsetsFile(typeIndex), packed.offsets());
+            exportLongPages(BinaryFormat.adjacencyFile(typeIndex), packed.pages());
+        } else {
+            exportUncompressedTopology(typeIndex, adjacencyList);
+        }
+    }
+
+    /**
+     * Writes the targets in the page layout of {@link UncompressedAdjacencyList}.
+     * The layout is computed from the degrees first, so that the targets can be
+     * streamed into the file without materializing the pages.
+     */
+    private void exportUncompressedTopology(int typeIndex, AdjacencyList adjacencyList) {
+        long nodeCount = graphStore.nodeCount();
+        var degrees = HugeIntArray.newArray(nodeCount);
+        var offsets = HugeLongArray.newArray(nodeCount);
+        var pageLengths = new IntArrayList();
+
+        int pageLength = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int degree = adjacencyList.degree(nodeId);
+            degrees.set(nodeId, degree);
+            if (degree == 0) {
+                continue;
+            }
+            // like the bump allocator, a list never spans pages and oversized lists get their own page
+            if (pageLengths.isEmpty() || pageLength + degree > BumpAllocator.PAGE_SIZE) {
+                if (!pageLengths.isEmpty()) {
+                    pageLengths.set(pageLengths.size() - 1, pageLength);
+                }
+                pageLengths.add(0);
+                pageLength = 0;
+            }
+            offsets.set(nodeId, ((long) (pageLengths.size() - 1) << BumpAllocator.PAGE_SHIFT) + pageLength);
+            pageLength += degree;
+        }
+        if (!pageLengths.isEmpty()) {
+            pageLengths.set(pageLengths.size() - 1, pageLength);
+        }
+
+        exportHugeIntArray(BinaryFormat.degreesFile(typeIndex), degrees);
+        exportHugeLongArray(BinaryFormat.offsetsFile(typeIndex), offsets);
+
+        try (var writer = BinaryWriter.open(exportPath.resolve(BinaryFormat.adjacencyFile(typeIndex)))) {
+            writer.writeInt(pageLengths.size());
+            var buffer = new long[64];
+            AdjacencyCursor cursor = null;
+            int currentPage = -1;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                int degree = degrees.get(nodeId);
+                if (degree == 0) {
+                    continue;
+                }
+                int pageIndex = PageUtil.pageIndex(offsets.get(nodeId), BumpAllocator.PAGE_SHIFT);
+                if (pageIndex != currentPage) {
+                    currentPage = pageIndex;
+                    writer.writeInt(pageLengths.get(currentPage));
+                }
+                cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+                int written = 0;
+                while (written < degree) {
+                    int batch = cursor.nextBatch(buffer, 0, Math.min(buffer.length, degree - written));
+                    writer.writeLongs(buffer, 0, batch);
+                    written += batch;
+                }
+            }
+        }
+    }
+
+    private void exportHugeIntArray(String fileName, HugeIntArray array) {
+        try (var writer = BinaryWriter.open(exportPath.resolve(fileName))) {
+            writer.writeHugeIntArray(array);
+        }
+    }
+
+    private void exportHugeLongArray(String fileName, HugeLongArray array) {
+        try (var writer = BinaryWriter.open(exportPath.resolve(fileName))) {
+            writer.writeHugeLongArray(array);
+        }
+    }
+
+    private void exportRelationshipProperty(int typeIndex, int propertyIndex, UncompressedAdjacencyList properties) {
+        // The degrees are shared with the topology and are not written again.
+        exportHugeLongArray(BinaryFormat.propertyOffsetsFile(typeIndex, propertyIndex), properties.offsets());
+        exportLongPages(BinaryFormat.propertyFile(typeIndex, propertyIndex), properties.pages());
+    }
+
+    private void exportLongPages(String fileName, long[][] pages) {
+        try (var writer = BinaryWriter.open(exportPath.resolve(fileName))) {
+            writer.writeInt(pages.length);
+            for (long[] page : pages) {
+                if (page == null) {
+                    writer.writeInt(-1);
+                } else {
+                    writer.writeInt(page.length);
+                    writer.writeLongs(page, 0, page.length);
+                }
+            }
+        }
+    }
+
+    private void exportGraphProperty(int propertyIndex, String propertyKey) {
+        var values = graphStore.graphPropertyValues(propertyKey);
+        try (var writer = BinaryWriter.open(exportPath.resolve(BinaryFormat.graphPropertyFile(propertyIndex)))) {
+            switch (values.valueType()) {
+                case LONG:
+                    writer.writeLongArray(values.longValues().toArray());
+                    break;
+                case DOUBLE:
+                    writer.writeDoubleArray(values.doubleValues().toArray());
+                    break;
+                case LONG_ARRAY:
+                    List<long[]> longArrays = values.longArrayValues().collect(Collectors.toList());
+                    writer.writeInt(longArrays.size());
+                    longArrays.forEach(writer::writeLongArray);
+                    break;
+                case FLOAT_ARRAY:
+                    List<float[]> floatArrays = values.floatArrayValues().collect(Collectors.toList());
+                    writer.writeInt(floatArrays.size());
+                    floatArrays.forEach(writer::writeFloatArray);
+                    break;
+                case DOUBLE_ARRAY:
+                    List<double[]> doubleArrays = values.doubleArrayValues().collect(Collectors.toList());
+                    writer.writeInt(doubleArrays.size());
+                    doubleArrays.forEach(writer::writeDoubleArray);
+                    break;
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Binary export does not support graph properties of type %s.",
+                        values.valueType()
+                    ));
+            }
+        }
+    }
+
+    private static byte adjacencyKind(AdjacencyList adjacencyList) {
+        if (adjacencyList instanceof CompressedAdjacencyList) {
+            return COMPRESSED_ADJACENCY;
+        }
+        if (adjacencyList instanceof PackedAdjacencyList) {
+            return PACKED_ADJACENCY;
+        }
+        // see exportUncompressedTopology for all other implementations
+        return UNCOMPRESSED_ADJACENCY;
+    }
+
+    private static UncompressedAdjacencyList uncompressedProperties(AdjacencyProperties properties) {
+        if (properties instanceof UncompressedAdjacencyList) {
+            return (UncompressedAdjacencyList) properties;
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Binary export does not support relationship properties of type %s.",
+            properties.getClass().getSimpleName()
+        ));
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.graph.DoubleArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.core.TestMethodRunner;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.io.file.ImmutableGraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class BinaryToGraphStoreImporterTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42, prop3: [0.30000001192092896D, 0.20000000298023224D]})" +
+        ", (b:A:B { prop1: 1, prop2: 43})" +
+        ", (c:A:C { prop1: 2, prop2: 44, prop3: [-0.04D] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 3, prop4: 45 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 4, prop4: 46 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 5, prop4: 47 }]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @Inject
+    Graph graph;
+
+    @TempDir
+    Path graphLocation;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldImportGraphStore(int concurrency) {
+        var exportedProperties = new GraphStoreToBinaryExporter(graphStore, exportConfig(concurrency), graphLocation).run();
+
+        assertThat(exportedProperties.nodePropertyCount()).isEqualTo(3 * 4);
+        assertThat(exportedProperties.relationshipPropertyCount()).isEqualTo(2 * 3 + 2 * 3);
+
+        var userGraphStore = new BinaryToGraphStoreImporter(concurrency, graphLocation).run();
+        var importedGraphStore = userGraphStore.graphStore();
+
+        assertThat(userGraphStore.userName()).isEqualTo("alice");
+        assertThat(importedGraphStore.databaseId()).isEqualTo(graphStore.databaseId());
+        assertThat(importedGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertGraphEquals(graph, importedGraphStore.getUnion());
+
+        for (var nodeLabel : List.of("A", "B", "C")) {
+            assertGraphEquals(
+                graphStore.getGraph(NodeLabel.of(nodeLabel)),
+                importedGraphStore.getGraph(NodeLabel.of(nodeLabel))
+            );
+        }
+        assertGraphEquals(
+            graphStore.getGraph(RelationshipType.of("REL2"), Optional.of("prop4")),
+            importedGraphStore.getGraph(RelationshipType.of("REL2"), Optional.of("prop4"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.neo4j.gds.core.TestMethodRunner#adjacencyCompressions")
+    void shouldImportEveryAdjacencyList(TestMethodRunner runner) {
+        runner.run(() -> {
+            var graphStore = GdlFactory.of(GDL).build();
+
+            new GraphStoreToBinaryExporter(graphStore, exportConfig(4), graphLocation).run();
+            var importedGraphStore = new BinaryToGraphStoreImporter(4, graphLocation).run().graphStore();
+
+            assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+            assertGraphEquals(
+                graphStore.getGraph(RelationshipType.of("REL1"), Optional.of("prop2")),
+                importedGraphStore.getGraph(RelationshipType.of("REL1"), Optional.of("prop2"))
+            );
+        });
+    }
+
+    @Test
+    void shouldImportGraphProperties() {
+        graphStore.addGraphProperty("longProp", new LongGraphPropertyValues() {
+            @Override
+            public LongStream longValues() {
+                return LongStream.range(0, 10_000);
+            }
+
+            @Override
+            public long size() {
+                return 10_000;
+            }
+        });
+        graphStore.addGraphProperty("doubleArrayProp", new DoubleArrayGraphPropertyValues() {
+            @Override
+            public Stream<double[]> doubleArrayValues() {
+                return LongStream.range(0, 1337).mapToObj(i -> new double[]{(double) i, 42.0});
+            }
+
+            @Override
+            public long size() {
+                return 1337;
+            }
+        });
+
+        new GraphStoreToBinaryExporter(graphStore, exportConfig(4), graphLocation).run();
+        var importedGraphStore = new BinaryToGraphStoreImporter(4, graphLocation).run().graphStore();
+
+        assertThat(importedGraphStore.graphPropertyKeys()).containsExactlyInAnyOrder("longProp", "doubleArrayProp");
+        assertThat(importedGraphStore.graphProperty("longProp").values().longValues().toArray())
+            .containsExactly(LongStream.range(0, 10_000).toArray());
+        assertThat(importedGraphStore.graphProperty("doubleArrayProp").values().doubleArrayValues().collect(Collectors.toList()))
+            .containsExactlyElementsOf(LongStream
+                .range(0, 1337)
+                .mapToObj(i -> new double[]{(double) i, 42.0})
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldImportGraphWithNoLabels() {
+        var graphStore = GdlFactory.of("()-[]->()").build();
+
+        new GraphStoreToBinaryExporter(graphStore, exportConfig(4), graphLocation).run();
+        var importedGraphStore = new BinaryToGraphStoreImporter(4, graphLocation).run().graphStore();
+
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldImportCapabilities(boolean canWriteToDatabase) {
+        var graphStoreWithCapabilities = GdlFactory.builder()
+            .gdlGraph("()-[]->()")
+            .graphCapabilities(ImmutableStaticCapabilities.of(canWriteToDatabase))
+            .build()
+            .build();
+
+        new GraphStoreToBinaryExporter(graphStoreWithCapabilities, exportConfig(1), graphLocation).run();
+        var importedGraphStore = new BinaryToGraphStoreImporter(1, graphLocation).run().graphStore();
+
+        assertThat(importedGraphStore.capabilities())
+            .usingRecursiveComparison()
+            .isEqualTo(ImmutableStaticCapabilities.of(canWriteToDatabase));
+    }
+
+    @Test
+    void shouldFailOnForeignFiles() throws IOException {
+        Files.write(graphLocation.resolve(BinaryFormat.HEADER_FILE), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatThrownBy(() -> new BinaryToGraphStoreImporter(1, graphLocation).run())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not contain a binary graph export");
+    }
+
+    private GraphStoreToFileExporterConfig exportConfig(int concurrency) {
+        return ImmutableGraphStoreToFileExporterConfig.builder()
+            .username("alice")
+            .exportName("my-export")
+            .writeConcurrency(concurrency)
+            .build();
+    }
+}
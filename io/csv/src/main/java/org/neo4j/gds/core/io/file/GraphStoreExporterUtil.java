@@ -25,6 +25,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.GraphStoreExportSettings;
 import org.neo4j.gds.core.io.GraphStoreExporter;
 import org.neo4j.gds.core.io.NeoNodeProperties;
+import org.neo4j.gds.core.io.file.binary.GraphStoreToBinaryExporter;
 import org.neo4j.gds.core.io.file.csv.GraphStoreToCsvExporter;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
 import org.neo4j.graphdb.config.Configuration;
@@ -52,10 +53,15 @@ public final class GraphStoreExporterUtil {
         Log log
     ) {
         try {
-            var exporter = GraphStoreToCsvExporter.create(graphStore, config, path, neoNodeProperties, taskRegistryFactory, log);
-
             var start = System.nanoTime();
-            var exportedProperties = exporter.run();
+            GraphStoreExporter.ExportedProperties exportedProperties;
+            if (config.format() == FileFormat.BINARY) {
+                exportedProperties = new GraphStoreToBinaryExporter(graphStore, config, path).run();
+            } else {
+                exportedProperties = GraphStoreToCsvExporter
+                    .create(graphStore, config, path, neoNodeProperties, taskRegistryFactory, log)
+                    .run();
+            }
             var end = System.nanoTime();
 
             var tookMillis = TimeUnit.NANOSECONDS.toMillis(end - start);
@@ -65,7 +71,7 @@ public final class GraphStoreExporterUtil {
                 tookMillis
             );
         } catch (RuntimeException e) {
-            log.warn("CSV export failed", e);
+            log.warn(formatWithLocale("%s export failed", config.format()), e);
             throw e;
         }
     }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file;
+
+import org.neo4j.gds.core.GraphStoreExportSettings;
+import org.neo4j.gds.core.io.file.binary.BinaryToGraphStoreImporter;
+import org.neo4j.gds.core.io.file.csv.CsvToGraphStoreImporter;
+import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
+import org.neo4j.graphdb.config.Configuration;
+import org.neo4j.logging.Log;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.neo4j.gds.core.io.file.FileToGraphStoreImporter.DIRECTORY_IS_READABLE;
+import static org.neo4j.gds.core.io.file.GraphStoreExporterUtil.EXPORT_DIR;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads graph stores back from the directories written by {@link GraphStoreExporterUtil}.
+ */
+public final class GraphStoreImporterUtil {
+
+    public static FileToGraphStoreImporter.UserGraphStore importGraphStore(
+        Path path,
+        FileFormat format,
+        int concurrency,
+        TaskRegistryFactory taskRegistryFactory,
+        Log log
+    ) {
+        try {
+            if (format == FileFormat.BINARY) {
+                return new BinaryToGraphStoreImporter(concurrency, path).run();
+            }
+            return new CsvToGraphStoreImporter(concurrency, path, log, taskRegistryFactory).run();
+        } catch (RuntimeException e) {
+            log.warn(formatWithLocale("%s import failed", format), e);
+            throw e;
+        }
+    }
+
+    public static Path importLocation(Configuration neo4jConfig, String importName) {
+        var rootPath = neo4jConfig.get(GraphStoreExportSettings.export_location_setting);
+        if (rootPath == null) {
+            throw new RuntimeException(formatWithLocale(
+                "The configuration option '%s' must be set.",
+                GraphStoreExportSettings.export_location_setting.name()
+            ));
+        }
+        var exportPath = rootPath.resolve(EXPORT_DIR);
+        var resolvedImportPath = exportPath.resolve(importName).normalize();
+        var resolvedParent = resolvedImportPath.getParent();
+
+        if (resolvedParent == null || !resolvedParent.startsWith(exportPath)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Illegal parameter value for parameter importName '%s'. It attempts to read from a forbidden directory.",
+                importName
+            ));
+        }
+
+        if (!Files.exists(resolvedImportPath)) {
+            throw new IllegalArgumentException(formatWithLocale("The specified import directory '%s' does not exist.", resolvedImportPath));
+        }
+        DIRECTORY_IS_READABLE.validate(resolvedImportPath);
+
+        return resolvedImportPath;
+    }
+
+    private GraphStoreImporterUtil() {}
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.csv;
+
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads the lines of a byte range of a CSV data file written by the GDS exporter.
+ * <p>
+ * A line belongs to the range its first byte falls into, so splitting a file at
+ * arbitrary offsets yields every line exactly once across the ranges.
+ * Fields are kept as offsets into the internal buffer and parsed in place,
+ * no intermediate strings are created for numeric values.
+ * <p>
+ * Compressed files cannot be split and are read as a single stream.
+ * Quoted fields are unwrapped, escaped quotes are not supported since the export
+ * only contains numeric columns.
+ * Instances are not thread-safe but can be reused for many ranges.
+ */
+final class CsvByteRangeReader implements AutoCloseable {
+
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+    private static final int INITIAL_FIELD_CAPACITY = 16;
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte COLUMN_SEPARATOR = ',';
+    private static final byte QUOTE = '"';
+
+    private byte[] bytes;
+    private int position;
+    private int limit;
+    private long bufferOffset;
+    private boolean endOfFile;
+
+    private long rangeEnd;
+    private ReadableByteChannel channel;
+
+    private int[] fieldStarts;
+    private int[] fieldEnds;
+    private int fieldCount;
+
+    CsvByteRangeReader() {
+        this.bytes = new byte[INITIAL_BUFFER_SIZE];
+        this.fieldStarts = new int[INITIAL_FIELD_CAPACITY];
+        this.fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+    }
+
+    /**
+     * Positions the reader at the first line starting in {@code [rangeStart, rangeEnd)}.
+     */
+    void open(Path path, long rangeStart, long rangeEnd) throws IOException {
+        var fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        if (rangeStart > 0) {
+            // The line starting right before the range belongs to the previous range,
+            // reading from the preceding byte lets us skip everything up to and including the next line feed.
+            fileChannel.position(rangeStart - 1);
+        }
+        reset(fileChannel, rangeStart);
+        this.rangeEnd = rangeEnd;
+    }
+
+    /**
+     * Reads all lines of a stream that cannot be split, e.g. a decompressed data file.
+     */
+    void open(ReadableByteChannel stream) throws IOException {
+        reset(stream, 0);
+        this.rangeEnd = Long.MAX_VALUE;
+    }
+
+    private void reset(ReadableByteChannel newChannel, long rangeStart) throws IOException {
+        close();
+        this.channel = newChannel;
+        this.position = 0;
+        this.limit = 0;
+        this.fieldCount = 0;
+        this.endOfFile = false;
+
+        if (rangeStart == 0) {
+            this.bufferOffset = 0;
+            return;
+        }
+
+        this.bufferOffset = rangeStart - 1;
+        while (true) {
+            while (position < limit) {
+                if (bytes[position++] == LINE_FEED) {
+                    return;
+                }
+            }
+            if (endOfFile) {
+                return;
+            }
+            fill();
+        }
+    }
+
+    /**
+     * Advances to the next non-empty line of the range.
+     *
+     * @return false if there are no more lines starting within the range
+     */
+    boolean nextLine() throws IOException {
+        while (true) {
+            if (bufferOffset + position >= rangeEnd) {
+                return false;
+            }
+
+            int scan = position;
+            while (true) {
+                while (scan < limit && bytes[scan] != LINE_FEED) {
+                    scan++;
+                }
+                if (scan < limit || endOfFile) {
+                    break;
+                }
+                int consumed = position;
+                fill();
+                scan -= consumed;
+            }
+
+            if (scan == position && scan == limit) {
+                return false;
+            }
+
+            int lineStart = position;
+            int lineEnd = scan;
+            position = Math.min(scan + 1, limit);
+
+            if (lineEnd > lineStart && bytes[lineEnd - 1] == CARRIAGE_RETURN) {
+                lineEnd--;
+            }
+            if (lineEnd > lineStart) {
+                splitFields(lineStart, lineEnd);
+                return true;
+            }
+        }
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    long parseId(int column) {
+        checkColumn(column);
+        return CsvImportParsingUtil.parseId(bytes, fieldStarts[column], fieldEnds[column]);
+    }
+
+    Object parseProperty(int column, ValueType valueType, DefaultValue defaultValue) {
+        if (column >= fieldCount) {
+            return CsvImportParsingUtil.parseProperty(bytes, 0, 0, valueType, defaultValue);
+        }
+        return CsvImportParsingUtil.parseProperty(bytes, fieldStarts[column], fieldEnds[column], valueType, defaultValue);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void checkColumn(int column) {
+        if (column >= fieldCount) {
+            throw new IllegalArgumentException(
+                "Expected at least " + (column + 1) + " columns but the line has " + fieldCount + "."
+            );
+        }
+    }
+
+    private void splitFields(int lineStart, int lineEnd) {
+        fieldCount = 0;
+        int index = lineStart;
+        while (true) {
+            if (index < lineEnd && bytes[index] == QUOTE) {
+                int fieldStart = index + 1;
+                index = fieldStart;
+                while (index < lineEnd && bytes[index] != QUOTE) {
+                    index++;
+                }
+                addField(fieldStart, index);
+                while (index < lineEnd && bytes[index] != COLUMN_SEPARATOR) {
+                    index++;
+                }
+            } else {
+                int fieldStart = index;
+                while (index < lineEnd && bytes[index] != COLUMN_SEPARATOR) {
+                    index++;
+                }
+                addField(fieldStart, index);
+            }
+            if (index >= lineEnd) {
+                return;
+            }
+            // skip the separator
+            index++;
+        }
+    }
+
+    private void addField(int start, int end) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+
+    /**
+     * Drops the consumed bytes and reads more data from the channel,
+     * growing the buffer if a single line does not fit.
+     */
+    private void fill() throws IOException {
+        int remaining = limit - position;
+        if (position > 0) {
+            System.arraycopy(bytes, position, bytes, 0, remaining);
+            bufferOffset += position;
+            position = 0;
+            limit = remaining;
+        }
+        if (limit == bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        int read = channel.read(ByteBuffer.wrap(bytes, limit, bytes.length - limit));
+        if (read == -1) {
+            endOfFile = true;
+        } else {
+            limit += read;
+        }
+    }
+}
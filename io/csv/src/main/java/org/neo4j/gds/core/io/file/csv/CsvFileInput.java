@@ -19,17 +19,14 @@
  */
 package org.neo4j.gds.core.io.file.csv;
 
-import com.fasterxml.jackson.databind.MappingIterator;
-import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
-import com.fasterxml.jackson.dataformat.csv.CsvParser;
-import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import org.apache.commons.lang3.tuple.Pair;
 import org.neo4j.gds.api.schema.NodeSchema;
 import org.neo4j.gds.api.schema.PropertySchema;
 import org.neo4j.gds.api.schema.RelationshipPropertySchema;
 import org.neo4j.gds.api.schema.RelationshipSchema;
 import org.neo4j.gds.compat.CompatPropertySizeCalculator;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.FileHeader;
 import org.neo4j.gds.core.io.file.FileInput;
 import org.neo4j.gds.core.io.file.GraphInfo;
@@ -50,6 +47,8 @@ import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 import org.neo4j.internal.batchimport.input.ReadableGroups;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
@@ -57,23 +56,9 @@ import java.util.stream.Collectors;
 
 final class CsvFileInput implements FileInput {
 
-    private static final char COLUMN_SEPARATOR = ',';
-    private static final String ARRAY_ELEMENT_SEPARATOR = ";";
     private static final CsvMapper CSV_MAPPER = new CsvMapper();
-    private static final ObjectReader LINE_READER = CSV_MAPPER
-        .readerForArrayOf(String.class)
-        .with(CsvSchema
-            .emptySchema()
-            .withColumnSeparator(COLUMN_SEPARATOR)
-        )
-        .with(CsvParser.Feature.WRAP_AS_ARRAY)
-        .with(CsvParser.Feature.SKIP_EMPTY_LINES);
-    private static final ObjectReader ARRAY_READER = CSV_MAPPER
-        .readerForArrayOf(String.class)
-        .with(CsvSchema
-            .emptySchema()
-            .withArrayElementSeparator(ARRAY_ELEMENT_SEPARATOR)
-        );
+    // data files are split into ranges of this size which are parsed concurrently
+    private static final long RANGE_SIZE = 8L * 1024 * 1024;
 
     private final Path importPath;
     private final String userName;
@@ -101,7 +86,7 @@ final class CsvFileInput implements FileInput {
             Map.Entry::getValue
         ));
 
-        return () -> new NodeImporter(headerToDataFilesMapping, nodeSchema);
+        return () -> new NodeImporter(headerToDataFilesMapping, nodeSchema, RANGE_SIZE);
     }
 
     @Override
@@ -112,7 +97,7 @@ final class CsvFileInput implements FileInput {
             Map.Entry::getValue
         ));
 
-        return () -> new RelationshipImporter(headerToDataFilesMapping, relationshipSchema);
+        return () -> new RelationshipImporter(headerToDataFilesMapping, relationshipSchema, RANGE_SIZE);
     }
 
     @Override
@@ -123,7 +108,7 @@ final class CsvFileInput implements FileInput {
             Map.Entry::getValue
         ));
 
-        return () -> new GraphPropertyImporter(headerToDataFilesMapping, graphPropertySchema);
+        return () -> new GraphPropertyImporter(headerToDataFilesMapping, graphPropertySchema, RANGE_SIZE);
     }
 
     @Override
@@ -177,27 +162,59 @@ final class CsvFileInput implements FileInput {
         PROPERTY_SCHEMA extends PropertySchema> implements InputIterator {
 
         private final MappedListIterator<HEADER, Path> entryIterator;
+        private final long rangeSize;
         final SCHEMA elementSchema;
 
+        private HEADER currentHeader;
+        private Path currentFile;
+        private FileCompression currentCompression;
+        private long currentFileSize;
+        private long nextRangeStart;
+
         FileImporter(
             Map<HEADER, List<Path>> headerToDataFilesMapping,
-            SCHEMA elementSchema
+            SCHEMA elementSchema,
+            long rangeSize
         ) {
             this.entryIterator = new MappedListIterator<>(headerToDataFilesMapping);
             this.elementSchema = elementSchema;
+            this.rangeSize = rangeSize;
         }
 
+        /**
+         * Hands out the data files in byte ranges of at most {@code rangeSize} bytes,
+         * so that large files are parsed by multiple threads.
+         * Compressed files are handed out as a whole.
+         */
         @Override
         public synchronized boolean next(InputChunk chunk) throws IOException {
-            if (entryIterator.hasNext()) {
+            while (nextRangeStart >= currentFileSize) {
+                if (!entryIterator.hasNext()) {
+                    return false;
+                }
                 Pair<HEADER, Path> entry = entryIterator.next();
-
-                assert chunk instanceof LineChunk;
-                var header = entry.getKey();
-                ((LineChunk<HEADER, SCHEMA, PROPERTY_SCHEMA>) chunk).initialize(header, entry.getValue());
-                return true;
+                currentHeader = entry.getKey();
+                currentFile = entry.getValue();
+                currentCompression = FileCompression.fromFileName(currentFile.getFileName().toString());
+                currentFileSize = Files.size(currentFile);
+                nextRangeStart = 0;
             }
-            return false;
+
+            long rangeStart = nextRangeStart;
+            long rangeEnd = currentCompression == FileCompression.NONE
+                ? Math.min(currentFileSize, rangeStart + rangeSize)
+                : currentFileSize;
+            nextRangeStart = rangeEnd;
+
+            assert chunk instanceof LineChunk;
+            ((LineChunk<HEADER, SCHEMA, PROPERTY_SCHEMA>) chunk).initialize(
+                currentHeader,
+                currentFile,
+                currentCompression,
+                rangeStart,
+                rangeEnd
+            );
+            return true;
         }
 
         @Override
@@ -209,9 +226,10 @@ final class CsvFileInput implements FileInput {
 
         NodeImporter(
             Map<NodeFileHeader, List<Path>> headerToDataFilesMapping,
-            NodeSchema nodeSchema
+            NodeSchema nodeSchema,
+            long rangeSize
         ) {
-            super(headerToDataFilesMapping, nodeSchema);
+            super(headerToDataFilesMapping, nodeSchema, rangeSize);
         }
 
         @Override
@@ -224,9 +242,10 @@ final class CsvFileInput implements FileInput {
 
         RelationshipImporter(
             Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping,
-            RelationshipSchema relationshipSchema
+            RelationshipSchema relationshipSchema,
+            long rangeSize
         ) {
-            super(headerToDataFilesMapping, relationshipSchema);
+            super(headerToDataFilesMapping, relationshipSchema, rangeSize);
         }
 
         @Override
@@ -240,9 +259,10 @@ final class CsvFileInput implements FileInput {
 
         GraphPropertyImporter(
             Map<GraphPropertyFileHeader, List<Path>> headerToDataFilesMapping,
-            Map<String, PropertySchema> graphPropertySchema
+            Map<String, PropertySchema> graphPropertySchema,
+            long rangeSize
         ) {
-            super(headerToDataFilesMapping, graphPropertySchema);
+            super(headerToDataFilesMapping, graphPropertySchema, rangeSize);
         }
 
         @Override
@@ -257,41 +277,47 @@ final class CsvFileInput implements FileInput {
         PROPERTY_SCHEMA extends PropertySchema> implements InputChunk {
 
         private final SCHEMA schema;
+        // each chunk is used by a single import thread, the reader and its buffer are reused across ranges
+        private final CsvByteRangeReader lineReader;
 
         HEADER header;
         Map<String, PROPERTY_SCHEMA> propertySchemas;
-        MappingIterator<String[]> lineIterator;
 
         LineChunk(SCHEMA schema) {
             this.schema = schema;
+            this.lineReader = new CsvByteRangeReader();
         }
 
-        void initialize(HEADER header, Path path) throws IOException {
+        void initialize(
+            HEADER header,
+            Path path,
+            FileCompression compression,
+            long rangeStart,
+            long rangeEnd
+        ) throws IOException {
             this.header = header;
             this.propertySchemas = header.schemaForIdentifier(schema);
-            this.lineIterator = LINE_READER.readValues(path.toFile());
+            if (compression == FileCompression.NONE) {
+                this.lineReader.open(path, rangeStart, rangeEnd);
+            } else {
+                this.lineReader.open(Channels.newChannel(compression.decompress(Files.newInputStream(path))));
+            }
         }
 
         @Override
         public boolean next(InputEntityVisitor visitor) throws IOException {
-            if (lineIterator.hasNext()) {
-                String[] lineArray = lineIterator.next();
-                // Ignore empty lines
-                if (lineArray.length != 0) {
-                    visitLine(lineArray, header, visitor);
-                }
+            if (lineReader.nextLine()) {
+                visitLine(lineReader, header, visitor);
                 return true;
             }
             return false;
         }
 
-        abstract void visitLine(String[] lineArray, HEADER header, InputEntityVisitor visitor) throws IOException;
+        abstract void visitLine(CsvByteRangeReader line, HEADER header, InputEntityVisitor visitor) throws IOException;
 
         @Override
         public void close() throws IOException {
-            if (lineIterator != null) {
-                lineIterator.close();
-            }
+            lineReader.close();
         }
     }
 
@@ -302,11 +328,11 @@ final class CsvFileInput implements FileInput {
         }
 
         @Override
-        void visitLine(String[] lineArray, NodeFileHeader header, InputEntityVisitor visitor) throws IOException {
+        void visitLine(CsvByteRangeReader line, NodeFileHeader header, InputEntityVisitor visitor) throws IOException {
             visitor.labels(header.nodeLabels());
-            visitor.id(CsvImportParsingUtil.parseId(lineArray[0]));
+            visitor.id(line.parseId(0));
 
-            visitProperties(header, propertySchemas, visitor, lineArray);
+            visitProperties(header, propertySchemas, visitor, line);
 
             visitor.endOfEntity();
         }
@@ -319,12 +345,12 @@ final class CsvFileInput implements FileInput {
         }
 
         @Override
-        void visitLine(String[] lineArray, RelationshipFileHeader header, InputEntityVisitor visitor) throws IOException {
+        void visitLine(CsvByteRangeReader line, RelationshipFileHeader header, InputEntityVisitor visitor) throws IOException {
             visitor.type(header.relationshipType());
-            visitor.startId(CsvImportParsingUtil.parseId(lineArray[0]));
-            visitor.endId(CsvImportParsingUtil.parseId(lineArray[1]));
+            visitor.startId(line.parseId(0));
+            visitor.endId(line.parseId(1));
 
-            visitProperties(header, propertySchemas, visitor, lineArray);
+            visitProperties(header, propertySchemas, visitor, line);
 
             visitor.endOfEntity();
         }
@@ -338,9 +364,9 @@ final class CsvFileInput implements FileInput {
 
         @Override
         void visitLine(
-            String[] lineArray, GraphPropertyFileHeader header, InputEntityVisitor visitor
+            CsvByteRangeReader line, GraphPropertyFileHeader header, InputEntityVisitor visitor
         ) throws IOException {
-            visitProperties(header, propertySchemas, visitor, lineArray);
+            visitProperties(header, propertySchemas, visitor, line);
             visitor.endOfEntity();
         }
     }
@@ -349,13 +375,12 @@ final class CsvFileInput implements FileInput {
         FileHeader<?, PROPERTY_SCHEMA> header,
         Map<String, PROPERTY_SCHEMA> propertySchemas,
         InputEntityVisitor visitor,
-        String[] parsedLine
-    ) throws IOException {
+        CsvByteRangeReader line
+    ) {
         for (HeaderProperty headerProperty : header.propertyMappings()) {
-            var stringProperty = parsedLine[headerProperty.position()];
             var propertyKey = headerProperty.propertyKey();
             var defaultValue = propertySchemas.get(propertyKey).defaultValue();
-            var value = CsvImportParsingUtil.parseProperty(stringProperty, headerProperty.valueType(), defaultValue, ARRAY_READER);
+            var value = line.parseProperty(headerProperty.position(), headerProperty.valueType(), defaultValue);
             visitor.property(propertyKey, value);
         }
     }
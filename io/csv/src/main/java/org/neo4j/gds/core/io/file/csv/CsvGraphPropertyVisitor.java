@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.io.file.csv;
 
 import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.GraphPropertyVisitor;
 
 import java.io.IOException;
@@ -41,6 +42,7 @@ public class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
     private final Path fileLocation;
     private final Map<String, PropertySchema> graphPropertySchemas;
     private final int visitorId;
+    private final FileCompression compression;
     private final Map<String, JacksonFileAppender> csvAppenders;
     private final Set<String> headerFiles;
 
@@ -49,11 +51,22 @@ public class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
         Map<String, PropertySchema> graphPropertySchemas,
         Set<String> headerFiles,
         int visitorId
+    ) {
+        this(fileLocation, graphPropertySchemas, headerFiles, visitorId, FileCompression.NONE);
+    }
+
+    CsvGraphPropertyVisitor(
+        Path fileLocation,
+        Map<String, PropertySchema> graphPropertySchemas,
+        Set<String> headerFiles,
+        int visitorId,
+        FileCompression compression
     ) {
         this.fileLocation = fileLocation;
         this.graphPropertySchemas = graphPropertySchemas;
         this.headerFiles = headerFiles;
         this.visitorId = visitorId;
+        this.compression = compression;
         this.csvAppenders = new HashMap<>();
     }
 
@@ -92,19 +105,19 @@ public class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
     private JacksonFileAppender getAppender(String propertyKey) {
         return csvAppenders.computeIfAbsent(propertyKey, __ -> {
             var headerFileName = formatWithLocale(GRAPH_PROPERTY_HEADER_FILE_NAME_TEMPLATE, propertyKey);
-            var dataFileName = formatWithLocale(GRAPH_PROPERTY_DATA_FILE_NAME_TEMPLATE, propertyKey, visitorId);
+            var dataFileName = formatWithLocale(GRAPH_PROPERTY_DATA_FILE_NAME_TEMPLATE, propertyKey, visitorId) + compression.fileExtension();
             var propertySchema = graphPropertySchemas.get(propertyKey);
 
             if (headerFiles.add(headerFileName)) {
                 writeHeaderFile(propertySchema, headerFileName);
             }
 
-            return fileAppender(fileLocation.resolve(dataFileName), propertySchema);
+            return fileAppender(fileLocation.resolve(dataFileName), compression, propertySchema);
         });
     }
 
     private void writeHeaderFile(PropertySchema propertySchema, String headerFileName) {
-        try (var headerAppender = fileAppender(fileLocation.resolve(headerFileName), propertySchema)) {
+        try (var headerAppender = fileAppender(fileLocation.resolve(headerFileName), FileCompression.NONE, propertySchema)) {
             var propertyHeader = formatWithLocale(
                 "%s:%s",
                 propertySchema.key(),
@@ -121,10 +134,12 @@ public class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
 
     private JacksonFileAppender fileAppender(
         Path filePath,
+        FileCompression fileCompression,
         PropertySchema propertySchema
     ) {
         return JacksonFileAppender.of(
             filePath,
+            fileCompression,
             List.of(propertySchema),
             UnaryOperator.identity()
         );
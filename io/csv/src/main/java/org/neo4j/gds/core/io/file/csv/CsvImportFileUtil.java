@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.io.file.csv;
 
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.GraphPropertyFileHeader;
 import org.neo4j.gds.core.io.file.NodeFileHeader;
 import org.neo4j.gds.core.io.file.RelationshipFileHeader;
@@ -30,14 +31,24 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public final class CsvImportFileUtil {
 
+    // data files may carry the extension of the compression they were written with
+    private static final String COMPRESSION_EXTENSION_PATTERN = Arrays
+        .stream(FileCompression.values())
+        .filter(compression -> compression != FileCompression.NONE)
+        .map(compression -> Pattern.quote(compression.fileExtension()))
+        .collect(Collectors.joining("|", "(", ")?"));
+
     private CsvImportFileUtil() {}
 
     public static NodeFileHeader parseNodeHeader(Path headerFile) {
@@ -94,7 +105,8 @@ public final class CsvImportFileUtil {
     private static Map<Path, List<Path>> headerToFileMapping(Path csvDirectory, Function<Path, Collection<Path>> headerPaths) {
         Map<Path, List<Path>> headerToDataFileMapping = new HashMap<>();
         for (Path headerFile : headerPaths.apply(csvDirectory)) {
-            String dataFilePattern = headerFile.getFileName().toString().replace("_header", "(_\\d+)");
+            String dataFilePattern = headerFile.getFileName().toString().replace("_header", "(_\\d+)")
+                + COMPRESSION_EXTENSION_PATTERN;
             List<Path> dataPaths = headerToDataFileMapping.computeIfAbsent(
                 headerFile,
                 path -> new ArrayList<>()
@@ -19,15 +19,37 @@
  */
 package org.neo4j.gds.core.io.file.csv;
 
-import com.fasterxml.jackson.databind.MappingIterator;
-import com.fasterxml.jackson.databind.ObjectReader;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
+/**
+ * Parses CSV values directly from the bytes of a line, fields are given as {@code [start, end)} ranges.
+ * <p>
+ * Decimal values with few significant digits and small exponents are computed
+ * exactly from their mantissa, all other values fall back to the JDK parsers.
+ */
 final class CsvImportParsingUtil {
 
+    private static final byte ARRAY_ELEMENT_SEPARATOR = ';';
+
+    // 10^15 < 2^53 and 10^22 is the largest power of ten that is exact as a double
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // 10^7 < 2^24 and 10^10 is the largest power of ten that is exact as a float
+    private static final int MAX_EXACT_FLOAT_DIGITS = 7;
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    // more digits cannot be accumulated into a long without overflow
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
     private static final ValueType.Visitor<CsvParsingFunction> PARSING_VISITOR = new ValueType.Visitor<>() {
         @Override
         public CsvParsingFunction visitLong() {
@@ -62,91 +84,266 @@ final class CsvImportParsingUtil {
 
     @FunctionalInterface
     interface CsvParsingFunction {
-        Object parse(String value, DefaultValue defaultValue, ObjectReader arrayReader) throws IOException;
+        Object parse(byte[] bytes, int start, int end, DefaultValue defaultValue);
     }
 
     public static Object parseProperty(
-        String value,
+        byte[] bytes,
+        int start,
+        int end,
         ValueType valueType,
-        DefaultValue defaultValue,
-        ObjectReader arrayReader
-    ) throws IOException {
-        return valueType.accept(PARSING_VISITOR).parse(value, defaultValue, arrayReader);
+        DefaultValue defaultValue
+    ) {
+        return valueType.accept(PARSING_VISITOR).parse(bytes, start, end, defaultValue);
     }
 
-    static long parseId(String value) {
-        return Long.parseLong(value);
+    static long parseId(byte[] bytes, int start, int end) {
+        return parseLong(bytes, start, end);
     }
 
-    private static long parseLongValue(String value, DefaultValue defaultValue, ObjectReader arrayReader) {
-        if (value.isBlank()) {
+    private static long parseLongValue(byte[] bytes, int start, int end, DefaultValue defaultValue) {
+        if (isBlank(bytes, start, end)) {
             return defaultValue.longValue();
         }
-        return parseId(value);
+        return parseLong(bytes, start, end);
     }
 
-    private static double parseDoubleValue(String value, DefaultValue defaultValue, ObjectReader arrayReader) {
-        if (value.isBlank()) {
+    private static double parseDoubleValue(byte[] bytes, int start, int end, DefaultValue defaultValue) {
+        if (isBlank(bytes, start, end)) {
             return defaultValue.doubleValue();
         }
-        return Double.parseDouble(value);
-    }
-
-    private static float[] parseFloatArray(
-        String value,
-        DefaultValue defaultValue,
-        ObjectReader arrayReader
-    ) throws IOException {
-        try (MappingIterator<String[]> objectMappingIterator = arrayReader.readValues(value)) {
-            if (objectMappingIterator.hasNext()) {
-                var stringArray = objectMappingIterator.next();
-                var parsedArray = new float[stringArray.length];
-                for (int i = 0; i < stringArray.length; i++) {
-                    String s = stringArray[i];
-                    parsedArray[i] = Float.parseFloat(s);
+        return parseDouble(bytes, start, end);
+    }
+
+    private static float[] parseFloatArray(byte[] bytes, int start, int end, DefaultValue defaultValue) {
+        if (start == end) {
+            return defaultValue.floatArrayValue();
+        }
+        var parsedArray = new float[arrayLength(bytes, start, end)];
+        int elementStart = start;
+        for (int i = 0; i < parsedArray.length; i++) {
+            int elementEnd = elementEnd(bytes, elementStart, end);
+            parsedArray[i] = parseFloat(bytes, elementStart, elementEnd);
+            elementStart = elementEnd + 1;
+        }
+        return parsedArray;
+    }
+
+    private static double[] parseDoubleArray(byte[] bytes, int start, int end, DefaultValue defaultValue) {
+        if (start == end) {
+            return defaultValue.doubleArrayValue();
+        }
+        var parsedArray = new double[arrayLength(bytes, start, end)];
+        int elementStart = start;
+        for (int i = 0; i < parsedArray.length; i++) {
+            int elementEnd = elementEnd(bytes, elementStart, end);
+            parsedArray[i] = parseDouble(bytes, elementStart, elementEnd);
+            elementStart = elementEnd + 1;
+        }
+        return parsedArray;
+    }
+
+    private static long[] parseLongArray(byte[] bytes, int start, int end, DefaultValue defaultValue) {
+        if (start == end) {
+            return defaultValue.longArrayValue();
+        }
+        var parsedArray = new long[arrayLength(bytes, start, end)];
+        int elementStart = start;
+        for (int i = 0; i < parsedArray.length; i++) {
+            int elementEnd = elementEnd(bytes, elementStart, end);
+            parsedArray[i] = parseLong(bytes, elementStart, elementEnd);
+            elementStart = elementEnd + 1;
+        }
+        return parsedArray;
+    }
+
+    private static int arrayLength(byte[] bytes, int start, int end) {
+        int length = 1;
+        for (int i = start; i < end; i++) {
+            if (bytes[i] == ARRAY_ELEMENT_SEPARATOR) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private static int elementEnd(byte[] bytes, int elementStart, int end) {
+        int index = elementStart;
+        while (index < end && bytes[index] != ARRAY_ELEMENT_SEPARATOR) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isBlank(byte[] bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (bytes[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same semantics as {@link Long#parseLong(String)}, accumulating negatively to cover {@link Long#MIN_VALUE}.
+     */
+    private static long parseLong(byte[] bytes, int start, int end) {
+        int index = start;
+        boolean negative = false;
+        if (index < end && (bytes[index] == '-' || bytes[index] == '+')) {
+            negative = bytes[index] == '-';
+            index++;
+        }
+        if (index == end) {
+            throw numberFormatException(bytes, start, end);
+        }
+
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for (; index < end; index++) {
+            int digit = bytes[index] - '0';
+            if (digit < 0 || digit > 9 || result < multiplyMin) {
+                throw numberFormatException(bytes, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException(bytes, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static double parseDouble(byte[] bytes, int start, int end) {
+        double value = parseDecimal(bytes, start, end, MAX_EXACT_DOUBLE_DIGITS, DOUBLE_POWERS_OF_TEN.length - 1, false);
+        return Double.isNaN(value)
+            ? Double.parseDouble(asString(bytes, start, end))
+            : value;
+    }
+
+    private static float parseFloat(byte[] bytes, int start, int end) {
+        double value = parseDecimal(bytes, start, end, MAX_EXACT_FLOAT_DIGITS, FLOAT_POWERS_OF_TEN.length - 1, true);
+        return Double.isNaN(value)
+            ? Float.parseFloat(asString(bytes, start, end))
+            : (float) value;
+    }
+
+    /**
+     * Computes a decimal value from its digits if the result is guaranteed to be correctly rounded,
+     * which is the case when both the mantissa and the power of ten are exactly representable.
+     *
+     * @return the parsed value or NaN if the value needs to be parsed by the JDK
+     */
+    private static double parseDecimal(
+        byte[] bytes,
+        int start,
+        int end,
+        int maxDigits,
+        int maxExponent,
+        boolean singlePrecision
+    ) {
+        int index = start;
+        boolean negative = false;
+        if (index < end && (bytes[index] == '-' || bytes[index] == '+')) {
+            negative = bytes[index] == '-';
+            index++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean seenDigit = false;
+
+        for (; index < end; index++) {
+            int digit = bytes[index] - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            seenDigit = true;
+            if (mantissa != 0 || digit != 0) {
+                if (++significantDigits > MAX_MANTISSA_DIGITS) {
+                    return Double.NaN;
                 }
-                return parsedArray;
+                mantissa = mantissa * 10 + digit;
             }
         }
-        return defaultValue.floatArrayValue();
-    }
-
-    private static double[] parseDoubleArray(
-        String value,
-        DefaultValue defaultValue,
-        ObjectReader arrayReader
-    ) throws IOException {
-        try (MappingIterator<String[]> objectMappingIterator = arrayReader.readValues(value)) {
-            if (objectMappingIterator.hasNext()) {
-                var stringArray = objectMappingIterator.next();
-                var parsedArray = new double[stringArray.length];
-                for (int i = 0; i < stringArray.length; i++) {
-                    String s = stringArray[i];
-                    parsedArray[i] = (double) parseProperty(s, ValueType.DOUBLE, defaultValue, arrayReader);
+
+        if (index < end && bytes[index] == '.') {
+            index++;
+            for (; index < end; index++) {
+                int digit = bytes[index] - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                seenDigit = true;
+                exponent--;
+                if (mantissa != 0 || digit != 0) {
+                    if (++significantDigits > MAX_MANTISSA_DIGITS) {
+                        return Double.NaN;
+                    }
+                    mantissa = mantissa * 10 + digit;
                 }
-                return parsedArray;
             }
         }
-        return defaultValue.doubleArrayValue();
-    }
-
-    private static long[] parseLongArray(
-        String value,
-        DefaultValue defaultValue,
-        ObjectReader arrayReader
-    ) throws IOException {
-        try (MappingIterator<String[]> objectMappingIterator = arrayReader.readValues(value)) {
-            if (objectMappingIterator.hasNext()) {
-                var stringArray = objectMappingIterator.next();
-                var parsedArray = new long[stringArray.length];
-                for (int i = 0; i < stringArray.length; i++) {
-                    String s = stringArray[i];
-                    parsedArray[i] = (long) parseProperty(s, ValueType.LONG, defaultValue, arrayReader);
+
+        if (!seenDigit) {
+            return Double.NaN;
+        }
+
+        if (index < end && (bytes[index] == 'e' || bytes[index] == 'E')) {
+            index++;
+            boolean negativeExponent = false;
+            if (index < end && (bytes[index] == '-' || bytes[index] == '+')) {
+                negativeExponent = bytes[index] == '-';
+                index++;
+            }
+            if (index == end) {
+                return Double.NaN;
+            }
+            int explicitExponent = 0;
+            for (; index < end; index++) {
+                int digit = bytes[index] - '0';
+                if (digit < 0 || digit > 9 || explicitExponent > 1000) {
+                    return Double.NaN;
                 }
-                return parsedArray;
+                explicitExponent = explicitExponent * 10 + digit;
             }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (index != end) {
+            return Double.NaN;
+        }
+
+        if (mantissa == 0) {
+            return negative ? -0.0D : 0.0D;
+        }
+        if (significantDigits > maxDigits || exponent < -maxExponent || exponent > maxExponent) {
+            return Double.NaN;
+        }
+
+        double value;
+        if (singlePrecision) {
+            float floatValue = (float) mantissa;
+            value = exponent < 0
+                ? floatValue / FLOAT_POWERS_OF_TEN[-exponent]
+                : floatValue * FLOAT_POWERS_OF_TEN[exponent];
+        } else {
+            double doubleValue = (double) mantissa;
+            value = exponent < 0
+                ? doubleValue / DOUBLE_POWERS_OF_TEN[-exponent]
+                : doubleValue * DOUBLE_POWERS_OF_TEN[exponent];
         }
-        return defaultValue.longArrayValue();
+        return negative ? -value : value;
+    }
+
+    private static NumberFormatException numberFormatException(byte[] bytes, int start, int end) {
+        return new NumberFormatException("For input string: \"" + asString(bytes, start, end) + "\"");
+    }
+
+    private static String asString(byte[] bytes, int start, int end) {
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
     }
 
     private CsvImportParsingUtil() {}
@@ -86,14 +86,22 @@ public final class GraphStoreToCsvExporter {
                 exportPath,
                 nodeSchema.union(neoNodeSchema),
                 headerFiles,
-                index
+                index,
+                config.compression()
+            ),
+            (index) -> new CsvRelationshipVisitor(
+                exportPath,
+                relationshipSchema,
+                headerFiles,
+                index,
+                config.compression()
             ),
-            (index) -> new CsvRelationshipVisitor(exportPath, relationshipSchema, headerFiles, index),
             (index) -> new CsvGraphPropertyVisitor(
                 exportPath,
                 graphStore.schema().graphProperties(),
                 headerFiles,
-                index
+                index,
+                config.compression()
             ),
             taskRegistryFactory,
             log,
@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.io.file.csv.estimation;
 
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.GraphStoreToFileExporter;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -29,14 +30,37 @@ public final class CsvExportEstimation {
     // assuming utf-8
     private static final int BYTES_PER_WRITTEN_CHARACTER = 1;
 
+    // Conservative ratios for numeric CSV data, measured on exports with random property values.
+    private static final double GZIP_COMPRESSION_RATIO = 0.5;
+
     public static MemoryEstimation estimate(GraphStore graphStore, double samplingFactor) {
+        return estimate(graphStore, samplingFactor, FileCompression.NONE);
+    }
+
+    public static MemoryEstimation estimate(
+        GraphStore graphStore,
+        double samplingFactor,
+        FileCompression compression
+    ) {
+        var compressionRatio = compressionRatio(compression);
         return MemoryEstimations
             .builder(GraphStoreToFileExporter.class)
-            .fixed("Node data", estimateNodes(graphStore, samplingFactor))
-            .fixed("Relationship data", estimateRelationships(graphStore, samplingFactor))
+            .fixed("Node data", Math.round(estimateNodes(graphStore, samplingFactor) * compressionRatio))
+            .fixed("Relationship data", Math.round(estimateRelationships(graphStore, samplingFactor) * compressionRatio))
             .build();
     }
 
+    private static double compressionRatio(FileCompression compression) {
+        switch (compression) {
+            case NONE:
+                return 1.0;
+            case GZIP:
+                return GZIP_COMPRESSION_RATIO;
+            default:
+                throw new IllegalArgumentException("Unexpected compression " + compression);
+        }
+    }
+
     private static long estimateNodes(GraphStore graphStore, double samplingFactor) {
         long nodeIdsEstimate = getIdEstimate(graphStore);
         long nodePropertiesEstimate = sampleNodeProperties(graphStore, samplingFactor);
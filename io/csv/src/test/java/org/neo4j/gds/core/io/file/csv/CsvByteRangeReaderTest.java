@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvByteRangeReaderTest {
+
+    private static final String CONTENT =
+        "0,1.5,\"0.30000001192092896;0.20000000298023224\"\n" +
+        "1,,\n" +
+        "\n" +
+        "2,-4.2E-7,1.0\r\n" +
+        "3,42,-0.04;1.0\n" +
+        "1337,1e300,";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReadAllLinesOfAFile() throws IOException {
+        var file = write(CONTENT);
+
+        var lines = readRanges(file, Files.size(file));
+
+        assertThat(lines).containsExactly(
+            "0|1.5|[0.30000001192092896, 0.20000000298023224]",
+            "1|NaN|null",
+            "2|-4.2E-7|[1.0]",
+            "3|42.0|[-0.04, 1.0]",
+            "1337|1.0E300|null"
+        );
+    }
+
+    @Test
+    void shouldReadEveryLineExactlyOnceForAllRangeSizes() throws IOException {
+        var file = write(CONTENT);
+        var expected = readRanges(file, Files.size(file));
+
+        for (long rangeSize = 1; rangeSize <= Files.size(file); rangeSize++) {
+            assertThat(readRanges(file, rangeSize))
+                .as("range size %d", rangeSize)
+                .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4096, 1 << 16, 1 << 20})
+    void shouldReadLinesLargerThanTheBuffer(int rangeSize) throws IOException {
+        var longArray = LongStream.range(0, 50_000).mapToObj(Long::toString).collect(Collectors.joining(";"));
+        var file = write("0," + longArray + "\n1," + longArray + "\n");
+
+        var ids = new ArrayList<Long>();
+        try (var reader = new CsvByteRangeReader()) {
+            long size = Files.size(file);
+            for (long start = 0; start < size; start += rangeSize) {
+                reader.open(file, start, Math.min(size, start + rangeSize));
+                while (reader.nextLine()) {
+                    ids.add(reader.parseId(0));
+                    var values = (long[]) reader.parseProperty(1, ValueType.LONG_ARRAY, ValueType.LONG_ARRAY.fallbackValue());
+                    assertThat(values).containsExactly(LongStream.range(0, 50_000).toArray());
+                }
+            }
+        }
+
+        assertThat(ids).containsExactly(0L, 1L);
+    }
+
+    @Test
+    void shouldFailOnMalformedIds() throws IOException {
+        var file = write("12a,1\n");
+
+        try (var reader = new CsvByteRangeReader()) {
+            reader.open(file, 0, Files.size(file));
+            assertThat(reader.nextLine()).isTrue();
+            assertThatThrownBy(() -> reader.parseId(0))
+                .isInstanceOf(NumberFormatException.class)
+                .hasMessageContaining("12a");
+            assertThatThrownBy(() -> reader.parseId(2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Expected at least 3 columns");
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        var file = tempDir.resolve("nodes_0.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static List<String> readRanges(Path file, long rangeSize) throws IOException {
+        var lines = new ArrayList<String>();
+        long size = Files.size(file);
+        try (var reader = new CsvByteRangeReader()) {
+            for (long start = 0; start < size; start += rangeSize) {
+                reader.open(file, start, Math.min(size, start + rangeSize));
+                while (reader.nextLine()) {
+                    var id = reader.parseId(0);
+                    var score = reader.parseProperty(1, ValueType.DOUBLE, ValueType.DOUBLE.fallbackValue());
+                    var array = (double[]) reader.parseProperty(
+                        2,
+                        ValueType.DOUBLE_ARRAY,
+                        ValueType.DOUBLE_ARRAY.fallbackValue()
+                    );
+                    lines.add(id + "|" + score + "|" + (array == null ? "null" : Arrays.toString(array)));
+                }
+            }
+        }
+        return lines;
+    }
+}
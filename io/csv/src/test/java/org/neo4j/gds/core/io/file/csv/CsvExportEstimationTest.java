@@ -22,6 +22,7 @@ package org.neo4j.gds.core.io.file.csv;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.csv.estimation.CsvExportEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.extension.GdlExtension;
@@ -60,4 +61,14 @@ class CsvExportEstimationTest {
         // The actual value is 40K
         assertThat(estimation.max).isBetween(100L, 300L);
     }
+
+    @Test
+    void estimateCompressed() {
+        MemoryRange estimation = CsvExportEstimation
+            .estimate(graphStore, 1, FileCompression.GZIP)
+            .estimate(GraphDimensions.of(0), 1)
+            .memoryUsage();
+
+        assertThat(estimation.max).isBetween(50L, 150L);
+    }
 }
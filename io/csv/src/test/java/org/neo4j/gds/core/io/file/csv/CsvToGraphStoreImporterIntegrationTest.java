@@ -28,6 +28,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.properties.graph.DoubleArrayGraphPropertyValues;
 import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
 import org.neo4j.gds.core.io.file.ImmutableGraphStoreToFileExporterConfig;
 import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
@@ -37,6 +38,8 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
@@ -86,6 +89,28 @@ class CsvToGraphStoreImporterIntegrationTest {
         assertGraphEquals(graph, importedGraph);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldImportCompressedExport(int concurrency) throws IOException {
+        var config = ImmutableGraphStoreToFileExporterConfig.builder()
+            .from(exportConfig(concurrency))
+            .compression(FileCompression.GZIP)
+            .build();
+        GraphStoreToCsvExporter.create(graphStore, config, graphLocation).run();
+
+        try (var files = Files.list(graphLocation)) {
+            assertThat(files.map(path -> path.getFileName().toString()))
+                .filteredOn(fileName -> fileName.matches("(nodes|relationships)_.*_\\d+\\.csv.*"))
+                .isNotEmpty()
+                .allMatch(fileName -> fileName.endsWith(".csv.gz"));
+        }
+
+        var importer = new CsvToGraphStoreImporter(concurrency, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var importedGraph = importer.run().graphStore().getUnion();
+
+        assertGraphEquals(graph, importedGraph);
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 4})
     void shouldImportGraphStoreWithGraphProperties(int concurrency) {
@@ -19,13 +19,12 @@
  */
 package org.neo4j.gds.core.io.file.csv;
 
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,9 +38,14 @@ class ValueTypeTest {
         return Stream.of(
             arguments(ValueType.LONG, 42L, "42"),
             arguments(ValueType.LONG, LONG_DEFAULT_FALLBACK, ""),
+            arguments(ValueType.LONG, -9223372036854775807L, "-9223372036854775807"),
 
             arguments(ValueType.DOUBLE, 42.1337D, "42.1337"),
             arguments(ValueType.DOUBLE, DOUBLE_DEFAULT_FALLBACK,  ""),
+            arguments(ValueType.DOUBLE, -0.04D, "-0.04"),
+            arguments(ValueType.DOUBLE, 1.0E-4D, "1.0E-4"),
+            arguments(ValueType.DOUBLE, 0.30000001192092896D, "0.30000001192092896"),
+            arguments(ValueType.DOUBLE, 1.7976931348623157E308D, "1.7976931348623157E308"),
 
             arguments(ValueType.LONG_ARRAY, new long[]{1L, 3L, 3L, 7L}, "1;3;3;7"),
             arguments(ValueType.LONG_ARRAY, null, ""),
@@ -50,14 +54,15 @@ class ValueTypeTest {
             arguments(ValueType.DOUBLE_ARRAY, null, ""),
 
             arguments(ValueType.FLOAT_ARRAY, new float[]{1.0f, 3.0f, 3.0f, 7.0f}, "1.0;3.0;3.0;7.0"),
+            arguments(ValueType.FLOAT_ARRAY, new float[]{0.1f, -3.4028235E38f, 1.0E-10f}, "0.1;-3.4028235E38;1.0E-10"),
             arguments(ValueType.FLOAT_ARRAY, null, "")
         );
     }
 
     @ParameterizedTest
     @MethodSource("formatValues")
-    void testParsingFromCsv(ValueType valueType, Object expected, String value) throws IOException {
-        var arrayReader = new CsvMapper().readerForArrayOf(String.class);
-        assertThat(CsvImportParsingUtil.parseProperty(value, valueType, valueType.fallbackValue(), arrayReader)).isEqualTo(expected);
+    void testParsingFromCsv(ValueType valueType, Object expected, String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        assertThat(CsvImportParsingUtil.parseProperty(bytes, 0, bytes.length, valueType, valueType.fallbackValue())).isEqualTo(expected);
     }
 }
@@ -56,6 +56,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.alpha.conductance.stream",
 
+        "gds.alpha.contractionHierarchies.train",
+        "gds.alpha.shortestPath.contractionHierarchies.stream",
+
         "gds.beta.closeness.mutate",
         "gds.beta.closeness.stats",
         "gds.beta.closeness.stream",
@@ -167,6 +170,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.sllpa.write",
         "gds.alpha.sllpa.write.estimate",
 
+        "gds.alpha.spanningForest.mutate",
+        "gds.alpha.spanningForest.stream",
+        "gds.alpha.spanningForest.write",
         "gds.alpha.spanningTree.write",
         "gds.alpha.spanningTree.kmax.write",
         "gds.alpha.spanningTree.kmin.write",
@@ -197,8 +203,10 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.articleRank.write",
         "gds.articleRank.write.estimate",
 
+        "gds.beta.graph.export",
         "gds.beta.graph.export.csv",
         "gds.beta.graph.export.csv.estimate",
+        "gds.beta.graph.import",
 
         "gds.beta.node2vec.mutate",
         "gds.beta.node2vec.mutate.estimate",
@@ -507,7 +515,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 358;
+        int expectedCount = 365;
         assertEquals(
             expectedCount,
             registeredProcedures.size(),
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+
+class AsyncTypedQueueMessenger implements Messenger<PrimitiveAsyncLongQueues.Iterator> {
+
+    private final MessageSchema messageSchema;
+    private final long emptySlot;
+    private final PrimitiveAsyncLongQueues queues;
+
+    AsyncTypedQueueMessenger(long nodeCount, MessageSchema messageSchema) {
+        this.messageSchema = messageSchema;
+        this.emptySlot = messageSchema.emptySlot();
+        this.queues = PrimitiveAsyncLongQueues.of(nodeCount, messageSchema);
+    }
+
+    static MemoryEstimation memoryEstimation(MessageSchema messageSchema) {
+        return PrimitiveAsyncLongQueues.memoryEstimation(messageSchema.width());
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        if (iteration > 0) {
+            queues.compact();
+        }
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException("Typed messengers do not support double messages.");
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] slots) {
+        assert slots[slots.length - 1] != emptySlot : "the last message field must not be NaN or Long.MIN_VALUE";
+        queues.push(targetNodeId, slots);
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
+    @Override
+    public PrimitiveAsyncLongQueues.Iterator messageIterator() {
+        return new PrimitiveAsyncLongQueues.Iterator(queues);
+    }
+
+    @Override
+    public void initMessageIterator(
+        PrimitiveAsyncLongQueues.Iterator messageIterator,
+        long nodeId,
+        boolean isFirstIteration
+    ) {
+        messageIterator.init(nodeId);
+    }
+
+    @Override
+    public void release() {
+        queues.release();
+    }
+}
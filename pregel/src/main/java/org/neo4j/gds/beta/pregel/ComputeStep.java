@@ -51,6 +51,12 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     int iteration();
 
+    /**
+     * A buffer that is used to iterate the neighbours of a node in batches.
+     * Each compute step is executed by a single thread, the buffer must not be shared between compute steps.
+     */
+    long[] neighborBuffer();
+
     default boolean isMultiGraph() {
         return graph().isMultiGraph();
     }
@@ -81,16 +87,36 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     void sendTo(long targetNodeId, double message);
 
+    void sendTo(long targetNodeId, long[] slots);
+
+    /**
+     * Hands a message for all neighbors of the source node to the messenger,
+     * which delivers it by pulling, see {@link Messenger#broadcast(long, double)}.
+     *
+     * @return false, iff the messenger did not accept the message and it needs to be pushed
+     */
+    boolean broadcast(long sourceNodeId, double message);
+
+    /**
+     * Tracks the number of nodes that have been computed in the current iteration.
+     */
+    void addActiveNodes(long activeNodes);
+
+    default void sendTo(long targetNodeId, MessageRecord record) {
+        sendTo(targetNodeId, record.slots());
+    }
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
-        var messages = new Messages(messageIterator);
+        var messages = new Messages(messageIterator, messenger.messageSchema());
 
         var nodeBatch = nodeBatch();
         var computation = computation();
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var activeNodes = new MutableLong();
 
         nodeBatch.consume(nodeId -> {
             if (computeContext.isInitialSuperstep()) {
@@ -104,19 +130,43 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computation.compute(computeContext, messages);
+                activeNodes.increment();
             }
         });
+        addActiveNodes(activeNodes.longValue());
         progressTracker().logProgress(nodeBatch.nodeCount());
     }
 
     default void sendToNeighbors(long sourceNodeId, double message) {
-        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
-            sendTo(targetNodeId, message);
+        if (messenger().isPulling() && broadcast(sourceNodeId, message)) {
+            return;
+        }
+        graph().forEachRelationshipBatch(sourceNodeId, neighborBuffer(), (ignored, targets, length) -> {
+            for (int i = 0; i < length; i++) {
+                sendTo(targets[i], message);
+            }
             return true;
         });
     }
 
+    default void sendToNeighbors(long sourceNodeId, long[] slots) {
+        graph().forEachRelationshipBatch(sourceNodeId, neighborBuffer(), (ignored, targets, length) -> {
+            for (int i = 0; i < length; i++) {
+                sendTo(targets[i], slots);
+            }
+            return true;
+        });
+    }
+
+    default void sendToNeighbors(long sourceNodeId, MessageRecord record) {
+        sendToNeighbors(sourceNodeId, record.slots());
+    }
+
     default void sendToNeighborsWeighted(long sourceNodeId, double message) {
+        // Relationship weights are applied by the receiving node when pulling.
+        if (messenger().isPulling() && broadcast(sourceNodeId, message)) {
+            return;
+        }
         graph().forEachRelationship(sourceNodeId, 1.0, (ignored, targetNodeId, weight) -> {
             sendTo(targetNodeId, computation().applyRelationshipWeight(message, weight));
             return true;
@@ -124,8 +174,10 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
     }
 
     default void forEachNeighbor(long sourceNodeId, LongConsumer targetConsumer) {
-        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
-            targetConsumer.accept(targetNodeId);
+        graph().forEachRelationshipBatch(sourceNodeId, neighborBuffer(), (ignored, targets, length) -> {
+            for (int i = 0; i < length; i++) {
+                targetConsumer.accept(targets[i]);
+            }
             return true;
         });
     }
@@ -20,6 +20,7 @@
 package org.neo4j.gds.beta.pregel;
 
 import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
@@ -30,6 +31,7 @@ import org.neo4j.gds.mem.BitUtil;
 
 import java.util.concurrent.CountedCompleter;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messages.MessageIterator>
     extends CountedCompleter<Void>
@@ -51,7 +53,9 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
     private final int iteration;
     private boolean hasSendMessage;
     private final AtomicBoolean sentMessage;
+    private final LongAdder activeNodes;
     private final ProgressTracker progressTracker;
+    private final long[] neighborBuffer;
 
     ForkJoinComputeStep(
         Graph graph,
@@ -64,6 +68,7 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         HugeAtomicBitSet voteBits,
         @Nullable CountedCompleter<Void> parent,
         AtomicBoolean sentMessage,
+        LongAdder activeNodes,
         ProgressTracker progressTracker
     ) {
         super(parent);
@@ -77,8 +82,10 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         this.messenger = messenger;
         this.computeContext = new ComputeContext<>(this, config, progressTracker);
         this.sentMessage = sentMessage;
+        this.activeNodes = activeNodes;
         this.progressTracker = progressTracker;
         this.initContext = new InitContext<>(this, config, graph, progressTracker);
+        this.neighborBuffer = new long[AdjacencyCursor.DEFAULT_BATCH_SIZE];
     }
 
     @Override
@@ -107,6 +114,7 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
                 voteBits,
                 this,
                 sentMessage,
+                activeNodes,
                 progressTracker
             );
 
@@ -173,9 +181,34 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         return iteration;
     }
 
+    @Override
+    public long[] neighborBuffer() {
+        return neighborBuffer;
+    }
+
     @Override
     public void sendTo(long targetNodeId, double message) {
         messenger.sendTo(targetNodeId, message);
         hasSendMessage = true;
     }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] slots) {
+        messenger.sendTo(targetNodeId, slots);
+        hasSendMessage = true;
+    }
+
+    @Override
+    public boolean broadcast(long sourceNodeId, double message) {
+        if (messenger.broadcast(sourceNodeId, message)) {
+            hasSendMessage = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void addActiveNodes(long activeNodes) {
+        this.activeNodes.add(activeNodes);
+    }
 }
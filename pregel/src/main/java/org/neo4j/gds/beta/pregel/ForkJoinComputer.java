@@ -26,12 +26,14 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelComputer<CONFIG> {
 
     private final ForkJoinPool forkJoinPool;
 
     private AtomicBoolean sentMessage;
+    private LongAdder activeNodes;
     private ForkJoinComputeStep<CONFIG, ?> rootTask;
 
     ForkJoinComputer(
@@ -56,6 +58,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
     @Override
     public void initIteration(int iteration) {
         this.sentMessage = new AtomicBoolean(false);
+        this.activeNodes = new LongAdder();
         this.rootTask = new ForkJoinComputeStep<>(
             graph,
             computation,
@@ -67,6 +70,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             voteBits,
             null,
             sentMessage,
+            activeNodes,
             progressTracker
         );
     }
@@ -81,6 +85,11 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         return !sentMessage.get() && voteBits.allSet();
     }
 
+    @Override
+    long activeNodeCount() {
+        return activeNodes.sum();
+    }
+
     @Override
     void release() {
         forkJoinPool.shutdown();
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A mutable view on a single message that follows a {@link MessageSchema}.
+ * <br>
+ * Records are flyweights: the same instance is reused for every message
+ * of a message iterator or a compute context. Values must be copied out
+ * if they are needed beyond the current iteration step.
+ */
+public final class MessageRecord {
+
+    private final MessageSchema schema;
+    private final long[] slots;
+
+    public MessageRecord(MessageSchema schema) {
+        this(schema, new long[schema.width()]);
+    }
+
+    MessageRecord(MessageSchema schema, long[] slots) {
+        this.schema = schema;
+        this.slots = slots;
+    }
+
+    public MessageSchema schema() {
+        return schema;
+    }
+
+    public long longValue(String key) {
+        return longValue(schema.fieldIndex(key));
+    }
+
+    public long longValue(int index) {
+        checkType(index, ValueType.LONG);
+        return slots[index];
+    }
+
+    public double doubleValue(String key) {
+        return doubleValue(schema.fieldIndex(key));
+    }
+
+    public double doubleValue(int index) {
+        checkType(index, ValueType.DOUBLE);
+        return MessageSchema.decode(slots[index]);
+    }
+
+    public MessageRecord set(String key, long value) {
+        return set(schema.fieldIndex(key), value);
+    }
+
+    public MessageRecord set(int index, long value) {
+        checkType(index, ValueType.LONG);
+        slots[index] = value;
+        return this;
+    }
+
+    public MessageRecord set(String key, double value) {
+        return set(schema.fieldIndex(key), value);
+    }
+
+    public MessageRecord set(int index, double value) {
+        checkType(index, ValueType.DOUBLE);
+        slots[index] = MessageSchema.encode(value);
+        return this;
+    }
+
+    long[] slots() {
+        return slots;
+    }
+
+    private void checkType(int index, ValueType expectedType) {
+        var actualType = schema.fieldType(index);
+        if (actualType != expectedType) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Message field `%s` is of type %s, but was accessed as %s.",
+                schema.fieldKey(index),
+                actualType.name(),
+                expectedType.name()
+            ));
+        }
+    }
+}
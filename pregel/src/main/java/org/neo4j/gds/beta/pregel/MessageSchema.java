@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The message schema describes the layout of the messages
+ * that are sent during a Pregel computation.
+ * <br>
+ * Every message is stored as a fixed number of long slots,
+ * see {@link #width()}. Double values are stored using their
+ * raw bit representation and are therefore not subject to any
+ * precision loss.
+ * <br>
+ * Example:
+ * <pre>
+ * public MessageSchema messageSchema(PregelConfig config) {
+ *      return new MessageSchema.Builder()
+ *          .add("source", ValueType.LONG)
+ *          .add("distance", ValueType.DOUBLE)
+ *          .build();
+ * }
+ * </pre>
+ */
+public final class MessageSchema {
+
+    /**
+     * Bit pattern of the canonical NaN value, used to mark
+     * empty slots if the last field of a message is a double.
+     */
+    static final long EMPTY_DOUBLE_SLOT = 0x7ff8000000000000L;
+
+    static final long EMPTY_LONG_SLOT = Long.MIN_VALUE;
+
+    public enum Kind {
+        DOUBLE, LONG, DOUBLE_ARRAY, RECORD
+    }
+
+    /**
+     * A single double value per message. This is the default.
+     */
+    public static final MessageSchema DOUBLE = new MessageSchema(
+        Kind.DOUBLE,
+        new String[]{"value"},
+        new ValueType[]{ValueType.DOUBLE}
+    );
+
+    /**
+     * A single long value per message.
+     */
+    public static final MessageSchema LONG = new MessageSchema(
+        Kind.LONG,
+        new String[]{"value"},
+        new ValueType[]{ValueType.LONG}
+    );
+
+    /**
+     * A fixed-length double array per message.
+     */
+    public static MessageSchema doubleArray(int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The length of a double array message must be at least 1, but got %d.",
+                length
+            ));
+        }
+        var keys = new String[length];
+        var types = new ValueType[length];
+        for (int i = 0; i < length; i++) {
+            keys[i] = String.valueOf(i);
+            types[i] = ValueType.DOUBLE;
+        }
+        return new MessageSchema(Kind.DOUBLE_ARRAY, keys, types);
+    }
+
+    private final Kind kind;
+    private final String[] keys;
+    private final ValueType[] types;
+
+    private MessageSchema(Kind kind, String[] keys, ValueType[] types) {
+        this.kind = kind;
+        this.keys = keys;
+        this.types = types;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    /**
+     * The number of long slots occupied by a single message.
+     */
+    public int width() {
+        return keys.length;
+    }
+
+    public int fieldIndex(String key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Message schema has no field `%s`, available fields are %s.",
+            key,
+            Arrays.toString(keys)
+        ));
+    }
+
+    public String fieldKey(int index) {
+        return keys[index];
+    }
+
+    public ValueType fieldType(int index) {
+        return types[index];
+    }
+
+    /**
+     * The value that marks unused slots in asynchronous message queues.
+     * The last field of a message must never be encoded to this value.
+     */
+    long emptySlot() {
+        return types[types.length - 1] == ValueType.LONG
+            ? EMPTY_LONG_SLOT
+            : EMPTY_DOUBLE_SLOT;
+    }
+
+    static long encode(double value) {
+        return Double.doubleToRawLongBits(value);
+    }
+
+    static double decode(long slot) {
+        return Double.longBitsToDouble(slot);
+    }
+
+    @Override
+    public String toString() {
+        var fields = new ArrayList<String>(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            fields.add(keys[i] + ": " + types[i].name());
+        }
+        return "MessageSchema{kind=" + kind + ", fields=" + fields + "}";
+    }
+
+    public static class Builder {
+
+        private final List<String> keys = new ArrayList<>();
+        private final List<ValueType> types = new ArrayList<>();
+
+        public Builder add(String key, ValueType type) {
+            if (type != ValueType.LONG && type != ValueType.DOUBLE) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Message fields must be of type LONG or DOUBLE, but `%s` is of type %s.",
+                    key,
+                    type.name()
+                ));
+            }
+            if (keys.contains(key)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Message field `%s` is already defined.",
+                    key
+                ));
+            }
+            keys.add(key);
+            types.add(type);
+            return this;
+        }
+
+        public MessageSchema build() {
+            if (keys.isEmpty()) {
+                throw new IllegalArgumentException("A message schema requires at least one field.");
+            }
+            return new MessageSchema(
+                Kind.RECORD,
+                keys.toArray(String[]::new),
+                types.toArray(ValueType[]::new)
+            );
+        }
+    }
+}
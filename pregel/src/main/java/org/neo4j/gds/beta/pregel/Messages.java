@@ -24,30 +24,183 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Iterator;
 import java.util.PrimitiveIterator;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public final class Messages implements Iterable<Double> {
 
     @NotNull
     @Override
     public Iterator<Double> iterator() {
-        return iterator;
+        return doubleIterator();
     }
 
     interface MessageIterator extends PrimitiveIterator.OfDouble {
         boolean isEmpty();
+
+        /**
+         * Copies the next message into the given slots,
+         * see {@link MessageSchema} for the slot layout.
+         */
+        default void nextMessage(long[] slots) {
+            slots[0] = MessageSchema.encode(nextDouble());
+        }
+    }
+
+    /**
+     * Base class for iterators over messages that are not single double values.
+     */
+    abstract static class TypedMessageIterator implements MessageIterator {
+
+        @Override
+        public double nextDouble() {
+            throw new UnsupportedOperationException("Typed messages must be read via Messages#nextMessage.");
+        }
     }
 
     private final MessageIterator iterator;
+    private final MessageSchema schema;
+
+    private LongView longView;
+    private DoubleArrayView doubleArrayView;
+    private RecordView recordView;
 
     Messages(MessageIterator iterator) {
+        this(iterator, MessageSchema.DOUBLE);
+    }
+
+    Messages(MessageIterator iterator, MessageSchema schema) {
         this.iterator = iterator;
+        this.schema = schema;
+    }
+
+    public MessageSchema schema() {
+        return schema;
     }
 
     @NotNull
     public PrimitiveIterator.OfDouble doubleIterator() {
+        checkKind(MessageSchema.Kind.DOUBLE);
         return iterator;
     }
 
+    /**
+     * Iterates messages of a {@link MessageSchema#LONG} computation.
+     */
+    @NotNull
+    public PrimitiveIterator.OfLong longIterator() {
+        checkKind(MessageSchema.Kind.LONG);
+        if (longView == null) {
+            longView = new LongView(iterator);
+        }
+        return longView;
+    }
+
+    /**
+     * Iterates messages of a {@link MessageSchema#doubleArray(int)} computation.
+     * The returned array is reused for every message.
+     */
+    @NotNull
+    public Iterator<double[]> doubleArrayIterator() {
+        checkKind(MessageSchema.Kind.DOUBLE_ARRAY);
+        if (doubleArrayView == null) {
+            doubleArrayView = new DoubleArrayView(iterator, schema.width());
+        }
+        return doubleArrayView;
+    }
+
+    /**
+     * Iterates messages as records, which works for every message schema.
+     * The returned record is reused for every message.
+     */
+    @NotNull
+    public Iterator<MessageRecord> recordIterator() {
+        if (recordView == null) {
+            recordView = new RecordView(iterator, schema);
+        }
+        return recordView;
+    }
+
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
+
+    private void checkKind(MessageSchema.Kind expectedKind) {
+        if (schema.kind() != expectedKind) {
+            throw new IllegalStateException(formatWithLocale(
+                "Messages of kind %s cannot be read as %s.",
+                schema.kind(),
+                expectedKind
+            ));
+        }
+    }
+
+    private static final class LongView implements PrimitiveIterator.OfLong {
+        private final MessageIterator iterator;
+        private final long[] slots;
+
+        LongView(MessageIterator iterator) {
+            this.iterator = iterator;
+            this.slots = new long[1];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            iterator.nextMessage(slots);
+            return slots[0];
+        }
+    }
+
+    private static final class DoubleArrayView implements Iterator<double[]> {
+        private final MessageIterator iterator;
+        private final long[] slots;
+        private final double[] values;
+
+        DoubleArrayView(MessageIterator iterator, int length) {
+            this.iterator = iterator;
+            this.slots = new long[length];
+            this.values = new double[length];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public double[] next() {
+            iterator.nextMessage(slots);
+            for (int i = 0; i < slots.length; i++) {
+                values[i] = MessageSchema.decode(slots[i]);
+            }
+            return values;
+        }
+    }
+
+    private static final class RecordView implements Iterator<MessageRecord> {
+        private final MessageIterator iterator;
+        private final long[] slots;
+        private final MessageRecord record;
+
+        RecordView(MessageIterator iterator, MessageSchema schema) {
+            this.iterator = iterator;
+            this.slots = new long[schema.width()];
+            this.record = new MessageRecord(schema, slots);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public MessageRecord next() {
+            iterator.nextMessage(slots);
+            return record;
+        }
+    }
 }
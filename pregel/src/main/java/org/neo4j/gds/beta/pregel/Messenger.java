@@ -25,6 +25,40 @@ public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void sendTo(long targetNodeId, double message);
 
+    /**
+     * Sends a typed message, see {@link MessageSchema} for the slot layout.
+     */
+    default void sendTo(long targetNodeId, long[] slots) {
+        throw new UnsupportedOperationException("This messenger only supports double messages.");
+    }
+
+    /**
+     * Indicates if messages to all neighbors of a node should be
+     * handed to {@link #broadcast(long, double)} in the current iteration.
+     */
+    default boolean isPulling() {
+        return false;
+    }
+
+    /**
+     * Stores a message for all neighbors of the source node, which
+     * the receiving nodes pull in the next iteration.
+     *
+     * @return false, iff the message was not accepted and needs to be pushed
+     */
+    default boolean broadcast(long sourceNodeId, double message) {
+        return false;
+    }
+
+    /**
+     * Called after each iteration with the number of nodes that have been computed.
+     */
+    default void completeIteration(long activeNodeCount) {}
+
+    default MessageSchema messageSchema() {
+        return MessageSchema.DOUBLE;
+    }
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
@@ -41,6 +42,8 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     private int iteration;
     private final NodeValue nodeValue;
     private boolean hasSentMessage;
+    private long activeNodes;
+    private final long[] neighborBuffer;
 
     PartitionedComputeStep(
         Graph graph,
@@ -63,6 +66,7 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         this.computeContext = new ComputeContext<>(this, config, progressTracker);
         this.progressTracker = progressTracker;
         this.initContext = new InitContext<>(this, config, graph, progressTracker);
+        this.neighborBuffer = new long[AdjacencyCursor.DEFAULT_BATCH_SIZE];
     }
 
     @Override
@@ -120,15 +124,45 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         return iteration;
     }
 
+    @Override
+    public long[] neighborBuffer() {
+        return neighborBuffer;
+    }
+
     @Override
     public void sendTo(long targetNodeId, double message) {
         messenger.sendTo(targetNodeId, message);
         hasSentMessage = true;
     }
 
+    @Override
+    public void sendTo(long targetNodeId, long[] slots) {
+        messenger.sendTo(targetNodeId, slots);
+        hasSentMessage = true;
+    }
+
+    @Override
+    public boolean broadcast(long sourceNodeId, double message) {
+        if (messenger.broadcast(sourceNodeId, message)) {
+            hasSentMessage = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void addActiveNodes(long activeNodes) {
+        this.activeNodes += activeNodes;
+    }
+
     void init(int iteration) {
         this.iteration = iteration;
         this.hasSentMessage = false;
+        this.activeNodes = 0;
+    }
+
+    long activeNodes() {
+        return activeNodes;
     }
 
     boolean hasSentMessage() {
@@ -87,6 +87,11 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
 
     }
 
+    @Override
+    long activeNodeCount() {
+        return computeSteps.stream().mapToLong(PartitionedComputeStep::activeNodes).sum();
+    }
+
     @Override
     void release() {
         // Unlike in the sibling ForkJoinComputer, we will not shut down the
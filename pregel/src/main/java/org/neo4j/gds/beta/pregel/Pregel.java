@@ -76,21 +76,56 @@ public final class Pregel<CONFIG extends PregelConfig> {
     }
 
     public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, boolean isQueueBased, boolean isAsync) {
+        return memoryEstimation(pregelSchema, MessageSchema.DOUBLE, isQueueBased, isAsync);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        MessageSchema messageSchema,
+        boolean isQueueBased,
+        boolean isAsync
+    ) {
+        return memoryEstimation(pregelSchema, messageSchema, isQueueBased, isAsync, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        MessageSchema messageSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean isDirectionOptimizing
+    ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
             .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
             .add("node value", NodeValue.memoryEstimation(pregelSchema));
 
+        var isDouble = messageSchema.kind() == MessageSchema.Kind.DOUBLE;
         if (isQueueBased) {
             if (isAsync) {
-                estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation());
+                estimationBuilder.add("message queues", isDouble
+                    ? AsyncQueueMessenger.memoryEstimation()
+                    : AsyncTypedQueueMessenger.memoryEstimation(messageSchema));
             } else {
-                estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
+                estimationBuilder.add("message queues", isDouble
+                    ? SyncQueueMessenger.memoryEstimation()
+                    : SyncTypedQueueMessenger.memoryEstimation(messageSchema));
             }
+        } else if (messageSchema.kind() == MessageSchema.Kind.LONG) {
+            estimationBuilder.add("message arrays", ReducingLongMessenger.memoryEstimation());
+        } else if (messageSchema.kind() == MessageSchema.Kind.DOUBLE_ARRAY) {
+            estimationBuilder.add("message arrays", ReducingDoubleArrayMessenger.memoryEstimation(messageSchema));
         } else {
             estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
         }
 
+        if (isDirectionOptimizing) {
+            // The reverse adjacency list is transient and only built for directed graphs.
+            estimationBuilder
+                .add("message outboxes", PushPullMessenger.memoryEstimation())
+                .add("reverse adjacency list", ReverseAdjacencyList.memoryEstimation());
+        }
+
         return estimationBuilder.build();
     }
 
@@ -129,13 +164,9 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.executor = executor;
         this.progressTracker = progressTracker;
 
-        var reducer = computation.reducer();
-
-        this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+        this.messenger = config.isDirectionOptimizing()
+            ? createDirectionOptimizingMessenger(graph, config, computation, executor)
+            : createMessenger(graph, config, computation);
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
@@ -151,6 +182,58 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .build();
     }
 
+    private static <CONFIG extends PregelConfig> Messenger<?> createDirectionOptimizingMessenger(
+        Graph graph,
+        CONFIG config,
+        PregelComputation<CONFIG> computation,
+        ExecutorService executor
+    ) {
+        if (computation.messageSchema(config).kind() != MessageSchema.Kind.DOUBLE) {
+            throw new IllegalArgumentException("Direction optimizing execution is only supported for double messages.");
+        }
+        return PushPullMessenger.of(graph, config, computation, createMessenger(graph, config, computation), executor);
+    }
+
+    private static <CONFIG extends PregelConfig> Messenger<?> createMessenger(
+        Graph graph,
+        CONFIG config,
+        PregelComputation<CONFIG> computation
+    ) {
+        var messageSchema = computation.messageSchema(config);
+        var reducer = computation.reducer();
+
+        switch (messageSchema.kind()) {
+            case DOUBLE:
+                return reducer.isPresent()
+                    ? new ReducingMessenger(graph, config, reducer.get())
+                    : config.isAsynchronous()
+                        ? new AsyncQueueMessenger(graph.nodeCount())
+                        : new SyncQueueMessenger(graph.nodeCount());
+            case LONG:
+                var longReducer = computation.longReducer();
+                if (longReducer.isPresent()) {
+                    return new ReducingLongMessenger(graph, config, longReducer.get());
+                }
+                break;
+            case DOUBLE_ARRAY:
+                if (reducer.isPresent()) {
+                    return new ReducingDoubleArrayMessenger(graph, config, reducer.get(), messageSchema);
+                }
+                break;
+            case RECORD:
+                if (reducer.isPresent() || computation.longReducer().isPresent()) {
+                    throw new IllegalArgumentException("Reducers are not supported for record messages.");
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unexpected message schema kind: " + messageSchema.kind());
+        }
+
+        return config.isAsynchronous()
+            ? new AsyncTypedQueueMessenger(graph.nodeCount(), messageSchema)
+            : new SyncTypedQueueMessenger(graph.nodeCount(), messageSchema);
+    }
+
     public PregelResult run() {
         boolean didConverge = false;
 
@@ -167,6 +250,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
                     computer.initIteration(iteration);
                     messenger.initIteration(iteration);
                     computer.runIteration();
+                    messenger.completeIteration(computer.activeNodeCount());
                 } finally {
                     progressTracker.endSubTask();
                 }
@@ -57,6 +57,22 @@ public interface PregelComputation<C extends PregelConfig> {
      */
     PregelSchema schema(C config);
 
+    /**
+     * The message schema describes the layout of the messages
+     * sent between nodes. By default, a message is a single
+     * double value. Other schemas allow sending long values,
+     * fixed-length double arrays or records of long and double
+     * fields without boxing and without precision loss.
+     * <br>
+     * Typed messages are read via {@link Messages#longIterator()},
+     * {@link Messages#doubleArrayIterator()} or {@link Messages#recordIterator()}.
+     *
+     * @see MessageSchema
+     */
+    default MessageSchema messageSchema(C config) {
+        return MessageSchema.DOUBLE;
+    }
+
     /**
      * The init method is called in the beginning of the first
      * superstep (iteration) of the Pregel computation and allows
@@ -103,6 +119,15 @@ public interface PregelComputation<C extends PregelConfig> {
         return Optional.empty();
     }
 
+    /**
+     * The counterpart of {@link #reducer()} for computations
+     * that use the {@link MessageSchema#LONG} message schema.
+     * Double array messages are reduced element-wise using {@link #reducer()}.
+     */
+    default Optional<LongReducer> longReducer() {
+        return Optional.empty();
+    }
+
     /**
      * If the input graph is weighted, i.e. relationships have a
      * property, this method can be overridden to apply that weight
@@ -64,6 +64,11 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
 
     abstract boolean hasConverged();
 
+    /**
+     * The number of nodes that have been computed in the last iteration.
+     */
+    abstract long activeNodeCount();
+
     abstract void release();
 
     static <CONFIG extends PregelConfig> ComputerBuilder<CONFIG> builder() {
@@ -42,6 +42,26 @@ public interface PregelConfig extends
         return false;
     }
 
+    /**
+     * Switches between pushing messages along outgoing relationships
+     * and pulling messages along incoming relationships, depending
+     * on the number of active nodes.
+     */
+    @Value.Default
+    @Configuration.Key("isDirectionOptimizing")
+    default boolean isDirectionOptimizing() {
+        return false;
+    }
+
+    @Value.Check
+    default void validateDirectionOptimizing() {
+        if (isAsynchronous() && isDirectionOptimizing()) {
+            throw new IllegalArgumentException(
+                "Direction optimizing execution is not supported in combination with asynchronous messaging."
+            );
+        }
+    }
+
     @Value.Default
     @Configuration.ConvertWith(method = "org.neo4j.gds.beta.pregel.Partitioning#parse")
     @Configuration.ToMapValue("org.neo4j.gds.beta.pregel.Partitioning#toString")
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeCursor;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+/**
+ * Asynchronous queues for typed messages.
+ * <p>
+ * Unused slots are marked with {@link MessageSchema#emptySlot()}.
+ * A message is visible to readers once its last slot is written,
+ * which is why the last field of a message must never encode to the empty slot value.
+ */
+public final class PrimitiveAsyncLongQueues extends PrimitiveLongQueues {
+
+    private final long emptySlot;
+    private final HugeIntArray heads;
+    private final HugeCursor<long[][]> queuesCursor;
+
+    public static PrimitiveAsyncLongQueues of(long nodeCount, MessageSchema messageSchema) {
+        return of(nodeCount, messageSchema, MIN_CAPACITY);
+    }
+
+    public static PrimitiveAsyncLongQueues of(
+        long nodeCount,
+        MessageSchema messageSchema,
+        int initialQueueCapacity
+    ) {
+        var heads = HugeIntArray.newArray(nodeCount);
+        var tails = HugeAtomicLongArray.newArray(nodeCount);
+        var queues = HugeObjectArray.newArray(long[].class, nodeCount);
+        var referenceCounts = HugeAtomicLongArray.newArray(nodeCount);
+
+        var emptySlot = messageSchema.emptySlot();
+        var capacity = initialCapacity(initialQueueCapacity, messageSchema.width());
+        queues.setAll(value -> {
+            var queue = new long[capacity];
+            Arrays.fill(queue, emptySlot);
+            return queue;
+        });
+
+        return new PrimitiveAsyncLongQueues(heads, tails, queues, referenceCounts, messageSchema);
+    }
+
+    public static MemoryEstimation memoryEstimation(int width) {
+        return MemoryEstimations.builder(PrimitiveAsyncLongQueues.class)
+            .add("queues", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfLongArray(MIN_CAPACITY * width)))
+            .perNode("heads", HugeIntArray::memoryEstimation)
+            .perNode("tails", HugeAtomicLongArray::memoryEstimation)
+            .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    private PrimitiveAsyncLongQueues(
+        HugeIntArray heads,
+        HugeAtomicLongArray tails,
+        HugeObjectArray<long[]> queues,
+        HugeAtomicLongArray referenceCounts,
+        MessageSchema messageSchema
+    ) {
+        super(queues, tails, referenceCounts, messageSchema.width());
+        this.emptySlot = messageSchema.emptySlot();
+        this.heads = heads;
+        this.queuesCursor = queues.newCursor();
+    }
+
+    public void compact() {
+        queues.initCursor(queuesCursor);
+
+        while (queuesCursor.next()) {
+            for (int i = queuesCursor.offset; i < queuesCursor.limit; i++) {
+                var nodeId = queuesCursor.base + i;
+                var queue = queuesCursor.array[i];
+                var tail = (int) tails.get(nodeId);
+                var head = heads.get(nodeId);
+
+                if (isEmpty(queue, head, tail) && head > 0) {
+                    // The queue is empty, we can reset head and tail to index 0
+                    // but we need to mark the previous entries as empty.
+                    Arrays.fill(queue, 0, tail, emptySlot);
+                    heads.set(nodeId, 0);
+                    tails.set(nodeId, 0);
+                } else if (head > queue.length * PrimitiveAsyncDoubleQueues.COMPACT_THRESHOLD) {
+                    // The queue is not empty, we need to move the entries for
+                    // the next iteration to the beginning of the queue and mark
+                    // the remaining entries as empty.
+                    var length = tail - head;
+                    System.arraycopy(queue, head, queue, 0, length);
+                    Arrays.fill(queue, length, queue.length, emptySlot);
+
+                    heads.set(nodeId, 0);
+                    tails.set(nodeId, length);
+                }
+            }
+        }
+    }
+
+    boolean isEmpty(long nodeId) {
+        var head = heads.get(nodeId);
+        var tail = (int) tails.get(nodeId);
+        var queue = queues.get(nodeId);
+        return isEmpty(queue, head, tail);
+    }
+
+    private boolean isEmpty(long[] queue, int head, int tail) {
+        var last = head + width - 1;
+        return last >= queue.length || head >= tail || (long) ARRAY_HANDLE.getVolatile(queue, last) == emptySlot;
+    }
+
+    void pop(long nodeId, long[] slots) {
+        var currentHead = heads.getAndAdd(nodeId, width);
+        System.arraycopy(queues.get(nodeId), currentHead, slots, 0, width);
+    }
+
+    @Override
+    void grow(long nodeId, int minCapacity) {
+        var queue = this.queues.get(nodeId);
+        var capacity = queue.length;
+        var newCapacity = grownCapacity(capacity, minCapacity);
+        var resizedArray = Arrays.copyOf(queue, newCapacity);
+        // Mark the new slots as empty.
+        Arrays.fill(resizedArray, capacity, newCapacity, emptySlot);
+        this.queues.set(nodeId, resizedArray);
+    }
+
+    @Override
+    void release() {
+        super.release();
+        this.heads.release();
+    }
+
+    @TestOnly
+    long head(long nodeId) {
+        return heads.get(nodeId);
+    }
+
+    public static class Iterator extends Messages.TypedMessageIterator {
+
+        private final PrimitiveAsyncLongQueues queues;
+
+        private long nodeId;
+
+        public Iterator(PrimitiveAsyncLongQueues queues) {
+            this.queues = queues;
+        }
+
+        void init(long nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queues.isEmpty(nodeId);
+        }
+
+        @Override
+        public void nextMessage(long[] slots) {
+            queues.pop(nodeId, slots);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queues.isEmpty(nodeId);
+        }
+    }
+}
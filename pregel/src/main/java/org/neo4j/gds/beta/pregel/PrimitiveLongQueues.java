@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Queues for typed messages, see {@link MessageSchema}.
+ * Each message occupies {@link MessageSchema#width()} consecutive long slots.
+ */
+public abstract class PrimitiveLongQueues extends PrimitiveQueues<long[]> {
+    // Used to insert into a single message queue array.
+    static final VarHandle ARRAY_HANDLE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    final int width;
+
+    PrimitiveLongQueues(
+        HugeObjectArray<long[]> queues,
+        HugeAtomicLongArray tails,
+        HugeAtomicLongArray referenceCounts,
+        int width
+    ) {
+        super(queues, tails, referenceCounts);
+        this.width = width;
+    }
+
+    static int initialCapacity(int initialQueueCapacity, int width) {
+        return Math.max(initialQueueCapacity, MIN_CAPACITY) * width;
+    }
+
+    public void push(long nodeId, long[] message) {
+        assert message.length == width : "message width does not match the message schema";
+        int idx = reserve(nodeId, width);
+        var queue = queues.get(nodeId);
+        // Slots are written in order, so a reader that sees
+        // the last slot of a message also sees all others.
+        for (int i = 0; i < width; i++) {
+            ARRAY_HANDLE.setVolatile(queue, idx + i, message[i]);
+        }
+        dropSharedReference(nodeId);
+    }
+
+    @Override
+    int capacity(long[] queue) {
+        return queue.length;
+    }
+
+    static int grownCapacity(int capacity, int minCapacity) {
+        // grow by 50%, but at least to fit the reserved message
+        return Math.max(capacity + (capacity >> 1), minCapacity);
+    }
+
+    @TestOnly
+    long[] queue(long nodeId) {
+        return queues.get(nodeId);
+    }
+}
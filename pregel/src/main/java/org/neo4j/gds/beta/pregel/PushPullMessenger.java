@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A messenger that switches between push and pull execution
+ * depending on the number of active nodes (direction optimization).
+ * <p>
+ * In push mode, messages to all neighbors are sent via the delegate
+ * messenger. In pull mode, a node stores a message for all its
+ * neighbors once in an outbox. In the next iteration, each node
+ * iterates its incoming relationships and pulls the messages of
+ * the source nodes. Pulling avoids contention on the message queues
+ * when most nodes are active, but scans all relationships, which
+ * is wasted work when only few nodes are active.
+ * <p>
+ * The incoming relationships are read from a transient reverse
+ * adjacency list, which is built on first use. Undirected graphs
+ * are read directly.
+ */
+final class PushPullMessenger<ITERATOR extends Messages.MessageIterator> implements Messenger<PushPullMessenger.Iterator<ITERATOR>> {
+
+    // Switch to pull if more than 1 / ALPHA of the nodes have been active.
+    static final int ALPHA = 14;
+    // Switch back to push if less than 1 / BETA of the nodes have been active.
+    static final int BETA = 24;
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final PregelComputation<?> computation;
+    private final Messenger<ITERATOR> delegate;
+    private final Optional<Reducer> reducer;
+    private final boolean isWeighted;
+    private final ExecutorService executor;
+
+    private HugeDoubleArray sendOutbox;
+    private HugeDoubleArray receiveOutbox;
+    private HugeAtomicBitSet sendBroadcasts;
+    private HugeAtomicBitSet receiveBroadcasts;
+
+    private volatile boolean hasBroadcasts;
+    private boolean receivesBroadcasts;
+    // Every node is computed in the initial iteration.
+    private boolean isPulling = true;
+
+    private ReverseAdjacencyList reverseAdjacencyList;
+
+    static <ITERATOR extends Messages.MessageIterator> PushPullMessenger<ITERATOR> of(
+        Graph graph,
+        PregelConfig config,
+        PregelComputation<?> computation,
+        Messenger<ITERATOR> delegate,
+        ExecutorService executor
+    ) {
+        return new PushPullMessenger<>(graph, config, computation, delegate, executor);
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(PushPullMessenger.class)
+            .perNode("send outbox", HugeDoubleArray::memoryEstimation)
+            .perNode("receive outbox", HugeDoubleArray::memoryEstimation)
+            .perNode("send broadcasts", HugeAtomicBitSet::memoryEstimation)
+            .perNode("receive broadcasts", HugeAtomicBitSet::memoryEstimation)
+            .build();
+    }
+
+    private PushPullMessenger(
+        Graph graph,
+        PregelConfig config,
+        PregelComputation<?> computation,
+        Messenger<ITERATOR> delegate,
+        ExecutorService executor
+    ) {
+        this.graph = graph;
+        this.config = config;
+        this.computation = computation;
+        this.delegate = delegate;
+        this.reducer = computation.reducer();
+        this.isWeighted = config.hasRelationshipWeightProperty();
+        this.executor = executor;
+
+        var nodeCount = graph.nodeCount();
+        this.sendOutbox = HugeDoubleArray.newArray(nodeCount);
+        this.receiveOutbox = HugeDoubleArray.newArray(nodeCount);
+        this.sendBroadcasts = HugeAtomicBitSet.create(nodeCount);
+        this.receiveBroadcasts = HugeAtomicBitSet.create(nodeCount);
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        delegate.initIteration(iteration);
+
+        // Swap outboxes
+        var tmpOutbox = receiveOutbox;
+        this.receiveOutbox = sendOutbox;
+        this.sendOutbox = tmpOutbox;
+
+        var tmpBroadcasts = receiveBroadcasts;
+        this.receiveBroadcasts = sendBroadcasts;
+        this.sendBroadcasts = tmpBroadcasts;
+        this.sendBroadcasts.clear();
+
+        this.receivesBroadcasts = hasBroadcasts;
+        this.hasBroadcasts = false;
+
+        if (receivesBroadcasts && reverseAdjacencyList == null && !graph.schema().isUndirected()) {
+            this.reverseAdjacencyList = ReverseAdjacencyList.of(graph, isWeighted, config.concurrency(), executor);
+        }
+    }
+
+    @Override
+    public void completeIteration(long activeNodeCount) {
+        var nodeCount = graph.nodeCount();
+        if (isPulling) {
+            isPulling = activeNodeCount * BETA >= nodeCount;
+        } else {
+            isPulling = activeNodeCount * ALPHA > nodeCount;
+        }
+    }
+
+    @Override
+    public boolean isPulling() {
+        return isPulling;
+    }
+
+    @Override
+    public boolean broadcast(long sourceNodeId, double message) {
+        if (sendBroadcasts.getAndSet(sourceNodeId)) {
+            // The node already broadcast a message in this iteration,
+            // the outbox only holds one message per node.
+            return false;
+        }
+        sendOutbox.set(sourceNodeId, message);
+        if (!hasBroadcasts) {
+            hasBroadcasts = true;
+        }
+        return true;
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        delegate.sendTo(targetNodeId, message);
+    }
+
+    @Override
+    public Iterator<ITERATOR> messageIterator() {
+        return new Iterator<>(delegate.messageIterator(), graph.schema().isUndirected() ? graph.concurrentCopy() : null);
+    }
+
+    @Override
+    public void initMessageIterator(Iterator<ITERATOR> messageIterator, long nodeId, boolean isFirstIteration) {
+        delegate.initMessageIterator(messageIterator.delegate, nodeId, isFirstIteration);
+        messageIterator.reset();
+
+        if (receivesBroadcasts) {
+            if (reverseAdjacencyList != null) {
+                var end = reverseAdjacencyList.endOffset(nodeId);
+                for (long index = reverseAdjacencyList.startOffset(nodeId); index < end; index++) {
+                    pull(messageIterator, reverseAdjacencyList.source(index), reverseAdjacencyList.weight(index));
+                }
+            } else {
+                // In an undirected graph, the outgoing relationships are also the incoming ones.
+                messageIterator.graph.forEachRelationship(nodeId, 1.0, messageIterator.pullConsumer(this));
+            }
+        }
+
+        if (reducer.isPresent()) {
+            messageIterator.reduce(reducer.get());
+        }
+    }
+
+    private void pull(Iterator<ITERATOR> messageIterator, long sourceNodeId, double weight) {
+        if (receiveBroadcasts.get(sourceNodeId)) {
+            var message = receiveOutbox.get(sourceNodeId);
+            messageIterator.add(isWeighted ? computation.applyRelationshipWeight(message, weight) : message);
+        }
+    }
+
+    @Override
+    public void release() {
+        delegate.release();
+        sendOutbox.release();
+        receiveOutbox.release();
+        sendBroadcasts.release();
+        receiveBroadcasts.release();
+        if (reverseAdjacencyList != null) {
+            reverseAdjacencyList.release();
+        }
+    }
+
+    static final class Iterator<ITERATOR extends Messages.MessageIterator> implements Messages.MessageIterator {
+
+        final ITERATOR delegate;
+        final Graph graph;
+
+        private double[] pulled;
+        private int pulledCount;
+        private int position;
+
+        private RelationshipWithPropertyConsumer pullConsumer;
+
+        Iterator(ITERATOR delegate, Graph graph) {
+            this.delegate = delegate;
+            this.graph = graph;
+            this.pulled = new double[16];
+        }
+
+        void reset() {
+            this.pulledCount = 0;
+            this.position = 0;
+        }
+
+        void add(double message) {
+            if (pulledCount == pulled.length) {
+                pulled = Arrays.copyOf(pulled, pulled.length + (pulled.length >> 1));
+            }
+            pulled[pulledCount++] = message;
+        }
+
+        /**
+         * Combines the pulled messages and the pushed message into a single message.
+         */
+        void reduce(Reducer reducer) {
+            var hasMessage = pulledCount > 0;
+            var value = reducer.identity();
+            for (int i = 0; i < pulledCount; i++) {
+                value = reducer.reduce(value, pulled[i]);
+            }
+            while (delegate.hasNext()) {
+                hasMessage = true;
+                value = reducer.reduce(value, delegate.nextDouble());
+            }
+            reset();
+            if (hasMessage) {
+                add(value);
+            }
+        }
+
+        RelationshipWithPropertyConsumer pullConsumer(PushPullMessenger<ITERATOR> messenger) {
+            if (pullConsumer == null) {
+                pullConsumer = (nodeId, sourceNodeId, weight) -> {
+                    messenger.pull(this, sourceNodeId, weight);
+                    return true;
+                };
+            }
+            return pullConsumer;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return pulledCount == 0 && delegate.isEmpty();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < pulledCount || delegate.hasNext();
+        }
+
+        @Override
+        public double nextDouble() {
+            if (position < pulledCount) {
+                return pulled[position++];
+            }
+            return delegate.nextDouble();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+
+/**
+ * Reduces fixed-length double array messages element-wise
+ * using a {@link Reducer}. The arrays of all nodes are stored
+ * in a single flat array of size {@code nodeCount * width}.
+ */
+public class ReducingDoubleArrayMessenger implements Messenger<ReducingDoubleArrayMessenger.SingleMessageIterator> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final Reducer reducer;
+    private final MessageSchema messageSchema;
+    private final int width;
+
+    private HugeAtomicDoubleArray sendArray;
+    private HugeAtomicDoubleArray receiveArray;
+
+    ReducingDoubleArrayMessenger(Graph graph, PregelConfig config, Reducer reducer, MessageSchema messageSchema) {
+        assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
+
+        this.graph = graph;
+        this.config = config;
+        this.reducer = reducer;
+        this.messageSchema = messageSchema;
+        this.width = messageSchema.width();
+
+        this.receiveArray = HugeAtomicDoubleArray.newArray(graph.nodeCount() * width);
+        this.sendArray = HugeAtomicDoubleArray.newArray(graph.nodeCount() * width);
+    }
+
+    static MemoryEstimation memoryEstimation(MessageSchema messageSchema) {
+        int width = messageSchema.width();
+        return MemoryEstimations.builder(ReducingDoubleArrayMessenger.class)
+            .perNode("send array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * width))
+            .perNode("receive array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * width))
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        var identity = reducer.identity();
+        ParallelUtil.parallelForEachNode(
+            graph,
+            config.concurrency(),
+            nodeId -> {
+                var offset = nodeId * width;
+                for (int i = 0; i < width; i++) {
+                    sendArray.set(offset + i, identity);
+                }
+            }
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException("Typed messengers do not support double messages.");
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] slots) {
+        var offset = targetNodeId * width;
+        for (int i = 0; i < width; i++) {
+            var message = MessageSchema.decode(slots[i]);
+            sendArray.update(
+                offset + i,
+                current -> reducer.reduce(current, message)
+            );
+        }
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
+    @Override
+    public ReducingDoubleArrayMessenger.SingleMessageIterator messageIterator() {
+        return new SingleMessageIterator(width);
+    }
+
+    @Override
+    public void initMessageIterator(
+        ReducingDoubleArrayMessenger.SingleMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        var identity = reducer.identity();
+        var offset = nodeId * width;
+        var message = messageIterator.message;
+        boolean hasMessage = false;
+        for (int i = 0; i < width; i++) {
+            var value = receiveArray.getAndReplace(offset + i, identity);
+            // A node has received a message if any element differs from the identity.
+            hasMessage |= value != identity;
+            message[i] = MessageSchema.encode(value);
+        }
+        messageIterator.hasNext = hasMessage;
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+
+    static class SingleMessageIterator extends Messages.TypedMessageIterator {
+
+        boolean hasNext;
+        final long[] message;
+
+        SingleMessageIterator(int width) {
+            this.message = new long[width];
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasNext;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public void nextMessage(long[] slots) {
+            hasNext = false;
+            System.arraycopy(message, 0, slots, 0, message.length);
+        }
+    }
+}
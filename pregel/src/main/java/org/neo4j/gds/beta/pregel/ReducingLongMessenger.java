@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+
+/**
+ * Reduces long messages without boxing or a detour via double,
+ * so that values beyond 2^53 are preserved exactly.
+ */
+public class ReducingLongMessenger implements Messenger<ReducingLongMessenger.SingleMessageIterator> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final LongReducer reducer;
+
+    private HugeAtomicLongArray sendArray;
+    private HugeAtomicLongArray receiveArray;
+
+    ReducingLongMessenger(Graph graph, PregelConfig config, LongReducer reducer) {
+        this.graph = graph;
+        this.config = config;
+        this.reducer = reducer;
+
+        this.receiveArray = HugeAtomicLongArray.newArray(graph.nodeCount());
+        this.sendArray = HugeAtomicLongArray.newArray(graph.nodeCount());
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ReducingLongMessenger.class)
+            .perNode("send array", HugeAtomicLongArray::memoryEstimation)
+            .perNode("receive array", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        ParallelUtil.parallelForEachNode(
+            graph,
+            config.concurrency(),
+            nodeId -> sendArray.set(nodeId, reducer.identity())
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException("Typed messengers do not support double messages.");
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] slots) {
+        var message = slots[0];
+        sendArray.update(
+            targetNodeId,
+            current -> reducer.reduce(current, message)
+        );
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return MessageSchema.LONG;
+    }
+
+    @Override
+    public ReducingLongMessenger.SingleMessageIterator messageIterator() {
+        return new SingleMessageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(
+        ReducingLongMessenger.SingleMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        // Only the thread computing nodeId reads from the receive array.
+        var message = receiveArray.get(nodeId);
+        receiveArray.set(nodeId, reducer.identity());
+        messageIterator.init(message, message != reducer.identity());
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+
+    static class SingleMessageIterator extends Messages.TypedMessageIterator {
+
+        boolean hasNext;
+        long message;
+
+        void init(long value, boolean hasNext) {
+            this.message = value;
+            this.hasNext = hasNext;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasNext;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public void nextMessage(long[] slots) {
+            hasNext = false;
+            slots[0] = message;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A transient compressed sparse row representation of the
+ * incoming relationships of a graph. Used by the {@link PushPullMessenger}
+ * to pull messages from the source nodes of each node.
+ */
+final class ReverseAdjacencyList {
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray sources;
+    private final HugeDoubleArray weights;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ReverseAdjacencyList.class)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .perGraphDimension(
+                "sources",
+                (dimensions, concurrency) -> MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .build();
+    }
+
+    static ReverseAdjacencyList of(Graph graph, boolean withWeights, int concurrency, ExecutorService executor) {
+        var nodeCount = graph.nodeCount();
+
+        // 1. count incoming relationships per node
+        var cursors = HugeAtomicLongArray.newArray(nodeCount);
+        var countTasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(sourceNodeId -> localGraph.forEachRelationship(sourceNodeId, (source, target) -> {
+                    cursors.getAndAdd(target, 1);
+                    return true;
+                }));
+            },
+            Optional.empty()
+        );
+        ParallelUtil.run(countTasks, executor);
+
+        // 2. prefix sum, the cursors become the next insert position per node
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var degree = cursors.get(nodeId);
+            offsets.set(nodeId, offset);
+            cursors.set(nodeId, offset);
+            offset += degree;
+        }
+        offsets.set(nodeCount, offset);
+
+        // 3. insert the source nodes
+        var sources = HugeLongArray.newArray(offset);
+        var weights = withWeights ? HugeDoubleArray.newArray(offset) : null;
+        var fillTasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(sourceNodeId -> localGraph.forEachRelationship(
+                    sourceNodeId,
+                    1.0,
+                    (source, target, weight) -> {
+                        var index = cursors.getAndAdd(target, 1);
+                        sources.set(index, source);
+                        if (weights != null) {
+                            weights.set(index, weight);
+                        }
+                        return true;
+                    }
+                ));
+            },
+            Optional.empty()
+        );
+        ParallelUtil.run(fillTasks, executor);
+        cursors.release();
+
+        return new ReverseAdjacencyList(offsets, sources, weights);
+    }
+
+    private ReverseAdjacencyList(HugeLongArray offsets, HugeLongArray sources, HugeDoubleArray weights) {
+        this.offsets = offsets;
+        this.sources = sources;
+        this.weights = weights;
+    }
+
+    long startOffset(long nodeId) {
+        return offsets.get(nodeId);
+    }
+
+    long endOffset(long nodeId) {
+        return offsets.get(nodeId + 1);
+    }
+
+    long source(long index) {
+        return sources.get(index);
+    }
+
+    double weight(long index) {
+        return weights == null ? 1.0 : weights.get(index);
+    }
+
+    void release() {
+        offsets.release();
+        sources.release();
+        if (weights != null) {
+            weights.release();
+        }
+    }
+}
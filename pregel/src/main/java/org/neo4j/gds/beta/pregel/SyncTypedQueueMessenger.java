@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+
+class SyncTypedQueueMessenger implements Messenger<PrimitiveSyncLongQueues.Iterator> {
+
+    private final MessageSchema messageSchema;
+    private final PrimitiveSyncLongQueues queues;
+
+    SyncTypedQueueMessenger(long nodeCount, MessageSchema messageSchema) {
+        this.messageSchema = messageSchema;
+        this.queues = PrimitiveSyncLongQueues.of(nodeCount, messageSchema.width());
+    }
+
+    static MemoryEstimation memoryEstimation(MessageSchema messageSchema) {
+        return PrimitiveSyncLongQueues.memoryEstimation(messageSchema.width());
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        queues.swapQueues();
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException("Typed messengers do not support double messages.");
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] slots) {
+        queues.push(targetNodeId, slots);
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
+    @Override
+    public PrimitiveSyncLongQueues.Iterator messageIterator() {
+        return new PrimitiveSyncLongQueues.Iterator();
+    }
+
+    @Override
+    public void initMessageIterator(PrimitiveSyncLongQueues.Iterator messageIterator, long nodeId, boolean isFirstIteration) {
+        queues.initIterator(messageIterator, nodeId);
+    }
+
+    @Override
+    public void release() {
+        queues.release();
+    }
+}
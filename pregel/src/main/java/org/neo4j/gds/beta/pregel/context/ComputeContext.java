@@ -20,9 +20,13 @@
 package org.neo4j.gds.beta.pregel.context;
 
 import org.neo4j.gds.beta.pregel.ComputeStep;
+import org.neo4j.gds.beta.pregel.MessageRecord;
+import org.neo4j.gds.beta.pregel.MessageSchema;
 import org.neo4j.gds.beta.pregel.PregelConfig;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 /**
  * A context that is used during the computation. It allows an implementation
  * to send messages to other nodes and change the state of the currently
@@ -35,10 +39,19 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         this.sendMessagesFunction = config.hasRelationshipWeightProperty()
             ? computeStep::sendToNeighborsWeighted
             : computeStep::sendToNeighbors;
+        this.messageSchema = computeStep.messenger().messageSchema();
+        this.slots = new long[messageSchema.width()];
     }
 
     private final SendMessagesFunction sendMessagesFunction;
 
+    private final MessageSchema messageSchema;
+
+    // Reused to encode typed messages, a compute context is used by a single thread.
+    private final long[] slots;
+
+    private MessageRecord messageRecord;
+
     /**
      * Returns the node value for the given node schema key.
      *
@@ -127,6 +140,111 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         computeStep.sendTo(targetNodeId, message);
     }
 
+    /**
+     * Sends the given long message to all neighbors of the node.
+     * Unless the computation uses the {@link MessageSchema#LONG}
+     * message schema, the value is sent as a double message.
+     * Relationship weights are not applied to long messages.
+     */
+    public void sendToNeighbors(long message) {
+        if (messageSchema.kind() != MessageSchema.Kind.LONG) {
+            sendToNeighbors((double) message);
+            return;
+        }
+        slots[0] = message;
+        computeStep.sendToNeighbors(nodeId, slots);
+    }
+
+    /**
+     * Sends the given long message to the target node.
+     * Unless the computation uses the {@link MessageSchema#LONG}
+     * message schema, the value is sent as a double message.
+     */
+    public void sendTo(long targetNodeId, long message) {
+        if (messageSchema.kind() != MessageSchema.Kind.LONG) {
+            sendTo(targetNodeId, (double) message);
+            return;
+        }
+        slots[0] = message;
+        computeStep.sendTo(targetNodeId, slots);
+    }
+
+    /**
+     * Sends the given double array to all neighbors of the node.
+     * Relationship weights are not applied to double array messages.
+     *
+     * @throws IllegalArgumentException if the message does not match the message schema
+     */
+    public void sendToNeighbors(double[] message) {
+        encode(message);
+        computeStep.sendToNeighbors(nodeId, slots);
+    }
+
+    /**
+     * Sends the given double array to the target node.
+     * The array is copied and can be reused by the caller.
+     *
+     * @throws IllegalArgumentException if the message does not match the message schema
+     */
+    public void sendTo(long targetNodeId, double[] message) {
+        encode(message);
+        computeStep.sendTo(targetNodeId, slots);
+    }
+
+    /**
+     * Returns a reusable record to compose messages of a record message schema.
+     */
+    public MessageRecord messageRecord() {
+        if (messageRecord == null) {
+            messageRecord = new MessageRecord(messageSchema);
+        }
+        return messageRecord;
+    }
+
+    /**
+     * Sends the given record to all neighbors of the node.
+     * Relationship weights are not applied to record messages.
+     *
+     * @throws IllegalArgumentException if the record does not match the message schema
+     */
+    public void sendToNeighbors(MessageRecord message) {
+        checkRecord(message);
+        computeStep.sendToNeighbors(nodeId, message);
+    }
+
+    /**
+     * Sends the given record to the target node.
+     * The record is copied and can be reused by the caller.
+     *
+     * @throws IllegalArgumentException if the record does not match the message schema
+     */
+    public void sendTo(long targetNodeId, MessageRecord message) {
+        checkRecord(message);
+        computeStep.sendTo(targetNodeId, message);
+    }
+
+    private void encode(double[] message) {
+        if (messageSchema.kind() != MessageSchema.Kind.DOUBLE_ARRAY || message.length != slots.length) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "A double array of length %d does not match the message schema %s.",
+                message.length,
+                messageSchema
+            ));
+        }
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = Double.doubleToRawLongBits(message[i]);
+        }
+    }
+
+    private void checkRecord(MessageRecord message) {
+        if (message.schema() != messageSchema || messageSchema.kind() == MessageSchema.Kind.DOUBLE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The record does not match the message schema %s.",
+                messageSchema
+            ));
+        }
+    }
+
     @FunctionalInterface
     interface SendMessagesFunction {
         void sendToNeighbors(long sourceNodeId, double message);
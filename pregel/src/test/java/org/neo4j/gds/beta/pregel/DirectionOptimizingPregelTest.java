@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.crossArguments;
+
+class DirectionOptimizingPregelTest {
+
+    static Stream<Arguments> orientationPartitioningAndReducer() {
+        return crossArguments(
+            () -> Stream.of(Arguments.of(Orientation.NATURAL), Arguments.of(Orientation.UNDIRECTED)),
+            () -> Stream.of(Partitioning.values()).map(Arguments::of),
+            () -> Stream.of(Arguments.of(true), Arguments.of(false))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("orientationPartitioningAndReducer")
+    void sameResultAsPushExecution(Orientation orientation, Partitioning partitioning, boolean withReducer) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(orientation)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePregelConfig.builder()
+            .maxIterations(30)
+            .partitioning(partitioning)
+            .concurrency(4);
+
+        var push = run(graph, configBuilder.isDirectionOptimizing(false).build(), new LevelComputation(withReducer));
+        var pushPull = run(graph, configBuilder.isDirectionOptimizing(true).build(), new LevelComputation(withReducer));
+
+        var reached = 0;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(pushPull.get(nodeId)).as("level of node %d", nodeId).isEqualTo(push.get(nodeId));
+            if (push.get(nodeId) != Double.MAX_VALUE) {
+                reached++;
+            }
+        }
+        // make sure the frontier grows and shrinks again
+        assertThat(reached).isGreaterThan(1000);
+    }
+
+    @ParameterizedTest
+    @MethodSource("orientationPartitioningAndReducer")
+    void countsIncomingMessages(Orientation orientation, Partitioning partitioning, boolean withReducer) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .orientation(orientation)
+            .seed(1337L)
+            .build()
+            .generate();
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .isDirectionOptimizing(true)
+            .build();
+
+        var computation = withReducer
+            ? new PregelTest.TestReduciblePregelComputation()
+            : new PregelTest.TestPregelComputation();
+        var result = run(graph, config, computation);
+
+        var expected = new long[(int) graph.nodeCount()];
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                expected[(int) target]++;
+                return true;
+            });
+            return true;
+        });
+
+        for (int nodeId = 0; nodeId < expected.length; nodeId++) {
+            assertThat(result.get(nodeId)).isEqualTo(expected[nodeId]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("orientationPartitioningAndReducer")
+    void rejectsTypedMessages(Orientation orientation, Partitioning partitioning, boolean withReducer) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .orientation(orientation)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .isDirectionOptimizing(true)
+            .build();
+
+        var computation = new TypedMessagesTest.LongComputation(
+            withReducer ? Optional.of(new LongReducer.Sum()) : Optional.empty()
+        );
+
+        assertThatThrownBy(() -> Pregel.create(graph, config, computation, Pools.DEFAULT, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only supported for double messages");
+    }
+
+    @Test
+    void rejectsAsynchronousMessaging() {
+        assertThatThrownBy(() -> ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .isAsynchronous(true)
+            .isDirectionOptimizing(true)
+            .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not supported in combination with asynchronous messaging");
+    }
+
+    private HugeDoubleArray run(Graph graph, PregelConfig config, PregelComputation<PregelConfig> computation) {
+        return Pregel.create(graph, config, computation, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .run()
+            .nodeValues()
+            .doubleProperties(LevelComputation.KEY);
+    }
+
+    /**
+     * Computes the BFS level of each node, starting from every hundredth node.
+     */
+    static class LevelComputation implements PregelComputation<PregelConfig> {
+        static final String KEY = "value";
+
+        private final boolean withReducer;
+
+        LevelComputation(boolean withReducer) {
+            this.withReducer = withReducer;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).build();
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(KEY, isSeed(context.nodeId()) ? 0 : Double.MAX_VALUE);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                if (isSeed(context.nodeId())) {
+                    context.sendToNeighbors(1.0);
+                }
+            } else if (context.doubleNodeValue(KEY) == Double.MAX_VALUE) {
+                var level = Double.MAX_VALUE;
+                for (var message : messages) {
+                    level = Math.min(level, message);
+                }
+                context.setNodeValue(KEY, level);
+                context.sendToNeighbors(level + 1);
+            }
+            context.voteToHalt();
+        }
+
+        private static boolean isSeed(long nodeId) {
+            return nodeId % 100 == 0;
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return withReducer ? Optional.of(new Reducer.Min()) : Optional.empty();
+        }
+    }
+}
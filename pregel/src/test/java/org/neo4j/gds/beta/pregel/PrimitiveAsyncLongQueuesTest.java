@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.beta.pregel.PrimitiveAsyncDoubleQueues.COMPACT_THRESHOLD;
+
+class PrimitiveAsyncLongQueuesTest {
+
+    private static final MessageSchema RECORD_SCHEMA = new MessageSchema.Builder()
+        .add("source", ValueType.LONG)
+        .add("distance", ValueType.DOUBLE)
+        .build();
+
+    @Test
+    void isEmpty() {
+        var queues = PrimitiveAsyncLongQueues.of(1, RECORD_SCHEMA);
+        assertThat(queues.isEmpty(0)).isTrue();
+
+        queues.push(0, message(42, 1.5));
+        assertThat(queues.isEmpty(0)).isFalse();
+
+        queues.pop(0, new long[2]);
+        assertThat(queues.isEmpty(0)).isTrue();
+    }
+
+    @Test
+    void isEmptyWorksAfterGrowing() {
+        var initialCapacity = 50;
+        var insertedElements = initialCapacity + 10;
+        var queues = PrimitiveAsyncLongQueues.of(1, RECORD_SCHEMA, initialCapacity);
+
+        for (int i = 0; i < insertedElements; i++) {
+            queues.push(0, message(i, i / 2.0));
+        }
+
+        var slots = new long[2];
+        var popCount = 0;
+        while (!queues.isEmpty(0)) {
+            queues.pop(0, slots);
+            assertThat(slots[0]).isEqualTo(popCount);
+            assertThat(MessageSchema.decode(slots[1])).isEqualTo(popCount / 2.0);
+            popCount++;
+        }
+
+        assertThat(popCount).isEqualTo(insertedElements);
+    }
+
+    @Test
+    void longMessagesUseLongSentinel() {
+        var queues = PrimitiveAsyncLongQueues.of(1, MessageSchema.LONG);
+        assertThat(queues.queue(0)).containsOnly(Long.MIN_VALUE);
+
+        // NaN bits are a valid long message
+        var value = MessageSchema.EMPTY_DOUBLE_SLOT;
+        queues.push(0, new long[]{value});
+        assertThat(queues.isEmpty(0)).isFalse();
+
+        var slots = new long[1];
+        queues.pop(0, slots);
+        assertThat(slots[0]).isEqualTo(value);
+    }
+
+    @Test
+    void compactEmptyQueue() {
+        var queues = PrimitiveAsyncLongQueues.of(1, RECORD_SCHEMA, 50);
+
+        var slots = new long[2];
+        var minFillSize = Math.ceil(50 * COMPACT_THRESHOLD);
+        for (int i = 0; i < minFillSize; i++) {
+            queues.push(0, message(42, 42));
+            queues.pop(0, slots);
+        }
+
+        queues.compact();
+
+        assertThat(queues.isEmpty(0)).isTrue();
+        assertThat(queues.head(0)).isEqualTo(0);
+        assertThat(queues.tail(0)).isEqualTo(0);
+        assertThat(queues.queue(0)).containsOnly(MessageSchema.EMPTY_DOUBLE_SLOT);
+    }
+
+    @Test
+    void compactNoneEmptyQueue() {
+        var queues = PrimitiveAsyncLongQueues.of(1, RECORD_SCHEMA, 50);
+
+        var slots = new long[2];
+        var minFillSize = Math.ceil(50 * COMPACT_THRESHOLD);
+        for (int i = 0; i < minFillSize; i++) {
+            queues.push(0, message(42, 42));
+            queues.pop(0, slots);
+        }
+
+        var fillSize = 5;
+        for (int i = 0; i < fillSize; i++) {
+            queues.push(0, message(i, i));
+        }
+
+        queues.compact();
+
+        assertThat(queues.isEmpty(0)).isFalse();
+        assertThat(queues.head(0)).isEqualTo(0);
+        assertThat(queues.tail(0)).isEqualTo(fillSize * 2);
+
+        for (int i = 0; i < fillSize; i++) {
+            queues.pop(0, slots);
+            assertThat(slots).containsExactly(message(i, i));
+        }
+    }
+
+    @Test
+    void iterate() {
+        var queues = PrimitiveAsyncLongQueues.of(1, RECORD_SCHEMA);
+
+        for (int i = 0; i < 100; i++) {
+            queues.push(0, message(i, -i));
+        }
+
+        var iterator = new PrimitiveAsyncLongQueues.Iterator(queues);
+        iterator.init(0);
+
+        var slots = new long[2];
+        var sum = 0L;
+        var count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextMessage(slots);
+            sum += slots[0];
+            count++;
+        }
+
+        assertThat(count).isEqualTo(100);
+        assertThat(sum).isEqualTo(4950);
+        assertThat(iterator.isEmpty()).isTrue();
+    }
+
+    private static long[] message(long source, double distance) {
+        return new long[]{source, MessageSchema.encode(distance)};
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveSyncLongQueuesTest {
+
+    @Test
+    void growQueueArray() {
+        var width = 2;
+        var queues = PrimitiveSyncLongQueues.of(1337, width, 42);
+
+        assertThat(queues.queue(42).length).isEqualTo(42 * width);
+
+        for (int i = 0; i < 42; i++) {
+            queues.push(42, new long[]{i, -i});
+        }
+        assertThat(queues.queue(42).length).isEqualTo(42 * width);
+
+        queues.push(42, new long[]{1337, -1337});
+        assertThat(queues.queue(42).length).isEqualTo(126 /* 84 * 1.5 */);
+        assertThat(queues.queue(42)[84]).isEqualTo(1337);
+        assertThat(queues.queue(42)[85]).isEqualTo(-1337);
+        assertThat(queues.tail(42)).isEqualTo(86);
+    }
+
+    @Test
+    void preservesLongPrecision() {
+        var queues = PrimitiveSyncLongQueues.of(1, 1);
+        var value = (1L << 53) + 1;
+
+        queues.push(0, new long[]{value});
+        queues.swapQueues();
+
+        var iterator = new PrimitiveSyncLongQueues.Iterator();
+        queues.initIterator(iterator, 0);
+
+        var slots = new long[1];
+        assertThat(iterator.hasNext()).isTrue();
+        iterator.nextMessage(slots);
+        assertThat(slots[0]).isEqualTo(value);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void iterateAfterSwap() {
+        var width = 3;
+        var queues = PrimitiveSyncLongQueues.of(1, width);
+
+        for (int i = 0; i < 100; i++) {
+            queues.push(0, new long[]{i, i + 1, i + 2});
+        }
+
+        queues.swapQueues();
+
+        var iterator = new PrimitiveSyncLongQueues.Iterator();
+        queues.initIterator(iterator, 0);
+        assertThat(iterator.isEmpty()).isFalse();
+
+        var slots = new long[width];
+        var count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextMessage(slots);
+            assertThat(slots).containsExactly(count, count + 1, count + 2);
+            count++;
+        }
+        assertThat(count).isEqualTo(100);
+
+        queues.swapQueues();
+        queues.initIterator(iterator, 0);
+        assertThat(iterator.isEmpty()).isTrue();
+    }
+}
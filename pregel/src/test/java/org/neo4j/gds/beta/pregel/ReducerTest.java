@@ -44,4 +44,19 @@ class ReducerTest {
         assertEquals(expected, reducer.reduce(arg0, arg1));
     }
 
+    static Stream<Arguments> longArguments() {
+        return Stream.of(
+            Arguments.of(new LongReducer.Sum(), (1L << 53), 1L, (1L << 53) + 1),
+            Arguments.of(new LongReducer.Min(), 42L, 23L, 23L),
+            Arguments.of(new LongReducer.Max(), 42L, 23L, 42L),
+            Arguments.of(new LongReducer.Count(), 42L, 23L, 43L)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("longArguments")
+    void longReducers(LongReducer reducer, long arg0, long arg1, long expected) {
+        assertEquals(expected, reducer.reduce(arg0, arg1));
+    }
+
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.crossArguments;
+
+@GdlExtension
+class TypedMessagesTest {
+
+    // Larger than 2^53, cannot be represented exactly as a double.
+    private static final long LARGE_VALUE = (1L << 53) + 1;
+
+    @GdlGraph
+    private static final String TEST_GRAPH =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (a)-[:REL]->(c)" +
+        ", (b)-[:REL]->(c)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    static Stream<Arguments> partitioningAndAsynchronous() {
+        return crossArguments(
+            () -> Stream.of(Partitioning.values()).map(Arguments::of),
+            () -> Stream.of(Arguments.of(true), Arguments.of(false))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitioningAndAsynchronous")
+    void longMessages(Partitioning partitioning, boolean isAsynchronous) {
+        var result = run(new LongComputation(Optional.empty()), partitioning, isAsynchronous);
+
+        var c = graph.toMappedNodeId(idFunction.of("c"));
+        assertThat(result.longValue(LongComputation.KEY, c)).isEqualTo(
+            2 * LARGE_VALUE + graph.toMappedNodeId(idFunction.of("a")) + graph.toMappedNodeId(idFunction.of("b"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitioningAndAsynchronous")
+    void reducedLongMessages(Partitioning partitioning, boolean isAsynchronous) {
+        var result = run(new LongComputation(Optional.of(new LongReducer.Max())), partitioning, isAsynchronous);
+
+        var a = graph.toMappedNodeId(idFunction.of("a"));
+        var b = graph.toMappedNodeId(idFunction.of("b"));
+        var c = graph.toMappedNodeId(idFunction.of("c"));
+        assertThat(result.longValue(LongComputation.KEY, c)).isEqualTo(LARGE_VALUE + Math.max(a, b));
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitioningAndAsynchronous")
+    void doubleArrayMessages(Partitioning partitioning, boolean isAsynchronous) {
+        var queued = run(new DoubleArrayComputation(Optional.empty()), partitioning, isAsynchronous);
+        var reduced = run(new DoubleArrayComputation(Optional.of(new Reducer.Sum())), partitioning, isAsynchronous);
+
+        var c = graph.toMappedNodeId(idFunction.of("c"));
+        assertThat(queued.doubleArrayValue(DoubleArrayComputation.KEY, c)).containsExactly(2.0, 0.5, -2.0);
+        assertThat(reduced.doubleArrayValue(DoubleArrayComputation.KEY, c)).containsExactly(2.0, 0.5, -2.0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitioningAndAsynchronous")
+    void recordMessages(Partitioning partitioning, boolean isAsynchronous) {
+        var result = run(new RecordComputation(), partitioning, isAsynchronous);
+
+        var a = graph.toMappedNodeId(idFunction.of("a"));
+        var b = graph.toMappedNodeId(idFunction.of("b"));
+        var c = graph.toMappedNodeId(idFunction.of("c"));
+        assertThat(result.longValue(RecordComputation.SOURCE_KEY, c)).isEqualTo(a + b);
+        assertThat(result.doubleValue(RecordComputation.WEIGHT_KEY, c)).isEqualTo(0.2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitioningAndAsynchronous")
+    void recordMessagesDoNotSupportReducers(Partitioning partitioning, boolean isAsynchronous) {
+        var computation = new RecordComputation() {
+            @Override
+            public Optional<Reducer> reducer() {
+                return Optional.of(new Reducer.Sum());
+            }
+        };
+
+        assertThatThrownBy(() -> run(computation, partitioning, isAsynchronous))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Reducers are not supported for record messages");
+    }
+
+    private NodeValue run(PregelComputation<PregelConfig> computation, Partitioning partitioning, boolean isAsynchronous) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .isAsynchronous(isAsynchronous)
+            .build();
+
+        return Pregel.create(graph, config, computation, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .run()
+            .nodeValues();
+    }
+
+    static class LongComputation implements PregelComputation<PregelConfig> {
+        static final String KEY = "value";
+
+        private final Optional<LongReducer> reducer;
+
+        LongComputation(Optional<LongReducer> reducer) {
+            this.reducer = reducer;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.LONG).build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return MessageSchema.LONG;
+        }
+
+        @Override
+        public Optional<LongReducer> longReducer() {
+            return reducer;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendToNeighbors(LARGE_VALUE + context.nodeId());
+            } else {
+                var sum = 0L;
+                var iterator = messages.longIterator();
+                while (iterator.hasNext()) {
+                    sum += iterator.nextLong();
+                }
+                context.setNodeValue(KEY, sum);
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class DoubleArrayComputation implements PregelComputation<PregelConfig> {
+        static final String KEY = "value";
+
+        private final Optional<Reducer> reducer;
+
+        DoubleArrayComputation(Optional<Reducer> reducer) {
+            this.reducer = reducer;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE_ARRAY).build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return MessageSchema.doubleArray(3);
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return reducer;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(KEY, new double[3]);
+                context.sendToNeighbors(new double[]{1.0, 0.25, -1.0});
+            } else {
+                var sum = new double[3];
+                var iterator = messages.doubleArrayIterator();
+                while (iterator.hasNext()) {
+                    var message = iterator.next();
+                    for (int i = 0; i < sum.length; i++) {
+                        sum[i] += message[i];
+                    }
+                }
+                context.setNodeValue(KEY, sum);
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class RecordComputation implements PregelComputation<PregelConfig> {
+        static final String SOURCE_KEY = "source";
+        static final String WEIGHT_KEY = "weight";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(SOURCE_KEY, ValueType.LONG)
+                .add(WEIGHT_KEY, ValueType.DOUBLE)
+                .build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return new MessageSchema.Builder()
+                .add(SOURCE_KEY, ValueType.LONG)
+                .add(WEIGHT_KEY, ValueType.DOUBLE)
+                .build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                var record = context.messageRecord()
+                    .set(SOURCE_KEY, context.nodeId())
+                    .set(WEIGHT_KEY, 0.1);
+                context.sendToNeighbors(record);
+            } else {
+                var sourceSum = 0L;
+                var weightSum = 0D;
+                var iterator = messages.recordIterator();
+                while (iterator.hasNext()) {
+                    var record = iterator.next();
+                    sourceSum += record.longValue(SOURCE_KEY);
+                    weightSum += record.doubleValue(WEIGHT_KEY);
+                }
+                context.setNodeValue(SOURCE_KEY, sourceSum);
+                context.setNodeValue(WEIGHT_KEY, weightSum);
+            }
+            context.voteToHalt();
+        }
+    }
+}
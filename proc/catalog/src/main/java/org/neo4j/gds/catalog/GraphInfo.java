@@ -128,7 +128,8 @@ public class GraphInfo {
 
     static final class Visitor implements
         GraphProjectConfig.Visitor,
-        CypherAggregation.GraphProjectFromCypherAggregationConfig.Visitor {
+        CypherAggregation.GraphProjectFromCypherAggregationConfig.Visitor,
+        GraphStoreImportConfig.Visitor {
 
         Map<String, Object> configuration = null;
 
@@ -147,6 +148,11 @@ public class GraphInfo {
             configuration = cleansed(cypherAggregationConfig.toMap(), cypherAggregationConfig.outputFieldDenylist());
         }
 
+        @Override
+        public void visit(GraphStoreImportConfig importConfig) {
+            configuration = cleansed(importConfig.toMap(), importConfig.outputFieldDenylist());
+        }
+
         @Override
         public void visit(GraphProjectFromGraphConfig graphConfig) {
             graphConfig.originalConfig().accept(this);
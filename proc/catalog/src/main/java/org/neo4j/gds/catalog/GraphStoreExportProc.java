@@ -32,6 +32,7 @@ import org.neo4j.gds.core.io.NeoNodeProperties;
 import org.neo4j.gds.core.io.db.GraphStoreToDatabaseExporter;
 import org.neo4j.gds.core.io.db.GraphStoreToDatabaseExporterConfig;
 import org.neo4j.gds.core.io.db.ProgressTrackerExecutionMonitor;
+import org.neo4j.gds.core.io.file.FileFormat;
 import org.neo4j.gds.core.io.file.GraphStoreExporterUtil;
 import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
 import org.neo4j.gds.core.io.file.csv.estimation.CsvExportEstimation;
@@ -74,10 +75,16 @@ public class GraphStoreExportProc extends BaseProc {
 
                 validateGraphStore(graphStore, exportConfig);
 
+                var relationshipTypes = exportConfig.relationshipTypeIdentifiers(graphStore);
+                var relationshipCount = relationshipTypes
+                    .stream()
+                    .mapToLong(graphStore::relationshipCount)
+                    .sum();
+
                 var progressTracker = new TaskProgressTracker(
                     ProgressTrackerExecutionMonitor.progressTask(
                         graphStore.nodeCount(),
-                        graphStore.relationshipCount()
+                        relationshipCount
                     ),
                     log,
                     exportConfig.writeConcurrency(),
@@ -103,8 +110,8 @@ public class GraphStoreExportProc extends BaseProc {
                     graphName,
                     exportConfig.dbName(),
                     graphStore.nodeCount(),
-                    graphStore.relationshipCount(),
-                    graphStore.relationshipTypes().size(),
+                    relationshipCount,
+                    relationshipTypes.size(),
                     exportedProperties.nodePropertyCount(),
                     exportedProperties.relationshipPropertyCount(),
                     java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(end - start)
@@ -115,6 +122,19 @@ public class GraphStoreExportProc extends BaseProc {
         return Stream.of(result);
     }
 
+    @Procedure(name = "gds.beta.graph.export", mode = READ)
+    @Description("Exports a named graph to files in the given format.")
+    public Stream<FileExportResult> files(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var exportConfig = GraphStoreToFileExporterConfig.of(username(), cypherConfig);
+        validateConfig(cypherConfig, exportConfig);
+
+        return exportToFiles(graphName, exportConfig);
+    }
+
     @Procedure(name = "gds.beta.graph.export.csv", mode = READ)
     @Description("Exports a named graph to CSV files.")
     public Stream<FileExportResult> csv(
@@ -124,7 +144,17 @@ public class GraphStoreExportProc extends BaseProc {
         var cypherConfig = CypherMapWrapper.create(configuration);
         var exportConfig = GraphStoreToFileExporterConfig.of(username(), cypherConfig);
         validateConfig(cypherConfig, exportConfig);
+        if (exportConfig.format() != FileFormat.CSV) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Use `gds.beta.graph.export` to export into the %s format.",
+                exportConfig.format()
+            ));
+        }
+
+        return exportToFiles(graphName, exportConfig);
+    }
 
+    private Stream<FileExportResult> exportToFiles(String graphName, GraphStoreToFileExporterConfig exportConfig) {
         var graphStore = graphStoreFromCatalog(graphName, exportConfig).graphStore();
         validateGraphStore(graphStore, exportConfig);
 
@@ -168,7 +198,7 @@ public class GraphStoreExportProc extends BaseProc {
 
                 var dimensions = GraphDimensions.of(graphStore.nodeCount(), graphStore.relationshipCount());
                 var memoryTree = CsvExportEstimation
-                    .estimate(graphStore, exportConfig.samplingFactor())
+                    .estimate(graphStore, exportConfig.samplingFactor(), exportConfig.compression())
                     .estimate(dimensions, 1);
                 return new MemoryTreeWithDimensions(memoryTree, dimensions);
             }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStoreFactory;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.io.file.FileFormat;
+
+import java.util.Set;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface GraphStoreImportConfig extends GraphProjectConfig {
+
+    String importName();
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.core.io.file.FileFormat#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.io.file.FileFormat#toString")
+    default FileFormat format() {
+        return FileFormat.CSV;
+    }
+
+    @Configuration.Ignore
+    @Override
+    default GraphStoreFactory.Supplier graphStoreFactory() {
+        throw new UnsupportedOperationException("Imported graphs are not loaded by a graph store factory.");
+    }
+
+    @Value.Derived
+    @Configuration.Ignore
+    default Set<String> outputFieldDenylist() {
+        return Set.of(
+            NODE_COUNT_KEY,
+            RELATIONSHIP_COUNT_KEY,
+            SUDO_KEY,
+            VALIDATE_RELATIONSHIPS_KEY
+        );
+    }
+
+    @Override
+    @Configuration.Ignore
+    default <R> R accept(GraphProjectConfig.Cases<R> cases) {
+        if (cases instanceof Cases) {
+            return ((Cases<R>) cases).fileImport(this);
+        }
+        return null;
+    }
+
+    static GraphStoreImportConfig of(String username, String graphName, CypherMapWrapper config) {
+        return new GraphStoreImportConfigImpl(username, graphName, config);
+    }
+
+    interface Cases<R> extends GraphProjectConfig.Cases<R> {
+
+        R fileImport(GraphStoreImportConfig importConfig);
+    }
+
+    interface Visitor extends Cases<Void> {
+
+        @Override
+        default Void fileImport(GraphStoreImportConfig importConfig) {
+            visit(importConfig);
+            return null;
+        }
+
+        default void visit(GraphStoreImportConfig importConfig) {}
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.neo4j.configuration.Config;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.io.file.GraphStoreImporterUtil;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.core.io.file.GraphStoreImporterUtil.importLocation;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class GraphStoreImportProc extends CatalogProc {
+
+    @Procedure(name = "gds.beta.graph.import", mode = READ)
+    @Description("Imports a named graph from the files of a previous file export.")
+    public Stream<GraphImportResult> importGraph(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        validateGraphName(username(), graphName);
+
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var importConfig = GraphStoreImportConfig.of(username(), graphName, cypherConfig);
+        validateConfig(cypherConfig, importConfig);
+
+        var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(databaseService, Config.class);
+        var importPath = importLocation(neo4jConfig, importConfig.importName());
+
+        try (var progressTimer = ProgressTimer.start()) {
+            var graphStore = GraphStoreImporterUtil.importGraphStore(
+                importPath,
+                importConfig.format(),
+                importConfig.readConcurrency(),
+                taskRegistryFactory,
+                log
+            ).graphStore();
+
+            if (!graphStore.databaseId().equals(databaseId())) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The graph has been exported from database '%s' and can only be imported into that database.",
+                    graphStore.databaseId().databaseName()
+                ));
+            }
+
+            GraphStoreCatalog.set(importConfig, graphStore);
+
+            return Stream.of(new GraphImportResult(
+                graphName,
+                importConfig.importName(),
+                graphStore.nodeCount(),
+                graphStore.relationshipCount(),
+                progressTimer.stop().getDuration()
+            ));
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class GraphImportResult extends GraphProjectProc.GraphProjectResult {
+        public final String importName;
+
+        GraphImportResult(
+            String graphName,
+            String importName,
+            long nodeCount,
+            long relationshipCount,
+            long projectMillis
+        ) {
+            super(graphName, nodeCount, relationshipCount, projectMillis);
+            this.importName = importName;
+        }
+    }
+}
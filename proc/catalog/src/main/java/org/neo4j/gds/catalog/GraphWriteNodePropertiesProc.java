@@ -165,6 +165,7 @@ public class GraphWriteNodePropertiesProc extends CatalogProc {
                     .withIdMap(subGraph)
                     .withTerminationFlag(TerminationFlag.wrap(transaction))
                     .parallel(Pools.DEFAULT, config.writeConcurrency())
+                    .withBatching(config)
                     .withProgressTracker(progressTracker)
                     .build();
 
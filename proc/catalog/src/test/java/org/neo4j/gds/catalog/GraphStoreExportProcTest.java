@@ -167,6 +167,59 @@ class GraphStoreExportProcTest extends BaseProcTest {
         });
     }
 
+    @DisableForNeo4jVersion(Neo4jVersion.V_4_3)
+    @DisableForNeo4jVersion(Neo4jVersion.V_4_4_9_drop10)
+    @DisableForNeo4jVersion(Neo4jVersion.V_4_4_10_drop10)
+    @Test
+    void exportSelectedPropertiesAndTypes() {
+        projectGraph();
+
+        var exportQuery = "CALL gds.graph.export(" +
+                          "  'test-graph', {" +
+                          "    dbName: 'test-db'," +
+                          "    nodeProperties: ['prop2']," +
+                          "    relationshipTypes: ['REL1']," +
+                          "    originalIdProperty: 'neoId'" +
+                          "  }" +
+                          ")";
+
+        runQueryWithRowConsumer(exportQuery, row -> {
+            assertEquals("test-db", row.getString("dbName"));
+            assertEquals(4, row.getNumber("nodeCount").longValue());
+            assertEquals(2, row.getNumber("relationshipCount").longValue());
+            assertEquals(1, row.getNumber("relationshipTypeCount").longValue());
+            // prop2 and the original id
+            assertEquals(8, row.getNumber("nodePropertyCount").longValue());
+            assertEquals(2, row.getNumber("relationshipPropertyCount").longValue());
+        });
+    }
+
+    @DisableForNeo4jVersion(Neo4jVersion.V_4_3)
+    @Test
+    void failsOnUnknownSelectedNodeProperty() {
+        projectGraph();
+
+        var exportQuery = "CALL gds.graph.export('test-graph', {dbName: 'test-db', nodeProperties: ['prop3']})";
+
+        assertThatCode(() -> runQuery(exportQuery))
+            .getRootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Could not find the specified `nodeProperties` of ['prop3']. Available properties are ['prop1', 'prop2'].");
+    }
+
+    @DisableForNeo4jVersion(Neo4jVersion.V_4_3)
+    @Test
+    void failsWhenOriginalIdPropertyIsAlreadyPresent() {
+        projectGraph();
+
+        var exportQuery = "CALL gds.graph.export('test-graph', {dbName: 'test-db', originalIdProperty: 'prop1'})";
+
+        assertThatCode(() -> runQuery(exportQuery))
+            .getRootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The `originalIdProperty` `prop1` is already present in the in-memory graph.");
+    }
+
     @DisableForNeo4jVersion(Neo4jVersion.V_4_3)
     @Test
     void exportGraphWithAdditionalNodePropertiesDuplicateProperties() {
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.core.GraphStoreExportSettings;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.graphdb.QueryExecutionException;
+import org.neo4j.io.fs.DefaultFileSystemAbstraction;
+import org.neo4j.test.TestDatabaseManagementServiceBuilder;
+import org.neo4j.test.extension.ExtensionCallback;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.utils.ExceptionUtil.rootCause;
+
+class GraphStoreImportProcTest extends BaseProcTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A { prop1: 0, prop2: 42 })" +
+        ", (b:A { prop1: 1, prop2: 43 })" +
+        ", (c:B { prop1: 2, prop2: 44 })" +
+        ", (d:B { prop1: 3, prop2: 45 })" +
+        ", (a)-[:REL1 { weight: 1.0 }]->(a)" +
+        ", (a)-[:REL1 { weight: 2.0 }]->(b)" +
+        ", (b)-[:REL1 { weight: 3.0 }]->(a)" +
+        ", (b)-[:REL2 { weight: 4.0 }]->(c)" +
+        ", (c)-[:REL2 { weight: 5.0 }]->(d)" +
+        ", (d)-[:REL2 { weight: 6.0 }]->(a)";
+
+    @Override
+    @ExtensionCallback
+    protected void configuration(TestDatabaseManagementServiceBuilder builder) {
+        super.configuration(builder);
+        builder.setFileSystem(new DefaultFileSystemAbstraction());
+        builder.setConfig(GraphStoreExportSettings.export_location_setting, tempDir);
+    }
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphProjectProc.class, GraphStoreExportProc.class, GraphStoreImportProc.class);
+        runQuery(DB_CYPHER);
+        runQuery(
+            "CALL gds.graph.project('test-graph', ['A', 'B'], {" +
+            "  REL1: { properties: 'weight' }," +
+            "  REL2: { properties: 'weight' }" +
+            "}, { nodeProperties: ['prop1', 'prop2'] })"
+        );
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"csv", "binary"})
+    void shouldRoundTripExportedGraph(String format) {
+        runQueryWithRowConsumer(
+            "CALL gds.beta.graph.export('test-graph', { exportName: 'export', format: $format })",
+            Map.of("format", format),
+            row -> assertEquals(4, row.getNumber("nodeCount").longValue())
+        );
+
+        runQueryWithRowConsumer(
+            "CALL gds.beta.graph.import('imported-graph', { importName: 'export', format: $format })",
+            Map.of("format", format),
+            row -> {
+                assertEquals("imported-graph", row.getString("graphName"));
+                assertEquals("export", row.getString("importName"));
+                assertEquals(4, row.getNumber("nodeCount").longValue());
+                assertEquals(6, row.getNumber("relationshipCount").longValue());
+                assertThat(row.getNumber("projectMillis").longValue()).isGreaterThanOrEqualTo(0L);
+            }
+        );
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "test-graph").graphStore();
+        var importedGraphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "imported-graph").graphStore();
+
+        assertThat(importedGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldListImportedGraph() {
+        runQuery("CALL gds.beta.graph.export('test-graph', { exportName: 'export', format: 'binary' })");
+        runQuery("CALL gds.beta.graph.import('imported-graph', { importName: 'export', format: 'binary' })");
+
+        registerProcedures(GraphListProc.class);
+        runQueryWithRowConsumer(
+            "CALL gds.graph.list('imported-graph') YIELD configuration",
+            row -> assertThat((Map<?, ?>) row.get("configuration"))
+                .containsEntry("importName", "export")
+                .containsEntry("format", "BINARY")
+        );
+    }
+
+    @Test
+    void failsOnBinaryExportWithCompression() {
+        assertThatThrownBy(() -> runQuery(
+            "CALL gds.beta.graph.export('test-graph', { exportName: 'export', format: 'binary', compression: 'gzip' })"
+        ))
+            .isInstanceOf(QueryExecutionException.class)
+            .satisfies(e -> assertThat(rootCause(e))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The binary format does not support compression, got GZIP."));
+    }
+
+    @Test
+    void failsWhenTheImportDirectoryDoesNotExist() {
+        assertThatThrownBy(() -> runQuery(
+            "CALL gds.beta.graph.import('imported-graph', { importName: 'missing', format: 'binary' })"
+        ))
+            .isInstanceOf(QueryExecutionException.class)
+            .satisfies(e -> assertThat(rootCause(e))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("does not exist"));
+    }
+
+    @Test
+    void failsWhenTryingToEscapeExportLocation() {
+        assertThatThrownBy(() -> runQuery(
+            "CALL gds.beta.graph.import('imported-graph', { importName: '../../../../etc', format: 'binary' })"
+        ))
+            .isInstanceOf(QueryExecutionException.class)
+            .satisfies(e -> assertThat(rootCause(e))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("It attempts to read from a forbidden directory"));
+    }
+}
@@ -129,6 +129,7 @@ public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm
             .withTerminationFlag(computationResult.algorithm().terminationFlag)
             .withProgressTracker(progressTracker)
             .parallel(Pools.DEFAULT, computationResult.config().writeConcurrency())
+            .withBatching(computationResult.config())
             .build();
     }
 }
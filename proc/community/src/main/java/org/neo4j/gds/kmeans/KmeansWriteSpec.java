@@ -93,6 +93,7 @@ public class KmeansWriteSpec implements AlgorithmSpec<Kmeans, KmeansResult, Kmea
                         executionContext
                     ))
                     .parallel(Pools.DEFAULT, writeConcurrency)
+                    .withBatching(config)
                     .build();
 
                 var properties = new LongNodePropertyValues() {
@@ -90,6 +90,7 @@ public class LeidenWriteSpec implements AlgorithmSpec<Leiden, LeidenResult, Leid
                         executionContext
                     ))
                     .parallel(Pools.DEFAULT, writeConcurrency)
+                    .withBatching(config)
                     .build();
 
                 var properties = LeidenCompanion.leidenNodeProperties(
@@ -137,6 +137,51 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.usePackedAdjacencyList")
+    @Description("Toggle whether the adjacency list should be stored in blocks of bit-packed deltas during graph creation.")
+    public void usePackedAdjacencyList(@Name(value = "usePackedAdjacencyList") boolean usePackedAdjacencyList) {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(usePackedAdjacencyList);
+    }
+
+    @Internal
+    @Procedure("gds.features.usePackedAdjacencyList.reset")
+    @Description("Set the default behaviour of whether to store block-packed adjacency lists during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUsePackedAdjacencyList() {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useMappedAdjacencyList")
+    @Description("Toggle whether the adjacency list should be stored in memory-mapped files during graph creation.")
+    public void useMappedAdjacencyList(@Name(value = "useMappedAdjacencyList") boolean useMappedAdjacencyList) {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.toggle(useMappedAdjacencyList);
+    }
+
+    @Internal
+    @Procedure("gds.features.useMappedAdjacencyList.reset")
+    @Description("Set the default behaviour of whether to store adjacency lists in memory-mapped files during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseMappedAdjacencyList() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useOffHeapArrays")
+    @Description("Toggle whether algorithms should allocate their scratch arrays off-heap.")
+    public void useOffHeapArrays(@Name(value = "useOffHeapArrays") boolean useOffHeapArrays) {
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.toggle(useOffHeapArrays);
+    }
+
+    @Internal
+    @Procedure("gds.features.useOffHeapArrays.reset")
+    @Description("Set the default behaviour of whether algorithms should allocate their scratch arrays off-heap. That value is returned.")
+    public Stream<FeatureState> resetUseOffHeapArrays() {
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()));
+    }
+
     @Internal
     @Procedure("gds.features.useReorderedAdjacencyList")
     @Description("Toggle whether the adjacency list should be reordered during graph creation.")
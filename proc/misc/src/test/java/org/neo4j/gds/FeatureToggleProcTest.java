@@ -34,6 +34,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.utils.GdsFeatureToggles.ENABLE_ARROW_DATABASE_IMPORT;
 import static org.neo4j.gds.utils.GdsFeatureToggles.SKIP_ORPHANS;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_OFF_HEAP_ARRAYS;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARTITIONED_SCAN;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
@@ -148,6 +151,63 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertFalse(USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled());
     }
 
+    @Test
+    void toggleUsePackedAdjacencyList() {
+        var usePackedAdjacencyList = USE_PACKED_ADJACENCY_LIST.isEnabled();
+        runQuery("CALL gds.features.usePackedAdjacencyList($value)", Map.of("value", !usePackedAdjacencyList));
+        assertEquals(!usePackedAdjacencyList, USE_PACKED_ADJACENCY_LIST.isEnabled());
+        runQuery("CALL gds.features.usePackedAdjacencyList($value)", Map.of("value", usePackedAdjacencyList));
+        assertEquals(usePackedAdjacencyList, USE_PACKED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void resetUsePackedAdjacencyList() {
+        USE_PACKED_ADJACENCY_LIST.reset();
+        assertCypherResult(
+            "CALL gds.features.usePackedAdjacencyList.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_PACKED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void toggleUseMappedAdjacencyList() {
+        var useMappedAdjacencyList = USE_MAPPED_ADJACENCY_LIST.isEnabled();
+        runQuery("CALL gds.features.useMappedAdjacencyList($value)", Map.of("value", !useMappedAdjacencyList));
+        assertEquals(!useMappedAdjacencyList, USE_MAPPED_ADJACENCY_LIST.isEnabled());
+        runQuery("CALL gds.features.useMappedAdjacencyList($value)", Map.of("value", useMappedAdjacencyList));
+        assertEquals(useMappedAdjacencyList, USE_MAPPED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void resetUseMappedAdjacencyList() {
+        USE_MAPPED_ADJACENCY_LIST.reset();
+        assertCypherResult(
+            "CALL gds.features.useMappedAdjacencyList.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_MAPPED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void toggleUseOffHeapArrays() {
+        var useOffHeapArrays = USE_OFF_HEAP_ARRAYS.isEnabled();
+        runQuery("CALL gds.features.useOffHeapArrays($value)", Map.of("value", !useOffHeapArrays));
+        assertEquals(!useOffHeapArrays, USE_OFF_HEAP_ARRAYS.isEnabled());
+        runQuery("CALL gds.features.useOffHeapArrays($value)", Map.of("value", useOffHeapArrays));
+        assertEquals(useOffHeapArrays, USE_OFF_HEAP_ARRAYS.isEnabled());
+    }
+
+    @Test
+    void resetUseOffHeapArrays() {
+        USE_OFF_HEAP_ARRAYS.reset();
+        assertCypherResult(
+            "CALL gds.features.useOffHeapArrays.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_OFF_HEAP_ARRAYS.isEnabled());
+    }
+
     @Test
     void toggleUseReorderedAdjacencyList() {
         var useReorderedAdjacencyList = USE_REORDERED_ADJACENCY_LIST.isEnabled();
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.TrainProc;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.model.ImmutableModel;
+import org.neo4j.gds.core.model.Model;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Mode;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.TRAIN;
+import static org.neo4j.gds.paths.contraction.ContractionHierarchiesProc.CONTRACTION_HIERARCHIES_DESCRIPTION;
+
+@GdsCallable(name = "gds.alpha.contractionHierarchies.train", description = CONTRACTION_HIERARCHIES_DESCRIPTION, executionMode = TRAIN)
+public class ContractionHierarchiesTrainProc extends TrainProc<ContractionHierarchiesTrain, Model<ContractionHierarchy, ContractionHierarchiesTrainConfig, ContractionHierarchy.Info>, ContractionHierarchiesTrainConfig, TrainProc.TrainResult> {
+
+    // the hierarchy is only valid for the graph it was trained on
+    private String graphName;
+
+    @Description(CONTRACTION_HIERARCHIES_DESCRIPTION)
+    @Procedure(name = "gds.alpha.contractionHierarchies.train", mode = Mode.READ)
+    public Stream<TrainResult> train(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        this.graphName = graphName;
+        return trainAndStoreModelWithResult(compute(graphName, configuration));
+    }
+
+    @Override
+    protected ContractionHierarchiesTrainConfig newConfig(String username, CypherMapWrapper config) {
+        return ContractionHierarchiesTrainConfig.of(username, config);
+    }
+
+    @Override
+    public GraphAlgorithmFactory<ContractionHierarchiesTrain, ContractionHierarchiesTrainConfig> algorithmFactory() {
+        return new ContractionHierarchiesTrainFactory();
+    }
+
+    @Override
+    protected String modelType() {
+        return ContractionHierarchiesTrain.MODEL_TYPE;
+    }
+
+    @Override
+    protected TrainResult constructProcResult(ComputationResult<ContractionHierarchiesTrain, Model<ContractionHierarchy, ContractionHierarchiesTrainConfig, ContractionHierarchy.Info>, ContractionHierarchiesTrainConfig> computationResult) {
+        return new TrainResult(
+            withGraphName(computationResult.result()),
+            computationResult.computeMillis(),
+            computationResult.graph().nodeCount(),
+            computationResult.graph().relationshipCount()
+        );
+    }
+
+    @Override
+    protected Model<?, ?, ?> extractModel(Model<ContractionHierarchy, ContractionHierarchiesTrainConfig, ContractionHierarchy.Info> model) {
+        return withGraphName(model);
+    }
+
+    private Model<ContractionHierarchy, ContractionHierarchiesTrainConfig, ContractionHierarchy.Info> withGraphName(
+        Model<ContractionHierarchy, ContractionHierarchiesTrainConfig, ContractionHierarchy.Info> model
+    ) {
+        return ImmutableModel.copyOf(model).withCustomInfo(model.customInfo().withGraphName(graphName));
+    }
+}
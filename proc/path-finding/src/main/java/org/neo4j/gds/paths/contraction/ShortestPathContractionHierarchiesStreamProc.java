@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.AlgorithmFactory;
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.model.ModelCatalog;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.validation.AfterLoadValidation;
+import org.neo4j.gds.executor.validation.ValidationConfiguration;
+import org.neo4j.gds.paths.ShortestPathStreamProc;
+import org.neo4j.gds.paths.StreamResult;
+import org.neo4j.gds.paths.dijkstra.DijkstraResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.STREAM;
+import static org.neo4j.gds.paths.contraction.ContractionHierarchiesProc.CONTRACTION_HIERARCHIES_DESCRIPTION;
+import static org.neo4j.procedure.Mode.READ;
+
+@GdsCallable(name = "gds.alpha.shortestPath.contractionHierarchies.stream", description = CONTRACTION_HIERARCHIES_DESCRIPTION, executionMode = STREAM)
+public class ShortestPathContractionHierarchiesStreamProc extends ShortestPathStreamProc<ContractionHierarchiesQuery, ContractionHierarchiesStreamConfig> {
+
+    @Procedure(name = "gds.alpha.shortestPath.contractionHierarchies.stream", mode = READ)
+    @Description(CONTRACTION_HIERARCHIES_DESCRIPTION)
+    public Stream<StreamResult> stream(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return stream(compute(graphName, configuration, false, true));
+    }
+
+    @Override
+    public AlgorithmSpec<ContractionHierarchiesQuery, DijkstraResult, ContractionHierarchiesStreamConfig, Stream<StreamResult>, AlgorithmFactory<?, ContractionHierarchiesQuery, ContractionHierarchiesStreamConfig>> withModelCatalog(
+        ModelCatalog modelCatalog
+    ) {
+        this.setModelCatalog(modelCatalog);
+        return this;
+    }
+
+    @Override
+    public ValidationConfiguration<ContractionHierarchiesStreamConfig> validationConfig() {
+        return new ValidationConfiguration<>() {
+            @Override
+            public List<AfterLoadValidation<ContractionHierarchiesStreamConfig>> afterLoadValidations() {
+                return List.of((graphStore, graphProjectConfig, config) -> ContractionHierarchiesQueryFactory.validateModel(
+                    ContractionHierarchiesQueryFactory.resolveModel(modelCatalog(), config.username(), config.modelName()),
+                    graphStore,
+                    graphProjectConfig.graphName(),
+                    config
+                ));
+            }
+        };
+    }
+
+    @Override
+    protected ContractionHierarchiesStreamConfig newConfig(String username, CypherMapWrapper config) {
+        return ContractionHierarchiesStreamConfig.of(username, config);
+    }
+
+    @Override
+    public GraphAlgorithmFactory<ContractionHierarchiesQuery, ContractionHierarchiesStreamConfig> algorithmFactory() {
+        return new ContractionHierarchiesQueryFactory(modelCatalog());
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.model.ModelCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.extension.Neo4jModelCatalogExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.isA;
+
+@Neo4jModelCatalogExtension
+class ContractionHierarchiesProcTest extends BaseProcTest {
+
+    private static final String GRAPH_NAME = "graph";
+    private static final String MODEL_NAME = "hierarchy";
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (b)-[:TYPE {cost: 1.0}]->(c)" +
+        ", (a)-[:TYPE {cost: 5.0}]->(c)" +
+        ", (c)-[:TYPE {cost: 1.0}]->(d)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Inject
+    private ModelCatalog modelCatalog;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            GraphProjectProc.class,
+            ContractionHierarchiesTrainProc.class,
+            ShortestPathContractionHierarchiesStreamProc.class
+        );
+
+        runQuery(projectQuery(GRAPH_NAME));
+    }
+
+    @AfterEach
+    void teardown() {
+        modelCatalog.removeAllLoadedModels();
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldTrainAndStreamShortestPaths() {
+        assertCypherResult(
+            trainQuery(GRAPH_NAME),
+            List.of(Map.of(
+                "trainMillis", isA(Long.class),
+                "modelInfo", Map.of(
+                    "modelName", MODEL_NAME,
+                    "modelType", ContractionHierarchiesTrain.MODEL_TYPE,
+                    "nodeCount", 4L,
+                    "relationshipCount", 4L,
+                    "shortcutCount", isA(Long.class),
+                    "graphName", GRAPH_NAME
+                ),
+                "configuration", isA(Map.class)
+            ))
+        );
+
+        var a = idFunction.of("a");
+        var b = idFunction.of("b");
+        var c = idFunction.of("c");
+        var d = idFunction.of("d");
+
+        assertCypherResult(
+            "CALL gds.alpha.shortestPath.contractionHierarchies.stream($graphName, {" +
+            "  modelName: $modelName," +
+            "  relationshipWeightProperty: 'cost'," +
+            "  sourceNode: $source," +
+            "  targetNodes: $targets" +
+            "}) YIELD targetNode, totalCost, nodeIds, costs " +
+            "RETURN targetNode, totalCost, nodeIds, costs ORDER BY totalCost",
+            Map.of(
+                "graphName", GRAPH_NAME,
+                "modelName", MODEL_NAME,
+                "source", a,
+                "targets", List.of(c, d)
+            ),
+            List.of(
+                Map.of("targetNode", c, "totalCost", 2.0D, "nodeIds", List.of(a, b, c), "costs", List.of(0.0D, 1.0D, 2.0D)),
+                Map.of("targetNode", d, "totalCost", 3.0D, "nodeIds", List.of(a, b, c, d), "costs", List.of(0.0D, 1.0D, 2.0D, 3.0D))
+            )
+        );
+    }
+
+    @Test
+    void shouldFailOnMissingModel() {
+        assertError(
+            streamQuery(GRAPH_NAME, "'cost'"),
+            Map.of("source", idFunction.of("a"), "targets", List.of(idFunction.of("d"))),
+            "Model with name `" + MODEL_NAME + "` does not exist."
+        );
+    }
+
+    @Test
+    void shouldFailOnDifferentGraph() {
+        runQuery(projectQuery("otherGraph"));
+        runQuery(trainQuery(GRAPH_NAME));
+
+        assertError(
+            streamQuery("otherGraph", "'cost'"),
+            Map.of("source", idFunction.of("a"), "targets", List.of(idFunction.of("d"))),
+            "The model `" + MODEL_NAME + "` was trained on the graph `" + GRAPH_NAME + "`, but the given graph is `otherGraph`."
+        );
+    }
+
+    @Test
+    void shouldFailOnDifferentRelationshipWeightProperty() {
+        runQuery(trainQuery(GRAPH_NAME));
+
+        assertError(
+            streamQuery(GRAPH_NAME, "null"),
+            Map.of("source", idFunction.of("a"), "targets", List.of(idFunction.of("d"))),
+            "The model `" + MODEL_NAME + "` was trained with the relationship weight property `cost`"
+        );
+    }
+
+    private static String projectQuery(String graphName) {
+        return GdsCypher.call(graphName)
+            .graphProject()
+            .withNodeLabel("Node")
+            .withRelationshipType("TYPE")
+            .withRelationshipProperty("cost")
+            .yields();
+    }
+
+    private static String trainQuery(String graphName) {
+        return "CALL gds.alpha.contractionHierarchies.train('" + graphName + "', {" +
+               "  modelName: '" + MODEL_NAME + "'," +
+               "  relationshipWeightProperty: 'cost'" +
+               "}) YIELD trainMillis, modelInfo, configuration";
+    }
+
+    private static String streamQuery(String graphName, String relationshipWeightProperty) {
+        return "CALL gds.alpha.shortestPath.contractionHierarchies.stream('" + graphName + "', {" +
+               "  modelName: '" + MODEL_NAME + "'," +
+               "  relationshipWeightProperty: " + relationshipWeightProperty + "," +
+               "  sourceNode: $source," +
+               "  targetNodes: $targets" +
+               "}) YIELD totalCost";
+    }
+}
@@ -96,6 +96,7 @@ public abstract class SimilarityWriteProc<
                                 .withGraph(similarityGraph)
                                 .withTerminationFlag(algorithm.getTerminationFlag())
                                 .withProgressTracker(progressTracker)
+                                .withBatching(config)
                                 .build();
 
                             if (SimilarityProc.shouldComputeHistogram(executionContext().callContext())) {
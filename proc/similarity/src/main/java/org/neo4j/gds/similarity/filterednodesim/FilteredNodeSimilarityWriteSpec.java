@@ -110,6 +110,7 @@ public class FilteredNodeSimilarityWriteSpec implements AlgorithmSpec<
                                 .withGraph(similarityGraph)
                                 .withTerminationFlag(algorithm.getTerminationFlag())
                                 .withProgressTracker(progressTracker)
+                                .withBatching(config)
                                 .build();
 
                             if (SimilarityProc.shouldComputeHistogram(executionContext.callContext())) {
@@ -171,7 +171,10 @@ public class SysInfoProc {
                 "featureUncompressedAdjacencyList",
                 GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
             ))
-            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
+            .add(value("featurePackedAdjacencyList", GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureMappedAdjacencyList", GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureOffHeapArrays", GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()));
 
     }
 
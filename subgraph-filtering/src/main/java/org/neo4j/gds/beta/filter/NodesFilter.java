@@ -27,8 +27,8 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.nodes.NodeProperty;
 import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
 import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
@@ -68,6 +68,15 @@ public final class NodesFilter {
         ProgressTracker progressTracker
     ) {
         var inputNodes = inputGraphStore.nodes();
+        var nodePredicate = ExpressionCompiler.compileNodePredicate(expression, inputGraphStore, parameterMap);
+
+        if (nodePredicate == ExpressionCompiler.NodePredicate.TRUE) {
+            progressTracker.beginSubTask();
+            progressTracker.logProgress(inputNodes.nodeCount());
+            progressTracker.endSubTask();
+
+            return unfilteredNodes(inputGraphStore, progressTracker);
+        }
 
         var nodesBuilder = GraphFactory.initNodesBuilder()
             .concurrency(concurrency)
@@ -81,8 +90,7 @@ public final class NodesFilter {
 
         var tasks = NodeFilterTask.of(
             inputGraphStore,
-            expression,
-            parameterMap,
+            nodePredicate,
             partitions,
             nodesBuilder,
             progressTracker
@@ -99,6 +107,10 @@ public final class NodesFilter {
         var idMapAndProperties = nodesBuilder.build();
         var filteredIdMap = idMapAndProperties.idMap();
 
+        if (filteredIdMap.nodeCount() == inputNodes.nodeCount()) {
+            return unfilteredNodes(inputGraphStore, progressTracker);
+        }
+
         progressTracker.beginSubTask();
         var filteredNodePropertyStores = filterNodeProperties(
             inputGraphStore,
@@ -114,6 +126,30 @@ public final class NodesFilter {
             .build();
     }
 
+    // If no node is filtered out, the input id map and node properties are shared
+    // with the output graph store. This keeps node ids stable, which allows the
+    // relationships filter to reuse the input adjacency lists.
+    private static FilteredNodes unfilteredNodes(GraphStore inputGraphStore, ProgressTracker progressTracker) {
+        var propertyKeys = inputGraphStore.nodePropertyKeys();
+        var propertyStoreBuilder = NodePropertyStore.builder();
+        propertyKeys.forEach(propertyKey -> propertyStoreBuilder.putIfAbsent(
+            propertyKey,
+            inputGraphStore.nodeProperty(propertyKey)
+        ));
+
+        var propertiesVolume = inputGraphStore.nodeCount() * propertyKeys.size();
+        progressTracker.beginSubTask();
+        progressTracker.beginSubTask(propertiesVolume);
+        progressTracker.logProgress(propertiesVolume);
+        progressTracker.endSubTask();
+        progressTracker.endSubTask();
+
+        return ImmutableFilteredNodes.builder()
+            .idMap(inputGraphStore.nodes())
+            .propertyStores(propertyStoreBuilder.build())
+            .build();
+    }
+
     public static NodePropertyStore filterNodeProperties(
         GraphStore inputGraphStore,
         IdMap filteredIdMap,
@@ -246,16 +282,14 @@ public final class NodesFilter {
 
     private static final class NodeFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.NodeEvaluationContext nodeContext;
+        private final ExpressionCompiler.NodePredicate nodePredicate;
         private final ProgressTracker progressTracker;
         private final GraphStore inputGraphStore;
         private final NodesBuilder nodesBuilder;
 
         static Iterator<NodeFilterTask> of(
             GraphStore inputGraphStore,
-            Expression expression,
-            Map<String, Object> parameterMap,
+            ExpressionCompiler.NodePredicate nodePredicate,
             Iterator<Partition> partitions,
             NodesBuilder nodesBuilder,
             ProgressTracker progressTracker
@@ -269,8 +303,7 @@ public final class NodesFilter {
 
                     return new NodeFilterTask(
                         partitions.next(),
-                        expression,
-                        parameterMap,
+                        nodePredicate,
                         inputGraphStore,
                         nodesBuilder,
                         progressTracker
@@ -281,17 +314,15 @@ public final class NodesFilter {
 
         private NodeFilterTask(
             Partition partition,
-            Expression expression,
-            Map<String, Object> parameterMap,
+            ExpressionCompiler.NodePredicate nodePredicate,
             GraphStore inputGraphStore,
             NodesBuilder nodesBuilder,
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
+            this.nodePredicate = nodePredicate;
             this.inputGraphStore = inputGraphStore;
             this.nodesBuilder = nodesBuilder;
-            this.nodeContext = new EvaluationContext.NodeEvaluationContext(inputGraphStore, parameterMap);
             this.progressTracker = progressTracker;
         }
 
@@ -299,8 +330,7 @@ public final class NodesFilter {
         public void run() {
             var idMap = inputGraphStore.nodes();
             partition.consume(node -> {
-                nodeContext.init(node);
-                if (expression.evaluate(nodeContext) == Expression.TRUE) {
+                if (nodePredicate.test(node)) {
                     var originalId = idMap.toOriginalNodeId(node);
                     var labels = NodeLabelTokens.of(idMap.nodeLabels(node));
                     nodesBuilder.addNode(originalId, labels);
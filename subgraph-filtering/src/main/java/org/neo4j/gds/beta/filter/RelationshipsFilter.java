@@ -29,10 +29,11 @@ import org.neo4j.gds.api.PropertyState;
 import org.neo4j.gds.api.RelationshipProperty;
 import org.neo4j.gds.api.RelationshipPropertyStore;
 import org.neo4j.gds.api.Relationships;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
 import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.core.utils.partition.Partition;
@@ -42,6 +43,7 @@ import org.neo4j.values.storable.NumberType;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -79,14 +81,45 @@ public final class RelationshipsFilter {
         for (RelationshipType relType : graphStore.relationshipTypes()) {
 
             progressTracker.beginSubTask(graphStore.relationshipCount(relType));
+
+            var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relType));
+            var relationshipPredicate = ExpressionCompiler.compileRelationshipPredicate(
+                expression,
+                relType,
+                propertyIndices(propertyKeys),
+                parameterMap
+            );
+
+            // Drop relationship types that are rejected regardless of the relationship.
+            if (relationshipPredicate == ExpressionCompiler.RelationshipPredicate.FALSE) {
+                progressTracker.logProgress(graphStore.relationshipCount(relType));
+                progressTracker.endSubTask();
+                continue;
+            }
+
+            // Share the adjacency and property lists of relationship types that are kept
+            // entirely. This requires the node ids to be unchanged by the node filter.
+            if (relationshipPredicate == ExpressionCompiler.RelationshipPredicate.TRUE && inputNodes == outputNodes) {
+                var inputTopology = inputTopology(graphStore, relType);
+                if (inputTopology.isPresent()) {
+                    if (inputTopology.get().elementCount() > 0) {
+                        topologies.put(relType, inputTopology.get());
+                        relPropertyStores.put(relType, inputPropertyStore(graphStore, relType, propertyKeys));
+                    }
+                    progressTracker.logProgress(graphStore.relationshipCount(relType));
+                    progressTracker.endSubTask();
+                    continue;
+                }
+            }
+
             var outputRelationships = filterRelationshipType(
                 graphStore,
-                expression,
+                relationshipPredicate,
                 inputNodes,
                 outputNodes,
                 relType,
+                propertyKeys,
                 concurrency,
-                parameterMap,
                 executorService,
                 progressTracker
             );
@@ -137,17 +170,15 @@ public final class RelationshipsFilter {
 
     static FilteredRelationship filterRelationshipType(
         GraphStore graphStore,
-        Expression relationshipExpr,
+        ExpressionCompiler.RelationshipPredicate relationshipPredicate,
         IdMap inputNodes,
         IdMap outputNodes,
         RelationshipType relType,
+        List<String> propertyKeys,
         int concurrency,
-        Map<String, Object> parameterMap,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
-        var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relType));
-
         var propertyConfigs = propertyKeys
             .stream()
             .map(key -> GraphFactory.PropertyConfig.of(Aggregation.NONE, graphStore.relationshipPropertyValues(relType, key).defaultValue()))
@@ -161,22 +192,14 @@ public final class RelationshipsFilter {
 
         var compositeIterator = graphStore.getCompositeRelationshipIterator(relType, propertyKeys);
 
-        var propertyIndices = IntStream
-            .range(0, propertyKeys.size())
-            .boxed()
-            .collect(Collectors.toMap(propertyKeys::get, Function.identity()));
-
         var relationshipFilterTasks = PartitionUtils.rangePartition(concurrency, outputNodes.nodeCount(), partition ->
             new RelationshipFilterTask(
                 partition,
-                relationshipExpr,
+                relationshipPredicate,
                 compositeIterator.concurrentCopy(),
                 inputNodes,
                 outputNodes,
                 relationshipsBuilder,
-                relType,
-                parameterMap,
-                propertyIndices,
                 progressTracker
             ),
             Optional.empty()
@@ -204,39 +227,59 @@ public final class RelationshipsFilter {
             .build();
     }
 
+    private static Map<String, Integer> propertyIndices(List<String> propertyKeys) {
+        return IntStream
+            .range(0, propertyKeys.size())
+            .boxed()
+            .collect(Collectors.toMap(propertyKeys::get, Function.identity()));
+    }
+
+    private static Optional<Relationships.Topology> inputTopology(GraphStore graphStore, RelationshipType relType) {
+        var graph = graphStore.getGraph(relType);
+        return graph instanceof HugeGraph
+            ? Optional.of(((HugeGraph) graph).relationshipTopology())
+            : Optional.empty();
+    }
+
+    private static RelationshipPropertyStore inputPropertyStore(
+        GraphStore graphStore,
+        RelationshipType relType,
+        List<String> propertyKeys
+    ) {
+        var propertyStoreBuilder = RelationshipPropertyStore.builder();
+        propertyKeys.forEach(propertyKey -> propertyStoreBuilder.putIfAbsent(
+            propertyKey,
+            graphStore.relationshipPropertyValues(relType, propertyKey)
+        ));
+        return propertyStoreBuilder.build();
+    }
+
     private RelationshipsFilter() {}
 
     private static final class RelationshipFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.RelationshipEvaluationContext evaluationContext;
+        private final ExpressionCompiler.RelationshipPredicate relationshipPredicate;
         private final ProgressTracker progressTracker;
         private final CompositeRelationshipIterator relationshipIterator;
         private final IdMap inputNodes;
         private final IdMap outputNodes;
         private final RelationshipsBuilder relationshipsBuilder;
-        private final RelationshipType relType;
 
         private RelationshipFilterTask(
             Partition partition,
-            Expression expression,
+            ExpressionCompiler.RelationshipPredicate relationshipPredicate,
             CompositeRelationshipIterator relationshipIterator,
             IdMap inputNodes,
             IdMap outputNodes,
             RelationshipsBuilder relationshipsBuilder,
-            RelationshipType relType,
-            Map<String, Object> parameterMap,
-            Map<String, Integer> propertyIndices,
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
+            this.relationshipPredicate = relationshipPredicate;
             this.relationshipIterator = relationshipIterator;
             this.inputNodes = inputNodes;
             this.outputNodes = outputNodes;
             this.relationshipsBuilder = relationshipsBuilder;
-            this.relType = relType;
-            this.evaluationContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, parameterMap);
             this.progressTracker = progressTracker;
         }
 
@@ -251,9 +294,7 @@ public final class RelationshipsFilter {
                     var mappedTarget = outputNodes.toMappedNodeId(neoTarget);
 
                     if (mappedTarget != NOT_FOUND) {
-                        evaluationContext.init(relType.name, properties);
-
-                        if (expression.evaluate(evaluationContext) == Expression.TRUE) {
+                        if (relationshipPredicate.test(properties)) {
                             // TODO branching should happen somewhere else
                             if (properties.length == 0) {
                                 relationshipsBuilder.add(neoSource, neoTarget);
@@ -0,0 +1,541 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.gds.beta.filter.expression.Expression.EPSILON;
+import static org.neo4j.gds.beta.filter.expression.Expression.FALSE;
+import static org.neo4j.gds.beta.filter.expression.Expression.TRUE;
+import static org.neo4j.gds.beta.filter.expression.Expression.VARIABLE;
+
+/**
+ * Compiles a validated {@link Expression} into a tree of specialized closures.
+ *
+ * In contrast to {@link Expression#evaluate(EvaluationContext)}, property keys,
+ * labels, relationship types and parameters are resolved once during compilation.
+ * Sub-expressions without a dependency on the current element are folded into
+ * constants and comparisons are specialized by operator and value type.
+ * The resulting predicates can be shared between threads.
+ */
+public final class ExpressionCompiler {
+
+    @FunctionalInterface
+    public interface NodePredicate {
+        NodePredicate TRUE = nodeId -> true;
+        NodePredicate FALSE = nodeId -> false;
+
+        boolean test(long nodeId);
+    }
+
+    @FunctionalInterface
+    public interface RelationshipPredicate {
+        RelationshipPredicate TRUE = properties -> true;
+        RelationshipPredicate FALSE = properties -> false;
+
+        boolean test(double[] properties);
+    }
+
+    public static NodePredicate compileNodePredicate(
+        Expression expression,
+        GraphStore graphStore,
+        Map<String, Object> parameterMap
+    ) {
+        var compiled = new ExpressionCompiler(new NodeScope(graphStore, parameterMap), parameterMap).compile(expression);
+
+        if (compiled instanceof DoubleConstant) {
+            return ((DoubleConstant) compiled).value == TRUE ? NodePredicate.TRUE : NodePredicate.FALSE;
+        }
+        return nodeId -> compiled.evaluate(nodeId, null) == TRUE;
+    }
+
+    public static RelationshipPredicate compileRelationshipPredicate(
+        Expression expression,
+        RelationshipType relationshipType,
+        Map<String, Integer> propertyIndices,
+        Map<String, Object> parameterMap
+    ) {
+        var compiled = new ExpressionCompiler(
+            new RelationshipScope(relationshipType, propertyIndices, parameterMap),
+            parameterMap
+        ).compile(expression);
+
+        if (compiled instanceof DoubleConstant) {
+            return ((DoubleConstant) compiled).value == TRUE ? RelationshipPredicate.TRUE : RelationshipPredicate.FALSE;
+        }
+        return properties -> compiled.evaluate(-1, properties) == TRUE;
+    }
+
+    // Node expressions are evaluated for a node id, relationship
+    // expressions for the property values of the current relationship.
+    @FunctionalInterface
+    interface CompiledExpression {
+        double evaluate(long nodeId, double[] properties);
+    }
+
+    @FunctionalInterface
+    interface CompiledLongExpression {
+        long evaluate(long nodeId, double[] properties);
+    }
+
+    private interface Constant {}
+
+    private static final class DoubleConstant implements CompiledExpression, Constant {
+        private final double value;
+
+        private DoubleConstant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double evaluate(long nodeId, double[] properties) {
+            return value;
+        }
+    }
+
+    private static final class LongConstant implements CompiledLongExpression, Constant {
+        private final long value;
+
+        private LongConstant(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public long evaluate(long nodeId, double[] properties) {
+            return value;
+        }
+    }
+
+    private final Scope scope;
+    private final Map<String, Object> parameterMap;
+
+    private ExpressionCompiler(Scope scope, Map<String, Object> parameterMap) {
+        this.scope = scope;
+        this.parameterMap = parameterMap;
+    }
+
+    CompiledExpression compile(Expression expression) {
+        if (expression instanceof Expression.Literal.TrueLiteral) {
+            return new DoubleConstant(TRUE);
+        }
+        if (expression instanceof Expression.Literal.FalseLiteral) {
+            return new DoubleConstant(FALSE);
+        }
+        if (expression instanceof Expression.Literal.LongLiteral) {
+            return new DoubleConstant(Double.longBitsToDouble(((Expression.Literal.LongLiteral) expression).value()));
+        }
+        if (expression instanceof Expression.Literal.DoubleLiteral) {
+            return new DoubleConstant(((Expression.Literal.DoubleLiteral) expression).value());
+        }
+        if (expression instanceof Expression.LeafExpression.Variable) {
+            return new DoubleConstant(VARIABLE);
+        }
+        if (expression instanceof Expression.UnaryExpression.NewParameter) {
+            var parameterName = ((Expression.UnaryExpression.NewParameter) expression).in().name();
+            var parameter = (Number) parameterMap.get(parameterName);
+            return new DoubleConstant(parameter instanceof Long ? parameter.longValue() : parameter.doubleValue());
+        }
+        if (expression instanceof Expression.UnaryExpression.Property) {
+            var property = (Expression.UnaryExpression.Property) expression;
+            return scope.property(property.propertyKey(), property.valueType());
+        }
+        if (expression instanceof Expression.UnaryExpression.HasLabelsOrTypes) {
+            return scope.hasLabelsOrTypes(((Expression.UnaryExpression.HasLabelsOrTypes) expression).labelsOrTypes());
+        }
+        if (expression instanceof Expression.UnaryExpression.Not) {
+            var in = compile(((Expression.UnaryExpression.Not) expression).in());
+            return fold((nodeId, properties) -> in.evaluate(nodeId, properties) == TRUE ? FALSE : TRUE, in);
+        }
+        if (expression instanceof Expression.BinaryExpression.And) {
+            var binary = (Expression.BinaryExpression) expression;
+            var lhs = compile(binary.lhs());
+            var rhs = compile(binary.rhs());
+            // A single constant operand can decide the result, e.g. `r:TYPE AND r.property > 42`.
+            if (isConstant(lhs, FALSE) || isConstant(rhs, FALSE)) {
+                return new DoubleConstant(FALSE);
+            }
+            return fold(
+                (nodeId, properties) -> lhs.evaluate(nodeId, properties) == TRUE && rhs.evaluate(nodeId, properties) == TRUE
+                    ? TRUE
+                    : FALSE,
+                lhs,
+                rhs
+            );
+        }
+        if (expression instanceof Expression.BinaryExpression.Or) {
+            var binary = (Expression.BinaryExpression) expression;
+            var lhs = compile(binary.lhs());
+            var rhs = compile(binary.rhs());
+            if (isConstant(lhs, TRUE) || isConstant(rhs, TRUE)) {
+                return new DoubleConstant(TRUE);
+            }
+            return fold(
+                (nodeId, properties) -> lhs.evaluate(nodeId, properties) == TRUE || rhs.evaluate(nodeId, properties) == TRUE
+                    ? TRUE
+                    : FALSE,
+                lhs,
+                rhs
+            );
+        }
+        if (expression instanceof Expression.BinaryExpression.Xor) {
+            var binary = (Expression.BinaryExpression) expression;
+            var lhs = compile(binary.lhs());
+            var rhs = compile(binary.rhs());
+            return fold(
+                (nodeId, properties) -> lhs.evaluate(nodeId, properties) == TRUE ^ rhs.evaluate(nodeId, properties) == TRUE
+                    ? TRUE
+                    : FALSE,
+                lhs,
+                rhs
+            );
+        }
+        if (expression instanceof Expression.BinaryExpression.BinaryArithmeticExpression) {
+            return compileComparison((Expression.BinaryExpression.BinaryArithmeticExpression) expression);
+        }
+
+        // Expressions that are not created by the parser are evaluated as is.
+        return scope.interpret(expression);
+    }
+
+    private CompiledExpression compileComparison(Expression.BinaryExpression.BinaryArithmeticExpression expression) {
+        var operator = Operator.of(expression);
+        if (operator == null) {
+            return scope.interpret(expression);
+        }
+
+        // Mirrors BinaryArithmeticExpression#evaluate: validation made sure
+        // that both sides have the same type, unless one side is a parameter.
+        if (expression.lhs().valueType() == ValueType.LONG) {
+            var lhs = compileLong(expression.lhs(), false);
+            var rhs = compileLong(expression.rhs(), expression.rhs().valueType() == ValueType.UNKNOWN);
+            return fold(compareLongs(operator, lhs, rhs), lhs, rhs);
+        }
+
+        var lhs = compile(expression.lhs());
+        var rhs = compile(expression.rhs());
+        return fold(compareDoubles(operator, lhs, rhs), lhs, rhs);
+    }
+
+    private CompiledLongExpression compileLong(Expression expression, boolean isParameter) {
+        if (expression instanceof Expression.Literal.LongLiteral) {
+            return new LongConstant(((Expression.Literal.LongLiteral) expression).value());
+        }
+        if (expression instanceof Expression.UnaryExpression.Property && expression.valueType() == ValueType.LONG) {
+            var longProperty = scope.longProperty(((Expression.UnaryExpression.Property) expression).propertyKey());
+            if (longProperty != null) {
+                return longProperty;
+            }
+        }
+
+        var compiled = compile(expression);
+        if (compiled instanceof DoubleConstant) {
+            var value = ((DoubleConstant) compiled).value;
+            return new LongConstant(isParameter ? (long) value : Double.doubleToRawLongBits(value));
+        }
+        return isParameter
+            ? (nodeId, properties) -> (long) compiled.evaluate(nodeId, properties)
+            : (nodeId, properties) -> Double.doubleToRawLongBits(compiled.evaluate(nodeId, properties));
+    }
+
+    private static CompiledExpression compareLongs(
+        Operator operator,
+        CompiledLongExpression lhs,
+        CompiledLongExpression rhs
+    ) {
+        if (rhs instanceof LongConstant) {
+            var value = ((LongConstant) rhs).value;
+            switch (operator) {
+                case EQUAL:
+                    return (nodeId, properties) -> lhs.evaluate(nodeId, properties) == value ? TRUE : FALSE;
+                case NOT_EQUAL:
+                    return (nodeId, properties) -> lhs.evaluate(nodeId, properties) != value ? TRUE : FALSE;
+                case GREATER_THAN:
+                    return (nodeId, properties) -> lhs.evaluate(nodeId, properties) > value ? TRUE : FALSE;
+                case GREATER_THAN_OR_EQUALS:
+                    return (nodeId, properties) -> lhs.evaluate(nodeId, properties) >= value ? TRUE : FALSE;
+                case LESS_THAN:
+                    return (nodeId, properties) -> lhs.evaluate(nodeId, properties) < value ? TRUE : FALSE;
+                case LESS_THAN_OR_EQUALS:
+                    return (nodeId, properties) -> lhs.evaluate(nodeId, properties) <= value ? TRUE : FALSE;
+                default:
+                    throw new IllegalStateException("Unexpected operator: " + operator);
+            }
+        }
+
+        switch (operator) {
+            case EQUAL:
+                return (nodeId, properties) -> lhs.evaluate(nodeId, properties) == rhs.evaluate(nodeId, properties) ? TRUE : FALSE;
+            case NOT_EQUAL:
+                return (nodeId, properties) -> lhs.evaluate(nodeId, properties) != rhs.evaluate(nodeId, properties) ? TRUE : FALSE;
+            case GREATER_THAN:
+                return (nodeId, properties) -> lhs.evaluate(nodeId, properties) > rhs.evaluate(nodeId, properties) ? TRUE : FALSE;
+            case GREATER_THAN_OR_EQUALS:
+                return (nodeId, properties) -> lhs.evaluate(nodeId, properties) >= rhs.evaluate(nodeId, properties) ? TRUE : FALSE;
+            case LESS_THAN:
+                return (nodeId, properties) -> lhs.evaluate(nodeId, properties) < rhs.evaluate(nodeId, properties) ? TRUE : FALSE;
+            case LESS_THAN_OR_EQUALS:
+                return (nodeId, properties) -> lhs.evaluate(nodeId, properties) <= rhs.evaluate(nodeId, properties) ? TRUE : FALSE;
+            default:
+                throw new IllegalStateException("Unexpected operator: " + operator);
+        }
+    }
+
+    // The epsilon comparisons are kept exactly as in the
+    // `evaluateDouble` implementations of the expression tree.
+    private static CompiledExpression compareDoubles(
+        Operator operator,
+        CompiledExpression lhs,
+        CompiledExpression rhs
+    ) {
+        if (rhs instanceof DoubleConstant) {
+            var value = ((DoubleConstant) rhs).value;
+            switch (operator) {
+                case EQUAL:
+                    return (nodeId, properties) -> Math.abs(lhs.evaluate(nodeId, properties) - value) < EPSILON ? TRUE : FALSE;
+                case NOT_EQUAL:
+                    return (nodeId, properties) -> Math.abs(lhs.evaluate(nodeId, properties) - value) > EPSILON ? TRUE : FALSE;
+                case GREATER_THAN:
+                    return (nodeId, properties) -> (lhs.evaluate(nodeId, properties) - value) > EPSILON ? TRUE : FALSE;
+                case GREATER_THAN_OR_EQUALS:
+                    return (nodeId, properties) -> {
+                        var lhsValue = lhs.evaluate(nodeId, properties);
+                        return lhsValue > value || Math.abs(lhsValue - value) < EPSILON ? TRUE : FALSE;
+                    };
+                case LESS_THAN:
+                    return (nodeId, properties) -> (value - lhs.evaluate(nodeId, properties)) > EPSILON ? TRUE : FALSE;
+                case LESS_THAN_OR_EQUALS:
+                    return (nodeId, properties) -> {
+                        var lhsValue = lhs.evaluate(nodeId, properties);
+                        return lhsValue < value || (value - lhsValue) > -EPSILON ? TRUE : FALSE;
+                    };
+                default:
+                    throw new IllegalStateException("Unexpected operator: " + operator);
+            }
+        }
+
+        switch (operator) {
+            case EQUAL:
+                return (nodeId, properties) -> Math.abs(lhs.evaluate(nodeId, properties) - rhs.evaluate(nodeId, properties)) < EPSILON ? TRUE : FALSE;
+            case NOT_EQUAL:
+                return (nodeId, properties) -> Math.abs(lhs.evaluate(nodeId, properties) - rhs.evaluate(nodeId, properties)) > EPSILON ? TRUE : FALSE;
+            case GREATER_THAN:
+                return (nodeId, properties) -> (lhs.evaluate(nodeId, properties) - rhs.evaluate(nodeId, properties)) > EPSILON ? TRUE : FALSE;
+            case GREATER_THAN_OR_EQUALS:
+                return (nodeId, properties) -> {
+                    var lhsValue = lhs.evaluate(nodeId, properties);
+                    var rhsValue = rhs.evaluate(nodeId, properties);
+                    return lhsValue > rhsValue || Math.abs(lhsValue - rhsValue) < EPSILON ? TRUE : FALSE;
+                };
+            case LESS_THAN:
+                return (nodeId, properties) -> {
+                    var lhsValue = lhs.evaluate(nodeId, properties);
+                    return (rhs.evaluate(nodeId, properties) - lhsValue) > EPSILON ? TRUE : FALSE;
+                };
+            case LESS_THAN_OR_EQUALS:
+                return (nodeId, properties) -> {
+                    var lhsValue = lhs.evaluate(nodeId, properties);
+                    var rhsValue = rhs.evaluate(nodeId, properties);
+                    return lhsValue < rhsValue || (rhsValue - lhsValue) > -EPSILON ? TRUE : FALSE;
+                };
+            default:
+                throw new IllegalStateException("Unexpected operator: " + operator);
+        }
+    }
+
+    // Any constant other than TRUE is treated as false by the boolean operators.
+    private static boolean isConstant(CompiledExpression compiled, double value) {
+        if (!(compiled instanceof DoubleConstant)) {
+            return false;
+        }
+        var isTrue = ((DoubleConstant) compiled).value == TRUE;
+        return value == TRUE ? isTrue : !isTrue;
+    }
+
+    // Evaluates the compiled expression once if all of its inputs are constant.
+    private static CompiledExpression fold(CompiledExpression compiled, Object... inputs) {
+        for (Object input : inputs) {
+            if (!(input instanceof Constant)) {
+                return compiled;
+            }
+        }
+        return new DoubleConstant(compiled.evaluate(-1, null));
+    }
+
+    private enum Operator {
+        EQUAL,
+        NOT_EQUAL,
+        GREATER_THAN,
+        GREATER_THAN_OR_EQUALS,
+        LESS_THAN,
+        LESS_THAN_OR_EQUALS;
+
+        static Operator of(Expression.BinaryExpression.BinaryArithmeticExpression expression) {
+            if (expression instanceof Expression.BinaryExpression.Equal) {
+                return EQUAL;
+            }
+            if (expression instanceof Expression.BinaryExpression.NotEqual) {
+                return NOT_EQUAL;
+            }
+            if (expression instanceof Expression.BinaryExpression.GreaterThan) {
+                return GREATER_THAN;
+            }
+            if (expression instanceof Expression.BinaryExpression.GreaterThanOrEquals) {
+                return GREATER_THAN_OR_EQUALS;
+            }
+            if (expression instanceof Expression.BinaryExpression.LessThan) {
+                return LESS_THAN;
+            }
+            if (expression instanceof Expression.BinaryExpression.LessThanOrEquals) {
+                return LESS_THAN_OR_EQUALS;
+            }
+            return null;
+        }
+    }
+
+    private interface Scope {
+        CompiledExpression property(String propertyKey, ValueType valueType);
+
+        // Returns `null` if the property cannot be read as a long directly.
+        CompiledLongExpression longProperty(String propertyKey);
+
+        CompiledExpression hasLabelsOrTypes(List<String> labelsOrTypes);
+
+        CompiledExpression interpret(Expression expression);
+    }
+
+    private static final class NodeScope implements Scope {
+        private final GraphStore graphStore;
+        private final ThreadLocal<EvaluationContext.NodeEvaluationContext> evaluationContext;
+
+        private NodeScope(GraphStore graphStore, Map<String, Object> parameterMap) {
+            this.graphStore = graphStore;
+            this.evaluationContext = ThreadLocal.withInitial(() -> new EvaluationContext.NodeEvaluationContext(
+                graphStore,
+                parameterMap
+            ));
+        }
+
+        @Override
+        public CompiledExpression property(String propertyKey, ValueType valueType) {
+            if (!graphStore.hasNodeProperty(propertyKey)) {
+                return new DoubleConstant(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+            }
+            NodePropertyValues values = graphStore.nodeProperty(propertyKey).values();
+            return valueType == ValueType.LONG
+                ? (nodeId, properties) -> Double.longBitsToDouble(values.longValue(nodeId))
+                : (nodeId, properties) -> values.doubleValue(nodeId);
+        }
+
+        @Override
+        public CompiledLongExpression longProperty(String propertyKey) {
+            if (!graphStore.hasNodeProperty(propertyKey)) {
+                return null;
+            }
+            NodePropertyValues values = graphStore.nodeProperty(propertyKey).values();
+            return (nodeId, properties) -> values.longValue(nodeId);
+        }
+
+        @Override
+        public CompiledExpression hasLabelsOrTypes(List<String> labelsOrTypes) {
+            IdMap idMap = graphStore.nodes();
+            var labels = labelsOrTypes.stream().map(NodeLabel::of).toArray(NodeLabel[]::new);
+
+            if (labels.length == 0) {
+                return new DoubleConstant(TRUE);
+            }
+            if (labels.length == 1) {
+                var label = labels[0];
+                return (nodeId, properties) -> idMap.hasLabel(nodeId, label) ? TRUE : FALSE;
+            }
+            return (nodeId, properties) -> {
+                for (NodeLabel label : labels) {
+                    if (!idMap.hasLabel(nodeId, label)) {
+                        return FALSE;
+                    }
+                }
+                return TRUE;
+            };
+        }
+
+        @Override
+        public CompiledExpression interpret(Expression expression) {
+            return (nodeId, properties) -> {
+                var context = evaluationContext.get();
+                context.init(nodeId);
+                return expression.evaluate(context);
+            };
+        }
+    }
+
+    private static final class RelationshipScope implements Scope {
+        private final RelationshipType relationshipType;
+        private final Map<String, Integer> propertyIndices;
+        private final ThreadLocal<EvaluationContext.RelationshipEvaluationContext> evaluationContext;
+
+        private RelationshipScope(
+            RelationshipType relationshipType,
+            Map<String, Integer> propertyIndices,
+            Map<String, Object> parameterMap
+        ) {
+            this.relationshipType = relationshipType;
+            this.propertyIndices = propertyIndices;
+            this.evaluationContext = ThreadLocal.withInitial(() -> new EvaluationContext.RelationshipEvaluationContext(
+                propertyIndices,
+                parameterMap
+            ));
+        }
+
+        @Override
+        public CompiledExpression property(String propertyKey, ValueType valueType) {
+            int index = propertyIndices.getOrDefault(propertyKey, 0);
+            return (nodeId, properties) -> properties[index];
+        }
+
+        @Override
+        public CompiledLongExpression longProperty(String propertyKey) {
+            return null;
+        }
+
+        // The relationship type is fixed during compilation,
+        // which turns the type check into a constant.
+        @Override
+        public CompiledExpression hasLabelsOrTypes(List<String> labelsOrTypes) {
+            return new DoubleConstant(labelsOrTypes.contains(relationshipType.name) ? TRUE : FALSE);
+        }
+
+        @Override
+        public CompiledExpression interpret(Expression expression) {
+            return (nodeId, properties) -> {
+                var context = evaluationContext.get();
+                context.init(relationshipType.name, properties);
+                return expression.evaluate(context);
+            };
+        }
+    }
+}
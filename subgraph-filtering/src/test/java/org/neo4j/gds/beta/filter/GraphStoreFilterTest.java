@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectFromGraphConfig;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class GraphStoreFilterTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "  (a:A { p: 1 })" +
+        ", (b:B { p: 2 })" +
+        ", (c:B { p: 3 })" +
+        ", (a)-[:REL { w: 1.0 }]->(b)" +
+        ", (b)-[:REL { w: 2.0 }]->(c)" +
+        ", (c)-[:OTHER]->(a)";
+
+    private static final RelationshipType REL = RelationshipType.of("REL");
+    private static final RelationshipType OTHER = RelationshipType.of("OTHER");
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Test
+    void sharesNodesAndRelationshipsIfNothingIsFilteredOut() throws Exception {
+        var filteredGraphStore = filter("*", "*");
+
+        assertThat(filteredGraphStore.nodes()).isSameAs(graphStore.nodes());
+        assertThat(filteredGraphStore.nodeProperty("p")).isSameAs(graphStore.nodeProperty("p"));
+        assertThat(filteredGraphStore.relationshipTypes()).containsExactlyInAnyOrder(REL, OTHER);
+        assertThat(adjacencyList(filteredGraphStore, REL)).isSameAs(adjacencyList(graphStore, REL));
+        assertThat(filteredGraphStore.relationshipPropertyValues(REL, "w"))
+            .isSameAs(graphStore.relationshipPropertyValues(REL, "w"));
+    }
+
+    @Test
+    void dropsRelationshipTypesThatAreRejectedByType() throws Exception {
+        var filteredGraphStore = filter("*", "r:REL");
+
+        assertThat(filteredGraphStore.relationshipTypes()).containsExactly(REL);
+        assertThat(adjacencyList(filteredGraphStore, REL)).isSameAs(adjacencyList(graphStore, REL));
+    }
+
+    @Test
+    void sharesNodesIfTheNodeFilterKeepsAllNodes() throws Exception {
+        var filteredGraphStore = filter("n.p > 0", "r:REL AND r.w > 1.0");
+
+        assertThat(filteredGraphStore.nodes()).isSameAs(graphStore.nodes());
+        assertThat(filteredGraphStore.relationshipTypes()).containsExactly(REL);
+        assertThat(filteredGraphStore.relationshipCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildsRelationshipsIfNodesAreFilteredOut() throws Exception {
+        var filteredGraphStore = filter("n:B", "*");
+
+        assertThat(filteredGraphStore.nodeCount()).isEqualTo(2);
+        assertThat(filteredGraphStore.relationshipTypes()).isEqualTo(Set.of(REL));
+        assertThat(filteredGraphStore.relationshipCount()).isEqualTo(1);
+    }
+
+    private GraphStore filter(String nodeFilter, String relationshipFilter) throws Exception {
+        var config = GraphProjectFromGraphConfig.of(
+            "",
+            "filtered",
+            "graph",
+            nodeFilter,
+            relationshipFilter,
+            GraphProjectFromStoreConfig.emptyWithName("", "graph"),
+            CypherMapWrapper.empty()
+        );
+        return GraphStoreFilter.filter(graphStore, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+    }
+
+    private static Object adjacencyList(GraphStore graphStore, RelationshipType relationshipType) {
+        return ((HugeGraph) graphStore.getGraph(relationshipType)).relationshipTopology().adjacencyList();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ExpressionCompilerTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "  (a:A:B:C { p1: 42.0, p2: 42 })" +
+        ", (b:B { p1: 1337.0, p2: 1337 })" +
+        ", (c:C { p1: -1.5, p2: -2 })" +
+        ", (a)-[:REL { foo: 84.0, bar: 1.0 }]->(b)" +
+        ", (b)-[:REL { foo: 3.5, bar: 2.0 }]->(c)" +
+        ", (c)-[:REL { foo: -7.0, bar: 3.0 }]->(a)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "TRUE",
+        "FALSE",
+        "n:A",
+        "n:B",
+        "n:A AND n:C",
+        "n:B OR n:C",
+        "n:B XOR n:C",
+        "NOT n:B",
+        "n.p1 > 42.0",
+        "n.p1 >= 42.0",
+        "n.p1 < 42.0",
+        "n.p1 <= 42.0",
+        "n.p1 = 42.0",
+        "n.p1 <> 42.0",
+        "n.p2 > 42",
+        "n.p2 >= 42",
+        "n.p2 < 42",
+        "n.p2 <= 42",
+        "n.p2 = 42",
+        "n.p2 <> 42",
+        "42 < n.p2",
+        "n.p1 < n.p1",
+        "n.p2 = n.p2",
+        "n.p2 > $long",
+        "n.p2 < $double",
+        "n.p1 > $long",
+        "n.p1 <= $double",
+        "1 < 2 AND n:B",
+        "1.0 > 2.0 OR n.p2 >= 1337",
+        "NOT (n.p1 > 0.0 AND n:C)",
+    })
+    void compiledNodePredicateMatchesInterpretation(String filter) throws ParseException {
+        var validationContext = ValidationContext.forNodes(graphStore);
+        var expression = ExpressionParser.parse(filter, validationContext.availableProperties());
+        expression.validate(validationContext).validate();
+
+        Map<String, Object> parameters = Map.of("long", 42L, "double", 42.5D);
+
+        var predicate = ExpressionCompiler.compileNodePredicate(expression, graphStore, parameters);
+        var context = new EvaluationContext.NodeEvaluationContext(graphStore, parameters);
+
+        for (var variable : new String[]{"a", "b", "c"}) {
+            var nodeId = idFunction.of(variable);
+            context.init(nodeId);
+            assertThat(predicate.test(nodeId))
+                .as("%s for node %s", filter, variable)
+                .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "TRUE",
+        "r:REL",
+        "r:REL OR r.foo > 0.0",
+        "r.foo > 3.5",
+        "r.foo >= 3.5",
+        "r.foo < 3.5",
+        "r.foo <= 3.5",
+        "r.foo = 3.5",
+        "r.foo <> 3.5",
+        "r.foo > r.bar",
+        "r.bar < $double",
+        "r.bar = $long",
+        "r:REL AND NOT r.foo < 0.0",
+    })
+    void compiledRelationshipPredicateMatchesInterpretation(String filter) throws ParseException {
+        var validationContext = ValidationContext.forRelationships(graphStore);
+        var expression = ExpressionParser.parse(filter, validationContext.availableProperties());
+        expression.validate(validationContext).validate();
+
+        Map<String, Object> parameters = Map.of("long", 2L, "double", 2.5D);
+        Map<String, Integer> propertyIndices = Map.of("foo", 0, "bar", 1);
+
+        var predicate = ExpressionCompiler.compileRelationshipPredicate(
+            expression,
+            RelationshipType.of("REL"),
+            propertyIndices,
+            parameters
+        );
+        var context = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, parameters);
+
+        for (var properties : new double[][]{{84.0, 1.0}, {3.5, 2.0}, {-7.0, 3.0}}) {
+            context.init("REL", properties);
+            assertThat(predicate.test(properties))
+                .as("%s for properties %s", filter, properties)
+                .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+        }
+    }
+
+    @Test
+    void interpretsCustomExpressions() {
+        var expression = new Expression() {
+            @Override
+            public double evaluate(EvaluationContext context) {
+                return context.hasLabelsOrTypes(List.of("REL")) ? Expression.TRUE : Expression.FALSE;
+            }
+        };
+
+        var predicate = ExpressionCompiler.compileRelationshipPredicate(
+            expression,
+            RelationshipType.of("REL"),
+            Map.of(),
+            Map.of()
+        );
+
+        assertThat(predicate.test(new double[0])).isTrue();
+    }
+
+    @Test
+    void foldsConstantExpressions() throws ParseException {
+        var expression = ExpressionParser.parse("1 < 2 AND NOT 2.0 = 3.0", Map.of());
+
+        var predicate = ExpressionCompiler.compileRelationshipPredicate(
+            expression,
+            RelationshipType.of("REL"),
+            Map.of(),
+            Map.of()
+        );
+
+        // no properties are read once the expression is folded into a constant
+        assertThat(predicate.test(null)).isTrue();
+    }
+}
@@ -34,7 +34,10 @@ public interface TestMethodRunner {
             TestMethodRunner::runCompressedUnordered,
             TestMethodRunner::runCompressedOrdered,
             TestMethodRunner::runUncompressedUnordered,
-            TestMethodRunner::runUncompressedOrdered
+            TestMethodRunner::runUncompressedOrdered,
+            TestMethodRunner::runPackedUnordered,
+            TestMethodRunner::runPackedOrdered,
+            TestMethodRunner::runMapped
         );
     }
 
@@ -61,4 +64,21 @@ public interface TestMethodRunner {
         GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.enableAndRun(() ->
             GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code));
     }
+
+    @TestOnly
+    static <E extends Exception> void runPackedUnordered(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(() ->
+            GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.disableAndRun(code));
+    }
+
+    @TestOnly
+    static <E extends Exception> void runPackedOrdered(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(() ->
+            GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code));
+    }
+
+    @TestOnly
+    static <E extends Exception> void runMapped(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(code);
+    }
 }